@@ -37,6 +37,59 @@ public enum AbilityKey {
     SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC("supportPersistentInstanceByGrpc",
             "support persistent instance by grpc", AbilityMode.SERVER),
     
+    /**
+     * Server support smile binary codec for payload body.
+     */
+    SERVER_SUPPORT_SMILE_PAYLOAD("supportSmilePayload", "support smile binary codec for payload body",
+            AbilityMode.SERVER),
+    
+    /**
+     * Server support gzip compressed payload body.
+     */
+    SERVER_SUPPORT_GZIP_PAYLOAD("supportGzipPayload", "support gzip compressed payload body", AbilityMode.SERVER),
+    
+    /**
+     * Server support querying a batch of configs in one request.
+     */
+    SERVER_SUPPORT_CONFIG_BATCH_QUERY("supportConfigBatchQuery", "support querying a batch of configs in one request",
+            AbilityMode.SERVER),
+    
+    /**
+     * Sdk client support smile binary codec for payload body.
+     */
+    SDK_CLIENT_SUPPORT_SMILE_PAYLOAD("supportSmilePayload", "support smile binary codec for payload body",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support gzip compressed payload body.
+     */
+    SDK_CLIENT_SUPPORT_GZIP_PAYLOAD("supportGzipPayload", "support gzip compressed payload body",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support applying delta push of naming subscribe data.
+     */
+    SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH("supportNamingDeltaPush", "support delta push of naming subscribe data",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Sdk client support receiving several naming subscribe data in one batch push.
+     */
+    SDK_CLIENT_SUPPORT_NAMING_BATCH_PUSH("supportNamingBatchPush", "support batch push of naming subscribe data",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Cluster client support smile binary codec for payload body.
+     */
+    CLUSTER_CLIENT_SUPPORT_SMILE_PAYLOAD("supportSmilePayload", "support smile binary codec for payload body",
+            AbilityMode.CLUSTER_CLIENT),
+    
+    /**
+     * Cluster client support gzip compressed payload body.
+     */
+    CLUSTER_CLIENT_SUPPORT_GZIP_PAYLOAD("supportGzipPayload", "support gzip compressed payload body",
+            AbilityMode.CLUSTER_CLIENT),
+    
     /**
      * For Test temporarily.
      */
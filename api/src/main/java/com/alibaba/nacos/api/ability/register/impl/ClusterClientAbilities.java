@@ -44,6 +44,8 @@ public class ClusterClientAbilities extends AbstractAbilityRegistry {
          *
          */
         // put ability here, which you want current client supports
+        supportedAbilities.put(AbilityKey.CLUSTER_CLIENT_SUPPORT_SMILE_PAYLOAD, true);
+        supportedAbilities.put(AbilityKey.CLUSTER_CLIENT_SUPPORT_GZIP_PAYLOAD, true);
     }
 
     /**
@@ -45,6 +45,10 @@ public class SdkClientAbilities extends AbstractAbilityRegistry {
          *
          */
         // put ability here, which you want current client supports
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_SMILE_PAYLOAD, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_GZIP_PAYLOAD, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_NAMING_BATCH_PUSH, true);
     }
     
     /**.
@@ -46,6 +46,9 @@ public class ServerAbilities extends AbstractAbilityRegistry {
          */
         // put ability here, which you want current server supports
         supportedAbilities.put(AbilityKey.SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC, true);
+        supportedAbilities.put(AbilityKey.SERVER_SUPPORT_SMILE_PAYLOAD, true);
+        supportedAbilities.put(AbilityKey.SERVER_SUPPORT_GZIP_PAYLOAD, true);
+        supportedAbilities.put(AbilityKey.SERVER_SUPPORT_CONFIG_BATCH_QUERY, true);
     }
     
     /**.
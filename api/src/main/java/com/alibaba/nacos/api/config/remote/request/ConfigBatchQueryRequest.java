@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.remote.request.Request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request to query a batch of configs in one round trip, the headers of batch request are shared by all queries.
+ * Only sent to the server which supports
+ * {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SERVER_SUPPORT_CONFIG_BATCH_QUERY}.
+ *
+ * @author nacos
+ */
+public class ConfigBatchQueryRequest extends Request {
+    
+    private List<ConfigQueryRequest> queryRequests = new ArrayList<>();
+    
+    /**
+     * add query config.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     */
+    public void addQueryRequest(String dataId, String group, String tenant) {
+        queryRequests.add(ConfigQueryRequest.build(dataId, group, tenant));
+    }
+    
+    public List<ConfigQueryRequest> getQueryRequests() {
+        return queryRequests;
+    }
+    
+    public void setQueryRequests(List<ConfigQueryRequest> queryRequests) {
+        this.queryRequests = queryRequests;
+    }
+    
+    public boolean isNotify() {
+        String notify = getHeader(Constants.Config.NOTIFY_HEADER, Boolean.FALSE.toString());
+        return Boolean.parseBoolean(notify);
+    }
+    
+    @Override
+    public String getModule() {
+        return Constants.Config.CONFIG_MODULE;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.response;
+
+import com.alibaba.nacos.api.remote.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response of {@link com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest}, the query responses are in
+ * the same order as the query requests.
+ *
+ * @author nacos
+ */
+public class ConfigBatchQueryResponse extends Response {
+    
+    private List<ConfigQueryResponse> queryResponses = new ArrayList<>();
+    
+    public List<ConfigQueryResponse> getQueryResponses() {
+        return queryResponses;
+    }
+    
+    public void setQueryResponses(List<ConfigQueryResponse> queryResponses) {
+        this.queryResponses = queryResponses;
+    }
+}
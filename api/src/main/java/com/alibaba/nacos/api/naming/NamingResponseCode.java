@@ -38,4 +38,9 @@ public class NamingResponseCode extends ResponseCode {
      */
     public static final int NO_NEED_RETRY = 21600;
     
+    /**
+     * The base revision of delta push does not match the revision held by client, full data is required.
+     */
+    public static final int PUSH_REVISION_MISMATCH = 21409;
+    
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+
+import java.util.List;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+
+/**
+ * Batch notify subscriber request, which coalesces several {@link NotifySubscriberRequest} to the same client into one
+ * push. Only pushed to the client which supports
+ * {@link com.alibaba.nacos.api.ability.constant.AbilityKey#SDK_CLIENT_SUPPORT_NAMING_BATCH_PUSH}.
+ *
+ * @author nacos
+ */
+public class BatchNotifySubscriberRequest extends ServerRequest {
+    
+    private List<NotifySubscriberRequest> notifyRequests;
+    
+    public BatchNotifySubscriberRequest() {
+    }
+    
+    public BatchNotifySubscriberRequest(List<NotifySubscriberRequest> notifyRequests) {
+        this.notifyRequests = notifyRequests;
+    }
+    
+    @Override
+    public String getModule() {
+        return NAMING_MODULE;
+    }
+    
+    public List<NotifySubscriberRequest> getNotifyRequests() {
+        return notifyRequests;
+    }
+    
+    public void setNotifyRequests(List<NotifySubscriberRequest> notifyRequests) {
+        this.notifyRequests = notifyRequests;
+    }
+}
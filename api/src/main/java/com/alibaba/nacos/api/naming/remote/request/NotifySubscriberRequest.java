@@ -16,14 +16,22 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 
+import java.util.List;
+
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 
 /**
  * Notify subscriber request.
  *
+ * <p>If the client supports delta push, the request carries the revision of pushed data, and may only carry the
+ * changed instances which are keyed by {@link com.alibaba.nacos.api.naming.utils.NamingUtils#getInstanceDeltaKey}.
+ * For delta request, the hosts of {@link #serviceInfo} is empty and the changes should be applied to the data of
+ * {@link #baseRevision}.
+ *
  * @author xiweng.yy
  */
 public class NotifySubscriberRequest extends ServerRequest {
@@ -36,6 +44,18 @@ public class NotifySubscriberRequest extends ServerRequest {
     
     private ServiceInfo serviceInfo;
     
+    private long revision;
+    
+    private boolean delta;
+    
+    private long baseRevision;
+    
+    private List<Instance> addedInstances;
+    
+    private List<Instance> modifiedInstances;
+    
+    private List<String> removedInstanceKeys;
+    
     public NotifySubscriberRequest() {
     }
     
@@ -52,6 +72,42 @@ public class NotifySubscriberRequest extends ServerRequest {
         return new NotifySubscriberRequest(serviceInfo);
     }
     
+    /**
+     * Build full data notify request with revision.
+     *
+     * @param serviceInfo full service info
+     * @param revision    revision of pushed data
+     * @return notify request
+     */
+    public static NotifySubscriberRequest buildNotifySubscriberRequest(ServiceInfo serviceInfo, long revision) {
+        NotifySubscriberRequest result = new NotifySubscriberRequest(serviceInfo);
+        result.setRevision(revision);
+        return result;
+    }
+    
+    /**
+     * Build delta notify request.
+     *
+     * @param serviceInfo         service info without hosts
+     * @param baseRevision        revision of data which the changes based on
+     * @param revision            revision of data after applying the changes
+     * @param addedInstances      added instances
+     * @param modifiedInstances   modified instances
+     * @param removedInstanceKeys keys of removed instances
+     * @return notify request
+     */
+    public static NotifySubscriberRequest buildNotifySubscriberDeltaRequest(ServiceInfo serviceInfo, long baseRevision,
+            long revision, List<Instance> addedInstances, List<Instance> modifiedInstances,
+            List<String> removedInstanceKeys) {
+        NotifySubscriberRequest result = buildNotifySubscriberRequest(serviceInfo, revision);
+        result.setDelta(true);
+        result.setBaseRevision(baseRevision);
+        result.setAddedInstances(addedInstances);
+        result.setModifiedInstances(modifiedInstances);
+        result.setRemovedInstanceKeys(removedInstanceKeys);
+        return result;
+    }
+    
     public ServiceInfo getServiceInfo() {
         return serviceInfo;
     }
@@ -84,4 +140,52 @@ public class NotifySubscriberRequest extends ServerRequest {
         this.groupName = groupName;
     }
     
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public boolean isDelta() {
+        return delta;
+    }
+    
+    public void setDelta(boolean delta) {
+        this.delta = delta;
+    }
+    
+    public long getBaseRevision() {
+        return baseRevision;
+    }
+    
+    public void setBaseRevision(long baseRevision) {
+        this.baseRevision = baseRevision;
+    }
+    
+    public List<Instance> getAddedInstances() {
+        return addedInstances;
+    }
+    
+    public void setAddedInstances(List<Instance> addedInstances) {
+        this.addedInstances = addedInstances;
+    }
+    
+    public List<Instance> getModifiedInstances() {
+        return modifiedInstances;
+    }
+    
+    public void setModifiedInstances(List<Instance> modifiedInstances) {
+        this.modifiedInstances = modifiedInstances;
+    }
+    
+    public List<String> getRemovedInstanceKeys() {
+        return removedInstanceKeys;
+    }
+    
+    public void setRemovedInstanceKeys(List<String> removedInstanceKeys) {
+        this.removedInstanceKeys = removedInstanceKeys;
+    }
+    
 }
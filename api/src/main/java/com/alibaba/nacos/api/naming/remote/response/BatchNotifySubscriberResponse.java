@@ -0,0 +1,42 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.response;
+
+import com.alibaba.nacos.api.remote.response.Response;
+
+import java.util.List;
+
+/**
+ * Response for batch notify subscriber request.
+ *
+ * <p>The result of each notify request in batch is carried by {@link #resultCodes} in the same order, so a revision
+ * mismatch of one service does not fail the whole batch.
+ *
+ * @author nacos
+ */
+public class BatchNotifySubscriberResponse extends Response {
+    
+    private List<Integer> resultCodes;
+    
+    public List<Integer> getResultCodes() {
+        return resultCodes;
+    }
+    
+    public void setResultCodes(List<Integer> resultCodes) {
+        this.resultCodes = resultCodes;
+    }
+}
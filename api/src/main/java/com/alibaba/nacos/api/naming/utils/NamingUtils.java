@@ -189,6 +189,16 @@ public class NamingUtils {
         }
     }
     
+    /**
+     * Get the key of instance in delta push, which is unique in one service: {@code ip:port:clusterName}.
+     *
+     * @param instance instance
+     * @return key of instance
+     */
+    public static String getInstanceDeltaKey(Instance instance) {
+        return instance.getIp() + Constants.COLON + instance.getPort() + Constants.COLON + instance.getClusterName();
+    }
+    
     /**
      * Check string is a number or not.
      *
@@ -48,6 +48,8 @@ public class DefaultRequestFuture implements RequestFuture {
     
     private ScheduledFuture timeoutFuture;
     
+    private Runnable timeoutCanceller;
+    
     TimeoutInnerTrigger timeoutInnerTrigger;
     
     /**
@@ -74,15 +76,24 @@ public class DefaultRequestFuture implements RequestFuture {
     
     public DefaultRequestFuture(String connectionId, String requestId, RequestCallBack requestCallBack,
             TimeoutInnerTrigger timeoutInnerTrigger) {
+        this(connectionId, requestId, requestCallBack, timeoutInnerTrigger, null);
+    }
+    
+    public DefaultRequestFuture(String connectionId, String requestId, RequestCallBack requestCallBack,
+            TimeoutInnerTrigger timeoutInnerTrigger, TimeoutScheduler timeoutScheduler) {
         this.timeStamp = System.currentTimeMillis();
         this.requestCallBack = requestCallBack;
         this.requestId = requestId;
         this.connectionId = connectionId;
+        this.timeoutInnerTrigger = timeoutInnerTrigger;
         if (requestCallBack != null) {
-            this.timeoutFuture = RpcScheduledExecutor.TIMEOUT_SCHEDULER
-                    .schedule(new TimeoutHandler(), requestCallBack.getTimeout(), TimeUnit.MILLISECONDS);
+            if (timeoutScheduler != null) {
+                this.timeoutCanceller = timeoutScheduler.schedule(new TimeoutHandler(), requestCallBack.getTimeout());
+            } else {
+                this.timeoutFuture = RpcScheduledExecutor.TIMEOUT_SCHEDULER
+                        .schedule(new TimeoutHandler(), requestCallBack.getTimeout(), TimeUnit.MILLISECONDS);
+            }
         }
-        this.timeoutInnerTrigger = timeoutInnerTrigger;
     }
     
     public void setResponse(final Response response) {
@@ -92,6 +103,9 @@ public class DefaultRequestFuture implements RequestFuture {
         if (this.timeoutFuture != null) {
             timeoutFuture.cancel(true);
         }
+        if (this.timeoutCanceller != null) {
+            timeoutCanceller.run();
+        }
         synchronized (this) {
             notifyAll();
         }
@@ -207,6 +221,19 @@ public class DefaultRequestFuture implements RequestFuture {
         
     }
     
+    public interface TimeoutScheduler {
+        
+        /**
+         * schedule the timeout task of the request callback.
+         *
+         * @param timeoutTask  task to run on timeout
+         * @param timeoutMills timeout in milliseconds
+         * @return action to cancel the scheduled task once response received
+         */
+        Runnable schedule(Runnable timeoutTask, long timeoutMills);
+        
+    }
+    
     /**
      * Getter method for property <tt>connectionId</tt>.
      *
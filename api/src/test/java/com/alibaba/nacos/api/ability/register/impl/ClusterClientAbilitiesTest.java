@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.api.ability.register.impl;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -24,7 +25,7 @@ class ClusterClientAbilitiesTest {
     
     @Test
     void testGetStaticAbilities() {
-        // TODO add the cluster client abilities.
-        assertTrue(ClusterClientAbilities.getStaticAbilities().isEmpty());
+        assertTrue(ClusterClientAbilities.getStaticAbilities().get(AbilityKey.CLUSTER_CLIENT_SUPPORT_SMILE_PAYLOAD));
+        assertTrue(ClusterClientAbilities.getStaticAbilities().get(AbilityKey.CLUSTER_CLIENT_SUPPORT_GZIP_PAYLOAD));
     }
 }
\ No newline at end of file
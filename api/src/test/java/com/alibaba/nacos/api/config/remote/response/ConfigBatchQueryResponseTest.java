@@ -0,0 +1,77 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.response;
+
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigBatchQueryResponseTest extends BasedConfigResponseTest {
+    
+    ConfigBatchQueryResponse configBatchQueryResponse;
+    
+    @BeforeEach
+    void before() {
+        configBatchQueryResponse = new ConfigBatchQueryResponse();
+        requestId = injectResponseUuId(configBatchQueryResponse);
+        configBatchQueryResponse.getQueryResponses().add(ConfigQueryResponse.buildSuccessResponse(CONTENT));
+        configBatchQueryResponse.getQueryResponses()
+                .add(ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND, "not found"));
+    }
+    
+    @Override
+    @Test
+    public void testSerializeSuccessResponse() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(configBatchQueryResponse);
+        assertTrue(json.contains("\"success\":" + Boolean.TRUE));
+        assertTrue(json.contains("\"requestId\":\"" + requestId));
+        assertTrue(json.contains("\"resultCode\":" + ResponseCode.SUCCESS.getCode()));
+        assertTrue(json.contains("\"queryResponses\":[{"));
+        assertTrue(json.contains("\"content\":\"content\""));
+        assertTrue(json.contains("\"errorCode\":" + ConfigQueryResponse.CONFIG_NOT_FOUND));
+    }
+    
+    @Override
+    @Test
+    public void testSerializeFailResponse() throws JsonProcessingException {
+        ConfigBatchQueryResponse response = new ConfigBatchQueryResponse();
+        response.setErrorInfo(ResponseCode.FAIL.getCode(), "Fail");
+        String json = mapper.writeValueAsString(response);
+        assertTrue(json.contains("\"resultCode\":" + ResponseCode.FAIL.getCode()));
+        assertTrue(json.contains("\"message\":\"Fail\""));
+        assertTrue(json.contains("\"success\":false"));
+    }
+    
+    @Override
+    @Test
+    public void testDeserialize() throws JsonProcessingException {
+        String json = mapper.writeValueAsString(configBatchQueryResponse);
+        ConfigBatchQueryResponse actual = mapper.readValue(json, ConfigBatchQueryResponse.class);
+        assertTrue(actual.isSuccess());
+        assertEquals(requestId, actual.getRequestId());
+        assertEquals(2, actual.getQueryResponses().size());
+        assertTrue(actual.getQueryResponses().get(0).isSuccess());
+        assertEquals(CONTENT, actual.getQueryResponses().get(0).getContent());
+        assertFalse(actual.getQueryResponses().get(1).isSuccess());
+        assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, actual.getQueryResponses().get(1).getErrorCode());
+    }
+}
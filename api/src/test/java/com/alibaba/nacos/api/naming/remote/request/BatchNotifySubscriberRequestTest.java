@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.naming.remote.request;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchNotifySubscriberRequestTest {
+    
+    private static ObjectMapper mapper;
+    
+    @BeforeAll
+    static void setUp() throws Exception {
+        mapper = new ObjectMapper();
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    }
+    
+    @Test
+    void testSerialize() throws JsonProcessingException {
+        BatchNotifySubscriberRequest request = new BatchNotifySubscriberRequest(Arrays.asList(
+                NotifySubscriberRequest.buildNotifySubscriberRequest(new ServiceInfo("group@@service1")),
+                NotifySubscriberRequest.buildNotifySubscriberRequest(new ServiceInfo("group@@service2"), 2L)));
+        String json = mapper.writeValueAsString(request);
+        assertTrue(json.contains("\"module\":\"" + NAMING_MODULE + "\""));
+        assertTrue(json.contains("\"notifyRequests\":[{"));
+        assertTrue(json.contains("\"name\":\"service2\""));
+    }
+    
+    @Test
+    void testDeserialize() throws JsonProcessingException {
+        String json = "{\"headers\":{},\"notifyRequests\":[{\"serviceInfo\":{\"name\":\"service1\","
+                + "\"groupName\":\"group\",\"hosts\":[]},\"revision\":0},{\"serviceInfo\":{\"name\":\"service2\","
+                + "\"groupName\":\"group\",\"hosts\":[]},\"revision\":2}],\"module\":\"naming\"}";
+        BatchNotifySubscriberRequest actual = mapper.readValue(json, BatchNotifySubscriberRequest.class);
+        assertEquals(NAMING_MODULE, actual.getModule());
+        assertEquals(2, actual.getNotifyRequests().size());
+        assertEquals("group@@service1", actual.getNotifyRequests().get(0).getServiceInfo().getKey());
+        assertEquals(2L, actual.getNotifyRequests().get(1).getRevision());
+    }
+}
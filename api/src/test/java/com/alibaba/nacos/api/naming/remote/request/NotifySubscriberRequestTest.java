@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.api.naming.remote.request;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -24,8 +25,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
 import static com.alibaba.nacos.api.common.Constants.Naming.NAMING_MODULE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NotifySubscriberRequestTest {
@@ -68,6 +72,41 @@ class NotifySubscriberRequestTest {
         assertEquals(GROUP + "@@" + SERVICE, actual.getServiceInfo().getKey());
     }
     
+    @Test
+    void testSerializeDelta() throws JsonProcessingException {
+        ServiceInfo serviceInfo = new ServiceInfo(GROUP + "@@" + SERVICE);
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(serviceInfo, 1L,
+                2L, Collections.singletonList(instance), null, Collections.singletonList("2.2.2.2:8848:DEFAULT"));
+        request.setServiceName(SERVICE);
+        request.setGroupName(GROUP);
+        request.setNamespace(NAMESPACE);
+        String json = mapper.writeValueAsString(request);
+        checkSerializeBasedInfo(json);
+        assertTrue(json.contains("\"delta\":true"));
+        assertTrue(json.contains("\"baseRevision\":1"));
+        assertTrue(json.contains("\"revision\":2"));
+        assertTrue(json.contains("\"removedInstanceKeys\":[\"2.2.2.2:8848:DEFAULT\"]"));
+        assertFalse(json.contains("modifiedInstances"));
+    }
+    
+    @Test
+    void testDeserializeDelta() throws JsonProcessingException {
+        String json = "{\"headers\":{},\"namespace\":\"namespace\",\"serviceName\":\"service\",\"groupName\":\"group\","
+                + "\"serviceInfo\":{\"name\":\"service\",\"groupName\":\"group\",\"hosts\":[]},\"revision\":3,"
+                + "\"delta\":true,\"baseRevision\":2,\"addedInstances\":[{\"ip\":\"1.1.1.1\",\"port\":8848}],"
+                + "\"removedInstanceKeys\":[\"2.2.2.2:8848:DEFAULT\"],\"module\":\"naming\"}";
+        NotifySubscriberRequest actual = mapper.readValue(json, NotifySubscriberRequest.class);
+        checkRequestBasedInfo(actual);
+        assertTrue(actual.isDelta());
+        assertEquals(2L, actual.getBaseRevision());
+        assertEquals(3L, actual.getRevision());
+        assertEquals("1.1.1.1", actual.getAddedInstances().get(0).getIp());
+        assertEquals("2.2.2.2:8848:DEFAULT", actual.getRemovedInstanceKeys().get(0));
+    }
+    
     private void checkRequestBasedInfo(NotifySubscriberRequest request) {
         assertEquals(SERVICE, request.getServiceName());
         assertEquals(GROUP, request.getGroupName());
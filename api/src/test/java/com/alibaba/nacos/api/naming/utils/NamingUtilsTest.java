@@ -274,4 +274,13 @@ class NamingUtilsTest {
         String str2 = "123456";
         assertTrue(NamingUtils.isNumber(str2));
     }
+    
+    @Test
+    void testGetInstanceDeltaKey() {
+        Instance instance = new Instance();
+        instance.setIp("127.0.0.1");
+        instance.setPort(9089);
+        instance.setClusterName("cluster");
+        assertEquals("127.0.0.1:9089:cluster", NamingUtils.getInstanceDeltaKey(instance));
+    }
 }
@@ -28,6 +28,8 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -250,6 +252,33 @@ class DefaultRequestFutureTest {
         verify(executor).execute(any(DefaultRequestFuture.CallBackHandler.class));
     }
     
+    @Test
+    void testASyncGetResponseWithTimeoutScheduler() {
+        MockTimeoutInnerTrigger trigger = new MockTimeoutInnerTrigger();
+        MockRequestCallback callback = new MockRequestCallback(200L);
+        AtomicReference<Runnable> timeoutTask = new AtomicReference<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        DefaultRequestFuture requestFuture = new DefaultRequestFuture(CONNECTION_ID, REQUEST_ID, callback, trigger,
+                (task, timeoutMills) -> {
+                    assertEquals(200L, timeoutMills);
+                    timeoutTask.set(task);
+                    return () -> cancelled.set(true);
+                });
+        requestFuture.setResponse(response);
+        assertTrue(cancelled.get());
+        assertEquals(response, callback.response);
+        
+        DefaultRequestFuture timeoutFuture = new DefaultRequestFuture(CONNECTION_ID, REQUEST_ID, callback, trigger,
+                (task, timeoutMills) -> {
+                    timeoutTask.set(task);
+                    return () -> cancelled.set(true);
+                });
+        timeoutTask.get().run();
+        assertTrue(timeoutFuture.isDone());
+        assertTrue(callback.exception instanceof TimeoutException);
+        assertTrue(trigger.isTimeout);
+    }
+    
     @Test
     void testASyncGetResponseFailureWithoutTimeout() throws InterruptedException {
         MockTimeoutInnerTrigger trigger = new MockTimeoutInnerTrigger();
@@ -0,0 +1,134 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.JsonPayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecRegistry;
+import com.alibaba.nacos.common.remote.codec.SmilePayloadCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link GrpcUtils#convert(Request, PayloadCodec)} and {@link GrpcUtils#parse(Payload)} round trips for
+ * the most frequent requests, with every registered payload codec.
+ *
+ * @author nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrpcUtilsBenchmark {
+    
+    @Param({JsonPayloadCodec.NAME, SmilePayloadCodec.NAME})
+    private String codecName;
+    
+    @Param({"instance", "configBatchListen", "notifySubscriber"})
+    private String requestType;
+    
+    private PayloadCodec codec;
+    
+    private Request request;
+    
+    private Payload payload;
+    
+    /**
+     * Build the request to benchmark and its encoded payload.
+     */
+    @Setup
+    public void setUp() {
+        PayloadRegistry.init();
+        codec = PayloadCodecRegistry.getCodec(codecName);
+        request = buildRequest();
+        payload = GrpcUtils.convert(request, codec);
+    }
+    
+    @Benchmark
+    public Payload convert() {
+        return GrpcUtils.convert(request, codec);
+    }
+    
+    @Benchmark
+    public Object parse() {
+        return GrpcUtils.parse(payload);
+    }
+    
+    @Benchmark
+    public Object roundTrip() {
+        return GrpcUtils.parse(GrpcUtils.convert(request, codec));
+    }
+    
+    private Request buildRequest() {
+        switch (requestType) {
+            case "configBatchListen":
+                ConfigBatchListenRequest listenRequest = new ConfigBatchListenRequest();
+                for (int i = 0; i < 100; i++) {
+                    listenRequest.addConfigListenContext("DEFAULT_GROUP", "config-" + i, "benchmark",
+                            "5f1e6b3c4d8a9b0e7f2c1d3a4b5c6d7e");
+                }
+                return listenRequest;
+            case "notifySubscriber":
+                ServiceInfo serviceInfo = new ServiceInfo("DEFAULT_GROUP@@benchmark", "");
+                List<Instance> hosts = new ArrayList<>(100);
+                for (int i = 0; i < 100; i++) {
+                    hosts.add(buildInstance(i));
+                }
+                serviceInfo.setHosts(hosts);
+                return NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+            default:
+                return new InstanceRequest("benchmark", "benchmark", "DEFAULT_GROUP",
+                        NamingRemoteConstants.REGISTER_INSTANCE, buildInstance(0));
+        }
+    }
+    
+    private Instance buildInstance(int index) {
+        Instance instance = new Instance();
+        instance.setIp("10.0." + (index / 250) + "." + (index % 250));
+        instance.setPort(8080);
+        instance.setClusterName("DEFAULT");
+        instance.setServiceName("benchmark");
+        instance.addMetadata("version", "1.0.0");
+        instance.addMetadata("zone", "zone-" + (index % 3));
+        return instance;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.common.notify.DefaultPublisher;
+import com.alibaba.nacos.common.notify.DefaultSharePublisher;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.SlowEvent;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmark of {@link NotifyCenter#publishEvent(Event)} through {@link DefaultPublisher} and
+ * {@link DefaultSharePublisher}.
+ *
+ * <p>The score is the publish throughput of several producer threads, the subscribers only count the received events
+ * so the result shows the cost of queueing and dispatching itself.
+ *
+ * @author nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class NotifyCenterPublishBenchmark {
+    
+    private final CountingSubscriber<BenchmarkEvent> eventSubscriber = new CountingSubscriber<>(BenchmarkEvent.class);
+    
+    private final CountingSubscriber<BenchmarkSlowEvent> slowEventSubscriber = new CountingSubscriber<>(
+            BenchmarkSlowEvent.class);
+    
+    /**
+     * Register publishers and counting subscribers for both event types.
+     */
+    @Setup
+    public void setUp() {
+        NotifyCenter.registerToPublisher(BenchmarkEvent.class, NotifyCenter.ringBufferSize);
+        NotifyCenter.registerSubscriber(eventSubscriber);
+        NotifyCenter.registerToSharePublisher(BenchmarkSlowEvent.class);
+        NotifyCenter.registerSubscriber(slowEventSubscriber);
+    }
+    
+    /**
+     * Deregister the subscribers and the dedicated publisher.
+     */
+    @TearDown
+    public void tearDown() {
+        NotifyCenter.deregisterSubscriber(eventSubscriber);
+        NotifyCenter.deregisterSubscriber(slowEventSubscriber);
+        NotifyCenter.deregisterPublisher(BenchmarkEvent.class);
+    }
+    
+    @Benchmark
+    public boolean defaultPublisher() {
+        return NotifyCenter.publishEvent(new BenchmarkEvent());
+    }
+    
+    @Benchmark
+    public boolean sharePublisher() {
+        return NotifyCenter.publishEvent(new BenchmarkSlowEvent());
+    }
+    
+    public static class BenchmarkEvent extends Event {
+        
+        private static final long serialVersionUID = -4166446398296478524L;
+    }
+    
+    public static class BenchmarkSlowEvent extends SlowEvent {
+        
+        private static final long serialVersionUID = 6389437913539417426L;
+    }
+    
+    private static class CountingSubscriber<T extends Event> extends Subscriber<T> {
+        
+        private final Class<T> eventType;
+        
+        private final LongAdder received = new LongAdder();
+        
+        CountingSubscriber(Class<T> eventType) {
+            this.eventType = eventType;
+        }
+        
+        @Override
+        public void onEvent(T event) {
+            received.increment();
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return eventType;
+        }
+    }
+}
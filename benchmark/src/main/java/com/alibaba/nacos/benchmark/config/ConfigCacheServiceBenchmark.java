@@ -0,0 +1,143 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the config cache hot paths, {@link ConfigCacheService#dumpWithMd5} and
+ * {@link ConfigCacheService#getContentMd5(String)}.
+ *
+ * <p>The dump benchmarks write into a temporary nacos home, {@code dumpUnchanged} measures the md5-consistent fast
+ * path while {@code dumpChanged} alternates between two contents so every dump writes the disk cache.
+ *
+ * @author nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigCacheServiceBenchmark {
+    
+    private static final String GROUP = "DEFAULT_GROUP";
+    
+    private static final String TENANT = "benchmark";
+    
+    @Param({"1000"})
+    private int configCount;
+    
+    @Param({"1024"})
+    private int contentSize;
+    
+    private File nacosHome;
+    
+    private String[] dataIds;
+    
+    private String[] groupKeys;
+    
+    private String[] contents;
+    
+    private String[] md5s;
+    
+    /**
+     * Prepare a temporary nacos home and dump {@link #configCount} configs into the cache.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        nacosHome = Files.createTempDirectory("nacos-benchmark").toFile();
+        EnvUtil.setNacosHomePath(nacosHome.getAbsolutePath());
+        contents = new String[] {buildContent('a'), buildContent('b')};
+        md5s = new String[] {MD5Utils.md5Hex(contents[0], "UTF-8"), MD5Utils.md5Hex(contents[1], "UTF-8")};
+        dataIds = new String[configCount];
+        groupKeys = new String[configCount];
+        for (int i = 0; i < configCount; i++) {
+            dataIds[i] = "config-" + i;
+            groupKeys[i] = GroupKey2.getKey(dataIds[i], GROUP, TENANT);
+            ConfigCacheService.dumpWithMd5(dataIds[i], GROUP, TENANT, contents[0], md5s[0], 1L, "text", "");
+        }
+    }
+    
+    /**
+     * Remove the dumped configs and the temporary nacos home.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        for (String each : dataIds) {
+            ConfigCacheService.remove(each, GROUP, TENANT);
+        }
+        FileUtils.deleteDirectory(nacosHome);
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public String getContentMd5() {
+        return ConfigCacheService.getContentMd5(groupKeys[ThreadLocalRandom.current().nextInt(configCount)]);
+    }
+    
+    @Benchmark
+    public boolean dumpUnchanged() {
+        int index = ThreadLocalRandom.current().nextInt(configCount);
+        return ConfigCacheService.dumpWithMd5(dataIds[index], GROUP, TENANT, contents[0], md5s[0], 1L, "text", "");
+    }
+    
+    /**
+     * Dump a random config with one of two contents, so that most dumps change the md5 and write the disk cache.
+     */
+    @Benchmark
+    public boolean dumpChanged() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(configCount);
+        int version = random.nextInt(2);
+        return ConfigCacheService.dumpWithMd5(dataIds[index], GROUP, TENANT, contents[version], md5s[version],
+                System.currentTimeMillis(), "text", "");
+    }
+    
+    private String buildContent(char fill) {
+        byte[] bytes = new byte[contentSize];
+        Arrays.fill(bytes, (byte) fill);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
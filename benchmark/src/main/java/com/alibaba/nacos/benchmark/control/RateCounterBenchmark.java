@@ -0,0 +1,80 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.control;
+
+import com.alibaba.nacos.plugin.control.tps.barrier.LocalSimpleCountRateCounter;
+import com.alibaba.nacos.plugin.control.tps.barrier.RateCounter;
+import com.alibaba.nacos.plugin.control.tps.barrier.StripedRateCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link RateCounter#add(long, long)} and {@link RateCounter#tryAdd(long, long, long)} of the tps control
+ * rate counters, single threaded and under contention. The {@code counterType} param compares
+ * {@link LocalSimpleCountRateCounter} with {@link StripedRateCounter}.
+ *
+ * @author nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateCounterBenchmark {
+    
+    @Param({"local", "striped"})
+    private String counterType;
+    
+    private RateCounter rateCounter;
+    
+    @Setup
+    public void setUp() {
+        rateCounter = "striped".equals(counterType) ? new StripedRateCounter("benchmark", TimeUnit.SECONDS)
+                : new LocalSimpleCountRateCounter("benchmark", TimeUnit.SECONDS);
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public long add() {
+        return rateCounter.add(System.currentTimeMillis(), 1);
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public long addContended() {
+        return rateCounter.add(System.currentTimeMillis(), 1);
+    }
+    
+    @Benchmark
+    @Threads(8)
+    public boolean tryAddContended() {
+        return rateCounter.tryAdd(System.currentTimeMillis(), 1, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap footprint of stored {@link InstancePublishInfo} with and without {@link InstancePublishInfo#compact()}.
+ *
+ * <p>Instances are built as they are deserialized from requests, every string is a new object. Each host registers
+ * {@code servicesPerHost} services with the same ip, cluster and common metadata, and one instance specific metadata.
+ * The retained heap per instance is reported by the {@code retainedBytesPerInstance} secondary result, which is summed
+ * by JMH over iterations, so only one measurement iteration is run.
+ *
+ * @author nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class InstancePublishInfoFootprintBenchmark {
+    
+    private static final String[] CLUSTERS = {"DEFAULT", "cluster-a", "cluster-b"};
+    
+    @Param({"200000"})
+    private int instanceCount;
+    
+    @Param({"20"})
+    private int servicesPerHost;
+    
+    @Param({"false", "true"})
+    private boolean compact;
+    
+    private List<InstancePublishInfo> instances;
+    
+    private int round;
+    
+    /**
+     * Secondary results of one iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        
+        public long retainedBytesPerInstance;
+        
+        @Setup(Level.Iteration)
+        public void clean() {
+            retainedBytesPerInstance = 0L;
+        }
+    }
+    
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // Strings pooled in previous iterations shouldn't be counted in baseline, so use new hosts and tags.
+        instances = null;
+        round++;
+    }
+    
+    /**
+     * Build and store all instances, then measure the heap retained by them.
+     *
+     * @param footprint secondary results
+     * @return stored instances
+     */
+    @Benchmark
+    public List<InstancePublishInfo> store(Footprint footprint) {
+        long before = usedHeapAfterGc();
+        List<InstancePublishInfo> result = new ArrayList<>(instanceCount);
+        for (int i = 0; i < instanceCount; i++) {
+            InstancePublishInfo instance = newInstance(i);
+            if (compact) {
+                instance.compact();
+            }
+            result.add(instance);
+        }
+        instances = result;
+        footprint.retainedBytesPerInstance = (usedHeapAfterGc() - before) / instanceCount;
+        return result;
+    }
+    
+    private InstancePublishInfo newInstance(int index) {
+        int host = index / servicesPerHost;
+        String ip = (10 + round) + "." + (host >> 16 & 0xFF) + "." + (host >> 8 & 0xFF) + "." + (host & 0xFF);
+        InstancePublishInfo result = new InstancePublishInfo(ip, 8080);
+        result.setCluster(new String(CLUSTERS[host % CLUSTERS.length]));
+        result.setHealthy(true);
+        result.getExtendDatum().put(new String("version"), new String("1.0." + (index % 3)));
+        result.getExtendDatum().put(new String("preserved.register.source"), new String("SPRING_CLOUD"));
+        result.getExtendDatum().put(new String("app"), new String("app-" + (host % 100)));
+        result.getExtendDatum().put(new String("instance.tag"), "tag-" + round + "-" + index);
+        return result;
+    }
+    
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
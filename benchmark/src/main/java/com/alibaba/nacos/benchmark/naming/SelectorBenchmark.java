@@ -0,0 +1,109 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.api.cmdb.pojo.Entity;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.selector.context.CmdbContext;
+import com.alibaba.nacos.naming.selector.LabelSelector;
+import com.alibaba.nacos.naming.selector.interpreter.ExpressionInterpreter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of label expression parsing by {@link ExpressionInterpreter} and provider selection by
+ * {@link LabelSelector}.
+ *
+ * @author nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectorBenchmark {
+    
+    private static final String EXPRESSION = "CONSUMER.label.zone = PROVIDER.label.zone & "
+            + "CONSUMER.label.env = PROVIDER.label.env";
+    
+    @Param({"100", "1000"})
+    private int providerCount;
+    
+    private LabelSelector<Instance> selector;
+    
+    private CmdbContext<Instance> context;
+    
+    /**
+     * Parse the selector and build the consumer and {@link #providerCount} providers spread over three zones.
+     */
+    @Setup
+    public void setUp() throws NacosException {
+        selector = new LabelSelector<>();
+        selector.parse(EXPRESSION);
+        context = new CmdbContext<>();
+        context.setConsumer(buildCmdbInstance(0));
+        List<CmdbContext.CmdbInstance<Instance>> providers = new ArrayList<>(providerCount);
+        for (int i = 0; i < providerCount; i++) {
+            providers.add(buildCmdbInstance(i));
+        }
+        context.setProviders(providers);
+    }
+    
+    @Benchmark
+    public Set<String> parseExpression() throws NacosException {
+        return ExpressionInterpreter.parseExpression(EXPRESSION);
+    }
+    
+    @Benchmark
+    public List<Instance> select() {
+        return selector.select(context);
+    }
+    
+    private CmdbContext.CmdbInstance<Instance> buildCmdbInstance(int index) {
+        Instance instance = new Instance();
+        instance.setIp("10.0." + (index / 250) + "." + (index % 250));
+        instance.setPort(8080);
+        Map<String, String> labels = new HashMap<>(4);
+        labels.put("zone", "zone-" + (index % 3));
+        labels.put("env", "prod");
+        Entity entity = new Entity();
+        entity.setName(instance.getIp());
+        entity.setLabels(labels);
+        CmdbContext.CmdbInstance<Instance> result = new CmdbContext.CmdbInstance<>();
+        result.setInstance(instance);
+        result.setEntity(entity);
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link ServiceStorage#getPushData(Service)} for services with different instance counts.
+ *
+ * <p>{@code unchanged} rebuilds push data while no instance changed, {@code oneChanged} flips the health of one
+ * instance before each rebuild, which is the common case when the push delay task of a large service fires.
+ *
+ * @author nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceStoragePushDataBenchmark {
+    
+    @Param({"100", "1000", "5000"})
+    private int instanceCount;
+    
+    private Service service;
+    
+    private ServiceStorage serviceStorage;
+    
+    private InstancePublishInfo changingInstance;
+    
+    /**
+     * Register {@link #instanceCount} connection based clients, each publishing one instance of the same service.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = ServiceManager.getInstance()
+                .getSingleton(Service.newService("benchmark", "DEFAULT_GROUP", "service-" + instanceCount));
+        Map<String, Client> clients = new ConcurrentHashMap<>(instanceCount);
+        ClientServiceIndexesManager indexesManager = new ClientServiceIndexesManager();
+        for (int i = 0; i < instanceCount; i++) {
+            final String clientId = "client-" + i;
+            InstancePublishInfo publishInfo = new InstancePublishInfo("10.0." + (i / 250) + "." + (i % 250), 8080);
+            publishInfo.setCluster("cluster-" + (i % 4));
+            publishInfo.setHealthy(true);
+            publishInfo.getExtendDatum().put("version", "1.0.0");
+            ConnectionBasedClient client = new ConnectionBasedClient(clientId, true, 0L);
+            client.addServiceInstance(service, publishInfo);
+            clients.put(clientId, client);
+            indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, clientId));
+            changingInstance = publishInfo;
+        }
+        serviceStorage = new ServiceStorage(indexesManager, new StaticClientManager(clients), new SwitchDomain(),
+                new NamingMetadataManager());
+        serviceStorage.getPushData(service);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        serviceStorage.removeData(service);
+        ServiceManager.getInstance().removeSingleton(service);
+    }
+    
+    @Benchmark
+    public void unchanged(Blackhole blackhole) {
+        blackhole.consume(serviceStorage.getPushData(service));
+    }
+    
+    @Benchmark
+    public void oneChanged(Blackhole blackhole) {
+        changingInstance.setHealthy(!changingInstance.isHealthy());
+        blackhole.consume(serviceStorage.getPushData(service));
+    }
+    
+    /**
+     * Client manager which only answers {@link #getClient(String)} from a prepared client map.
+     */
+    private static class StaticClientManager extends ClientManagerDelegate {
+        
+        private final Map<String, Client> clients;
+        
+        StaticClientManager(Map<String, Client> clients) {
+            super(null, null, null);
+            this.clients = clients;
+        }
+        
+        @Override
+        public Client getClient(String clientId) {
+            return clients.get(clientId);
+        }
+    }
+}
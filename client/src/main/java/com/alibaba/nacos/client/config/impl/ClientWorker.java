@@ -17,16 +17,20 @@
 package com.alibaba.nacos.client.config.impl;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
@@ -81,6 +85,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -602,6 +607,11 @@ public class ClientWorker implements Closeable {
          */
         private static final long ALL_SYNC_INTERNAL = 3 * 60 * 1000L;
         
+        /**
+         * max configs queried in one batch query request, keeps the size of response away from grpc message limit.
+         */
+        private static final int BATCH_QUERY_SIZE = 20;
+        
         public ConfigRpcTransportClient(NacosClientProperties properties, ConfigServerListManager serverListManager) {
             super(properties, serverListManager);
         }
@@ -920,6 +930,52 @@ public class ClientWorker implements Closeable {
             return multiTaskExecutor.get(taskId);
         }
         
+        /**
+         * Refresh content of changed configs, notify listeners of configs which are not initializing.
+         *
+         * @param rpcClient rpc client of the listen task
+         * @param groupKeys group keys of changed configs
+         */
+        private void refreshContentAndCheck(RpcClient rpcClient, Collection<String> groupKeys) {
+            List<CacheData> notifyCaches = new ArrayList<>(groupKeys.size());
+            List<CacheData> initializingCaches = new ArrayList<>();
+            for (String groupKey : groupKeys) {
+                if (cacheMap.get() == null || !cacheMap.get().containsKey(groupKey)) {
+                    continue;
+                }
+                CacheData cache = cacheMap.get().get(groupKey);
+                if (cache.isInitializing()) {
+                    initializingCaches.add(cache);
+                } else {
+                    notifyCaches.add(cache);
+                }
+            }
+            refreshContentAndCheck(rpcClient, notifyCaches, true);
+            refreshContentAndCheck(rpcClient, initializingCaches, false);
+        }
+        
+        /**
+         * Refresh content of configs by batch query if server supports, otherwise query them one by one.
+         *
+         * @param rpcClient  rpc client of the listen task
+         * @param cacheDatas configs to refresh
+         * @param notify     whether notify listeners
+         */
+        private void refreshContentAndCheck(RpcClient rpcClient, List<CacheData> cacheDatas, boolean notify) {
+            if (cacheDatas.size() > 1
+                    && rpcClient.getConnectionAbility(AbilityKey.SERVER_SUPPORT_CONFIG_BATCH_QUERY)
+                    == AbilityStatus.SUPPORTED) {
+                for (int i = 0; i < cacheDatas.size(); i += BATCH_QUERY_SIZE) {
+                    batchRefreshContentAndCheck(rpcClient,
+                            cacheDatas.subList(i, Math.min(i + BATCH_QUERY_SIZE, cacheDatas.size())), notify);
+                }
+                return;
+            }
+            for (CacheData cacheData : cacheDatas) {
+                refreshContentAndCheck(rpcClient, cacheData, notify);
+            }
+        }
+        
         private void refreshContentAndCheck(RpcClient rpcClient, String groupKey, boolean notify) {
             if (cacheMap.get() != null && cacheMap.get().containsKey(groupKey)) {
                 CacheData cache = cacheMap.get().get(groupKey);
@@ -932,23 +988,67 @@ public class ClientWorker implements Closeable {
                 
                 ConfigResponse response = this.queryConfigInner(rpcClient, cacheData.dataId, cacheData.group,
                         cacheData.tenant, requestTimeout, notify);
-                cacheData.setEncryptedDataKey(response.getEncryptedDataKey());
-                cacheData.setContent(response.getContent());
-                if (null != response.getConfigType()) {
-                    cacheData.setType(response.getConfigType());
-                }
-                if (notify) {
-                    LOGGER.info("[{}] [data-received] dataId={}, group={}, tenant={}, md5={}, type={}", agent.getName(),
-                            cacheData.dataId, cacheData.group, cacheData.tenant, cacheData.getMd5(),
-                            response.getConfigType());
-                }
-                cacheData.checkListenerMd5();
+                refreshContentAndCheck(cacheData, response, notify);
             } catch (Exception e) {
                 LOGGER.error("refresh content and check md5 fail ,dataId={},group={},tenant={} ", cacheData.dataId,
                         cacheData.group, cacheData.tenant, e);
             }
         }
         
+        private void refreshContentAndCheck(CacheData cacheData, ConfigResponse response, boolean notify) {
+            cacheData.setEncryptedDataKey(response.getEncryptedDataKey());
+            cacheData.setContent(response.getContent());
+            if (null != response.getConfigType()) {
+                cacheData.setType(response.getConfigType());
+            }
+            if (notify) {
+                LOGGER.info("[{}] [data-received] dataId={}, group={}, tenant={}, md5={}, type={}", agent.getName(),
+                        cacheData.dataId, cacheData.group, cacheData.tenant, cacheData.getMd5(),
+                        response.getConfigType());
+            }
+            cacheData.checkListenerMd5();
+        }
+        
+        /**
+         * Refresh content of configs by one batch query, fall back to query them one by one if batch query fails.
+         */
+        private void batchRefreshContentAndCheck(RpcClient rpcClient, List<CacheData> cacheDatas, boolean notify) {
+            ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+            for (CacheData cacheData : cacheDatas) {
+                request.addQueryRequest(cacheData.dataId, cacheData.group, cacheData.tenant);
+            }
+            request.putHeader(NOTIFY_HEADER, String.valueOf(notify));
+            List<ConfigQueryResponse> queryResponses = null;
+            try {
+                ConfigBatchQueryResponse response = (ConfigBatchQueryResponse) requestProxy(rpcClient, request);
+                if (response.isSuccess()) {
+                    queryResponses = response.getQueryResponses();
+                } else {
+                    LOGGER.warn("[{}] [batch-query] fail, size={}, code={}, msg={}", agent.getName(),
+                            cacheDatas.size(), response.getErrorCode(), response.getMessage());
+                }
+            } catch (Exception e) {
+                LOGGER.warn("[{}] [batch-query] error, size={}", agent.getName(), cacheDatas.size(), e);
+            }
+            if (null == queryResponses || queryResponses.size() != cacheDatas.size()) {
+                for (CacheData cacheData : cacheDatas) {
+                    refreshContentAndCheck(rpcClient, cacheData, notify);
+                }
+                return;
+            }
+            for (int i = 0; i < cacheDatas.size(); i++) {
+                CacheData cacheData = cacheDatas.get(i);
+                try {
+                    ConfigResponse response = handleQueryResponse(cacheData.dataId, cacheData.group,
+                            cacheData.tenant, queryResponses.get(i));
+                    refreshContentAndCheck(cacheData, response, notify);
+                } catch (Exception e) {
+                    LOGGER.error("refresh content and check md5 fail ,dataId={},group={},tenant={} ",
+                            cacheData.dataId, cacheData.group, cacheData.tenant, e);
+                }
+            }
+        }
+        
         private void checkRemoveListenCache(Map<String, List<CacheData>> removeListenCachesMap) throws NacosException {
             if (!removeListenCachesMap.isEmpty()) {
                 List<Future> listenFutures = new ArrayList<>();
@@ -1031,22 +1131,18 @@ public class ClientWorker implements Closeable {
                                         String changeKey = GroupKey.getKeyTenant(changeConfig.getDataId(),
                                                 changeConfig.getGroup(), changeConfig.getTenant());
                                         changeKeys.add(changeKey);
-                                        boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
-                                        refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
                                     }
                                     
                                 }
                                 
+                                Set<String> refreshKeys = new LinkedHashSet<>(changeKeys);
                                 for (CacheData cacheData : listenCaches) {
                                     if (cacheData.getReceiveNotifyChanged().get()) {
-                                        String changeKey = GroupKey.getKeyTenant(cacheData.dataId, cacheData.group,
-                                                cacheData.getTenant());
-                                        if (!changeKeys.contains(changeKey)) {
-                                            boolean isInitializing = cacheMap.get().get(changeKey).isInitializing();
-                                            refreshContentAndCheck(rpcClient, changeKey, !isInitializing);
-                                        }
+                                        refreshKeys.add(GroupKey.getKeyTenant(cacheData.dataId, cacheData.group,
+                                                cacheData.getTenant()));
                                     }
                                 }
+                                refreshContentAndCheck(rpcClient, refreshKeys);
                                 
                                 //handler content configs
                                 for (CacheData cacheData : listenCaches) {
@@ -1164,7 +1260,11 @@ public class ClientWorker implements Closeable {
             request.putHeader(NOTIFY_HEADER, String.valueOf(notify));
             
             ConfigQueryResponse response = (ConfigQueryResponse) requestProxy(rpcClient, request, readTimeouts);
+            return handleQueryResponse(dataId, group, tenant, response);
+        }
             
+        private ConfigResponse handleQueryResponse(String dataId, String group, String tenant,
+                ConfigQueryResponse response) throws NacosException {
             ConfigResponse configResponse = new ConfigResponse();
             if (response.isSuccess()) {
                 LocalConfigInfoProcessor.saveSnapshot(this.getName(), dataId, group, tenant, response.getContent());
@@ -18,13 +18,16 @@ package com.alibaba.nacos.client.naming.cache;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.naming.event.InstancesDiff;
+import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -116,4 +119,56 @@ public final class InstancesDiffer {
         }
         return instancesDiff;
     }
+    
+    /**
+     * Apply the delta pushed by server to old service info, the result hosts will be set into new service info.
+     *
+     * <p>The delta can't be applied if it doesn't match the hosts of old service info, such as removing or modifying a
+     * nonexistent instance, or adding an existed instance.
+     *
+     * @param oldService          old service info
+     * @param newService          new service info without hosts
+     * @param addedInstances      added instances
+     * @param modifiedInstances   modified instances
+     * @param removedInstanceKeys keys of removed instances, see {@link NamingUtils#getInstanceDeltaKey(Instance)}
+     * @return {@link InstancesDiff} of the delta, or {@code null} if the delta can't be applied to old service info
+     */
+    public InstancesDiff applyDelta(ServiceInfo oldService, ServiceInfo newService, List<Instance> addedInstances,
+            List<Instance> modifiedInstances, List<String> removedInstanceKeys) {
+        Map<String, Instance> hostMap = new LinkedHashMap<>(oldService.getHosts().size() * 4 / 3 + 1);
+        for (Instance host : oldService.getHosts()) {
+            hostMap.put(NamingUtils.getInstanceDeltaKey(host), host);
+        }
+        List<Instance> removedHosts = new ArrayList<>();
+        if (CollectionUtils.isNotEmpty(removedInstanceKeys)) {
+            for (String each : removedInstanceKeys) {
+                Instance removed = hostMap.remove(each);
+                if (null == removed) {
+                    return null;
+                }
+                removedHosts.add(removed);
+            }
+        }
+        if (CollectionUtils.isNotEmpty(modifiedInstances)) {
+            for (Instance each : modifiedInstances) {
+                if (null == hostMap.replace(NamingUtils.getInstanceDeltaKey(each), each)) {
+                    return null;
+                }
+            }
+        }
+        if (CollectionUtils.isNotEmpty(addedInstances)) {
+            for (Instance each : addedInstances) {
+                if (null != hostMap.putIfAbsent(NamingUtils.getInstanceDeltaKey(each), each)) {
+                    return null;
+                }
+            }
+        }
+        newService.setHosts(new ArrayList<>(hostMap.values()));
+        InstancesDiff instancesDiff = new InstancesDiff(addedInstances, removedHosts, modifiedInstances);
+        if (instancesDiff.hasDifferent()) {
+            NAMING_LOGGER.info("delta ips(+{} -{} ~{}) service: {}", instancesDiff.getAddedInstances().size(),
+                    removedHosts.size(), instancesDiff.getModifiedInstances().size(), newService.getKey());
+        }
+        return instancesDiff;
+    }
 }
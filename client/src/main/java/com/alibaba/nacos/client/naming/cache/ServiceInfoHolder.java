@@ -19,6 +19,7 @@ package com.alibaba.nacos.client.naming.cache;
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.monitor.MetricsMonitor;
@@ -53,6 +54,11 @@ public class ServiceInfoHolder implements Closeable {
     
     private final InstancesDiffer instancesDiffer;
     
+    /**
+     * The revisions of service info pushed by server, used to check whether delta push can be applied.
+     */
+    private final ConcurrentMap<String, PushedRevision> pushedRevisions = new ConcurrentHashMap<>(16);
+    
     private String cacheDir;
     
     private String notifierEventScope;
@@ -134,6 +140,73 @@ public class ServiceInfoHolder implements Closeable {
         }
         serviceInfoMap.put(serviceInfo.getKey(), serviceInfo);
         InstancesDiff diff = getServiceInfoDiff(oldService, serviceInfo);
+        notifyServiceInfoChanged(serviceKey, serviceInfo, diff);
+        return serviceInfo;
+    }
+    
+    /**
+     * Process full service info pushed by server with revision.
+     *
+     * @param serviceInfo new service info
+     * @param revision    revision of pushed service info, {@code 0} means server doesn't support delta push
+     * @return service info
+     */
+    public ServiceInfo processServiceInfo(ServiceInfo serviceInfo, long revision) {
+        ServiceInfo result = processServiceInfo(serviceInfo);
+        String serviceKey = serviceInfo.getKey();
+        if (null == serviceKey) {
+            return result;
+        }
+        if (revision > 0 && result == serviceInfo) {
+            pushedRevisions.put(serviceKey, new PushedRevision(revision, serviceInfo));
+        } else {
+            pushedRevisions.remove(serviceKey);
+        }
+        return result;
+    }
+    
+    /**
+     * Process delta service info pushed by server.
+     *
+     * <p>The delta can only be applied to the service info of the base revision, otherwise the current service info
+     * is kept, and server should push full service info again.
+     *
+     * @param request delta notify request
+     * @return {@code true} if the delta is handled, {@code false} if the base revision mismatches
+     */
+    public boolean processDeltaServiceInfo(NotifySubscriberRequest request) {
+        ServiceInfo serviceInfo = request.getServiceInfo();
+        String serviceKey = serviceInfo.getKey();
+        ServiceInfo oldService = serviceInfoMap.get(serviceKey);
+        PushedRevision pushedRevision = pushedRevisions.get(serviceKey);
+        if (null == oldService || null == pushedRevision || pushedRevision.serviceInfo != oldService
+                || pushedRevision.revision != request.getBaseRevision()) {
+            NAMING_LOGGER.warn("process delta service info but revision mismatch, serviceKey: {}, base revision: {}",
+                    serviceKey, request.getBaseRevision());
+            pushedRevisions.remove(serviceKey);
+            return false;
+        }
+        InstancesDiff diff = instancesDiffer.applyDelta(oldService, serviceInfo, request.getAddedInstances(),
+                request.getModifiedInstances(), request.getRemovedInstanceKeys());
+        if (null == diff) {
+            NAMING_LOGGER.warn("process delta service info but hosts mismatch, serviceKey: {}, revision: {}",
+                    serviceKey, request.getRevision());
+            pushedRevisions.remove(serviceKey);
+            return false;
+        }
+        if (isEmptyOrErrorPush(serviceInfo)) {
+            NAMING_LOGGER.warn("process delta service info but found empty or error push, serviceKey: {}, "
+                    + "pushEmptyProtection: {}", serviceKey, pushEmptyProtection);
+            pushedRevisions.remove(serviceKey);
+            return true;
+        }
+        serviceInfoMap.put(serviceKey, serviceInfo);
+        pushedRevisions.put(serviceKey, new PushedRevision(request.getRevision(), serviceInfo));
+        notifyServiceInfoChanged(serviceKey, serviceInfo, diff);
+        return true;
+    }
+    
+    private void notifyServiceInfoChanged(String serviceKey, ServiceInfo serviceInfo, InstancesDiff diff) {
         if (StringUtils.isBlank(serviceInfo.getJsonFromServer())) {
             serviceInfo.setJsonFromServer(JacksonUtils.toJson(serviceInfo));
         }
@@ -149,7 +222,6 @@ public class ServiceInfoHolder implements Closeable {
             }
             DiskCache.write(serviceInfo, cacheDir);
         }
-        return serviceInfo;
     }
     
     private boolean isEmptyOrErrorPush(ServiceInfo serviceInfo) {
@@ -181,4 +253,16 @@ public class ServiceInfoHolder implements Closeable {
         failoverReactor.shutdown();
         NAMING_LOGGER.info("{} do shutdown stop", className);
     }
+    
+    private static class PushedRevision {
+        
+        private final long revision;
+        
+        private final ServiceInfo serviceInfo;
+        
+        private PushedRevision(long revision, ServiceInfo serviceInfo) {
+            this.revision = revision;
+            this.serviceInfo = serviceInfo;
+        }
+    }
 }
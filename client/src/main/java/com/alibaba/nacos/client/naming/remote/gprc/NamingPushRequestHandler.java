@@ -16,14 +16,21 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.naming.NamingResponseCode;
+import com.alibaba.nacos.api.naming.remote.request.BatchNotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchNotifySubscriberResponse;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
 import com.alibaba.nacos.common.remote.client.Connection;
 import com.alibaba.nacos.common.remote.client.ServerRequestHandler;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Naming push request handler.
  *
@@ -41,9 +48,50 @@ public class NamingPushRequestHandler implements ServerRequestHandler {
     public Response requestReply(Request request, Connection connection) {
         if (request instanceof NotifySubscriberRequest) {
             NotifySubscriberRequest notifyRequest = (NotifySubscriberRequest) request;
-            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
-            return new NotifySubscriberResponse();
+            NotifySubscriberResponse response = new NotifySubscriberResponse();
+            if (!handleNotifyRequest(notifyRequest)) {
+                // let server push full service info again.
+                response.setErrorInfo(NamingResponseCode.PUSH_REVISION_MISMATCH,
+                        "Delta push revision mismatch, base revision " + notifyRequest.getBaseRevision());
+            }
+            return response;
+        }
+        if (request instanceof BatchNotifySubscriberRequest) {
+            return handleBatchNotifyRequest((BatchNotifySubscriberRequest) request);
         }
         return null;
     }
+    
+    private Response handleBatchNotifyRequest(BatchNotifySubscriberRequest batchRequest) {
+        BatchNotifySubscriberResponse response = new BatchNotifySubscriberResponse();
+        if (null == batchRequest.getNotifyRequests()) {
+            return response;
+        }
+        List<Integer> resultCodes = new ArrayList<>(batchRequest.getNotifyRequests().size());
+        for (NotifySubscriberRequest each : batchRequest.getNotifyRequests()) {
+            // only the mismatched services will be pushed again with full data.
+            resultCodes.add(handleNotifyRequest(each) ? ResponseCode.SUCCESS.getCode()
+                    : NamingResponseCode.PUSH_REVISION_MISMATCH);
+        }
+        response.setResultCodes(resultCodes);
+        return response;
+    }
+    
+    /**
+     * Handle one notify request.
+     *
+     * @param notifyRequest notify request
+     * @return {@code false} if it is a delta request and the base revision mismatches, otherwise {@code true}
+     */
+    private boolean handleNotifyRequest(NotifySubscriberRequest notifyRequest) {
+        if (notifyRequest.isDelta()) {
+            return serviceInfoHolder.processDeltaServiceInfo(notifyRequest);
+        }
+        if (notifyRequest.getRevision() > 0) {
+            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo(), notifyRequest.getRevision());
+        } else {
+            serviceInfoHolder.processServiceInfo(notifyRequest.getServiceInfo());
+        }
+        return true;
+    }
 }
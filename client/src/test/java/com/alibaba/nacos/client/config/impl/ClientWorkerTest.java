@@ -17,16 +17,20 @@
 package com.alibaba.nacos.client.config.impl;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
@@ -581,6 +585,79 @@ class ClientWorkerTest {
         
     }
     
+    @Test
+    void testExecuteConfigListenWithBatchQuery() throws Exception {
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        Mockito.when(agent.getName()).thenReturn("mocktest");
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(new Properties());
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        clientWorker.shutdown();
+        
+        String group = "group123";
+        String tenant = "tenant122324";
+        List<CacheData> cacheDatas = new ArrayList<>();
+        List<AtomicReference<String>> contents = new ArrayList<>();
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
+        List<ConfigChangeBatchListenResponse.ConfigContext> changedConfigs = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            String dataId = "dataIdBatch" + i + System.currentTimeMillis();
+            CacheData cacheData = normalNotConsistentCache(filter, agent.getName(), dataId, group, tenant);
+            AtomicReference<String> content = new AtomicReference<>();
+            cacheData.addListener(new Listener() {
+                @Override
+                public Executor getExecutor() {
+                    return null;
+                }
+                
+                @Override
+                public void receiveConfigInfo(String configInfo) {
+                    content.set(configInfo);
+                }
+            });
+            cacheData.setInitializing(false);
+            cacheDatas.add(cacheData);
+            contents.add(content);
+            Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant(dataId, group, tenant))).thenReturn(cacheData);
+            Mockito.when(cacheDataMapMocked.containsKey(GroupKey.getKeyTenant(dataId, group, tenant))).thenReturn(true);
+            ConfigChangeBatchListenResponse.ConfigContext configContext =
+                    new ConfigChangeBatchListenResponse.ConfigContext();
+            configContext.setDataId(dataId);
+            configContext.setGroup(group);
+            configContext.setTenant(tenant);
+            changedConfigs.add(configContext);
+        }
+        Mockito.when(cacheDataMapMocked.values()).thenReturn(cacheDatas);
+        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
+        cacheMap.setAccessible(true);
+        cacheMap.set(clientWorker, cacheMapMocked);
+        
+        ConfigChangeBatchListenResponse response = new ConfigChangeBatchListenResponse();
+        response.setChangedConfigs(changedConfigs);
+        RpcClient rpcClientInner = Mockito.mock(RpcClient.class);
+        Mockito.when(rpcClientInner.isWaitInitiated()).thenReturn(true, false);
+        Mockito.when(rpcClientInner.getConnectionAbility(AbilityKey.SERVER_SUPPORT_CONFIG_BATCH_QUERY))
+                .thenReturn(AbilityStatus.SUPPORTED);
+        rpcClientFactoryMockedStatic.when(
+                () -> RpcClientFactory.createClient(anyString(), any(ConnectionType.class), any(Map.class),
+                        any(RpcClientTlsConfig.class))).thenReturn(rpcClientInner);
+        Mockito.when(rpcClientInner.request(any(ConfigBatchListenRequest.class))).thenReturn(response);
+        Mockito.when(rpcClientInner.request(any(ConfigBatchQueryRequest.class))).thenAnswer(invocation -> {
+            ConfigBatchQueryResponse batchQueryResponse = new ConfigBatchQueryResponse();
+            for (ConfigQueryRequest each : ((ConfigBatchQueryRequest) invocation.getArgument(0)).getQueryRequests()) {
+                batchQueryResponse.getQueryResponses().add(ConfigQueryResponse.buildSuccessResponse(each.getDataId()));
+            }
+            return batchQueryResponse;
+        });
+        (clientWorker.getAgent()).executeConfigListen();
+        
+        assertEquals(cacheDatas.get(0).dataId, contents.get(0).get());
+        assertEquals(cacheDatas.get(1).dataId, contents.get(1).get());
+        Mockito.verify(rpcClientInner, Mockito.never()).request(any(ConfigQueryRequest.class));
+    }
+    
     private CacheData discardCache(ConfigFilterChainManager filter, String envName, String dataId, String group,
             String tenant) {
         CacheData cacheData = new CacheData(filter, envName, dataId, group, tenant);
@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.client.naming.backups.FailoverReactor;
 import org.junit.jupiter.api.AfterEach;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -108,6 +110,64 @@ class ServiceInfoHolderTest {
         assertEquals(expect.getKey(), actual.getKey());
     }
     
+    @Test
+    void testProcessDeltaServiceInfo() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        hosts.add(createInstance("1.1.1.2", 2));
+        info.setHosts(hosts);
+        holder.processServiceInfo(info, 1L);
+        
+        Instance modified = createInstance("1.1.1.1", 1);
+        modified.setWeight(2.0);
+        Instance added = createInstance("1.1.1.3", 3);
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(
+                new ServiceInfo("a@@b@@c"), 1L, 2L, Collections.singletonList(added),
+                Collections.singletonList(modified), Collections.singletonList("1.1.1.2:2:null"));
+        assertTrue(holder.processDeltaServiceInfo(request));
+        ServiceInfo actual = holder.getServiceInfo("b", "a", "c");
+        assertEquals(2, actual.getHosts().size());
+        assertEquals(2.0, actual.getHosts().get(0).getWeight(), 0.0);
+        assertEquals("1.1.1.3", actual.getHosts().get(1).getIp());
+        
+        request = NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(new ServiceInfo("a@@b@@c"), 2L, 3L,
+                null, null, Collections.singletonList("1.1.1.3:3:null"));
+        assertTrue(holder.processDeltaServiceInfo(request));
+        assertEquals(1, holder.getServiceInfo("b", "a", "c").getHosts().size());
+    }
+    
+    @Test
+    void testProcessDeltaServiceInfoMismatch() {
+        ServiceInfo info = new ServiceInfo("a@@b@@c");
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("1.1.1.1", 1));
+        info.setHosts(hosts);
+        holder.processServiceInfo(info, 1L);
+        // base revision mismatch
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(
+                new ServiceInfo("a@@b@@c"), 2L, 3L, Collections.singletonList(createInstance("1.1.1.2", 2)), null,
+                null);
+        assertFalse(holder.processDeltaServiceInfo(request));
+        assertEquals(info, holder.getServiceInfo("b", "a", "c"));
+        // revision is dropped after mismatch, so the next delta also mismatches until full push.
+        request.setBaseRevision(1L);
+        assertFalse(holder.processDeltaServiceInfo(request));
+        holder.processServiceInfo(info, 4L);
+        // hosts mismatch
+        request = NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(new ServiceInfo("a@@b@@c"), 4L, 5L, null,
+                null, Collections.singletonList("1.1.1.2:2:null"));
+        assertFalse(holder.processDeltaServiceInfo(request));
+        // service info replaced by query result
+        holder.processServiceInfo(info, 6L);
+        ServiceInfo queried = new ServiceInfo("a@@b@@c");
+        queried.setHosts(new ArrayList<>(hosts));
+        holder.processServiceInfo(queried);
+        request = NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(new ServiceInfo("a@@b@@c"), 6L, 7L, null,
+                null, Collections.singletonList("1.1.1.1:1:null"));
+        assertFalse(holder.processDeltaServiceInfo(request));
+    }
+    
     @Test
     void testProcessServiceInfoWithPushEmpty() throws NacosException {
         ServiceInfo oldInfo = new ServiceInfo("a@@b@@c");
@@ -18,22 +18,32 @@
 
 package com.alibaba.nacos.client.naming.remote.gprc;
 
+import com.alibaba.nacos.api.naming.NamingResponseCode;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchNotifySubscriberRequest;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchNotifySubscriberResponse;
 import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
 import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
 import com.alibaba.nacos.client.naming.remote.TestConnection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class NamingPushRequestHandlerTest {
     
@@ -51,6 +61,54 @@ class NamingPushRequestHandlerTest {
         verify(holder, times(1)).processServiceInfo(info);
     }
     
+    @Test
+    void testRequestReplyWithRevision() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        Request req = NotifySubscriberRequest.buildNotifySubscriberRequest(info, 1L);
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response.isSuccess());
+        verify(holder, times(1)).processServiceInfo(info, 1L);
+    }
+    
+    @Test
+    void testRequestReplyDelta() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        NotifySubscriberRequest req = NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(
+                new ServiceInfo("name", "cluster1"), 1L, 2L, null, null, Collections.singletonList("1.1.1.1:1:c"));
+        when(holder.processDeltaServiceInfo(req)).thenReturn(true);
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response.isSuccess());
+        when(holder.processDeltaServiceInfo(req)).thenReturn(false);
+        response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertFalse(response.isSuccess());
+        assertEquals(NamingResponseCode.PUSH_REVISION_MISMATCH, response.getErrorCode());
+    }
+    
+    @Test
+    void testRequestReplyBatch() {
+        ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
+        NamingPushRequestHandler handler = new NamingPushRequestHandler(holder);
+        ServiceInfo info = new ServiceInfo("name", "cluster1");
+        NotifySubscriberRequest fullRequest = NotifySubscriberRequest.buildNotifySubscriberRequest(info, 1L);
+        NotifySubscriberRequest deltaRequest = NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(
+                new ServiceInfo("name2", "cluster1"), 1L, 2L, null, null, Collections.singletonList("1.1.1.1:1:c"));
+        when(holder.processDeltaServiceInfo(deltaRequest)).thenReturn(true);
+        BatchNotifySubscriberRequest req = new BatchNotifySubscriberRequest(Arrays.asList(fullRequest, deltaRequest));
+        Response response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response instanceof BatchNotifySubscriberResponse);
+        assertTrue(response.isSuccess());
+        verify(holder, times(1)).processServiceInfo(info, 1L);
+        when(holder.processDeltaServiceInfo(deltaRequest)).thenReturn(false);
+        response = handler.requestReply(req, new TestConnection(new RpcClient.ServerInfo()));
+        assertTrue(response.isSuccess());
+        assertEquals(Arrays.asList(ResponseCode.SUCCESS.getCode(), NamingResponseCode.PUSH_REVISION_MISMATCH),
+                ((BatchNotifySubscriberResponse) response).getResultCodes());
+        verify(holder, times(2)).processServiceInfo(info, 1L);
+    }
+    
     @Test
     void testRequestReplyOtherType() {
         ServiceInfoHolder holder = mock(ServiceInfoHolder.class);
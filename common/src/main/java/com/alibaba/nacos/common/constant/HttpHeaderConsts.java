@@ -31,6 +31,7 @@ public interface HttpHeaderConsts {
     String ACCEPT_CHARSET = "Accept-Charset";
     String ACCEPT_ENCODING = "Accept-Encoding";
     String CONTENT_ENCODING = "Content-Encoding";
+    String VARY = "Vary";
     String CONNECTION = "Requester";
     String REQUEST_ID = "RequestId";
     String REQUEST_MODULE = "Request-Module";
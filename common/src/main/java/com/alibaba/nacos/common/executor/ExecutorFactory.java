@@ -40,6 +40,8 @@ import java.util.concurrent.TimeUnit;
         "checkstyle:missingjavadocmethod"})
 public final class ExecutorFactory {
     
+    private static final boolean VIRTUAL_THREAD_SUPPORTED = checkVirtualThreadSupported();
+    
     public static ExecutorService newSingleExecutorService() {
         return Executors.newFixedThreadPool(1);
     }
@@ -71,6 +73,53 @@ public final class ExecutorFactory {
                 new LinkedBlockingQueue<>(), threadFactory);
     }
     
+    /**
+     * Whether virtual thread is supported by current JVM, which requires JDK 21 or later.
+     *
+     * @return {@code true} if virtual thread executor can be created
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_SUPPORTED;
+    }
+    
+    /**
+     * Create a new executor service which starts a new virtual thread for each task.
+     *
+     * <p>Virtual thread API is called by reflection because nacos is still compiled with JDK 8, check
+     * {@link #isVirtualThreadSupported()} before calling this method.
+     *
+     * @param threadNamePrefix prefix of virtual thread name
+     * @return new virtual thread per task executor service
+     * @throws UnsupportedOperationException if virtual thread is not supported by current JVM
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(final String threadNamePrefix) {
+        try {
+            ThreadFactory threadFactory = newVirtualThreadFactory(threadNamePrefix);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new UnsupportedOperationException("Virtual thread is not supported by current JVM", e);
+        }
+    }
+    
+    private static ThreadFactory newVirtualThreadFactory(final String threadNamePrefix)
+            throws ReflectiveOperationException {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+    
+    private static boolean checkVirtualThreadSupported() {
+        try {
+            newVirtualThreadFactory("nacos.virtual.check").newThread(() -> {
+            });
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return false;
+        }
+    }
+    
     public static final class Managed {
         
         private static final String DEFAULT_NAMESPACE = "nacos";
@@ -176,6 +225,21 @@ public final class ExecutorFactory {
             THREAD_POOL_MANAGER.register(DEFAULT_NAMESPACE, group, executor);
             return executor;
         }
+        
+        /**
+         * Create a new virtual thread per task executor service and register to manager.
+         *
+         * @param group            group name
+         * @param threadNamePrefix prefix of virtual thread name
+         * @return new virtual thread per task executor service
+         * @throws UnsupportedOperationException if virtual thread is not supported by current JVM
+         */
+        public static ExecutorService newVirtualThreadPerTaskExecutor(final String group,
+                final String threadNamePrefix) {
+            ExecutorService executorService = ExecutorFactory.newVirtualThreadPerTaskExecutor(threadNamePrefix);
+            THREAD_POOL_MANAGER.register(DEFAULT_NAMESPACE, group, executorService);
+            return executorService;
+        }
     
         @JustForTest
         public static ThreadPoolManager getThreadPoolManager() {
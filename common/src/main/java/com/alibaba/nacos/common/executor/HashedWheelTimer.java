@@ -0,0 +1,440 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hashed timing wheel timer, add and cancel of a timeout are O(1).
+ *
+ * <p>It is designed for a large amount of approximate timeouts such as request timeouts and retry delays, the
+ * accuracy is bounded by the tick duration. Expired tasks run on the single worker thread of the wheel, so the tasks
+ * should be short or hand the real work off to another executor.
+ *
+ * @author nacos
+ */
+public class HashedWheelTimer {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTimer.class);
+    
+    private static final long DEFAULT_TICK_DURATION_MILLIS = 10L;
+    
+    private static final int DEFAULT_TICKS_PER_WHEEL = 1024;
+    
+    private static final int MAX_TICKS_PER_WHEEL = 1 << 30;
+    
+    private static final int MAX_TRANSFER_PER_TICK = 100000;
+    
+    private static final int STATE_INIT = 0;
+    
+    private static final int STATE_STARTED = 1;
+    
+    private static final int STATE_SHUTDOWN = 2;
+    
+    private final AtomicInteger workerState = new AtomicInteger(STATE_INIT);
+    
+    private final long tickDurationNanos;
+    
+    private final Bucket[] wheel;
+    
+    private final int mask;
+    
+    private final Thread workerThread;
+    
+    private final CountDownLatch startLatch = new CountDownLatch(1);
+    
+    private final Queue<WheelTimeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    
+    private final Queue<WheelTimeout> pendingCancels = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    
+    private final AtomicLong tickLagMillis = new AtomicLong();
+    
+    private volatile long startTime;
+    
+    private long tick;
+    
+    public HashedWheelTimer(String name) {
+        this(name, DEFAULT_TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+    
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        Objects.requireNonNull(unit, "unit");
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > MAX_TICKS_PER_WHEEL) {
+            throw new IllegalArgumentException("ticksPerWheel out of range: " + ticksPerWheel);
+        }
+        int length = 1;
+        while (length < ticksPerWheel) {
+            length <<= 1;
+        }
+        this.wheel = new Bucket[length];
+        for (int i = 0; i < length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = length - 1;
+        this.tickDurationNanos = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+        this.workerThread = new NameThreadFactory(name).newThread(new Worker());
+    }
+    
+    /**
+     * Get the timer shared by the server side components, it is started on first use.
+     *
+     * @return shared timer
+     */
+    public static HashedWheelTimer shared() {
+        return SharedHolder.INSTANCE;
+    }
+    
+    /**
+     * Schedule the task to run once after the delay.
+     *
+     * @param task  task to run on expiry
+     * @param delay delay
+     * @param unit  unit of delay
+     * @return handle which can cancel the timeout
+     * @throws RejectedExecutionException if the timer has been stopped
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task, "task");
+        Objects.requireNonNull(unit, "unit");
+        start();
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(delay, 0L)) - startTime;
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+        WheelTimeout timeout = new WheelTimeout(this, task, deadline);
+        pendingTimeouts.incrementAndGet();
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+    
+    private void start() {
+        switch (workerState.get()) {
+            case STATE_INIT:
+                if (workerState.compareAndSet(STATE_INIT, STATE_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case STATE_STARTED:
+                break;
+            default:
+                throw new RejectedExecutionException("timer " + workerThread.getName() + " has been stopped");
+        }
+        while (startTime == 0) {
+            try {
+                startLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+    
+    /**
+     * Stop the timer, timeouts which have not expired are discarded.
+     */
+    public void stop() {
+        if (Thread.currentThread() == workerThread) {
+            throw new IllegalStateException("stop() can not be called from the timer task");
+        }
+        if (workerState.getAndSet(STATE_SHUTDOWN) != STATE_STARTED) {
+            return;
+        }
+        workerThread.interrupt();
+        try {
+            workerThread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * Timeouts which are scheduled but have neither expired nor been cancelled, expose it as gauge.
+     *
+     * @return pending timeouts counter
+     */
+    public AtomicLong getPendingTimeouts() {
+        return pendingTimeouts;
+    }
+    
+    /**
+     * How late the worker woke up for the last tick in milliseconds, expose it as gauge.
+     *
+     * @return tick lag
+     */
+    public AtomicLong getTickLagMillis() {
+        return tickLagMillis;
+    }
+    
+    /**
+     * Handle of a scheduled task.
+     */
+    public interface Timeout {
+        
+        /**
+         * Cancel the timeout, the task will not run if it has not expired yet.
+         *
+         * @return {@code true} if cancelled by this call
+         */
+        boolean cancel();
+        
+        /**
+         * Whether the timeout has been cancelled.
+         *
+         * @return {@code true} if cancelled
+         */
+        boolean isCancelled();
+        
+        /**
+         * Whether the timeout has expired and its task has been run.
+         *
+         * @return {@code true} if expired
+         */
+        boolean isExpired();
+    }
+    
+    private final class Worker implements Runnable {
+        
+        @Override
+        public void run() {
+            long now = System.nanoTime();
+            startTime = now == 0 ? 1 : now;
+            startLatch.countDown();
+            while (workerState.get() == STATE_STARTED) {
+                long deadline = waitForNextTick();
+                if (deadline > 0) {
+                    processCancelled();
+                    transferTimeoutsToBuckets();
+                    wheel[(int) (tick & mask)].expireTimeouts(deadline);
+                    tick++;
+                }
+            }
+            for (Bucket bucket : wheel) {
+                bucket.clear();
+            }
+            pendingAdds.clear();
+            pendingCancels.clear();
+            pendingTimeouts.set(0);
+        }
+        
+        private long waitForNextTick() {
+            long deadline = tickDurationNanos * (tick + 1);
+            while (true) {
+                long currentTime = System.nanoTime() - startTime;
+                long sleepMillis = (deadline - currentTime + 999999) / 1000000;
+                if (sleepMillis <= 0) {
+                    tickLagMillis.set(TimeUnit.NANOSECONDS.toMillis(currentTime - deadline));
+                    return currentTime;
+                }
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException ignored) {
+                    if (workerState.get() == STATE_SHUTDOWN) {
+                        return Long.MIN_VALUE;
+                    }
+                }
+            }
+        }
+        
+        private void transferTimeoutsToBuckets() {
+            for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+                WheelTimeout timeout = pendingAdds.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.isCancelled()) {
+                    continue;
+                }
+                long calculated = timeout.deadline / tickDurationNanos;
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+                long ticks = Math.max(calculated, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+        
+        private void processCancelled() {
+            WheelTimeout timeout;
+            while ((timeout = pendingCancels.poll()) != null) {
+                timeout.remove();
+            }
+        }
+    }
+    
+    private static final class WheelTimeout implements Timeout {
+        
+        private static final int ST_INIT = 0;
+        
+        private static final int ST_CANCELLED = 1;
+        
+        private static final int ST_EXPIRED = 2;
+        
+        private final HashedWheelTimer timer;
+        
+        private final Runnable task;
+        
+        private final long deadline;
+        
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+        
+        private long remainingRounds;
+        
+        private WheelTimeout next;
+        
+        private WheelTimeout prev;
+        
+        private Bucket bucket;
+        
+        private boolean released;
+        
+        WheelTimeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+        
+        @Override
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            timer.pendingCancels.add(this);
+            return true;
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+        
+        @Override
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+        
+        void remove() {
+            if (bucket != null) {
+                bucket.remove(this);
+            } else {
+                release();
+            }
+        }
+        
+        void release() {
+            if (!released) {
+                released = true;
+                timer.pendingTimeouts.decrementAndGet();
+            }
+        }
+        
+        void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable t) {
+                LOGGER.warn("An exception was thrown by timer task {}", task, t);
+            }
+        }
+    }
+    
+    /**
+     * Doubly linked list of the timeouts hashed into one slot, only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        
+        private WheelTimeout head;
+        
+        private WheelTimeout tail;
+        
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+        
+        void expireTimeouts(long deadline) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    next = remove(timeout);
+                    if (timeout.deadline <= deadline) {
+                        timeout.expire();
+                    }
+                } else if (timeout.isCancelled()) {
+                    next = remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+        
+        WheelTimeout remove(WheelTimeout timeout) {
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout == tail ? null : next;
+                if (head == null) {
+                    tail = null;
+                }
+            } else if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            timeout.release();
+            return next;
+        }
+        
+        void clear() {
+            head = null;
+            tail = null;
+        }
+    }
+    
+    private static final class SharedHolder {
+        
+        private static final HashedWheelTimer INSTANCE = new HashedWheelTimer("com.alibaba.nacos.common.timer");
+    }
+}
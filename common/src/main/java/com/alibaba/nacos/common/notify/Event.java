@@ -52,6 +52,15 @@ public abstract class Event implements Serializable {
         return null;
     }
     
+    /**
+     * Sharding key of event, used by {@link ShardedDispatchPublisher} to keep the order of events with the same key.
+     *
+     * @return sharding key, return null if the event has no key, events without key are dispatched in order
+     */
+    public Object shardingKey() {
+        return null;
+    }
+    
     /**
      * Whether is plugin event. If so, the event can be dropped when no publish and subscriber without any hint. Default
      * false
@@ -0,0 +1,372 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Event publisher which dispatches events with several worker threads.
+ *
+ * <p>Each worker owns its own queue, events are routed to a worker by {@link Event#shardingKey()}, so events with the
+ * same key are handled by the same worker in publish order, and events without key are all handled by the first
+ * worker. Subscribers registered to this publisher must be thread safe for events with different keys.
+ *
+ * <p>As {@link DefaultPublisher}, if the queue of target worker is full, the event will be handled by the publishing
+ * thread directly, which may break the order of events with the same key.
+ *
+ * @author nacos
+ */
+public class ShardedDispatchPublisher implements ShardedEventPublisher {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    private static final String THREAD_NAME = "nacos.publisher-";
+    
+    private static final int DEFAULT_WAIT_TIME = 60;
+    
+    private static final long SHUTDOWN_WAIT_MILLIS = 3000L;
+    
+    private final Map<Class<? extends Event>, Set<Subscriber<? extends Event>>> subscribes = new ConcurrentHashMap<>();
+    
+    private final int shardCount;
+    
+    private final LongAdder publishCount = new LongAdder();
+    
+    private final LongAdder syncDispatchCount = new LongAdder();
+    
+    private final LongAdder dispatchCount = new LongAdder();
+    
+    private final LongAdder totalWaitNanos = new LongAdder();
+    
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    private int queueMaxSize = -1;
+    
+    private String publisherName;
+    
+    private DispatchWorker[] workers;
+    
+    public ShardedDispatchPublisher(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shard count should be positive, but is " + shardCount);
+        }
+        this.shardCount = shardCount;
+    }
+    
+    /**
+     * Initializes the publisher and starts all workers.
+     *
+     * @param type       {@link Event} type of publisher
+     * @param bufferSize queue size of each worker
+     */
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        this.queueMaxSize = bufferSize;
+        this.publisherName = type.getSimpleName();
+        this.workers = new DispatchWorker[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            workers[i] = new DispatchWorker(THREAD_NAME + type.getName() + "-" + i, bufferSize);
+        }
+        for (DispatchWorker each : workers) {
+            each.start();
+        }
+        initialized = true;
+    }
+    
+    @Override
+    public long currentEventSize() {
+        long result = 0;
+        for (DispatchWorker each : workers) {
+            result += each.queue.size();
+        }
+        return result;
+    }
+    
+    /**
+     * Get the staged event size of the worker.
+     *
+     * @param shard index of worker
+     * @return event size
+     */
+    public long currentEventSize(int shard) {
+        return workers[shard].queue.size();
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        addSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribes.computeIfAbsent(subscribeType, inputType -> new ConcurrentHashSet<>()).add(subscriber);
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        removeSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribes.computeIfPresent(subscribeType, (inputType, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        publishCount.increment();
+        int shard = selectShard(event.shardingKey());
+        DispatchWorker worker = workers[shard];
+        if (!worker.queue.offer(new EventWrapper(event))) {
+            LOGGER.warn("Queue of shard {} in publisher {} is full, handle {} in publishing thread, event : {}", shard,
+                    publisherName, event.getClass().getName(), event);
+            syncDispatchCount.increment();
+            worker.handleEvent(event);
+        }
+        return true;
+    }
+    
+    private int selectShard(Object shardingKey) {
+        if (null == shardingKey || 1 == shardCount) {
+            return 0;
+        }
+        int hash = shardingKey.hashCode();
+        hash ^= hash >>> 16;
+        return (hash & Integer.MAX_VALUE) % shardCount;
+    }
+    
+    @Override
+    public void notifySubscriber(Subscriber subscriber, Event event) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        }
+        final Runnable job = () -> subscriber.onEvent(event);
+        final Executor executor = subscriber.executor();
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+    
+    /**
+     * Stop all workers, and wait for them to finish the events in handling.
+     */
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        if (null == workers) {
+            return;
+        }
+        for (DispatchWorker each : workers) {
+            each.interrupt();
+        }
+        for (DispatchWorker each : workers) {
+            try {
+                each.join(SHUTDOWN_WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.warn("Interrupted when waiting worker {} to stop.", each.getName());
+                return;
+            }
+            if (each.isAlive()) {
+                LOGGER.warn("Worker {} does not stop in {} ms.", each.getName(), SHUTDOWN_WAIT_MILLIS);
+            }
+            each.queue.clear();
+        }
+    }
+    
+    void checkIsStart() {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+    }
+    
+    public int getShardCount() {
+        return shardCount;
+    }
+    
+    public int getQueueMaxSize() {
+        return queueMaxSize;
+    }
+    
+    public long getPublishCount() {
+        return publishCount.sum();
+    }
+    
+    /**
+     * Get the count of events handled by the publishing thread because the queue of worker was full.
+     *
+     * @return sync dispatch count
+     */
+    public long getSyncDispatchCount() {
+        return syncDispatchCount.sum();
+    }
+    
+    /**
+     * Get the count of events taken from the queues by workers.
+     *
+     * @return dispatch count
+     */
+    public long getDispatchCount() {
+        return dispatchCount.sum();
+    }
+    
+    /**
+     * Get the total time events waited in queues before being dispatched.
+     *
+     * @return total wait time in nanoseconds
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+    
+    /**
+     * Get the max time an event waited in queue since last call, and reset it.
+     *
+     * @return max wait time in nanoseconds
+     */
+    public long getAndResetMaxWaitNanos() {
+        return maxWaitNanos.getAndSet(0L);
+    }
+    
+    public String getStatus() {
+        return String.format("Publisher %-30s: shutdown=%5s, queue=%7d/%-7d, shards=%d, sync=%d, maxWait=%dms",
+                publisherName, shutdown, currentEventSize(), queueMaxSize * shardCount, shardCount,
+                getSyncDispatchCount(), TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+    }
+    
+    private void recordWaitTime(long waitNanos) {
+        dispatchCount.increment();
+        totalWaitNanos.add(waitNanos);
+        long currentMax = maxWaitNanos.get();
+        while (waitNanos > currentMax && !maxWaitNanos.compareAndSet(currentMax, waitNanos)) {
+            currentMax = maxWaitNanos.get();
+        }
+    }
+    
+    private static class EventWrapper {
+        
+        private final Event event;
+        
+        private final long enqueueNanos;
+        
+        private EventWrapper(Event event) {
+            this.event = event;
+            this.enqueueNanos = System.nanoTime();
+        }
+    }
+    
+    private class DispatchWorker extends Thread {
+        
+        private final BlockingQueue<EventWrapper> queue;
+        
+        private volatile long lastEventSequence = -1L;
+        
+        private DispatchWorker(String name, int queueSize) {
+            super(name);
+            setDaemon(true);
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+        
+        @Override
+        public void run() {
+            try {
+                waitSubscriberForInit();
+                handleEvents();
+            } catch (Throwable e) {
+                LOGGER.error("Event Publisher {}, stop to handle event due to unexpected exception: ", getName(), e);
+            }
+        }
+        
+        private void waitSubscriberForInit() {
+            // To ensure that messages are not lost, enable EventHandler when
+            // waiting for the first Subscriber to register
+            for (int waitTimes = DEFAULT_WAIT_TIME; waitTimes > 0; waitTimes--) {
+                if (shutdown || !subscribes.isEmpty()) {
+                    break;
+                }
+                ThreadUtils.sleep(1000L);
+            }
+        }
+        
+        private void handleEvents() {
+            while (!shutdown) {
+                try {
+                    EventWrapper wrapper = queue.take();
+                    recordWaitTime(System.nanoTime() - wrapper.enqueueNanos);
+                    handleEvent(wrapper.event);
+                    lastEventSequence = Math.max(lastEventSequence, wrapper.event.sequence());
+                } catch (InterruptedException e) {
+                    if (!shutdown) {
+                        LOGGER.warn("Event Publisher {} take event from queue failed:", getName(), e);
+                    }
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        
+        private void handleEvent(Event event) {
+            Class<? extends Event> eventType = event.getClass();
+            Set<Subscriber<? extends Event>> subscribers = subscribes.get(eventType);
+            if (null == subscribers) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("[NotifyCenter] No subscribers for event {}", eventType.getName());
+                }
+                return;
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.scopeMatches(event)) {
+                    continue;
+                }
+                if (subscriber.ignoreExpireEvent() && lastEventSequence > event.sequence()) {
+                    LOGGER.debug("[NotifyCenter] the {} is unacceptable to this subscriber, because had expire",
+                            eventType);
+                    continue;
+                }
+                notifySubscriber(subscriber, event);
+            }
+        }
+    }
+}
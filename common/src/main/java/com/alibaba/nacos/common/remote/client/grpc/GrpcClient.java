@@ -290,7 +290,7 @@ public abstract class GrpcClient extends RpcClient {
                 } catch (Exception e) {
                     
                     LoggerUtils.printIfErrorEnabled(LOGGER, "[{}]Error to process server push response: {}",
-                            grpcConn.getConnectionId(), payload.getBody().getValue().toStringUtf8());
+                            grpcConn.getConnectionId(), GrpcUtils.getBodyTraceString(payload));
                     // remove and notify
                     recAbilityContext.release(null);
                 }
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.common.remote.client.grpc;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.grpc.auto.RequestGrpc;
@@ -28,6 +30,9 @@ import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.common.remote.client.Connection;
 import com.alibaba.nacos.common.remote.client.RpcClient;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
@@ -35,6 +40,7 @@ import io.grpc.ManagedChannel;
 import io.grpc.stub.StreamObserver;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -62,14 +68,43 @@ public class GrpcConnection extends Connection {
     
     protected StreamObserver<Payload> payloadStreamObserver;
     
+    /**
+     * codec to encode payload body, use json until server abilities received.
+     */
+    private volatile PayloadCodec payloadCodec = PayloadCodecRegistry.JSON;
+    
+    /**
+     * compressor of large payload body, don't compress until server abilities received.
+     */
+    private volatile PayloadCompressor payloadCompressor;
+    
     public GrpcConnection(RpcClient.ServerInfo serverInfo, Executor executor) {
         super(serverInfo);
         this.executor = executor;
     }
     
+    @Override
+    public void setAbilityTable(Map<String, Boolean> abilityTable) {
+        super.setAbilityTable(abilityTable);
+        boolean supportSmile = AbilityStatus.SUPPORTED.equals(
+                getConnectionAbility(AbilityKey.SERVER_SUPPORT_SMILE_PAYLOAD));
+        this.payloadCodec = supportSmile ? PayloadCodecRegistry.SMILE : PayloadCodecRegistry.JSON;
+        boolean supportGzip = AbilityStatus.SUPPORTED.equals(
+                getConnectionAbility(AbilityKey.SERVER_SUPPORT_GZIP_PAYLOAD));
+        this.payloadCompressor = supportGzip ? PayloadCodecRegistry.GZIP : null;
+    }
+    
+    public PayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+    
+    public PayloadCompressor getPayloadCompressor() {
+        return payloadCompressor;
+    }
+    
     @Override
     public Response request(Request request, long timeouts) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, payloadCodec, payloadCompressor);
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         Payload grpcResponse;
         try {
@@ -87,7 +122,7 @@ public class GrpcConnection extends Connection {
     
     @Override
     public RequestFuture requestFuture(Request request) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, payloadCodec, payloadCompressor);
         
         final ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         return new RequestFuture() {
@@ -120,18 +155,18 @@ public class GrpcConnection extends Connection {
     }
     
     public void sendResponse(Response response) {
-        Payload convert = GrpcUtils.convert(response);
+        Payload convert = GrpcUtils.convert(response, payloadCodec, payloadCompressor);
         payloadStreamObserver.onNext(convert);
     }
     
     public void sendRequest(Request request) {
-        Payload convert = GrpcUtils.convert(request);
+        Payload convert = GrpcUtils.convert(request, payloadCodec, payloadCompressor);
         payloadStreamObserver.onNext(convert);
     }
     
     @Override
     public void asyncRequest(Request request, final RequestCallBack requestCallBack) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, payloadCodec, payloadCompressor);
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         
         //set callback .
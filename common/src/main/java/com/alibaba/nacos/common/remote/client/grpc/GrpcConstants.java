@@ -82,6 +82,23 @@ public class GrpcConstants {
     @GRpcConfigLabel
     public static final String GRPC_CHANNEL_CAPABILITY_NEGOTIATION_TIMEOUT = NACOS_CLIENT_GRPC + ".channel.capability.negotiation.timeout";
 
+    /**
+     * Payload body encoded larger than this size in bytes will be compressed if the peer supports.
+     */
+    public static final String PAYLOAD_COMPRESS_THRESHOLD = "nacos.remote.payload.compress.threshold";
+    
+    public static final int DEFAULT_PAYLOAD_COMPRESS_THRESHOLD = 4096;
+    
+    /**
+     * Compressed payload body decompressed larger than this size in bytes will be rejected.
+     */
+    public static final String PAYLOAD_DECOMPRESS_MAX_SIZE = "nacos.remote.payload.decompress.max.size";
+    
+    /**
+     * Same as the default max inbound message size of grpc client and server.
+     */
+    public static final int DEFAULT_PAYLOAD_DECOMPRESS_MAX_SIZE = 10 * 1024 * 1024;
+    
     private static final Set<String> CONFIG_NAMES = new HashSet<>();
     
     @Documented
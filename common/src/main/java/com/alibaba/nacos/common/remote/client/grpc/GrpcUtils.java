@@ -24,8 +24,11 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
-import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
@@ -43,6 +46,12 @@ import java.util.Map;
  */
 public class GrpcUtils {
     
+    /**
+     * Encoded body smaller than this threshold is not worth compressing.
+     */
+    private static final int PAYLOAD_COMPRESS_THRESHOLD = Integer.getInteger(GrpcConstants.PAYLOAD_COMPRESS_THRESHOLD,
+            GrpcConstants.DEFAULT_PAYLOAD_COMPRESS_THRESHOLD);
+    
     /**
      * convert request to payload.
      *
@@ -61,8 +70,8 @@ public class GrpcUtils {
         payloadBuilder.setMetadata(metaBuilder.build());
         
         // request body .
-        byte[] jsonBytes = convertRequestToByte(request);
-        return payloadBuilder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes))).build();
+        byte[] jsonBytes = convertRequestToByte(request, PayloadCodecRegistry.JSON);
+        return payloadBuilder.setBody(buildBody(jsonBytes, PayloadCodecRegistry.JSON, null)).build();
         
     }
     
@@ -73,16 +82,38 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, PayloadCodecRegistry.JSON);
+    }
+    
+    /**
+     * convert request to payload with specified codec.
+     *
+     * @param request request.
+     * @param codec   codec of payload body.
+     * @return payload.
+     */
+    public static Payload convert(Request request, PayloadCodec codec) {
+        return convert(request, codec, null);
+    }
+    
+    /**
+     * convert request to payload with specified codec, the body is compressed if it is large enough.
+     *
+     * @param request    request.
+     * @param codec      codec of payload body.
+     * @param compressor compressor of payload body, {@code null} means no compression.
+     * @return payload.
+     */
+    public static Payload convert(Request request, PayloadCodec codec, PayloadCompressor compressor) {
         
         Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
                 .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
         
-        byte[] jsonBytes = convertRequestToByte(request);
+        byte[] bodyBytes = convertRequestToByte(request, codec);
         
         Payload.Builder builder = Payload.newBuilder();
         
-        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(newMeta).build();
+        return builder.setBody(buildBody(bodyBytes, codec, compressor)).setMetadata(newMeta).build();
         
     }
     
@@ -93,19 +124,87 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Response response) {
-        byte[] jsonBytes = JacksonUtils.toJsonBytes(response);
+        return convert(response, PayloadCodecRegistry.JSON);
+    }
+    
+    /**
+     * convert response to payload with specified codec.
+     *
+     * @param response response.
+     * @param codec    codec of payload body.
+     * @return payload.
+     */
+    public static Payload convert(Response response, PayloadCodec codec) {
+        return convert(response, codec, null);
+    }
+    
+    /**
+     * convert response to payload with specified codec, the body is compressed if it is large enough.
+     *
+     * @param response   response.
+     * @param codec      codec of payload body.
+     * @param compressor compressor of payload body, {@code null} means no compression.
+     * @return payload.
+     */
+    public static Payload convert(Response response, PayloadCodec codec, PayloadCompressor compressor) {
+        byte[] bodyBytes = codec.encode(response);
         
         Metadata.Builder metaBuilder = Metadata.newBuilder().setType(response.getClass().getSimpleName());
-        return Payload.newBuilder().setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(metaBuilder.build()).build();
+        return Payload.newBuilder().setBody(buildBody(bodyBytes, codec, compressor)).setMetadata(metaBuilder.build())
+                .build();
     }
     
-    private static byte[] convertRequestToByte(Request request) {
+    private static byte[] convertRequestToByte(Request request, PayloadCodec codec) {
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
-        byte[] jsonBytes = JacksonUtils.toJsonBytes(request);
+        byte[] bodyBytes = codec.encode(request);
         request.putAllHeader(requestHeaders);
-        return jsonBytes;
+        return bodyBytes;
+    }
+    
+    /**
+     * Build payload body, the type url of json body is kept empty to be compatible with old versions.
+     */
+    private static Any buildBody(byte[] bodyBytes, PayloadCodec codec, PayloadCompressor compressor) {
+        if (null != compressor && bodyBytes.length >= PAYLOAD_COMPRESS_THRESHOLD) {
+            bodyBytes = compressor.compress(bodyBytes);
+            codec = PayloadCodecRegistry.getCompressedCodec(codec, compressor);
+        }
+        Any.Builder builder = Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(bodyBytes));
+        if (PayloadCodecRegistry.JSON != codec) {
+            builder.setTypeUrl(codec.getName());
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Get the codec used by payload body.
+     *
+     * @param payload payload.
+     * @return codec of payload body.
+     */
+    public static PayloadCodec getPayloadCodec(Payload payload) {
+        String codecName = payload.getBody().getTypeUrl();
+        PayloadCodec codec = PayloadCodecRegistry.getCodec(codecName);
+        if (null == codec) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Unknown payload codec:" + codecName);
+        }
+        return codec;
+    }
+    
+    /**
+     * Get the payload body for logging, json body is logged as it is, body of other codecs is binary and only its
+     * codec and length are logged.
+     *
+     * @param payload payload.
+     * @return body string for logging.
+     */
+    public static String getBodyTraceString(Payload payload) {
+        Any body = payload.getBody();
+        if (StringUtils.isEmpty(body.getTypeUrl())) {
+            return body.getValue().toStringUtf8();
+        }
+        return "<" + body.getTypeUrl() + " body, " + body.getValue().size() + " bytes>";
     }
     
     /**
@@ -119,7 +218,7 @@ public class GrpcUtils {
         if (classType != null) {
             ByteString byteString = payload.getBody().getValue();
             ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            Object obj = getPayloadCodec(payload).decode(new ByteBufferBackedInputStream(byteBuffer), classType);
             if (obj instanceof Request) {
                 ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
             }
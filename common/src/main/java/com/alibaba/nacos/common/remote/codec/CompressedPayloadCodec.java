@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import java.io.InputStream;
+
+/**
+ * Payload codec which compresses the body encoded by another codec, named as {@code codec+compressor}.
+ *
+ * @author nacos
+ */
+public class CompressedPayloadCodec implements PayloadCodec {
+    
+    public static final String SEPARATOR = "+";
+    
+    private final PayloadCodec codec;
+    
+    private final PayloadCompressor compressor;
+    
+    private final String name;
+    
+    public CompressedPayloadCodec(PayloadCodec codec, PayloadCompressor compressor) {
+        this.codec = codec;
+        this.compressor = compressor;
+        this.name = codec.getName() + SEPARATOR + compressor.getName();
+    }
+    
+    public PayloadCodec getCodec() {
+        return codec;
+    }
+    
+    public PayloadCompressor getCompressor() {
+        return compressor;
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public byte[] encode(Object obj) {
+        return compressor.compress(codec.encode(obj));
+    }
+    
+    @Override
+    public <T> T decode(InputStream inputStream, Class<T> cls) {
+        return codec.decode(compressor.decompress(inputStream), cls);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcConstants;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip payload compressor, use the fastest deflate level because payload is compressed on the sending path.
+ *
+ * <p>The decompressed body is limited by {@link GrpcConstants#PAYLOAD_DECOMPRESS_MAX_SIZE}, so that a small
+ * compressed body can't inflate to exhaust the memory of receiver.
+ *
+ * @author nacos
+ */
+public class GzipPayloadCompressor implements PayloadCompressor {
+    
+    public static final String NAME = "gzip";
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    private final long maxDecompressedSize;
+    
+    public GzipPayloadCompressor() {
+        this(Integer.getInteger(GrpcConstants.PAYLOAD_DECOMPRESS_MAX_SIZE,
+                GrpcConstants.DEFAULT_PAYLOAD_DECOMPRESS_MAX_SIZE));
+    }
+    
+    public GzipPayloadCompressor(long maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public byte[] compress(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 1);
+        try (GZIPOutputStream gzip = new FastGzipOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+        return out.toByteArray();
+    }
+    
+    @Override
+    public InputStream decompress(InputStream inputStream) {
+        try {
+            return new BoundedInputStream(new GZIPInputStream(inputStream, BUFFER_SIZE), maxDecompressedSize);
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+    }
+    
+    private static class BoundedInputStream extends FilterInputStream {
+        
+        private final long maxSize;
+        
+        private long readSize;
+        
+        BoundedInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+        
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result >= 0) {
+                count(1);
+            }
+            return result;
+        }
+        
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = super.read(b, off, len);
+            if (result > 0) {
+                count(result);
+            }
+            return result;
+        }
+        
+        @Override
+        public long skip(long n) throws IOException {
+            long result = super.skip(n);
+            count(result);
+            return result;
+        }
+        
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+        
+        private void count(long size) throws IOException {
+            readSize += size;
+            if (readSize > maxSize) {
+                throw new IOException("Decompressed payload body exceeds max size " + maxSize);
+            }
+        }
+    }
+    
+    private static class FastGzipOutputStream extends GZIPOutputStream {
+        
+        FastGzipOutputStream(ByteArrayOutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+}
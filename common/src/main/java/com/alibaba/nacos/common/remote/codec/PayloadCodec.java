@@ -0,0 +1,54 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import java.io.InputStream;
+
+/**
+ * Codec for the body of remote request and response payload.
+ *
+ * <p>The name of codec will be carried with payload, so that receiver can choose the same codec to decode body.
+ *
+ * @author nacos
+ */
+public interface PayloadCodec {
+    
+    /**
+     * Name of this codec, should be unique.
+     *
+     * @return name of codec
+     */
+    String getName();
+    
+    /**
+     * Encode request or response object to bytes.
+     *
+     * @param obj request or response object
+     * @return encoded bytes
+     */
+    byte[] encode(Object obj);
+    
+    /**
+     * Decode input stream to request or response object.
+     *
+     * @param inputStream input stream of payload body
+     * @param cls         class of request or response
+     * @param <T>         type of request or response
+     * @return decoded object
+     */
+    <T> T decode(InputStream inputStream, Class<T> cls);
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of payload codecs, json and smile codec are built in, others can be added by SPI of {@link PayloadCodec}.
+ *
+ * <p>Compressors are registered in the same way, gzip is built in, others can be added by SPI of
+ * {@link PayloadCompressor}. A compressed body is named as {@code codec+compressor}, see
+ * {@link CompressedPayloadCodec}.
+ *
+ * @author nacos
+ */
+public class PayloadCodecRegistry {
+    
+    public static final PayloadCodec JSON = new JsonPayloadCodec();
+    
+    public static final PayloadCodec SMILE = new SmilePayloadCodec();
+    
+    public static final PayloadCompressor GZIP = new GzipPayloadCompressor();
+    
+    private static final Map<String, PayloadCodec> CODECS = new ConcurrentHashMap<>(4);
+    
+    private static final Map<String, PayloadCompressor> COMPRESSORS = new ConcurrentHashMap<>(4);
+    
+    static {
+        register(JSON);
+        register(SMILE);
+        for (PayloadCodec each : NacosServiceLoader.load(PayloadCodec.class)) {
+            register(each);
+        }
+        register(GZIP);
+        for (PayloadCompressor each : NacosServiceLoader.load(PayloadCompressor.class)) {
+            register(each);
+        }
+    }
+    
+    /**
+     * Register payload codec, codec with same name will be replaced.
+     *
+     * @param codec payload codec
+     */
+    public static void register(PayloadCodec codec) {
+        clearCompressedCodecs();
+        CODECS.put(codec.getName(), codec);
+    }
+    
+    /**
+     * Register payload compressor, compressor with same name will be replaced.
+     *
+     * @param compressor payload compressor
+     */
+    public static void register(PayloadCompressor compressor) {
+        clearCompressedCodecs();
+        COMPRESSORS.put(compressor.getName(), compressor);
+    }
+    
+    /**
+     * Compressed codecs are built lazily from registered codecs and compressors, rebuild them after registry changed.
+     */
+    private static void clearCompressedCodecs() {
+        CODECS.values().removeIf(each -> each instanceof CompressedPayloadCodec);
+    }
+    
+    /**
+     * Get payload codec by name, blank name means the payload is encoded by json for compatibility.
+     *
+     * @param name name of codec
+     * @return payload codec, or {@code null} if no codec found
+     */
+    public static PayloadCodec getCodec(String name) {
+        if (StringUtils.isBlank(name)) {
+            return JSON;
+        }
+        PayloadCodec result = CODECS.get(name);
+        if (null != result || !name.contains(CompressedPayloadCodec.SEPARATOR)) {
+            return result;
+        }
+        int index = name.lastIndexOf(CompressedPayloadCodec.SEPARATOR);
+        PayloadCodec codec = CODECS.get(name.substring(0, index));
+        PayloadCompressor compressor = COMPRESSORS.get(name.substring(index + 1));
+        if (null == codec || null == compressor) {
+            return null;
+        }
+        return getCompressedCodec(codec, compressor);
+    }
+    
+    /**
+     * Get the codec which compresses the body encoded by {@code codec} with {@code compressor}.
+     *
+     * @param codec      payload codec
+     * @param compressor payload compressor
+     * @return compressed payload codec
+     */
+    public static PayloadCodec getCompressedCodec(PayloadCodec codec, PayloadCompressor compressor) {
+        return CODECS.computeIfAbsent(codec.getName() + CompressedPayloadCodec.SEPARATOR + compressor.getName(),
+                name -> new CompressedPayloadCodec(codec, compressor));
+    }
+    
+    /**
+     * Get the codec which encodes the body without compression.
+     *
+     * @param codec payload codec, maybe compressed
+     * @return payload codec without compression
+     */
+    public static PayloadCodec getUncompressedCodec(PayloadCodec codec) {
+        return codec instanceof CompressedPayloadCodec ? ((CompressedPayloadCodec) codec).getCodec() : codec;
+    }
+}
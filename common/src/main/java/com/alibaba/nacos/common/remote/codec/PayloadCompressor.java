@@ -0,0 +1,54 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import java.io.InputStream;
+
+/**
+ * Compressor for the encoded body of remote request and response payload.
+ *
+ * <p>The name of compressor will be carried with payload together with the name of {@link PayloadCodec}, so that
+ * receiver can decompress body before decoding it.
+ *
+ * @author nacos
+ */
+public interface PayloadCompressor {
+    
+    /**
+     * Name of this compressor, should be unique.
+     *
+     * @return name of compressor
+     */
+    String getName();
+    
+    /**
+     * Compress encoded payload body.
+     *
+     * @param bytes encoded payload body
+     * @return compressed bytes
+     */
+    byte[] compress(byte[] bytes);
+    
+    /**
+     * Wrap input stream of compressed payload body to read the decompressed body. The wrapped stream should fail
+     * reading if the decompressed body is unreasonably large.
+     *
+     * @param inputStream input stream of compressed payload body
+     * @return input stream of decompressed payload body
+     */
+    InputStream decompress(InputStream inputStream);
+}
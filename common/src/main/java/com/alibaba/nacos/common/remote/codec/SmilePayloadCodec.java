@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.api.exception.runtime.NacosSerializationException;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Smile payload codec, binary json format which uses the same jackson model with {@link JsonPayloadCodec}.
+ *
+ * <p>Smile encoded body is smaller and much cheaper to encode and decode than json, especially for payload with lots of
+ * repeated property names, like instance list and batch listen configs.
+ *
+ * @author nacos
+ */
+public class SmilePayloadCodec implements PayloadCodec {
+    
+    public static final String NAME = "smile";
+    
+    private final ObjectMapper mapper = JacksonUtils.createMapper(new SmileFactory());
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public byte[] encode(Object obj) {
+        try {
+            return mapper.writeValueAsBytes(obj);
+        } catch (IOException e) {
+            throw new NacosSerializationException(obj.getClass(), e);
+        }
+    }
+    
+    @Override
+    public <T> T decode(InputStream inputStream, Class<T> cls) {
+        try {
+            return mapper.readValue(inputStream, cls);
+        } catch (IOException e) {
+            throw new NacosDeserializationException(cls, e);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.alibaba.nacos.common.utils;
 import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
 import com.alibaba.nacos.api.exception.runtime.NacosSerializationException;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -241,6 +242,21 @@ public final class JacksonUtils {
         mapper.registerSubtypes(new NamedType(clz, type));
     }
     
+    /**
+     * Create a new mapper for another data format, which has the same configuration and sub types with json mapper.
+     *
+     * @param factory factory of the data format
+     * @return new {@link ObjectMapper}
+     */
+    public static ObjectMapper createMapper(JsonFactory factory) {
+        ObjectMapper result = new ObjectMapper(factory);
+        result.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        result.setSerializationInclusion(Include.NON_NULL);
+        // share the resolver so that the sub types registered later can also be used by new mapper
+        result.setSubtypeResolver(mapper.getSubtypeResolver());
+        return result;
+    }
+    
     /**
      * Create a new empty Jackson {@link ObjectNode}.
      *
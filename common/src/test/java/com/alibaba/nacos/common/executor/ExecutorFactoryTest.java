@@ -26,6 +26,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ExecutorFactoryTest {
@@ -87,6 +88,22 @@ class ExecutorFactoryTest {
         assertEquals(threadFactory, threadPoolExecutor.getThreadFactory());
     }
     
+    @Test
+    void testVirtualThreadPerTaskExecutor() throws Exception {
+        if (!ExecutorFactory.isVirtualThreadSupported()) {
+            assertThrows(UnsupportedOperationException.class,
+                    () -> ExecutorFactory.newVirtualThreadPerTaskExecutor("test.virtual"));
+            return;
+        }
+        ExecutorService executorService = ExecutorFactory.newVirtualThreadPerTaskExecutor("test.virtual");
+        try {
+            String threadName = executorService.submit(() -> Thread.currentThread().getName()).get();
+            assertTrue(threadName.startsWith("test.virtual"));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
     @Test
     void testManaged() {
         String testGroup = "test";
@@ -0,0 +1,122 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedWheelTimerTest {
+    
+    private HashedWheelTimer timer;
+    
+    @BeforeEach
+    void setUp() {
+        timer = new HashedWheelTimer("test.timer", 5, TimeUnit.MILLISECONDS, 8);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        timer.stop();
+    }
+    
+    @Test
+    void testExpire() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+    }
+    
+    @Test
+    void testExpireAfterSeveralRounds() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+        timer.newTimeout(latch::countDown, 120, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 120);
+    }
+    
+    @Test
+    void testCancel() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(count::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(latch::countDown, 60, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(0, count.get());
+        assertFalse(timeout.isExpired());
+    }
+    
+    @Test
+    void testPendingTimeouts() throws InterruptedException {
+        HashedWheelTimer.Timeout first = timer.newTimeout(() -> { }, 1, TimeUnit.MINUTES);
+        timer.newTimeout(() -> { }, 1, TimeUnit.MINUTES);
+        assertEquals(2, timer.getPendingTimeouts().get());
+        first.cancel();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (timer.getPendingTimeouts().get() != 1 && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        assertEquals(1, timer.getPendingTimeouts().get());
+    }
+    
+    @Test
+    void testTaskExceptionDoesNotStopTimer() throws InterruptedException {
+        timer.newTimeout(() -> {
+            throw new IllegalStateException("test");
+        }, 1, TimeUnit.MILLISECONDS);
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(latch::countDown, 20, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testNewTimeoutAfterStop() {
+        timer.newTimeout(() -> { }, 1, TimeUnit.MINUTES);
+        timer.stop();
+        assertThrows(RejectedExecutionException.class, () -> timer.newTimeout(() -> { }, 1, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer("test", 0, TimeUnit.MILLISECONDS, 8));
+        assertThrows(IllegalArgumentException.class, () -> new HashedWheelTimer("test", 1, TimeUnit.MILLISECONDS, 0));
+    }
+    
+    @Test
+    void testShared() {
+        assertSame(HashedWheelTimer.shared(), HashedWheelTimer.shared());
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedDispatchPublisherTest {
+    
+    private static final int SHARD_COUNT = 4;
+    
+    private ShardedDispatchPublisher publisher;
+    
+    @BeforeEach
+    void setUp() {
+        publisher = new ShardedDispatchPublisher(SHARD_COUNT);
+        publisher.init(KeyedEvent.class, 1024);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+    
+    @Test
+    void testIllegalShardCount() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedDispatchPublisher(0));
+    }
+    
+    @Test
+    void testCheckIsStart() {
+        assertThrows(IllegalStateException.class,
+                () -> new ShardedDispatchPublisher(1).publish(new KeyedEvent("a", 0)));
+    }
+    
+    @Test
+    void testPublishKeepOrderForSameKey() throws InterruptedException {
+        int keyCount = 16;
+        int eventsPerKey = 200;
+        CountDownLatch latch = new CountDownLatch(keyCount * eventsPerKey);
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        Map<String, String> handleThreads = new ConcurrentHashMap<>();
+        List<String> threadConflicts = new CopyOnWriteArrayList<>();
+        publisher.addSubscriber(new Subscriber<KeyedEvent>() {
+            @Override
+            public void onEvent(KeyedEvent event) {
+                String threadName = Thread.currentThread().getName();
+                String previous = handleThreads.putIfAbsent(event.key, threadName);
+                if (null != previous && !previous.equals(threadName)) {
+                    threadConflicts.add(event.key);
+                }
+                received.computeIfAbsent(event.key, key -> new CopyOnWriteArrayList<>()).add(event.index);
+                latch.countDown();
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return KeyedEvent.class;
+            }
+        });
+        for (int i = 0; i < eventsPerKey; i++) {
+            for (int j = 0; j < keyCount; j++) {
+                publisher.publish(new KeyedEvent("key-" + j, i));
+            }
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertTrue(threadConflicts.isEmpty());
+        assertTrue(handleThreads.values().stream().distinct().count() > 1);
+        for (List<Integer> each : received.values()) {
+            List<Integer> expected = new ArrayList<>(eventsPerKey);
+            for (int i = 0; i < eventsPerKey; i++) {
+                expected.add(i);
+            }
+            assertEquals(expected, each);
+        }
+        assertEquals(keyCount * eventsPerKey, publisher.getPublishCount());
+        assertEquals(keyCount * eventsPerKey, publisher.getDispatchCount());
+        assertEquals(0, publisher.getSyncDispatchCount());
+        assertTrue(publisher.getTotalWaitNanos() > 0);
+    }
+    
+    @Test
+    void testPublishOverflowDispatchedByPublishingThread() {
+        publisher.shutdown();
+        publisher = new ShardedDispatchPublisher(1);
+        publisher.init(KeyedEvent.class, 1);
+        List<String> handleThreads = new CopyOnWriteArrayList<>();
+        // no subscriber, so the worker is waiting and queue will be full after first event.
+        publisher.publish(new KeyedEvent("a", 0));
+        publisher.addSubscriber(new Subscriber<KeyedEvent>() {
+            @Override
+            public void onEvent(KeyedEvent event) {
+                handleThreads.add(Thread.currentThread().getName());
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return KeyedEvent.class;
+            }
+        });
+        publisher.publish(new KeyedEvent("a", 1));
+        assertEquals(1, publisher.getSyncDispatchCount());
+        assertTrue(handleThreads.contains(Thread.currentThread().getName()));
+    }
+    
+    @Test
+    void testShutdownStopWorkers() {
+        String workerPrefix = "nacos.publisher-" + KeyedEvent.class.getName() + "-";
+        assertEquals(SHARD_COUNT, countAliveThreads(workerPrefix));
+        publisher.shutdown();
+        assertEquals(0, countAliveThreads(workerPrefix));
+    }
+    
+    private long countAliveThreads(String namePrefix) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.isAlive() && thread.getName().startsWith(namePrefix)).count();
+    }
+    
+    @Test
+    void testGetStatus() {
+        assertEquals(0, publisher.currentEventSize());
+        assertEquals(SHARD_COUNT, publisher.getShardCount());
+        assertEquals(1024, publisher.getQueueMaxSize());
+        publisher.publish(new KeyedEvent(null, 0));
+        assertEquals(1, publisher.currentEventSize(0));
+        String expected = "Publisher KeyedEvent                    : shutdown=false, queue=      1/4096   , shards=4, "
+                + "sync=0, maxWait=0ms";
+        assertEquals(expected, publisher.getStatus());
+    }
+    
+    private static class KeyedEvent extends Event {
+        
+        private static final long serialVersionUID = -1348738925461917216L;
+        
+        private final String key;
+        
+        private final int index;
+        
+        private KeyedEvent(String key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+        
+        @Override
+        public Object shardingKey() {
+            return key;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.common.remote.client.grpc;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
@@ -28,6 +29,7 @@ import com.alibaba.nacos.api.remote.response.HealthCheckResponse;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
 import com.alibaba.nacos.common.remote.client.RpcClient;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecRegistry;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.protobuf.Any;
@@ -44,6 +46,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.Collections;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
@@ -51,6 +54,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -257,4 +261,24 @@ class GrpcConnectionTest {
         connection.close();
         // don't throw any exception
     }
+    
+    @Test
+    void testSetAbilityTableChoosePayloadCodec() {
+        assertEquals(PayloadCodecRegistry.JSON, connection.getPayloadCodec());
+        connection.setAbilityTable(
+                Collections.singletonMap(AbilityKey.SERVER_SUPPORT_SMILE_PAYLOAD.getName(), true));
+        assertEquals(PayloadCodecRegistry.SMILE, connection.getPayloadCodec());
+        connection.setAbilityTable(Collections.emptyMap());
+        assertEquals(PayloadCodecRegistry.JSON, connection.getPayloadCodec());
+    }
+    
+    @Test
+    void testSetAbilityTableChoosePayloadCompressor() {
+        assertNull(connection.getPayloadCompressor());
+        connection.setAbilityTable(
+                Collections.singletonMap(AbilityKey.SERVER_SUPPORT_GZIP_PAYLOAD.getName(), true));
+        assertEquals(PayloadCodecRegistry.GZIP, connection.getPayloadCompressor());
+        connection.setAbilityTable(Collections.emptyMap());
+        assertNull(connection.getPayloadCompressor());
+    }
 }
\ No newline at end of file
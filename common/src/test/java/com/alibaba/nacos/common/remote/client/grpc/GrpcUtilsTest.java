@@ -24,14 +24,22 @@ import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.GzipPayloadCompressor;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecRegistry;
+import com.alibaba.nacos.common.remote.codec.SmilePayloadCodec;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.alibaba.nacos.common.utils.IoUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -114,6 +122,82 @@ class GrpcUtilsTest {
         
     }
     
+    @Test
+    void testParseWithSmileCodec() {
+        Payload requestPayload = GrpcUtils.convert(request, PayloadCodecRegistry.SMILE);
+        assertEquals(SmilePayloadCodec.NAME, requestPayload.getBody().getTypeUrl());
+        assertEquals(PayloadCodecRegistry.SMILE, GrpcUtils.getPayloadCodec(requestPayload));
+        
+        ServiceQueryRequest request = (ServiceQueryRequest) GrpcUtils.parse(requestPayload);
+        assertEquals(this.request.getHeaders(), request.getHeaders());
+        assertEquals(this.request.getCluster(), request.getCluster());
+        assertEquals(this.request.isHealthyOnly(), request.isHealthyOnly());
+        assertEquals(this.request.getNamespace(), request.getNamespace());
+        
+        Payload responsePayload = GrpcUtils.convert(response, PayloadCodecRegistry.SMILE);
+        ClientConfigMetricResponse response = (ClientConfigMetricResponse) GrpcUtils.parse(responsePayload);
+        assertEquals(this.response.getMetrics(), response.getMetrics());
+    }
+    
+    @Test
+    void testParseWithGzipCompressor() {
+        Payload smallPayload = GrpcUtils.convert(response, PayloadCodecRegistry.SMILE, PayloadCodecRegistry.GZIP);
+        assertEquals(SmilePayloadCodec.NAME, smallPayload.getBody().getTypeUrl());
+        
+        for (int i = 0; i < 1000; i++) {
+            response.getMetrics().put("metric" + i, "value" + i);
+        }
+        Payload jsonPayload = GrpcUtils.convert(response, PayloadCodecRegistry.JSON, null);
+        Payload responsePayload = GrpcUtils.convert(response, PayloadCodecRegistry.JSON, PayloadCodecRegistry.GZIP);
+        assertEquals("json+gzip", responsePayload.getBody().getTypeUrl());
+        assertTrue(responsePayload.getBody().getValue().size() < jsonPayload.getBody().getValue().size());
+        assertEquals(PayloadCodecRegistry.JSON,
+                PayloadCodecRegistry.getUncompressedCodec(GrpcUtils.getPayloadCodec(responsePayload)));
+        ClientConfigMetricResponse response = (ClientConfigMetricResponse) GrpcUtils.parse(responsePayload);
+        assertEquals(this.response.getMetrics(), response.getMetrics());
+    }
+    
+    @Test
+    void testDecompressOverMaxSize() throws IOException {
+        byte[] compressed = PayloadCodecRegistry.GZIP.compress(new byte[4096]);
+        assertEquals(4096, IoUtils.toString(new GzipPayloadCompressor(4096).decompress(
+                new ByteArrayInputStream(compressed)), "UTF-8").length());
+        InputStream inputStream = new GzipPayloadCompressor(1024).decompress(new ByteArrayInputStream(compressed));
+        assertThrows(IOException.class, () -> IoUtils.toString(inputStream, "UTF-8"));
+    }
+    
+    @Test
+    void testParseUnknownCompressor() {
+        Payload requestPayload = GrpcUtils.convert(request);
+        Payload unknownPayload = requestPayload.toBuilder()
+                .setBody(requestPayload.getBody().toBuilder().setTypeUrl("json+unknown")).build();
+        assertThrows(RemoteException.class, () -> GrpcUtils.parse(unknownPayload));
+    }
+    
+    @Test
+    void testJsonCodecKeepEmptyTypeUrl() {
+        Payload requestPayload = GrpcUtils.convert(request);
+        assertEquals("", requestPayload.getBody().getTypeUrl());
+        assertEquals(PayloadCodecRegistry.JSON, GrpcUtils.getPayloadCodec(requestPayload));
+    }
+    
+    @Test
+    void testGetBodyTraceString() {
+        Payload jsonPayload = GrpcUtils.convert(request);
+        assertEquals(jsonPayload.getBody().getValue().toStringUtf8(), GrpcUtils.getBodyTraceString(jsonPayload));
+        Payload smilePayload = GrpcUtils.convert(request, PayloadCodecRegistry.SMILE);
+        assertEquals("<smile body, " + smilePayload.getBody().getValue().size() + " bytes>",
+                GrpcUtils.getBodyTraceString(smilePayload));
+    }
+    
+    @Test
+    void testParseUnknownCodec() {
+        Payload requestPayload = GrpcUtils.convert(request);
+        Payload unknownPayload = requestPayload.toBuilder()
+                .setBody(requestPayload.getBody().toBuilder().setTypeUrl("unknown")).build();
+        assertThrows(RemoteException.class, () -> GrpcUtils.parse(unknownPayload));
+    }
+    
     @Test
     void testParseNullType() {
         assertThrows(RemoteException.class, () -> {
@@ -67,4 +67,32 @@ public class PropertiesConstant {
     
     public static final String GRAY_CAPATIBEL_MODEL = "nacos.config.gray.compatible.model";
     
+    public static final String DUMP_ALL_READER_COUNT = "nacos.config.dump.all.readerCount";
+    
+    public static final String CONTENT_CACHE_ENABLED = "nacos.config.content.cache.enabled";
+    
+    public static final String CONTENT_CACHE_MAX_BYTES = "nacos.config.content.cache.maxBytes";
+    
+    public static final String CONTENT_GZIP_MIN_BYTES = "nacos.config.content.gzip.minBytes";
+    
+    public static final String ROCKSDB_BATCH_WRITE_ENABLED = "nacos.config.disk.rocksdb.batchWrite.enabled";
+    
+    public static final String ROCKSDB_BATCH_WRITE_FLUSH_WINDOW_MS =
+            "nacos.config.disk.rocksdb.batchWrite.flushWindowMs";
+    
+    public static final String ROCKSDB_BATCH_WRITE_MAX_SIZE = "nacos.config.disk.rocksdb.batchWrite.maxSize";
+    
+    public static final String ROCKSDB_WAL_DISABLED = "nacos.config.disk.rocksdb.wal.disabled";
+    
+    public static final String ROCKSDB_WAL_SYNC = "nacos.config.disk.rocksdb.wal.sync";
+    
+    public static final String ROCKSDB_BLOCK_CACHE_MB = "nacos.config.disk.rocksdb.blockCacheMB";
+    
+    public static final String ROCKSDB_BLOOM_FILTER_BITS_PER_KEY = "nacos.config.disk.rocksdb.bloomFilterBitsPerKey";
+    
+    public static final String ROCKSDB_STATISTICS_ENABLED = "nacos.config.disk.rocksdb.statistics.enabled";
+
+    public static final String EMBEDDED_STALE_READ_MAX_STALENESS_MS =
+            "nacos.config.embedded.staleRead.maxStalenessMs";
+
 }
@@ -31,6 +31,7 @@ import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
 import com.alibaba.nacos.config.server.service.LongPollingService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.query.ConfigChainRequestExtractorService;
 import com.alibaba.nacos.config.server.service.query.ConfigQueryChainService;
 import com.alibaba.nacos.config.server.service.query.enums.ResponseCode;
@@ -38,6 +39,7 @@ import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainReque
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.MD5Util;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.config.server.utils.Protocol;
 import com.alibaba.nacos.config.server.utils.RequestUtil;
 import com.alibaba.nacos.plugin.encryption.handler.EncryptionHandler;
@@ -45,6 +47,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
@@ -70,6 +73,16 @@ public class ConfigServletInner {
     
     private static final int START_LONG_POLLING_VERSION_NUM = 204;
     
+    private static final String GZIP = "gzip";
+    
+    private static final String ANY_ENCODING = "*";
+    
+    private static final String ENCODING_SPLITTER = ",";
+    
+    private static final String PARAM_SPLITTER = ";";
+    
+    private static final String QUALITY_PARAM_PREFIX = "q=";
+    
     private static final Logger LOGGER = LoggerFactory.getLogger(ConfigServletInner.class);
     
     private final LongPollingService longPollingService;
@@ -153,7 +166,7 @@ public class ConfigServletInner {
             case CONFIG_QUERY_CONFLICT:
                 return handlerConfigConflict(response, apiVersion);
             default:
-                return handleResponse(response, chainResponse, dataId, group, apiVersion);
+                return handleResponse(request, response, chainRequest, chainResponse, dataId, group, apiVersion);
         }
     }
     
@@ -177,31 +190,33 @@ public class ConfigServletInner {
         }
     }
     
-    private String handleResponse(HttpServletResponse response, ConfigQueryChainResponse chainResponse, String dataId,
-            String group, ApiVersionEnum apiVersion) throws IOException {
+    private String handleResponse(HttpServletRequest request, HttpServletResponse response,
+            ConfigQueryChainRequest chainRequest, ConfigQueryChainResponse chainResponse, String dataId, String group,
+            ApiVersionEnum apiVersion) throws IOException {
         if (apiVersion == ApiVersionEnum.V1) {
-            return handleResponseForV1(response, chainResponse, dataId, group);
+            return handleResponseForV1(request, response, chainRequest, chainResponse, dataId, group);
         } else {
             return handleResponseForV2(response, chainResponse, dataId, group);
         }
     }
     
-    private String handleResponseForV1(HttpServletResponse response, ConfigQueryChainResponse chainResponse,
-            String dataId, String tag) throws IOException {
-        if (chainResponse.getContent() == null) {
+    private String handleResponseForV1(HttpServletRequest request, HttpServletResponse response,
+            ConfigQueryChainRequest chainRequest, ConfigQueryChainResponse chainResponse, String dataId, String tag)
+            throws IOException {
+        if (!chainResponse.hasContent()) {
             return handlerConfigNotFound(response, ApiVersionEnum.V1);
         }
         
         setCommonResponseHead(response, chainResponse, tag);
         setResponseHeadForV1(response, chainResponse);
-        writeContentForV1(response, chainResponse, dataId);
+        writeContentForV1(request, response, chainRequest, chainResponse, dataId);
         
         return HttpServletResponse.SC_OK + "";
     }
     
     private String handleResponseForV2(HttpServletResponse response, ConfigQueryChainResponse chainResponse,
             String dataId, String tag) throws IOException {
-        if (chainResponse.getContent() == null) {
+        if (!chainResponse.hasContent()) {
             return handlerConfigNotFound(response, ApiVersionEnum.V2);
         }
         
@@ -224,8 +239,25 @@ public class ConfigServletInner {
         response.setHeader(HttpHeaderConsts.CONTENT_TYPE, MediaType.APPLICATION_JSON);
     }
     
-    private void writeContentForV1(HttpServletResponse response, ConfigQueryChainResponse chainResponse, String dataId)
+    private void writeContentForV1(HttpServletRequest request, HttpServletResponse response,
+            ConfigQueryChainRequest chainRequest, ConfigQueryChainResponse chainResponse, String dataId)
             throws IOException {
+        // plain content is written as the utf-8 bytes kept in cache, without decoding and encoding it again.
+        if (!EncryptionHandler.checkCipher(dataId) && StandardCharsets.UTF_8.name()
+                .equalsIgnoreCase(response.getCharacterEncoding())) {
+            byte[] content = chainResponse.getContentBytes();
+            byte[] gzipContent = getGzipContentIfAccepted(request, response, chainRequest, chainResponse,
+                    content.length);
+            if (null != gzipContent) {
+                response.setHeader(HttpHeaderConsts.CONTENT_ENCODING, GZIP);
+                content = gzipContent;
+            }
+            response.setContentLength(content.length);
+            ServletOutputStream out = response.getOutputStream();
+            out.write(content);
+            out.flush();
+            return;
+        }
         PrintWriter out = response.getWriter();
         try {
             String decryptContent = getDecryptContent(chainResponse, dataId);
@@ -236,6 +268,65 @@ public class ConfigServletInner {
         }
     }
     
+    private byte[] getGzipContentIfAccepted(HttpServletRequest request, HttpServletResponse response,
+            ConfigQueryChainRequest chainRequest, ConfigQueryChainResponse chainResponse, int contentLength) {
+        int minBytes = PropertyUtil.getContentGzipMinBytes();
+        if (minBytes <= 0 || contentLength < minBytes
+                || ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_FOUND_FORMAL != chainResponse.getStatus()) {
+            return null;
+        }
+        // the body depends on accept encoding from here, caches between client and server should know it.
+        response.setHeader(HttpHeaderConsts.VARY, HttpHeaderConsts.ACCEPT_ENCODING);
+        if (!isGzipAccepted(request.getHeader(HttpHeaderConsts.ACCEPT_ENCODING))) {
+            return null;
+        }
+        return ConfigContentCache.getInstance()
+                .getGzipContent(chainRequest.getDataId(), chainRequest.getGroup(), chainRequest.getTenant(),
+                        chainResponse.getMd5());
+    }
+    
+    /**
+     * Check whether gzip is acceptable by the Accept-Encoding header, a coding with {@code q=0} is not acceptable.
+     *
+     * @param acceptEncoding value of Accept-Encoding header
+     * @return {@code true} if gzip is acceptable
+     */
+    static boolean isGzipAccepted(String acceptEncoding) {
+        if (StringUtils.isBlank(acceptEncoding)) {
+            return false;
+        }
+        Boolean gzipAccepted = null;
+        Boolean anyAccepted = null;
+        for (String each : acceptEncoding.split(ENCODING_SPLITTER)) {
+            String[] codingAndParams = each.split(PARAM_SPLITTER);
+            String coding = codingAndParams[0].trim();
+            boolean accepted = getQualityValue(codingAndParams) > 0;
+            if (GZIP.equalsIgnoreCase(coding)) {
+                gzipAccepted = accepted;
+            } else if (ANY_ENCODING.equals(coding)) {
+                anyAccepted = accepted;
+            }
+        }
+        if (null != gzipAccepted) {
+            return gzipAccepted;
+        }
+        return Boolean.TRUE.equals(anyAccepted);
+    }
+    
+    private static double getQualityValue(String[] codingAndParams) {
+        for (int i = 1; i < codingAndParams.length; i++) {
+            String param = codingAndParams[i].trim();
+            if (param.regionMatches(true, 0, QUALITY_PARAM_PREFIX, 0, QUALITY_PARAM_PREFIX.length())) {
+                try {
+                    return Double.parseDouble(param.substring(QUALITY_PARAM_PREFIX.length()).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+    
     private void writeContentForV2(HttpServletResponse response, ConfigQueryChainResponse chainResponse, String dataId)
             throws IOException {
         PrintWriter out = response.getWriter();
@@ -287,7 +378,7 @@ public class ConfigServletInner {
             ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1, pullEvent,
                     ConfigTraceService.PULL_TYPE_CONFLICT, -1, clientIp, notify, "http");
         } else if (status == ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_NOT_FOUND
-                || chainResponse.getContent() == null) {
+                || !chainResponse.hasContent()) {
             ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1, pullEvent,
                     ConfigTraceService.PULL_TYPE_NOTFOUND, -1, clientIp, notify, "http");
         } else {
@@ -16,15 +16,20 @@
 
 package com.alibaba.nacos.config.server.monitor;
 
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigContentCache;
 import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
 import com.alibaba.nacos.core.monitor.topn.StringTopNCounter;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -75,6 +80,11 @@ public class MetricsMonitor {
      */
     private static StringTopNCounter configChangeCount = new StringTopNCounter();
     
+    /**
+     * rocksdb ticker gauges, hold them here because registered gauges only keep weak references.
+     */
+    private static final List<RocksDbTickerGauge> ROCKSDB_TICKER_GAUGES = new ArrayList<>();
+    
     static {
         ImmutableTag immutableTag = new ImmutableTag("module", "config");
         
@@ -194,10 +204,19 @@ public class MetricsMonitor {
         return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "notifyRt");
     }
     
+    public static Timer getLongPollingFanOutRtTimer() {
+        return NacosMeterRegistryCenter
+                .timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "longPollingFanOutRt");
+    }
+    
     public static Timer getDumpRtTimer() {
         return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "dumpRt");
     }
     
+    public static Timer getDumpAllRtTimer() {
+        return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_timer", "module", "config", "name", "dumpAllRt");
+    }
+    
     public static Counter getIllegalArgumentException() {
         return NacosMeterRegistryCenter
                 .counter(METER_REGISTRY, "nacos_exception", "module", "config", "name", "illegalArgument");
@@ -217,7 +236,94 @@ public class MetricsMonitor {
                 .counter(METER_REGISTRY, "nacos_exception", "module", "config", "name", "unhealth");
     }
     
+    /**
+     * Monitor hit, miss and eviction count of config content cache.
+     *
+     * @param cache config content cache
+     */
+    public static void monitorConfigContentCache(ConfigContentCache cache) {
+        ImmutableTag immutableTag = new ImmutableTag("module", "config");
+        List<Tag> tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheHit"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, cache.getHitCount());
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheMiss"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, cache.getMissCount());
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheEviction"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, cache.getEvictionCount());
+    }
+    
+    /**
+     * Expose tickers of rocksdb statistics of config disk service as gauges.
+     *
+     * @param statistics rocksdb statistics shared by config disk service
+     */
+    public static void monitorRocksDbStatistics(Statistics statistics) {
+        Map<String, TickerType> tickers = new LinkedHashMap<>();
+        tickers.put("rocksdbBlockCacheHit", TickerType.BLOCK_CACHE_HIT);
+        tickers.put("rocksdbBlockCacheMiss", TickerType.BLOCK_CACHE_MISS);
+        tickers.put("rocksdbBloomFilterUseful", TickerType.BLOOM_FILTER_USEFUL);
+        tickers.put("rocksdbKeysWritten", TickerType.NUMBER_KEYS_WRITTEN);
+        tickers.put("rocksdbKeysRead", TickerType.NUMBER_KEYS_READ);
+        tickers.put("rocksdbBytesWritten", TickerType.BYTES_WRITTEN);
+        tickers.put("rocksdbBytesRead", TickerType.BYTES_READ);
+        tickers.put("rocksdbWalSynced", TickerType.WAL_FILE_SYNCED);
+        tickers.put("rocksdbStallMicros", TickerType.STALL_MICROS);
+        ImmutableTag immutableTag = new ImmutableTag("module", "config");
+        for (Map.Entry<String, TickerType> entry : tickers.entrySet()) {
+            List<Tag> tags = new ArrayList<>();
+            tags.add(immutableTag);
+            tags.add(new ImmutableTag("name", entry.getKey()));
+            RocksDbTickerGauge gauge = new RocksDbTickerGauge(statistics, entry.getValue());
+            ROCKSDB_TICKER_GAUGES.add(gauge);
+            NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, gauge);
+        }
+    }
+    
     public static void incrementConfigChangeCount(String tenant, String group, String dataId) {
         configChangeCount.increment(tenant + "@" + group + "@" + dataId);
     }
+    
+    /**
+     * Number view of one ticker of rocksdb statistics.
+     */
+    private static class RocksDbTickerGauge extends Number {
+        
+        private static final long serialVersionUID = 6735291084421953620L;
+        
+        private final transient Statistics statistics;
+        
+        private final TickerType tickerType;
+        
+        RocksDbTickerGauge(Statistics statistics, TickerType tickerType) {
+            this.statistics = statistics;
+            this.tickerType = tickerType;
+        }
+        
+        @Override
+        public int intValue() {
+            return (int) longValue();
+        }
+        
+        @Override
+        public long longValue() {
+            return statistics.getTickerCount(tickerType);
+        }
+        
+        @Override
+        public float floatValue() {
+            return longValue();
+        }
+        
+        @Override
+        public double doubleValue() {
+            return longValue();
+        }
+    }
 }
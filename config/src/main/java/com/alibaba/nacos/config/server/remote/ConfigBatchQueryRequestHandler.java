@@ -0,0 +1,70 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handler of {@link ConfigBatchQueryRequest}, which saves the round trips of client refreshing many changed configs.
+ *
+ * <p>Each query is handled by {@link ConfigQueryRequestHandler} with the request filters, so auth, tps control and
+ * param check still apply to every config in the batch.
+ *
+ * @author nacos
+ */
+@Component
+public class ConfigBatchQueryRequestHandler extends RequestHandler<ConfigBatchQueryRequest, ConfigBatchQueryResponse> {
+    
+    private final ConfigQueryRequestHandler configQueryRequestHandler;
+    
+    public ConfigBatchQueryRequestHandler(ConfigQueryRequestHandler configQueryRequestHandler) {
+        this.configQueryRequestHandler = configQueryRequestHandler;
+    }
+    
+    @Override
+    public ConfigBatchQueryResponse handle(ConfigBatchQueryRequest request, RequestMeta meta) throws NacosException {
+        List<ConfigQueryRequest> queryRequests = request.getQueryRequests();
+        List<ConfigQueryResponse> queryResponses = new ArrayList<>(null == queryRequests ? 0 : queryRequests.size());
+        if (null != queryRequests) {
+            for (ConfigQueryRequest each : queryRequests) {
+                each.putAllHeader(request.getHeaders());
+                queryResponses.add(toQueryResponse(configQueryRequestHandler.handleRequest(each, meta)));
+            }
+        }
+        ConfigBatchQueryResponse response = new ConfigBatchQueryResponse();
+        response.setQueryResponses(queryResponses);
+        return response;
+    }
+    
+    private ConfigQueryResponse toQueryResponse(Response response) {
+        if (response instanceof ConfigQueryResponse) {
+            return (ConfigQueryResponse) response;
+        }
+        return ConfigQueryResponse.buildFailResponse(response.getErrorCode(), response.getMessage());
+    }
+}
@@ -240,7 +240,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             connectionManager.unregister(retryTask.getConnectionId());
         } else if (connectionManager.getConnection(retryTask.getConnectionId()) != null) {
             // first time:delay 0s; second time:delay 2s; third time:delay 4s
-            ConfigExecutor.scheduleClientConfigNotifier(retryTask, retryTask.getTryTimes() * 2, TimeUnit.SECONDS);
+            ConfigExecutor.scheduleClientConfigNotifierRetry(retryTask, retryTask.getTryTimes() * 2, TimeUnit.SECONDS);
         } else {
             // client is already offline, ignore task.
         }
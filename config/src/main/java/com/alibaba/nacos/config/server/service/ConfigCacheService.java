@@ -23,16 +23,20 @@ import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCache;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.model.ConfigCachePostProcessorDelegate;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.model.gray.GrayRule;
 import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -115,6 +119,7 @@ public class ConfigCacheService {
                 DUMP_LOG.info("[dump] md5 changed, save to disk cache ,groupKey={}, newMd5={},oldMd5={}", groupKey, md5,
                         localContentMd5);
                 ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
+                ConfigContentCache.getInstance().invalidate(groupKey);
             } else {
                 DUMP_LOG.warn("[dump-ignore] ignore to save to disk cache. md5 consistent,groupKey={}, md5={}",
                         groupKey, md5);
@@ -140,15 +145,7 @@ public class ConfigCacheService {
             return true;
         } catch (IOException ioe) {
             DUMP_LOG.error("[dump-exception] save disk error. " + groupKey + ", " + ioe);
-            if (ioe.getMessage() != null) {
-                String errMsg = ioe.getMessage();
-                if (errMsg.contains(NO_SPACE_CN) || errMsg.contains(NO_SPACE_EN) || errMsg.contains(DISK_QUOTA_CN)
-                        || errMsg.contains(DISK_QUOTA_EN)) {
-                    // Protect from disk full.
-                    FATAL_LOG.error("Local Disk Full,Exit", ioe);
-                    EnvUtil.systemExit();
-                }
-            }
+            exitIfDiskFull(ioe);
             return false;
         } finally {
             releaseWriteLock(groupKey);
@@ -156,6 +153,83 @@ public class ConfigCacheService {
         
     }
     
+    private static void exitIfDiskFull(IOException ioe) {
+        if (ioe.getMessage() != null) {
+            String errMsg = ioe.getMessage();
+            if (errMsg.contains(NO_SPACE_CN) || errMsg.contains(NO_SPACE_EN) || errMsg.contains(DISK_QUOTA_CN)
+                    || errMsg.contains(DISK_QUOTA_EN)) {
+                // Protect from disk full.
+                FATAL_LOG.error("Local Disk Full,Exit", ioe);
+                EnvUtil.systemExit();
+            }
+        }
+    }
+    
+    /**
+     * Save batch of config files and update md5 values in cache, the changed contents are saved to disk by one batch.
+     * Configs whose write lock can't be acquired are skipped and counted as failed.
+     *
+     * @param configs configs with utf-8 md5 of content.
+     * @return count of configs dumped successfully.
+     */
+    public static int dumpBatchWithMd5(List<ConfigInfoWrapper> configs) {
+        List<ConfigInfoWrapper> locked = new ArrayList<>(configs.size());
+        List<String> lockedGroupKeys = new ArrayList<>(configs.size());
+        for (ConfigInfoWrapper each : configs) {
+            String groupKey = GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant());
+            makeSure(groupKey, each.getEncryptedDataKey()).setType(each.getType());
+            if (tryWriteLock(groupKey) > 0) {
+                locked.add(each);
+                lockedGroupKeys.add(groupKey);
+            } else {
+                DUMP_LOG.warn("[dump-error] write lock failed. {}", groupKey);
+            }
+        }
+        int result = 0;
+        try {
+            List<ConfigInfoWrapper> changed = new ArrayList<>(locked.size());
+            List<String> changedGroupKeys = new ArrayList<>(locked.size());
+            for (int i = 0; i < locked.size(); i++) {
+                ConfigInfoWrapper each = locked.get(i);
+                String groupKey = lockedGroupKeys.get(i);
+                long localLastModifiedTs = getLastModifiedTs(groupKey);
+                if (each.getLastModified() < localLastModifiedTs) {
+                    DUMP_LOG.warn("[dump-ignore] timestamp is outdated,groupKey={}", groupKey);
+                    result++;
+                } else if (!each.getMd5().equals(getContentMd5(groupKey))) {
+                    changed.add(each);
+                    changedGroupKeys.add(groupKey);
+                } else {
+                    if (each.getLastModified() > localLastModifiedTs) {
+                        updateTimeStamp(groupKey, each.getLastModified(), each.getEncryptedDataKey());
+                    }
+                    result++;
+                }
+            }
+            if (!changed.isEmpty()) {
+                ConfigDiskServiceFactory.getInstance().saveBatchToDisk(changed);
+                for (int i = 0; i < changed.size(); i++) {
+                    ConfigInfoWrapper each = changed.get(i);
+                    String groupKey = changedGroupKeys.get(i);
+                    ConfigContentCache.getInstance().invalidate(groupKey);
+                    updateMd5(groupKey, each.getMd5(), each.getContent(), each.getLastModified(),
+                            each.getEncryptedDataKey());
+                    result++;
+                }
+            }
+            DUMP_LOG.info("[dump-batch] dump {} configs, changed {}, failed {}", configs.size(), changed.size(),
+                    configs.size() - result);
+        } catch (IOException ioe) {
+            DUMP_LOG.error("[dump-exception] save batch to disk error. " + ioe);
+            exitIfDiskFull(ioe);
+        } finally {
+            for (String each : lockedGroupKeys) {
+                releaseWriteLock(each);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Save config file and update md5 value in cache.
      *
@@ -232,6 +306,7 @@ public class ConfigCacheService {
                         grayName, md5, localContentGrayMd5, grayRule, localGrayRule, lastModifiedTs);
                 updateGrayMd5(groupKey, grayName, grayRule, md5, content, lastModifiedTs, encryptedDataKey);
                 ConfigDiskServiceFactory.getInstance().saveGrayToDisk(dataId, group, tenant, grayName, content);
+                ConfigContentCache.getInstance().invalidateGray(groupKey, grayName);
                 
             } else if (grayRuleChanged) {
                 DUMP_LOG.info("[dump-gray] gray rule changed, update local jvm cache, groupKey={},grayName={}, "
@@ -287,6 +362,7 @@ public class ConfigCacheService {
             DUMP_LOG.info("[remove-gray-ok] remove gray in local disk cache,grayName={},groupKey={} ", grayName,
                     groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo4Gray(dataId, group, tenant, grayName);
+            ConfigContentCache.getInstance().invalidateGray(groupKey, grayName);
             
             CacheItem ci = CACHE.get(groupKey);
             if (ci.getConfigCacheGray() != null) {
@@ -335,6 +411,7 @@ public class ConfigCacheService {
         try {
             DUMP_LOG.info("[dump] remove  local disk cache,groupKey={} ", groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo(dataId, group, tenant);
+            ConfigContentCache.getInstance().invalidate(groupKey);
             
             CACHE.remove(groupKey);
             DUMP_LOG.info("[dump] remove  local jvm cache,groupKey={} ", groupKey);
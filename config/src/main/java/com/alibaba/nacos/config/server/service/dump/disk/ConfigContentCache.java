@@ -0,0 +1,391 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bounded in-memory content cache in front of {@link ConfigDiskService}.
+ *
+ * <p>Entries are keyed by group key (and gray name), and only hit when the md5 of the entry is the same as the md5 in
+ * jvm cache, so stale content is never returned. Queries read content with the read lock of group key, and dumps
+ * update disk with the write lock, so the content loaded from disk always matches the md5 of the query. Dumps and
+ * removes invalidate the entries to release memory early.
+ *
+ * <p>Content is kept as UTF-8 bytes, so it can be written to responses without decoding and encoding again, and
+ * the gzipped content is computed once per md5 on demand.
+ *
+ * <p>Total weight (estimated bytes of content) is bounded, entries are evicted by second chance (clock) policy when
+ * the weight exceeds the bound. Reads are lock free.
+ *
+ * @author nacos
+ */
+public class ConfigContentCache {
+    
+    private static final String GRAY_KEY_SEPARATOR = "+gray+";
+    
+    /**
+     * Estimated bytes of entry overhead besides content.
+     */
+    private static final int ENTRY_OVERHEAD = 96;
+    
+    /**
+     * Content larger than {@code maxWeight / MAX_ENTRY_WEIGHT_DIVISOR} is not cached to avoid flushing the cache.
+     */
+    private static final int MAX_ENTRY_WEIGHT_DIVISOR = 8;
+    
+    /**
+     * Eviction scans at most two rounds, the second chance of referenced entries is consumed by the first round.
+     */
+    private static final int MAX_EVICTION_ROUNDS = 2;
+    
+    private static final int GZIP_ESTIMATED_RATIO = 4;
+    
+    private static volatile ConfigContentCache instance;
+    
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    
+    private final AtomicLong weightedSize = new AtomicLong();
+    
+    private final ReentrantLock evictLock = new ReentrantLock();
+    
+    private final long maxWeight;
+    
+    private final LongAdder hitCount = new LongAdder();
+    
+    private final LongAdder missCount = new LongAdder();
+    
+    private final LongAdder evictionCount = new LongAdder();
+    
+    /**
+     * Create content cache.
+     *
+     * @param maxWeight max estimated bytes of cached content, nothing is cached if not positive
+     */
+    public ConfigContentCache(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+    
+    /**
+     * Get the config content cache.
+     *
+     * @return config content cache
+     */
+    public static ConfigContentCache getInstance() {
+        if (null == instance) {
+            synchronized (ConfigContentCache.class) {
+                if (null == instance) {
+                    ConfigContentCache cache = new ConfigContentCache(PropertyUtil.getContentCacheMaxBytes());
+                    MetricsMonitor.monitorConfigContentCache(cache);
+                    instance = cache;
+                }
+            }
+        }
+        return instance;
+    }
+    
+    /**
+     * Get formal content, from cache if content cache is enabled and md5 matches, otherwise from disk.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @param md5    md5 of content in jvm cache
+     * @return content, null if not exist
+     * @throws IOException io exception
+     */
+    public String getContent(String dataId, String group, String tenant, String md5) throws IOException {
+        if (!PropertyUtil.isContentCacheEnabled() || null == md5) {
+            return ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+        }
+        String key = GroupKey2.getKey(dataId, group, tenant);
+        Entry entry = getIfMatch(key, md5);
+        if (null != entry) {
+            return new String(entry.content, StandardCharsets.UTF_8);
+        }
+        String result = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+        if (null != result) {
+            put(key, md5, result.getBytes(StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+    
+    /**
+     * Get formal content as UTF-8 bytes, from cache if content cache is enabled and md5 matches, otherwise from disk.
+     * The returned array is shared and must not be modified.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @param md5    md5 of content in jvm cache
+     * @return content bytes, null if not exist
+     * @throws IOException io exception
+     */
+    public byte[] getContentBytes(String dataId, String group, String tenant, String md5) throws IOException {
+        if (!PropertyUtil.isContentCacheEnabled() || null == md5) {
+            return ConfigDiskServiceFactory.getInstance().getContentBytes(dataId, group, tenant);
+        }
+        String key = GroupKey2.getKey(dataId, group, tenant);
+        Entry entry = getIfMatch(key, md5);
+        if (null != entry) {
+            return entry.content;
+        }
+        byte[] result = ConfigDiskServiceFactory.getInstance().getContentBytes(dataId, group, tenant);
+        put(key, md5, result);
+        return result;
+    }
+    
+    /**
+     * Get gray content, from cache if content cache is enabled and md5 matches, otherwise from disk.
+     *
+     * @param dataId   dataId
+     * @param group    group
+     * @param tenant   tenant
+     * @param grayName gray name
+     * @param md5      md5 of gray content in jvm cache
+     * @return gray content, null if not exist
+     * @throws IOException io exception
+     */
+    public String getGrayContent(String dataId, String group, String tenant, String grayName, String md5)
+            throws IOException {
+        if (!PropertyUtil.isContentCacheEnabled() || null == md5) {
+            return ConfigDiskServiceFactory.getInstance().getGrayContent(dataId, group, tenant, grayName);
+        }
+        String key = grayKey(GroupKey2.getKey(dataId, group, tenant), grayName);
+        Entry entry = getIfMatch(key, md5);
+        if (null != entry) {
+            return new String(entry.content, StandardCharsets.UTF_8);
+        }
+        String result = ConfigDiskServiceFactory.getInstance().getGrayContent(dataId, group, tenant, grayName);
+        if (null != result) {
+            put(key, md5, result.getBytes(StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+    
+    /**
+     * Get gray content as UTF-8 bytes, from cache if content cache is enabled and md5 matches, otherwise from disk.
+     * The returned array is shared and must not be modified.
+     *
+     * @param dataId   dataId
+     * @param group    group
+     * @param tenant   tenant
+     * @param grayName gray name
+     * @param md5      md5 of gray content in jvm cache
+     * @return gray content bytes, null if not exist
+     * @throws IOException io exception
+     */
+    public byte[] getGrayContentBytes(String dataId, String group, String tenant, String grayName, String md5)
+            throws IOException {
+        if (!PropertyUtil.isContentCacheEnabled() || null == md5) {
+            return ConfigDiskServiceFactory.getInstance().getGrayContentBytes(dataId, group, tenant, grayName);
+        }
+        String key = grayKey(GroupKey2.getKey(dataId, group, tenant), grayName);
+        Entry entry = getIfMatch(key, md5);
+        if (null != entry) {
+            return entry.content;
+        }
+        byte[] result = ConfigDiskServiceFactory.getInstance().getGrayContentBytes(dataId, group, tenant, grayName);
+        put(key, md5, result);
+        return result;
+    }
+    
+    /**
+     * Get gzipped formal content of the cached entry, it is compressed on first call and kept with the entry. Returns
+     * null if the content is not cached with the md5, callers should fall back to the plain content.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @param md5    md5 of content in jvm cache
+     * @return gzipped content, null if not cached
+     */
+    public byte[] getGzipContent(String dataId, String group, String tenant, String md5) {
+        if (!PropertyUtil.isContentCacheEnabled() || null == md5) {
+            return null;
+        }
+        String key = GroupKey2.getKey(dataId, group, tenant);
+        Entry entry = entries.get(key);
+        if (null == entry || !md5.equals(entry.md5)) {
+            return null;
+        }
+        if (null != entry.gzipContent) {
+            return entry.gzipContent;
+        }
+        byte[] result = gzip(entry.content);
+        // replace atomically so the weight of gzipped content is accounted only if the entry is still cached.
+        Entry gzipped = new Entry(md5, entry.content, result, entry.weight + result.length);
+        gzipped.referenced = true;
+        if (entries.replace(key, entry, gzipped) && weightedSize.addAndGet(result.length) > maxWeight) {
+            evict();
+        }
+        return result;
+    }
+    
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / GZIP_ESTIMATED_RATIO + 1);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+    
+    public void invalidate(String groupKey) {
+        removeEntry(groupKey);
+    }
+    
+    public void invalidateGray(String groupKey, String grayName) {
+        removeEntry(grayKey(groupKey, grayName));
+    }
+    
+    /**
+     * Invalidate all entries.
+     */
+    public void invalidateAll() {
+        for (String each : entries.keySet()) {
+            removeEntry(each);
+        }
+    }
+    
+    private Entry getIfMatch(String key, String md5) {
+        Entry entry = entries.get(key);
+        if (null != entry && md5.equals(entry.md5)) {
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            hitCount.increment();
+            return entry;
+        }
+        missCount.increment();
+        return null;
+    }
+    
+    private void put(String key, String md5, byte[] content) {
+        if (null == content) {
+            return;
+        }
+        long weight = ENTRY_OVERHEAD + content.length;
+        if (weight > maxWeight / MAX_ENTRY_WEIGHT_DIVISOR) {
+            return;
+        }
+        Entry entry = new Entry(md5, content, weight);
+        Entry old = entries.put(key, entry);
+        weightedSize.addAndGet(null == old ? weight : weight - old.weight);
+        if (weightedSize.get() > maxWeight) {
+            evict();
+        }
+    }
+    
+    private void removeEntry(String key) {
+        Entry old = entries.remove(key);
+        if (null != old) {
+            weightedSize.addAndGet(-old.weight);
+        }
+    }
+    
+    private void evict() {
+        if (!evictLock.tryLock()) {
+            return;
+        }
+        try {
+            // all referenced bits are cleared by the first round.
+            for (int round = 0; round < MAX_EVICTION_ROUNDS && weightedSize.get() > maxWeight; round++) {
+                Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+                while (iterator.hasNext() && weightedSize.get() > maxWeight) {
+                    Map.Entry<String, Entry> each = iterator.next();
+                    Entry entry = each.getValue();
+                    if (entry.referenced) {
+                        entry.referenced = false;
+                    } else if (entries.remove(each.getKey(), entry)) {
+                        weightedSize.addAndGet(-entry.weight);
+                        evictionCount.increment();
+                    }
+                }
+            }
+        } finally {
+            evictLock.unlock();
+        }
+    }
+    
+    private static String grayKey(String groupKey, String grayName) {
+        return groupKey + GRAY_KEY_SEPARATOR + grayName;
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    public long getWeightedSize() {
+        return weightedSize.get();
+    }
+    
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+    
+    public LongAdder getHitCount() {
+        return hitCount;
+    }
+    
+    public LongAdder getMissCount() {
+        return missCount;
+    }
+    
+    public LongAdder getEvictionCount() {
+        return evictionCount;
+    }
+    
+    private static class Entry {
+        
+        private final String md5;
+        
+        private final byte[] content;
+        
+        private final byte[] gzipContent;
+        
+        private final long weight;
+        
+        private volatile boolean referenced;
+        
+        private Entry(String md5, byte[] content, long weight) {
+            this(md5, content, null, weight);
+        }
+        
+        private Entry(String md5, byte[] content, byte[] gzipContent, long weight) {
+            this.md5 = md5;
+            this.content = content;
+            this.gzipContent = gzipContent;
+            this.weight = weight;
+        }
+    }
+}
@@ -16,7 +16,11 @@
 
 package com.alibaba.nacos.config.server.service.dump.disk;
 
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  * config disk service.
@@ -36,6 +40,18 @@ public interface ConfigDiskService {
      */
     void saveToDisk(String dataId, String group, String tenant, String content) throws IOException;
 
+    /**
+     * Save batch of configuration information to disk.
+     *
+     * @param configs configs to save.
+     * @throws IOException io exception.
+     */
+    default void saveBatchToDisk(List<? extends ConfigInfo> configs) throws IOException {
+        for (ConfigInfo each : configs) {
+            saveToDisk(each.getDataId(), each.getGroup(), each.getTenant(), each.getContent());
+        }
+    }
+    
     /**
      * Save gray information to disk.
      *
@@ -70,6 +86,23 @@ public interface ConfigDiskService {
      */
     String getGrayContent(String dataId, String group, String tenant, String grayName) throws IOException;
     
+    /**
+     * Returns the UTF-8 bytes of the gray cache file in server, avoid decoding large content when it is written out
+     * as is.
+     *
+     * @param dataId   dataId.
+     * @param group    group.
+     * @param tenant   tenant.
+     * @param grayName grayName.
+     * @return gray content bytes, null if not exist.
+     * @throws IOException io exception.
+     */
+    default byte[] getGrayContentBytes(String dataId, String group, String tenant, String grayName)
+            throws IOException {
+        String content = getGrayContent(dataId, group, tenant, grayName);
+        return null == content ? null : content.getBytes(StandardCharsets.UTF_8);
+    }
+    
     /**
      * Deletes configuration files on disk.
      *
@@ -90,6 +123,20 @@ public interface ConfigDiskService {
      */
     String getContent(String dataId, String group, String tenant) throws IOException;
     
+    /**
+     * Returns the UTF-8 bytes of the cache file in server, avoid decoding large content when it is written out as is.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     * @return content bytes, null if not exist.
+     * @throws IOException io exception.
+     */
+    default byte[] getContentBytes(String dataId, String group, String tenant) throws IOException {
+        String content = getContent(dataId, group, tenant);
+        return null == content ? null : content.getBytes(StandardCharsets.UTF_8);
+    }
+    
     /**
      * Clear all config file.
      */
@@ -30,6 +30,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 
@@ -171,6 +173,25 @@ public class ConfigRawDiskService implements ConfigDiskService {
         }
     }
     
+    @Override
+    public byte[] getContentBytes(String dataId, String group, String tenant) throws IOException {
+        return file2Bytes(targetFile(dataId, group, tenant));
+    }
+    
+    @Override
+    public byte[] getGrayContentBytes(String dataId, String group, String tenant, String grayName)
+            throws IOException {
+        return file2Bytes(targetGrayContentFile(dataId, group, tenant, grayName));
+    }
+    
+    private static byte[] file2Bytes(File file) throws IOException {
+        try {
+            return Files.readAllBytes(file.toPath());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+    
     /**
      * Clear all config file.
      */
@@ -18,19 +18,30 @@ package com.alibaba.nacos.config.server.service.dump.disk;
 
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.Statistics;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.constant.Constants.NULL;
@@ -51,7 +62,27 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private static final long DEFAULT_WRITE_BUFFER_MB = 32;
     
-    Map<String, RocksDB> rocksDbMap = new HashMap<>();
+    Map<String, RocksDB> rocksDbMap = new ConcurrentHashMap<>();
+    
+    /**
+     * dir -> group commit writer, absent if batch write is disabled.
+     */
+    Map<String, RocksDbBatchWriter> batchWriterMap = new ConcurrentHashMap<>();
+    
+    /**
+     * write options with wal semantics of all writes, init with the first db.
+     */
+    private WriteOptions writeOptions;
+    
+    /**
+     * block cache shared by all dbs.
+     */
+    private Cache blockCache;
+    
+    /**
+     * statistics shared by all dbs, null if disabled.
+     */
+    private Statistics statistics;
     
     private void createDirIfNotExist(String dir) {
         File roskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
@@ -122,11 +153,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void saveToDiskInner(String type, String dataId, String group, String tenant, String tag, String content)
             throws IOException {
-        try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
-        } catch (RocksDBException e) {
-            throw new IOException(e);
-        }
+        put(type, getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
     }
     
     /**
@@ -142,13 +169,33 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void saveGrayToDiskInner(String type, String dataId, String group, String tenant, String grayName,
             String content) throws IOException {
+        put(type, getKeyByte(dataId, group, tenant, grayName), content.getBytes(ENCODE_UTF8));
+    }
+    
+    private void put(String type, byte[] key, byte[] value) throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, grayName), content.getBytes(ENCODE_UTF8));
+            RocksDB rocksDb = initAndGetDB(type);
+            RocksDbBatchWriter batchWriter = batchWriterMap.get(type);
+            if (batchWriter != null) {
+                batchWriter.put(key, value);
+            } else {
+                rocksDb.put(writeOptions, key, value);
+            }
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
     }
     
+    private void delete(String type, byte[] key) throws IOException, RocksDBException {
+        RocksDB rocksDb = initAndGetDB(type);
+        RocksDbBatchWriter batchWriter = batchWriterMap.get(type);
+        if (batchWriter != null) {
+            batchWriter.delete(key);
+        } else {
+            rocksDb.delete(writeOptions, key);
+        }
+    }
+    
     /**
      * Save configuration information to disk.
      */
@@ -156,6 +203,38 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         saveToDiskInner(BASE_DIR, dataId, group, tenant, content);
     }
     
+    /**
+     * Save batch of configuration information to disk by one write batch.
+     */
+    @Override
+    public void saveBatchToDisk(List<? extends ConfigInfo> configs) throws IOException {
+        if (configs.isEmpty()) {
+            return;
+        }
+        List<byte[]> keys = new ArrayList<>(configs.size());
+        List<byte[]> values = new ArrayList<>(configs.size());
+        for (ConfigInfo each : configs) {
+            keys.add(getKeyByte(each.getDataId(), each.getGroup(), each.getTenant(), null));
+            values.add(each.getContent().getBytes(ENCODE_UTF8));
+        }
+        try {
+            RocksDB rocksDb = initAndGetDB(BASE_DIR);
+            RocksDbBatchWriter batchWriter = batchWriterMap.get(BASE_DIR);
+            if (batchWriter != null) {
+                batchWriter.putAll(keys, values);
+                return;
+            }
+            try (WriteBatch writeBatch = new WriteBatch()) {
+                for (int i = 0; i < keys.size(); i++) {
+                    writeBatch.put(keys.get(i), values.get(i));
+                }
+                rocksDb.write(writeOptions, writeBatch);
+            }
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        }
+    }
+    
     /**
      * Save tag information to disk.
      */
@@ -188,16 +267,24 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     }
     
     RocksDB initAndGetDB(String dir) throws IOException, RocksDBException {
-        if (rocksDbMap.containsKey(dir)) {
-            return rocksDbMap.get(dir);
+        RocksDB existed = rocksDbMap.get(dir);
+        if (existed != null) {
+            return existed;
         } else {
             synchronized (this) {
-                if (rocksDbMap.containsKey(dir)) {
-                    return rocksDbMap.get(dir);
+                existed = rocksDbMap.get(dir);
+                if (existed != null) {
+                    return existed;
                 }
                 createDirIfEmpty(EnvUtil.getNacosHome() + dir);
-                rocksDbMap.put(dir, RocksDB.open(createOptions(dir), EnvUtil.getNacosHome() + dir));
-                return rocksDbMap.get(dir);
+                RocksDB rocksDb = RocksDB.open(createOptions(dir), EnvUtil.getNacosHome() + dir);
+                if (PropertyUtil.isRocksDbBatchWriteEnabled()) {
+                    batchWriterMap.put(dir, new RocksDbBatchWriter(new File(dir).getName(), rocksDb, writeOptions,
+                            PropertyUtil.getRocksDbBatchWriteFlushWindowMs(),
+                            PropertyUtil.getRocksDbBatchWriteMaxSize()));
+                }
+                rocksDbMap.put(dir, rocksDb);
+                return rocksDb;
             }
             
         }
@@ -234,7 +321,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private void removeContentInner(String type, String dataId, String group, String tenant, String tag) {
         try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, tag));
+            delete(type, getKeyByte(dataId, group, tenant, tag));
         } catch (Exception e) {
             LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
                     group, tenant, e.getCause());
@@ -243,7 +330,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private void removeGrayInner(String type, String dataId, String group, String tenant, String grayName) {
         try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, grayName));
+            delete(type, getKeyByte(dataId, group, tenant, grayName));
         } catch (Exception e) {
             LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
                     group, tenant, e.getCause());
@@ -261,13 +348,36 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         return getContentInner(BASE_DIR, dataId, group, tenant);
     }
     
+    @Override
+    public byte[] getContentBytes(String dataId, String group, String tenant) throws IOException {
+        return getBytesInner(BASE_DIR, getKeyByte(dataId, group, tenant, null));
+    }
+    
+    @Override
+    public byte[] getGrayContentBytes(String dataId, String group, String tenant, String grayName)
+            throws IOException {
+        return getBytesInner(GRAY_DIR, getKeyByte(dataId, group, tenant, grayName));
+    }
+    
+    private byte[] getBytesInner(String type, byte[] key) throws IOException {
+        try {
+            return initAndGetDB(type).get(key);
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        }
+    }
+    
     public String getLocalConfigMd5(String dataId, String group, String tenant, String encode) throws IOException {
         return MD5Utils.md5Hex(getContentInner(BASE_DIR, dataId, group, tenant), encode);
     }
     
     Options createOptions(String dir) {
+        initSharedResources();
         DBOptions dbOptions = new DBOptions();
         dbOptions.setMaxBackgroundJobs(Runtime.getRuntime().availableProcessors());
+        if (statistics != null) {
+            dbOptions.setStatistics(statistics);
+        }
         Options options = new Options(dbOptions, createColumnFamilyOptions(dir));
         options.setCreateIfMissing(true);
         return options;
@@ -276,6 +386,15 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     ColumnFamilyOptions createColumnFamilyOptions(String dir) {
         ColumnFamilyOptions columnFamilyOptions = new ColumnFamilyOptions();
         BlockBasedTableConfig tableFormatConfig = new BlockBasedTableConfig();
+        // configs are always read by exact key, bloom filters skip sst files without the key.
+        if (blockCache != null) {
+            tableFormatConfig.setBlockCache(blockCache);
+        }
+        int bloomFilterBitsPerKey = PropertyUtil.getRocksDbBloomFilterBitsPerKey();
+        if (bloomFilterBitsPerKey > 0) {
+            tableFormatConfig.setFilterPolicy(new BloomFilter(bloomFilterBitsPerKey, false));
+            tableFormatConfig.setWholeKeyFiltering(true);
+        }
         columnFamilyOptions.setTableFormatConfig(tableFormatConfig);
         //set more write buffer size to formal config-data, reduce flush to sst file frequency.
         columnFamilyOptions.setWriteBufferSize(getSuitFormalCacheSizeMB(dir) * 1024 * 1024);
@@ -284,6 +403,28 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         return columnFamilyOptions;
     }
     
+    private void initSharedResources() {
+        if (writeOptions != null) {
+            return;
+        }
+        RocksDB.loadLibrary();
+        writeOptions = new WriteOptions().setDisableWAL(PropertyUtil.isRocksDbWalDisabled())
+                .setSync(PropertyUtil.isRocksDbWalSync());
+        long blockCacheMb = PropertyUtil.getRocksDbBlockCacheMb();
+        if (blockCacheMb > 0) {
+            blockCache = new LRUCache(blockCacheMb * 1024 * 1024);
+        }
+        if (PropertyUtil.isRocksDbStatisticsEnabled()) {
+            statistics = new Statistics();
+            MetricsMonitor.monitorRocksDbStatistics(statistics);
+        }
+        LogUtil.DEFAULT_LOG.info(
+                "init rocksdb options, walDisabled={}, walSync={}, blockCache={}M, bloomFilterBitsPerKey={}, "
+                        + "statistics={}, batchWrite={}", PropertyUtil.isRocksDbWalDisabled(),
+                PropertyUtil.isRocksDbWalSync(), blockCacheMb, PropertyUtil.getRocksDbBloomFilterBitsPerKey(),
+                statistics != null, PropertyUtil.isRocksDbBatchWriteEnabled());
+    }
+    
     /**
      * get suit formal buffer size.
      *
@@ -316,13 +457,21 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         
     }
     
+    private void closeBatchWriter(String dir) {
+        RocksDbBatchWriter batchWriter = batchWriterMap.remove(dir);
+        if (batchWriter != null) {
+            batchWriter.close();
+        }
+    }
+    
     /**
      * Clear all config file.
      */
     public void clearAll() {
         try {
+            closeBatchWriter(BASE_DIR);
             if (rocksDbMap.containsKey(BASE_DIR)) {
-                rocksDbMap.get(BASE_DIR).close();
+                rocksDbMap.remove(BASE_DIR).close();
                 RocksDB.destroyDB(EnvUtil.getNacosHome() + BASE_DIR, new Options());
             }
             deleteDirIfExist(BASE_DIR);
@@ -338,8 +487,9 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void clearAllGray() {
         
         try {
+            closeBatchWriter(GRAY_DIR);
             if (rocksDbMap.containsKey(GRAY_DIR)) {
-                rocksDbMap.get(GRAY_DIR).close();
+                rocksDbMap.remove(GRAY_DIR).close();
                 RocksDB.destroyDB(EnvUtil.getNacosHome() + GRAY_DIR, new Options());
             }
             deleteDirIfExist(GRAY_DIR);
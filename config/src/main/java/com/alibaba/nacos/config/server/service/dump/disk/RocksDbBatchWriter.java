@@ -0,0 +1,242 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Group commit writer of one rocksdb instance.
+ *
+ * <p>Puts and deletes submitted concurrently are accumulated by a single flusher thread into one {@link WriteBatch}
+ * within a small flush window, and the caller waits until the batch containing its write has been written, so the
+ * write is still visible to readers when the call returns. Writes are applied in submit order.
+ *
+ * @author nacos
+ */
+class RocksDbBatchWriter {
+    
+    private static final long CLOSE_CHECK_INTERVAL_MS = 100L;
+    
+    private final RocksDB rocksDb;
+    
+    private final WriteOptions writeOptions;
+    
+    private final long flushWindowNanos;
+    
+    private final int maxBatchSize;
+    
+    private final BlockingQueue<WriteRequest> queue = new LinkedBlockingQueue<>();
+    
+    private final Thread flusher;
+    
+    private final LongAdder batchCount = new LongAdder();
+    
+    private final LongAdder writeCount = new LongAdder();
+    
+    private volatile boolean closed;
+    
+    RocksDbBatchWriter(String name, RocksDB rocksDb, WriteOptions writeOptions, long flushWindowMs,
+            int maxBatchSize) {
+        this.rocksDb = rocksDb;
+        this.writeOptions = writeOptions;
+        this.flushWindowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, flushWindowMs));
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.flusher = new NameThreadFactory("com.alibaba.nacos.config.rocksdb.writer." + name).newThread(
+                this::runFlushLoop);
+        this.flusher.start();
+    }
+    
+    void put(byte[] key, byte[] value) throws IOException {
+        submitAndWait(new WriteRequest(key, value));
+    }
+    
+    void delete(byte[] key) throws IOException {
+        submitAndWait(new WriteRequest(key, null));
+    }
+    
+    /**
+     * Write all entries as one unit. The entries are always put into the same {@link WriteBatch}, so they are written
+     * atomically, and the batch may also contain the pending writes of other callers.
+     *
+     * @param keys   keys to put
+     * @param values values of keys
+     * @throws IOException if write failed
+     */
+    void putAll(List<byte[]> keys, List<byte[]> values) throws IOException {
+        submitAndWait(new WriteRequest(keys, values));
+    }
+    
+    private void submitAndWait(WriteRequest request) throws IOException {
+        offer(request);
+        await(request);
+    }
+    
+    private void offer(WriteRequest request) throws IOException {
+        if (closed) {
+            throw new IOException("rocksdb batch writer is closed");
+        }
+        queue.offer(request);
+        // closed concurrently, the flusher may have exited without seeing this request.
+        if (closed && queue.remove(request)) {
+            throw new IOException("rocksdb batch writer is closed");
+        }
+    }
+    
+    private void await(WriteRequest request) throws IOException {
+        try {
+            request.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+    }
+    
+    private void runFlushLoop() {
+        List<WriteRequest> batch = new ArrayList<>();
+        while (!closed || !queue.isEmpty()) {
+            try {
+                WriteRequest first = queue.poll(CLOSE_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+        failPending(new IOException("rocksdb batch writer is closed"));
+    }
+    
+    private void collect(List<WriteRequest> batch) throws InterruptedException {
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        long deadline = System.nanoTime() + flushWindowNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            WriteRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+    
+    private void flush(List<WriteRequest> batch) {
+        try (WriteBatch writeBatch = new WriteBatch()) {
+            int entryCount = 0;
+            for (WriteRequest each : batch) {
+                for (int i = 0; i < each.keys.size(); i++) {
+                    byte[] value = each.values.get(i);
+                    if (value == null) {
+                        writeBatch.delete(each.keys.get(i));
+                    } else {
+                        writeBatch.put(each.keys.get(i), value);
+                    }
+                }
+                entryCount += each.keys.size();
+            }
+            rocksDb.write(writeOptions, writeBatch);
+            batchCount.increment();
+            writeCount.add(entryCount);
+            for (WriteRequest each : batch) {
+                each.future.complete(null);
+            }
+        } catch (RocksDBException | RuntimeException e) {
+            LogUtil.DEFAULT_LOG.warn("Write batch of {} entries to rocksdb failed.", batch.size(), e);
+            for (WriteRequest each : batch) {
+                each.future.completeExceptionally(e);
+            }
+        }
+    }
+    
+    private void failPending(IOException cause) {
+        WriteRequest each;
+        while ((each = queue.poll()) != null) {
+            each.future.completeExceptionally(cause);
+        }
+    }
+    
+    /**
+     * Stop accepting writes, flush pending writes and wait for the flusher to exit.
+     */
+    void close() {
+        closed = true;
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    long getBatchCount() {
+        return batchCount.sum();
+    }
+    
+    long getWriteCount() {
+        return writeCount.sum();
+    }
+    
+    /**
+     * Entries written as one unit.
+     */
+    private static class WriteRequest {
+        
+        private final List<byte[]> keys;
+        
+        /**
+         * Values to put, null value means delete the key.
+         */
+        private final List<byte[]> values;
+        
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        
+        WriteRequest(byte[] key, byte[] value) {
+            this(Collections.singletonList(key), Collections.singletonList(value));
+        }
+        
+        WriteRequest(List<byte[]> keys, List<byte[]> values) {
+            this.keys = keys;
+            this.values = values;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.SwitchService;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.persistence.model.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Pipelined dump all of config info on startup.
+ *
+ * <p>The id range of config_info is partitioned to several readers which page through their own range concurrently,
+ * the pages are put into a bounded queue and consumed by writers, each page is dumped to disk by one batch. Readers
+ * are blocked when the queue is full, so the memory is bounded by queue capacity.
+ *
+ * @author nacos
+ */
+class DumpAllPipeline {
+    
+    private static final List<ConfigInfoWrapper> END_OF_PAGES = new ArrayList<>(0);
+    
+    private final ConfigInfoPersistService configInfoPersistService;
+    
+    private final int readerCount;
+    
+    private final int writerCount;
+    
+    private final int pageSize;
+    
+    private final BlockingQueue<List<ConfigInfoWrapper>> pageQueue;
+    
+    private final AtomicLong readCount = new AtomicLong();
+    
+    private final AtomicLong dumpedCount = new AtomicLong();
+    
+    private final AtomicLong failedCount = new AtomicLong();
+    
+    private final AtomicReference<Throwable> readFailure = new AtomicReference<>();
+    
+    DumpAllPipeline(ConfigInfoPersistService configInfoPersistService, int readerCount, int writerCount,
+            int pageSize) {
+        this.configInfoPersistService = configInfoPersistService;
+        this.readerCount = readerCount;
+        this.writerCount = writerCount;
+        this.pageSize = pageSize;
+        this.pageQueue = new ArrayBlockingQueue<>(Math.max(readerCount, writerCount) * 2);
+    }
+    
+    /**
+     * Dump all config info whose id is not larger than max id, and configs inserted during dumping might be dumped too.
+     *
+     * @param maxId max id of config info
+     */
+    void dump(long maxId) {
+        long start = System.currentTimeMillis();
+        DEFAULT_LOG.info("[all-dump] start pipelined dump all config-info, maxId={}, readers={}, writers={}", maxId,
+                readerCount, writerCount);
+        ExecutorService readers = new ThreadPoolExecutor(readerCount, readerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> new Thread(r, "dump all reader"));
+        ExecutorService writers = new ThreadPoolExecutor(writerCount, writerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> new Thread(r, "dump all writer"));
+        CountDownLatch readerLatch = new CountDownLatch(readerCount);
+        CountDownLatch writerLatch = new CountDownLatch(writerCount);
+        try {
+            long rangeSize = Math.max(1L, (maxId + readerCount - 1) / readerCount);
+            for (int i = 0; i < readerCount; i++) {
+                final long lowerId = i * rangeSize;
+                // the range of the last reader is open to cover the rounding of range size, it still stops at the
+                // max id queried before the dump, configs added later are dumped by the change events.
+                final long upperId = i == readerCount - 1 ? Long.MAX_VALUE : (i + 1) * rangeSize;
+                readers.execute(() -> {
+                    try {
+                        readRange(lowerId, upperId, maxId);
+                    } catch (Throwable e) {
+                        DEFAULT_LOG.error("[all-dump] read config-info in ({}, {}] failed", lowerId, upperId, e);
+                        readFailure.compareAndSet(null, e);
+                    } finally {
+                        readerLatch.countDown();
+                    }
+                });
+            }
+            for (int i = 0; i < writerCount; i++) {
+                writers.execute(() -> {
+                    try {
+                        writePages();
+                    } finally {
+                        writerLatch.countDown();
+                    }
+                });
+            }
+            readerLatch.await();
+            for (int i = 0; i < writerCount; i++) {
+                pageQueue.put(END_OF_PAGES);
+            }
+            writerLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, "dump all config-info interrupted", e);
+        } finally {
+            readers.shutdownNow();
+            writers.shutdownNow();
+        }
+        long costMillis = System.currentTimeMillis() - start;
+        MetricsMonitor.getDumpAllRtTimer().record(costMillis, TimeUnit.MILLISECONDS);
+        DEFAULT_LOG.info("[all-dump] finish pipelined dump all config-info, read={}, dumped={}, failed={}, cost={}ms,"
+                        + " throughput={}/s", readCount.get(), dumpedCount.get(), failedCount.get(), costMillis,
+                readCount.get() * 1000 / Math.max(1L, costMillis));
+        rethrowReadFailure();
+    }
+    
+    private void readRange(long lowerId, long upperId, long maxId) throws InterruptedException {
+        long lastId = lowerId;
+        long endId = Math.min(upperId, maxId);
+        while (lastId < endId) {
+            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastId, pageSize, true);
+            if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
+                return;
+            }
+            List<ConfigInfoWrapper> items = new ArrayList<>(page.getPageItems().size());
+            for (ConfigInfoWrapper each : page.getPageItems()) {
+                lastId = Math.max(lastId, each.getId());
+                if (each.getId() > upperId) {
+                    continue;
+                }
+                loadSpecialConfig(each);
+                items.add(each);
+            }
+            if (!items.isEmpty()) {
+                readCount.addAndGet(items.size());
+                pageQueue.put(items);
+            }
+        }
+    }
+    
+    private void loadSpecialConfig(ConfigInfoWrapper config) {
+        if (config.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(config.getContent());
+        }
+        if (config.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+            SwitchService.load(config.getContent());
+        }
+    }
+    
+    private void writePages() {
+        while (true) {
+            List<ConfigInfoWrapper> page;
+            try {
+                page = pageQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (END_OF_PAGES == page) {
+                return;
+            }
+            try {
+                for (ConfigInfoWrapper each : page) {
+                    each.setMd5(MD5Utils.md5Hex(each.getContent(), ENCODE_UTF8));
+                }
+                int dumped = ConfigCacheService.dumpBatchWithMd5(page);
+                dumpedCount.addAndGet(dumped);
+                failedCount.addAndGet(page.size() - dumped);
+            } catch (Throwable e) {
+                DEFAULT_LOG.error("[all-dump] dump page of config-info failed", e);
+                failedCount.addAndGet(page.size());
+            }
+            DEFAULT_LOG.info("[all-dump] progress read={}, dumped={}, failed={}, queued pages={}", readCount.get(),
+                    dumpedCount.get(), failedCount.get(), pageQueue.size());
+        }
+    }
+    
+    private void rethrowReadFailure() {
+        Throwable failure = readFailure.get();
+        if (null == failure) {
+            return;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        throw new NacosRuntimeException(NacosException.SERVER_ERROR, "dump all config-info failed", failure);
+    }
+    
+    long getReadCount() {
+        return readCount.get();
+    }
+    
+    long getDumpedCount() {
+        return dumpedCount.get();
+    }
+    
+    long getFailedCount() {
+        return failedCount.get();
+    }
+}
@@ -41,6 +41,8 @@ import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 /**
  * Dump all processor.
  *
+ * <p>On startup, if more than one reader is configured, config info is dumped by {@link DumpAllPipeline}.
+ *
  * @author Nacos
  * @date 2020/7/5 12:19 PM
  */
@@ -61,6 +63,12 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         DumpAllTask dumpAllTask = (DumpAllTask) task;
         
         long currentMaxId = configInfoPersistService.findConfigMaxId();
+        if (dumpAllTask.isStartUp() && PropertyUtil.getDumpAllReaderCount() > 1) {
+            new DumpAllPipeline(configInfoPersistService, PropertyUtil.getDumpAllReaderCount(),
+                    Runtime.getRuntime().availableProcessors(), PropertyUtil.getAllDumpPageSize()).dump(currentMaxId);
+            DEFAULT_LOG.info("success to  dump all config-info。");
+            return true;
+        }
         long lastMaxId = 0;
         ThreadPoolExecutor executorService = null;
         if (dumpAllTask.isStartUp()) {
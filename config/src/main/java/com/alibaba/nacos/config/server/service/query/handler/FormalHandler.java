@@ -18,11 +18,12 @@ package com.alibaba.nacos.config.server.service.query.handler;
 
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.CacheItem;
-import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Formal Handler. This class represents a formal handler in the configuration query processing chain. If the request
@@ -49,15 +50,15 @@ public class FormalHandler extends AbstractConfigQueryHandler {
         
         CacheItem cacheItem = ConfigChainEntryHandler.getThreadLocalCacheItem();
         String md5 = cacheItem.getConfigCache().getMd5();
-        String content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
-        if (StringUtils.isBlank(content)) {
+        byte[] content = ConfigContentCache.getInstance().getContentBytes(dataId, group, tenant, md5);
+        if (isBlank(content)) {
             response.setStatus(ConfigQueryChainResponse.ConfigQueryStatus.CONFIG_NOT_FOUND);
             return response;
         }
         long lastModified = cacheItem.getConfigCache().getLastModifiedTs();
         String encryptedDataKey = cacheItem.getConfigCache().getEncryptedDataKey();
         String configType = cacheItem.getType();
-        response.setContent(content);
+        response.setContentBytes(content);
         response.setMd5(md5);
         response.setLastModified(lastModified);
         response.setEncryptedDataKey(encryptedDataKey);
@@ -66,4 +67,23 @@ public class FormalHandler extends AbstractConfigQueryHandler {
         
         return response;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Same as {@link StringUtils#isBlank(CharSequence)} on the decoded content, but only decodes if the content has no
+     * visible ascii char, which avoids decoding large content.
+     */
+    private static boolean isBlank(byte[] content) {
+        if (null == content) {
+            return true;
+        }
+        boolean nonAscii = false;
+        for (byte each : content) {
+            if (each < 0) {
+                nonAscii = true;
+            } else if (!Character.isWhitespace(each)) {
+                return false;
+            }
+        }
+        return !nonAscii || StringUtils.isBlank(new String(content, StandardCharsets.UTF_8));
+    }
+}
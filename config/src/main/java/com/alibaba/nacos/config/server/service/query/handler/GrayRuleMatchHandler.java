@@ -18,7 +18,7 @@ package com.alibaba.nacos.config.server.service.query.handler;
 
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
-import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainRequest;
 import com.alibaba.nacos.config.server.service.query.model.ConfigQueryChainResponse;
 
@@ -59,11 +59,11 @@ public class GrayRuleMatchHandler extends AbstractConfigQueryHandler {
             long lastModified = matchedGray.getLastModifiedTs();
             String md5 = matchedGray.getMd5();
             String encryptedDataKey = matchedGray.getEncryptedDataKey();
-            String content = ConfigDiskServiceFactory.getInstance()
-                    .getGrayContent(request.getDataId(), request.getGroup(), request.getTenant(),
-                            matchedGray.getGrayName());
+            byte[] content = ConfigContentCache.getInstance()
+                    .getGrayContentBytes(request.getDataId(), request.getGroup(), request.getTenant(),
+                            matchedGray.getGrayName(), md5);
             
-            response.setContent(content);
+            response.setContentBytes(content);
             response.setMd5(md5);
             response.setLastModified(lastModified);
             response.setEncryptedDataKey(encryptedDataKey);
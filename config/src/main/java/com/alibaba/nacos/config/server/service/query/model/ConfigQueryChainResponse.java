@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service.query.model;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.service.query.enums.ResponseCode;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 /**
@@ -30,6 +31,11 @@ public class ConfigQueryChainResponse {
     
     private String content;
     
+    /**
+     * UTF-8 bytes of content, content is decoded from it only when required.
+     */
+    private byte[] contentBytes;
+    
     private String contentType;
     
     private String configType;
@@ -75,12 +81,42 @@ public class ConfigQueryChainResponse {
         CONFIG_QUERY_CONFLICT,
     }
     
+    /**
+     * Get content, decoded from the content bytes on first call if the response is built with bytes.
+     *
+     * @return content
+     */
     public String getContent() {
+        if (null == content && null != contentBytes) {
+            content = new String(contentBytes, StandardCharsets.UTF_8);
+        }
         return content;
     }
     
     public void setContent(String content) {
         this.content = content;
+        this.contentBytes = null;
+    }
+    
+    /**
+     * Get UTF-8 bytes of content, the array may be shared with the content cache and must not be modified.
+     *
+     * @return content bytes
+     */
+    public byte[] getContentBytes() {
+        if (null == contentBytes && null != content) {
+            contentBytes = content.getBytes(StandardCharsets.UTF_8);
+        }
+        return contentBytes;
+    }
+    
+    public void setContentBytes(byte[] contentBytes) {
+        this.contentBytes = contentBytes;
+        this.content = null;
+    }
+    
+    public boolean hasContent() {
+        return null != content || null != contentBytes;
     }
     
     public String getContentType() {
@@ -183,7 +219,7 @@ public class ConfigQueryChainResponse {
         }
         ConfigQueryChainResponse that = (ConfigQueryChainResponse) o;
         return lastModified == that.lastModified
-                && Objects.equals(content, that.content)
+                && Objects.equals(getContent(), that.getContent())
                 && Objects.equals(contentType, that.contentType)
                 && Objects.equals(encryptedDataKey, that.encryptedDataKey)
                 && Objects.equals(md5, that.md5)
@@ -195,6 +231,7 @@ public class ConfigQueryChainResponse {
     
     @Override
     public int hashCode() {
-        return Objects.hash(content, contentType, encryptedDataKey, md5, lastModified, matchedGray, resultCode, message, status);
+        return Objects.hash(getContent(), contentType, encryptedDataKey, md5, lastModified, matchedGray, resultCode,
+                message, status);
     }
 }
\ No newline at end of file
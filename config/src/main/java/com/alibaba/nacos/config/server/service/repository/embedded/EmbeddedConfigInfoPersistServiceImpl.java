@@ -736,7 +736,8 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
             sql = configInfoMapper.findConfigInfo4PageFetchRows(context);
         }
         PaginationHelper<ConfigInfo> helper = createPaginationHelper();
-        Page<ConfigInfo> page = helper.fetchPageLimit(sqlCount, sql, pageNo, pageSize, CONFIG_INFO_ROW_MAPPER);
+        Page<ConfigInfo> page = EmbeddedStorageContextUtils.staleRead(
+                () -> helper.fetchPageLimit(sqlCount, sql, pageNo, pageSize, CONFIG_INFO_ROW_MAPPER));
         
         for (ConfigInfo configInfo : page.getPageItems()) {
             Pair<String, String> pair = EncryptionHandler.decryptHandler(configInfo.getDataId(),
@@ -865,8 +866,8 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
             sqlFetchRows = configInfoMapper.findConfigInfoLike4PageFetchRows(context);
         }
         PaginationHelper<ConfigInfo> helper = createPaginationHelper();
-        Page<ConfigInfo> page = helper.fetchPageLimit(sqlCountRows, sqlFetchRows, pageNo, pageSize,
-                CONFIG_INFO_ROW_MAPPER);
+        Page<ConfigInfo> page = EmbeddedStorageContextUtils.staleRead(
+                () -> helper.fetchPageLimit(sqlCountRows, sqlFetchRows, pageNo, pageSize, CONFIG_INFO_ROW_MAPPER));
         for (ConfigInfo configInfo : page.getPageItems()) {
             Pair<String, String> pair = EncryptionHandler.decryptHandler(configInfo.getDataId(),
                     configInfo.getEncryptedDataKey(), configInfo.getContent());
@@ -22,6 +22,7 @@ import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.ConfigAllInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.event.ConfigDumpEvent;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.persistence.repository.embedded.EmbeddedStorageContextHolder;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
@@ -30,6 +31,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Temporarily saves all insert, update, and delete statements under a transaction in the order in which they occur.
@@ -235,4 +237,25 @@ public class EmbeddedStorageContextUtils {
             EmbeddedStorageContextHolder.putAllExtendInfo(extendInfo);
         }
     }
+    
+    /**
+     * Run the queries of console listing, which tolerate staleness, by reading local data of this node if it has caught
+     * up with leader within the configured max staleness, to save the raft read index round trip.
+     *
+     * @param query queries to run
+     * @param <T>   result type
+     * @return result of query
+     */
+    public static <T> T staleRead(Supplier<T> query) {
+        long maxStalenessMs = PropertyUtil.getEmbeddedStaleReadMaxStalenessMs();
+        if (maxStalenessMs <= 0) {
+            return query.get();
+        }
+        EmbeddedStorageContextHolder.putStaleRead(maxStalenessMs);
+        try {
+            return query.get();
+        } finally {
+            EmbeddedStorageContextHolder.removeReadConsistency();
+        }
+    }
 }
@@ -17,14 +17,17 @@
 package com.alibaba.nacos.config.server.utils;
 
 import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.HashedWheelTimer;
 import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.common.utils.ThreadUtils;
 import com.alibaba.nacos.config.server.Config;
 import com.alibaba.nacos.core.utils.ClassUtils;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -57,7 +60,7 @@ public final class ConfigExecutor {
     private static final ScheduledExecutorService LONG_POLLING_EXECUTOR = ExecutorFactory.Managed.newSingleScheduledExecutorService(
             ClassUtils.getCanonicalName(Config.class), new NameThreadFactory("com.alibaba.nacos.config.LongPolling"));
     
-    private static final ScheduledExecutorService ASYNC_CONFIG_CHANGE_NOTIFY_EXECUTOR = ExecutorFactory.Managed.newScheduledExecutorService(
+    private static final ExecutorService ASYNC_CONFIG_CHANGE_NOTIFY_EXECUTOR = ExecutorFactory.Managed.newFixedExecutorService(
             ClassUtils.getCanonicalName(Config.class), ThreadUtils.getSuitableThreadCount(),
             new NameThreadFactory("com.alibaba.nacos.config.server.remote.ConfigChangeNotifier"));
     
@@ -90,19 +93,29 @@ public final class ConfigExecutor {
     }
     
     public static int asyncConfigChangeClientNotifyQueueSize() {
-        return ((ScheduledThreadPoolExecutor) ASYNC_CONFIG_CHANGE_NOTIFY_EXECUTOR).getQueue().size();
+        return ((ThreadPoolExecutor) ASYNC_CONFIG_CHANGE_NOTIFY_EXECUTOR).getQueue().size();
     }
     
     public static ScheduledExecutorService getConfigSubServiceExecutor() {
         return CONFIG_SUB_SERVICE_EXECUTOR;
     }
     
-    public static ScheduledExecutorService getClientConfigNotifierServiceExecutor() {
+    public static ExecutorService getClientConfigNotifierServiceExecutor() {
         return ASYNC_CONFIG_CHANGE_NOTIFY_EXECUTOR;
     }
     
-    public static ScheduledFuture<?> scheduleClientConfigNotifier(Runnable runnable, long delay, TimeUnit unit) {
-        return ASYNC_CONFIG_CHANGE_NOTIFY_EXECUTOR.schedule(runnable, delay, unit);
+    /**
+     * Schedule the retry of a client config notify on the shared timing wheel, the retry runs on the notifier executor.
+     *
+     * @param runnable retry task
+     * @param delay    delay
+     * @param unit     unit of delay
+     * @return timeout handle
+     */
+    public static HashedWheelTimer.Timeout scheduleClientConfigNotifierRetry(Runnable runnable, long delay,
+            TimeUnit unit) {
+        return HashedWheelTimer.shared()
+                .newTimeout(() -> ASYNC_CONFIG_CHANGE_NOTIFY_EXECUTOR.execute(runnable), delay, unit);
     }
     
     public static void scheduleLongPolling(Runnable runnable, long initialDelay, long delay, TimeUnit unit) {
@@ -113,6 +126,19 @@ public final class ConfigExecutor {
         return LONG_POLLING_EXECUTOR.schedule(runnable, delay, unit);
     }
     
+    /**
+     * Schedule the timeout of a held long polling request on the shared timing wheel, the timeout task runs on the long
+     * polling executor.
+     *
+     * @param runnable timeout task
+     * @param delay    delay
+     * @param unit     unit of delay
+     * @return timeout handle
+     */
+    public static HashedWheelTimer.Timeout scheduleLongPollingTimeout(Runnable runnable, long delay, TimeUnit unit) {
+        return HashedWheelTimer.shared().newTimeout(() -> LONG_POLLING_EXECUTOR.execute(runnable), delay, unit);
+    }
+    
     public static void executeLongPolling(Runnable runnable) {
         LONG_POLLING_EXECUTOR.execute(runnable);
     }
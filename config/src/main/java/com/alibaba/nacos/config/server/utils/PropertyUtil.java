@@ -120,6 +120,178 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * The count of concurrent readers to dump all config info on startup, default 1 means reading page by page.
+     */
+    private static int dumpAllReaderCount = 1;
+    
+    /**
+     * Whether to cache config content in memory for queries, default false.
+     */
+    private static boolean contentCacheEnabled = false;
+    
+    /**
+     * The max estimated bytes of config content cached in memory, default 64MB.
+     */
+    private static long contentCacheMaxBytes = 64 * 1024 * 1024L;
+    
+    /**
+     * Content not smaller than this bytes is served gzipped from content cache to clients accepting gzip, disabled if
+     * not positive, default 0.
+     */
+    private static int contentGzipMinBytes = 0;
+    
+    /**
+     * Whether to group concurrent writes of rocksdb disk service into write batches, default false.
+     */
+    private static boolean rocksDbBatchWriteEnabled = false;
+    
+    /**
+     * How long the rocksdb batch writer waits for more writes before flushing a batch, default 0 means only the
+     * writes pending at flush time are grouped.
+     */
+    private static long rocksDbBatchWriteFlushWindowMs = 0L;
+    
+    /**
+     * The max count of writes in one rocksdb write batch, default 1024.
+     */
+    private static int rocksDbBatchWriteMaxSize = 1024;
+    
+    /**
+     * Whether to disable the rocksdb write ahead log, default false.
+     */
+    private static boolean rocksDbWalDisabled = false;
+    
+    /**
+     * Whether to fsync the rocksdb write ahead log for every write batch, default false.
+     */
+    private static boolean rocksDbWalSync = false;
+    
+    /**
+     * The size of block cache shared by rocksdb disk service, default 32MB.
+     */
+    private static long rocksDbBlockCacheMb = 32L;
+    
+    /**
+     * The bits per key of rocksdb bloom filter, default 10, non-positive means no bloom filter.
+     */
+    private static int rocksDbBloomFilterBitsPerKey = 10;
+    
+    /**
+     * Whether to collect rocksdb statistics and expose them as metrics, default false.
+     */
+    private static boolean rocksDbStatisticsEnabled = false;
+    
+    /**
+     * The max staleness of local data allowed by console listing queries in embedded cluster mode, default 3000ms,
+     * non-positive means always reading with the default raft read index.
+     */
+    private static long embeddedStaleReadMaxStalenessMs = 3000L;
+    
+    public static int getDumpAllReaderCount() {
+        return dumpAllReaderCount;
+    }
+    
+    public static void setDumpAllReaderCount(int dumpAllReaderCount) {
+        PropertyUtil.dumpAllReaderCount = dumpAllReaderCount;
+    }
+    
+    public static boolean isContentCacheEnabled() {
+        return contentCacheEnabled;
+    }
+    
+    public static void setContentCacheEnabled(boolean contentCacheEnabled) {
+        PropertyUtil.contentCacheEnabled = contentCacheEnabled;
+    }
+    
+    public static long getContentCacheMaxBytes() {
+        return contentCacheMaxBytes;
+    }
+    
+    public static void setContentCacheMaxBytes(long contentCacheMaxBytes) {
+        PropertyUtil.contentCacheMaxBytes = contentCacheMaxBytes;
+    }
+    
+    public static int getContentGzipMinBytes() {
+        return contentGzipMinBytes;
+    }
+    
+    public static void setContentGzipMinBytes(int contentGzipMinBytes) {
+        PropertyUtil.contentGzipMinBytes = contentGzipMinBytes;
+    }
+    
+    public static boolean isRocksDbBatchWriteEnabled() {
+        return rocksDbBatchWriteEnabled;
+    }
+    
+    public static void setRocksDbBatchWriteEnabled(boolean rocksDbBatchWriteEnabled) {
+        PropertyUtil.rocksDbBatchWriteEnabled = rocksDbBatchWriteEnabled;
+    }
+    
+    public static long getRocksDbBatchWriteFlushWindowMs() {
+        return rocksDbBatchWriteFlushWindowMs;
+    }
+    
+    public static void setRocksDbBatchWriteFlushWindowMs(long rocksDbBatchWriteFlushWindowMs) {
+        PropertyUtil.rocksDbBatchWriteFlushWindowMs = rocksDbBatchWriteFlushWindowMs;
+    }
+    
+    public static int getRocksDbBatchWriteMaxSize() {
+        return rocksDbBatchWriteMaxSize;
+    }
+    
+    public static void setRocksDbBatchWriteMaxSize(int rocksDbBatchWriteMaxSize) {
+        PropertyUtil.rocksDbBatchWriteMaxSize = rocksDbBatchWriteMaxSize;
+    }
+    
+    public static boolean isRocksDbWalDisabled() {
+        return rocksDbWalDisabled;
+    }
+    
+    public static void setRocksDbWalDisabled(boolean rocksDbWalDisabled) {
+        PropertyUtil.rocksDbWalDisabled = rocksDbWalDisabled;
+    }
+    
+    public static boolean isRocksDbWalSync() {
+        return rocksDbWalSync;
+    }
+    
+    public static void setRocksDbWalSync(boolean rocksDbWalSync) {
+        PropertyUtil.rocksDbWalSync = rocksDbWalSync;
+    }
+    
+    public static long getRocksDbBlockCacheMb() {
+        return rocksDbBlockCacheMb;
+    }
+    
+    public static void setRocksDbBlockCacheMb(long rocksDbBlockCacheMb) {
+        PropertyUtil.rocksDbBlockCacheMb = rocksDbBlockCacheMb;
+    }
+    
+    public static int getRocksDbBloomFilterBitsPerKey() {
+        return rocksDbBloomFilterBitsPerKey;
+    }
+    
+    public static void setRocksDbBloomFilterBitsPerKey(int rocksDbBloomFilterBitsPerKey) {
+        PropertyUtil.rocksDbBloomFilterBitsPerKey = rocksDbBloomFilterBitsPerKey;
+    }
+    
+    public static boolean isRocksDbStatisticsEnabled() {
+        return rocksDbStatisticsEnabled;
+    }
+    
+    public static void setRocksDbStatisticsEnabled(boolean rocksDbStatisticsEnabled) {
+        PropertyUtil.rocksDbStatisticsEnabled = rocksDbStatisticsEnabled;
+    }
+    
+    public static long getEmbeddedStaleReadMaxStalenessMs() {
+        return embeddedStaleReadMaxStalenessMs;
+    }
+    
+    public static void setEmbeddedStaleReadMaxStalenessMs(long embeddedStaleReadMaxStalenessMs) {
+        PropertyUtil.embeddedStaleReadMaxStalenessMs = embeddedStaleReadMaxStalenessMs;
+    }
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -326,6 +498,25 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
             setGrayCompatibleModel(getBoolean(PropertiesConstant.GRAY_CAPATIBEL_MODEL, grayCompatibleModel));
+            setDumpAllReaderCount(getInt(PropertiesConstant.DUMP_ALL_READER_COUNT, dumpAllReaderCount));
+            setContentCacheEnabled(getBoolean(PropertiesConstant.CONTENT_CACHE_ENABLED, contentCacheEnabled));
+            setContentCacheMaxBytes(getLong(PropertiesConstant.CONTENT_CACHE_MAX_BYTES, contentCacheMaxBytes));
+            setContentGzipMinBytes(getInt(PropertiesConstant.CONTENT_GZIP_MIN_BYTES, contentGzipMinBytes));
+            setRocksDbBatchWriteEnabled(
+                    getBoolean(PropertiesConstant.ROCKSDB_BATCH_WRITE_ENABLED, rocksDbBatchWriteEnabled));
+            setRocksDbBatchWriteFlushWindowMs(
+                    getLong(PropertiesConstant.ROCKSDB_BATCH_WRITE_FLUSH_WINDOW_MS, rocksDbBatchWriteFlushWindowMs));
+            setRocksDbBatchWriteMaxSize(
+                    getInt(PropertiesConstant.ROCKSDB_BATCH_WRITE_MAX_SIZE, rocksDbBatchWriteMaxSize));
+            setRocksDbWalDisabled(getBoolean(PropertiesConstant.ROCKSDB_WAL_DISABLED, rocksDbWalDisabled));
+            setRocksDbWalSync(getBoolean(PropertiesConstant.ROCKSDB_WAL_SYNC, rocksDbWalSync));
+            setRocksDbBlockCacheMb(getLong(PropertiesConstant.ROCKSDB_BLOCK_CACHE_MB, rocksDbBlockCacheMb));
+            setRocksDbBloomFilterBitsPerKey(
+                    getInt(PropertiesConstant.ROCKSDB_BLOOM_FILTER_BITS_PER_KEY, rocksDbBloomFilterBitsPerKey));
+            setRocksDbStatisticsEnabled(
+                    getBoolean(PropertiesConstant.ROCKSDB_STATISTICS_ENABLED, rocksDbStatisticsEnabled));
+            setEmbeddedStaleReadMaxStalenessMs(getLong(PropertiesConstant.EMBEDDED_STALE_READ_MAX_STALENESS_MS,
+                    embeddedStaleReadMaxStalenessMs));
             
         } catch (Exception e) {
             LOGGER.error("read application.properties failed", e);
@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.controller;
 import com.alibaba.nacos.api.model.v2.Result;
 import com.alibaba.nacos.common.constant.HttpHeaderConsts;
 import com.alibaba.nacos.common.http.param.MediaType;
+import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.constant.Constants;
@@ -31,6 +32,7 @@ import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.LongPollingService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigRocksDbDiskService;
 import com.alibaba.nacos.config.server.service.query.ConfigQueryChainService;
@@ -55,16 +57,20 @@ import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG;
 import static com.alibaba.nacos.config.server.constant.Constants.CONTENT_MD5;
 import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.RequestUtil.CLIENT_APPNAME_HEADER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -169,8 +175,8 @@ class ConfigServletInnerTest {
         request.addHeader(CLIENT_APPNAME_HEADER, "test");
         MockHttpServletResponse response = new MockHttpServletResponse();
         
-        when(configRocksDbDiskService.getGrayContent(dataId, group, tenant, BetaGrayRule.TYPE_BETA)).thenReturn(
-                mockBetaContent);
+        when(configRocksDbDiskService.getGrayContentBytes(dataId, group, tenant, BetaGrayRule.TYPE_BETA)).thenReturn(
+                mockBetaContent.getBytes(StandardCharsets.UTF_8));
         String actualValue = configServletInner.doGetConfig(request, response, dataId, group, tenant, "", "true",
                 "localhost", ApiVersionEnum.V1);
         assertEquals(HttpServletResponse.SC_OK + "", actualValue);
@@ -243,9 +249,8 @@ class ConfigServletInnerTest {
         request.addHeader(VIPSERVER_TAG, autoTag);
         MockHttpServletResponse response = new MockHttpServletResponse();
         
-        Mockito.when(
-                        configRocksDbDiskService.getGrayContent(dataId, group, tenant, TagGrayRule.TYPE_TAG + "_" + autoTag))
-                .thenReturn(autoTagContent);
+        Mockito.when(configRocksDbDiskService.getGrayContentBytes(dataId, group, tenant,
+                TagGrayRule.TYPE_TAG + "_" + autoTag)).thenReturn(autoTagContent.getBytes(StandardCharsets.UTF_8));
         String actualValue = configServletInner.doGetConfig(request, response, dataId, group, tenant, null, "true",
                 "localhost", ApiVersionEnum.V1);
         assertEquals(HttpServletResponse.SC_OK + "", actualValue);
@@ -256,8 +261,9 @@ class ConfigServletInnerTest {
         //test for specific tag. has higher propority than auto tag.
         response = new MockHttpServletResponse();
         request.setParameter("tag", specificTag);
-        when(configRocksDbDiskService.getGrayContent(dataId, group, tenant,
-                TagGrayRule.TYPE_TAG + "_" + specificTag)).thenReturn(specificTagContent);
+        when(configRocksDbDiskService.getGrayContentBytes(dataId, group, tenant,
+                TagGrayRule.TYPE_TAG + "_" + specificTag)).thenReturn(
+                specificTagContent.getBytes(StandardCharsets.UTF_8));
         actualValue = configServletInner.doGetConfig(request, response, dataId, group, tenant, specificTag, "true",
                 "localhost", ApiVersionEnum.V1);
         assertEquals(HttpServletResponse.SC_OK + "", actualValue);
@@ -267,7 +273,7 @@ class ConfigServletInnerTest {
         
         // test for specific tag ,not exist
         request.setParameter("tag", "auto-tag-test-not-exist");
-        when(configRocksDbDiskService.getGrayContent(dataId, group, tenant,
+        when(configRocksDbDiskService.getGrayContentBytes(dataId, group, tenant,
                 TagGrayRule.TYPE_TAG + "_" + "auto-tag-test-not-exist")).thenReturn(null);
         response = new MockHttpServletResponse();
         actualValue = configServletInner.doGetConfig(request, response, dataId, group, tenant,
@@ -305,7 +311,8 @@ class ConfigServletInnerTest {
         request.setParameter("tenant", tenant);
         MockHttpServletResponse response = new MockHttpServletResponse();
         
-        when(configRocksDbDiskService.getContent(dataId, group, tenant)).thenReturn(content);
+        when(configRocksDbDiskService.getContentBytes(dataId, group, tenant)).thenReturn(
+                content.getBytes(StandardCharsets.UTF_8));
         String actualValue = configServletInner.doGetConfig(request, response, dataId, group, tenant, null, "true",
                 "localhost", ApiVersionEnum.V1);
         assertEquals(content, response.getContentAsString());
@@ -315,6 +322,58 @@ class ConfigServletInnerTest {
         
     }
     
+    @Test
+    void testDoGetConfigFormalGzip() throws Exception {
+        String dataId = "dataId1234552333Gzip";
+        String group = "group";
+        String tenant = "tenant";
+        configCacheServiceMockedStatic.when(
+                () -> ConfigCacheService.tryConfigReadLock(GroupKey2.getKey(dataId, group, tenant))).thenReturn(1);
+        CacheItem cacheItem = new CacheItem("test");
+        cacheItem.getConfigCache().setMd5("md5gzip");
+        configCacheServiceMockedStatic.when(
+                () -> ConfigCacheService.getContentCache(GroupKey.getKeyTenant(dataId, group, tenant)))
+                .thenReturn(cacheItem);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("dataId", dataId);
+        request.setParameter("group", group);
+        request.setParameter("tenant", tenant);
+        request.addHeader(HttpHeaderConsts.ACCEPT_ENCODING, "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        final String content = "content345678";
+        when(configRocksDbDiskService.getContentBytes(dataId, group, tenant)).thenReturn(
+                content.getBytes(StandardCharsets.UTF_8));
+        
+        propertyUtilMockedStatic.when(PropertyUtil::isContentCacheEnabled).thenReturn(true);
+        ReflectionTestUtils.setField(ConfigContentCache.class, "instance", new ConfigContentCache(64 * 1024L));
+        propertyUtilMockedStatic.when(PropertyUtil::getContentGzipMinBytes).thenReturn(1);
+        try {
+            String actualValue = configServletInner.doGetConfig(request, response, dataId, group, tenant, null,
+                    "true", "localhost", ApiVersionEnum.V1);
+            assertEquals(HttpServletResponse.SC_OK + "", actualValue);
+            assertEquals("gzip", response.getHeader(HttpHeaderConsts.CONTENT_ENCODING));
+            assertEquals(HttpHeaderConsts.ACCEPT_ENCODING, response.getHeader(HttpHeaderConsts.VARY));
+            assertEquals(content, IoUtils.toString(
+                    new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray())),
+                    StandardCharsets.UTF_8.name()));
+        } finally {
+            ReflectionTestUtils.setField(ConfigContentCache.class, "instance", null);
+        }
+    }
+    
+    @Test
+    void testIsGzipAccepted() {
+        assertTrue(ConfigServletInner.isGzipAccepted("gzip, deflate"));
+        assertTrue(ConfigServletInner.isGzipAccepted("deflate;q=1.0, GZIP;q=0.5"));
+        assertTrue(ConfigServletInner.isGzipAccepted("*"));
+        assertFalse(ConfigServletInner.isGzipAccepted(null));
+        assertFalse(ConfigServletInner.isGzipAccepted("deflate, br"));
+        assertFalse(ConfigServletInner.isGzipAccepted("gzip;q=0"));
+        assertFalse(ConfigServletInner.isGzipAccepted("gzip; q=0.0, deflate"));
+        assertFalse(ConfigServletInner.isGzipAccepted("*;q=1, gzip;q=0"));
+        assertFalse(ConfigServletInner.isGzipAccepted("identity, *;q=0"));
+    }
+    
     @Test
     void testDoGetConfigFormalV2() throws Exception {
         String dataId = "dataId1234552333V2";
@@ -340,7 +399,8 @@ class ConfigServletInnerTest {
         request.setParameter("tenant", tenant);
         MockHttpServletResponse response = new MockHttpServletResponse();
         
-        when(configRocksDbDiskService.getContent(dataId, group, tenant)).thenReturn(content);
+        when(configRocksDbDiskService.getContentBytes(dataId, group, tenant)).thenReturn(
+                content.getBytes(StandardCharsets.UTF_8));
         String actualValue = configServletInner.doGetConfig(request, response, dataId, group, tenant, null, "true",
                 "localhost", ApiVersionEnum.V2);
         assertEquals(JacksonUtils.toJson(Result.success(content)), response.getContentAsString());
@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ErrorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigBatchQueryRequestHandlerTest {
+    
+    @Mock
+    private ConfigQueryRequestHandler configQueryRequestHandler;
+    
+    private ConfigBatchQueryRequestHandler configBatchQueryRequestHandler;
+    
+    private RequestMeta requestMeta;
+    
+    @BeforeEach
+    void setUp() {
+        configBatchQueryRequestHandler = new ConfigBatchQueryRequestHandler(configQueryRequestHandler);
+        requestMeta = new RequestMeta();
+        requestMeta.setClientIp("1.1.1.1");
+    }
+    
+    @Test
+    void testHandle() throws NacosException {
+        ConfigQueryResponse found = ConfigQueryResponse.buildSuccessResponse("content");
+        when(configQueryRequestHandler.handleRequest(any(ConfigQueryRequest.class), any(RequestMeta.class)))
+                .thenReturn(found, ErrorResponse.build(ConfigQueryResponse.NO_RIGHT, "no right"));
+        ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+        request.putHeader(Constants.Config.NOTIFY_HEADER, "true");
+        request.addQueryRequest("dataId1", "group", "tenant");
+        request.addQueryRequest("dataId2", "group", "tenant");
+        
+        ConfigBatchQueryResponse response = configBatchQueryRequestHandler.handle(request, requestMeta);
+        
+        assertTrue(response.isSuccess());
+        List<ConfigQueryResponse> queryResponses = response.getQueryResponses();
+        assertEquals(2, queryResponses.size());
+        assertEquals(found, queryResponses.get(0));
+        assertFalse(queryResponses.get(1).isSuccess());
+        assertEquals(ConfigQueryResponse.NO_RIGHT, queryResponses.get(1).getErrorCode());
+        ArgumentCaptor<ConfigQueryRequest> captor = ArgumentCaptor.forClass(ConfigQueryRequest.class);
+        verify(configQueryRequestHandler, times(2)).handleRequest(captor.capture(), any(RequestMeta.class));
+        assertEquals("dataId1", captor.getAllValues().get(0).getDataId());
+        assertEquals("dataId2", captor.getAllValues().get(1).getDataId());
+        assertTrue(captor.getAllValues().get(1).isNotify());
+    }
+    
+    @Test
+    void testHandleEmpty() throws NacosException {
+        ConfigBatchQueryResponse response = configBatchQueryRequestHandler.handle(new ConfigBatchQueryRequest(),
+                requestMeta);
+        assertTrue(response.isSuccess());
+        assertTrue(response.getQueryResponses().isEmpty());
+    }
+}
@@ -23,6 +23,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -68,6 +72,33 @@ class ConfigChangeListenContextTest {
         configChangeListenContext.clearContextForConnectionId("connectionId");
         Map<String, String> connectionIdAfter = configChangeListenContext.getListenKeys("connectionId");
         assertNull(connectionIdAfter);
+        assertNull(configChangeListenContext.getListeners("groupKey"));
+    }
+    
+    @Test
+    void testConcurrentAddAndRemoveListen() throws InterruptedException {
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            String connectionId = "connectionId" + i;
+            executorService.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    configChangeListenContext.addListen("groupKey", "md5", connectionId);
+                    configChangeListenContext.removeListen("groupKey", connectionId);
+                }
+                configChangeListenContext.addListen("groupKey", "md5", connectionId);
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdownNow();
+        assertEquals(threadCount, configChangeListenContext.getListeners("groupKey").size());
+        for (int i = 0; i < threadCount; i++) {
+            configChangeListenContext.clearContextForConnectionId("connectionId" + i);
+        }
+        assertNull(configChangeListenContext.getListeners("groupKey"));
+        assertEquals(0, configChangeListenContext.getConnectionCount());
     }
     
     @Test
@@ -43,6 +43,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.StandardEnvironment;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import static com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG;
 import static com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse.CONFIG_NOT_FOUND;
@@ -117,7 +118,8 @@ class ConfigQueryRequestHandlerTest {
         RequestMeta requestMeta = new RequestMeta();
         requestMeta.setClientIp("127.0.0.1");
         
-        when(configRocksDbDiskService.getContent(eq(dataId), eq(group), eq(null))).thenReturn(content);
+        when(configRocksDbDiskService.getContentBytes(eq(dataId), eq(group), eq(null))).thenReturn(
+                content.getBytes(StandardCharsets.UTF_8));
         ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
         assertEquals(content, response.getContent());
         assertEquals(MD5Utils.md5Hex(content, "UTF-8"), response.getMd5());
@@ -160,8 +162,8 @@ class ConfigQueryRequestHandlerTest {
         RequestMeta requestMeta = new RequestMeta();
         requestMeta.setClientIp("127.0.0.1");
         
-        when(configRocksDbDiskService.getGrayContent(eq(dataId), eq(group), eq(null),
-                eq(BetaGrayRule.TYPE_BETA))).thenReturn(content);
+        when(configRocksDbDiskService.getGrayContentBytes(eq(dataId), eq(group), eq(null),
+                eq(BetaGrayRule.TYPE_BETA))).thenReturn(content.getBytes(StandardCharsets.UTF_8));
         ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
         //check content&md5
         assertEquals(content, response.getContent());
@@ -256,8 +258,8 @@ class ConfigQueryRequestHandlerTest {
         requestMeta.setClientIp("127.0.0.1");
         
         //mock disk read.
-        when(configRocksDbDiskService.getGrayContent(eq(dataId), eq(group), eq(null),
-                eq(TagGrayRule.TYPE_TAG + "_" + specificTag))).thenReturn(tagContent);
+        when(configRocksDbDiskService.getGrayContentBytes(eq(dataId), eq(group), eq(null),
+                eq(TagGrayRule.TYPE_TAG + "_" + specificTag))).thenReturn(tagContent.getBytes(StandardCharsets.UTF_8));
         ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
         
         //check content&md5
@@ -304,8 +306,8 @@ class ConfigQueryRequestHandlerTest {
         requestMeta.setClientIp("127.0.0.1");
         requestMeta.getAppLabels().put(VIPSERVER_TAG, autoTag);
         //mock disk read.
-        when(configRocksDbDiskService.getGrayContent(eq(dataId), eq(group), eq(null),
-                eq(TagGrayRule.TYPE_TAG + "_" + autoTag))).thenReturn(tagContent);
+        when(configRocksDbDiskService.getGrayContentBytes(eq(dataId), eq(group), eq(null),
+                eq(TagGrayRule.TYPE_TAG + "_" + autoTag))).thenReturn(tagContent.getBytes(StandardCharsets.UTF_8));
         ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
         
         //check content&md5
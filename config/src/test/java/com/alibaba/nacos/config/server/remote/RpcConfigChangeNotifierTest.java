@@ -167,8 +167,8 @@ class RpcConfigChangeNotifierTest {
             Mockito.verify(tpsControlManager, times(1)).check(any(TpsCheckRequest.class));
             //expect schedule this task next retry times
             configExecutorMockedStatic.verify(
-                    () -> ConfigExecutor.scheduleClientConfigNotifier(any(RpcConfigChangeNotifier.RpcPushTask.class), eq(2 * 2L),
-                            eq(TimeUnit.SECONDS)));
+                    () -> ConfigExecutor.scheduleClientConfigNotifierRetry(
+                            any(RpcConfigChangeNotifier.RpcPushTask.class), eq(2 * 2L), eq(TimeUnit.SECONDS)));
             //mock
             rpcPushCallback.onSuccess();
             //expect config push success be recorded.
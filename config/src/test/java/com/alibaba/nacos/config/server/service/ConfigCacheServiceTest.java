@@ -19,6 +19,7 @@ package com.alibaba.nacos.config.server.service;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
@@ -38,6 +39,8 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -287,4 +290,44 @@ class ConfigCacheServiceTest {
         int readLockSuccessAfterRetry = ConfigCacheService.tryConfigReadLock(groupKey);
         assertEquals(1, readLockSuccessAfterRetry);
     }
+    
+    @Test
+    void testDumpBatchWithMd5() throws Exception {
+        long ts = System.currentTimeMillis();
+        ConfigInfoWrapper config1 = newConfig("dataIdBatch1", "content1", ts);
+        ConfigInfoWrapper config2 = newConfig("dataIdBatch2", "content2", ts);
+        assertEquals(2, ConfigCacheService.dumpBatchWithMd5(Arrays.asList(config1, config2)));
+        Mockito.verify(configDiskService, times(1)).saveBatchToDisk(eq(Arrays.asList(config1, config2)));
+        CacheItem cacheItem = ConfigCacheService.getContentCache(GroupKey2.getKey("dataIdBatch1", "group", "tenant"));
+        assertEquals(config1.getMd5(), cacheItem.getConfigCache().getMd5());
+        assertEquals(ts, cacheItem.getConfigCache().getLastModifiedTs());
+        assertEquals("json", cacheItem.getType());
+        
+        // config1 is outdated, config2 has same md5 and newer timestamp, nothing saved to disk.
+        ConfigInfoWrapper outdated = newConfig("dataIdBatch1", "contentOld", ts - 1);
+        ConfigInfoWrapper newerTs = newConfig("dataIdBatch2", "content2", ts + 1);
+        assertEquals(2, ConfigCacheService.dumpBatchWithMd5(Arrays.asList(outdated, newerTs)));
+        Mockito.verify(configDiskService, times(1)).saveBatchToDisk(Mockito.anyList());
+        assertEquals(config1.getMd5(), cacheItem.getConfigCache().getMd5());
+        assertEquals(ts + 1, ConfigCacheService.getContentCache(GroupKey2.getKey("dataIdBatch2", "group", "tenant"))
+                .getConfigCache().getLastModifiedTs());
+        
+        // save batch failed.
+        ConfigInfoWrapper changed = newConfig("dataIdBatch1", "contentNew", ts + 1);
+        doThrow(new IOException("mock io exception")).when(configDiskService).saveBatchToDisk(Mockito.anyList());
+        assertEquals(0, ConfigCacheService.dumpBatchWithMd5(Collections.singletonList(changed)));
+        assertEquals(config1.getMd5(), cacheItem.getConfigCache().getMd5());
+    }
+    
+    private ConfigInfoWrapper newConfig(String dataId, String content, long lastModified) {
+        ConfigInfoWrapper result = new ConfigInfoWrapper();
+        result.setDataId(dataId);
+        result.setGroup("group");
+        result.setTenant("tenant");
+        result.setContent(content);
+        result.setMd5(MD5Utils.md5Hex(content, "UTF-8"));
+        result.setLastModified(lastModified);
+        result.setType("json");
+        return result;
+    }
 }
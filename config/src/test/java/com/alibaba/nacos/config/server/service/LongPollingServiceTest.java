@@ -26,6 +26,7 @@ import com.alibaba.nacos.config.server.utils.MD5Util;
 import com.alibaba.nacos.plugin.control.ControlManagerCenter;
 import com.alibaba.nacos.plugin.control.connection.ConnectionControlManager;
 import com.alibaba.nacos.plugin.control.connection.response.ConnectionCheckResponse;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +37,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.core.env.StandardEnvironment;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.http.HttpServletRequest;
@@ -48,10 +50,12 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -77,6 +81,7 @@ class LongPollingServiceTest {
     
     @BeforeEach
     void before() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
         longPollingService = new LongPollingService();
         switchServiceMockedStatic = Mockito.mockStatic(SwitchService.class);
         configCacheServiceMockedStatic = Mockito.mockStatic(ConfigCacheService.class);
@@ -253,9 +258,66 @@ class LongPollingServiceTest {
         //expect print not equals group
         Mockito.verify(printWriter, times(1)).println(eq(responseString));
         Mockito.verify(asyncContext, times(1)).complete();
+        //expect subscriber and its index removed
+        assertEquals(0, longPollingService.getSubscriberCount());
+        assertTrue(longPollingService.subsByGroupKey.isEmpty());
         
     }
     
+    @Test
+    void testReceiveDataChangeEventOfOtherGroupKey() throws Exception {
+        configExecutorMocked.close();
+        
+        //mock connection no limit
+        ConnectionCheckResponse connectionCheckResponse = new ConnectionCheckResponse();
+        connectionCheckResponse.setSuccess(true);
+        Mockito.when(connectionControlManager.check(any())).thenReturn(connectionCheckResponse);
+        
+        String group = "group";
+        String tenant = "tenant";
+        final String groupKeyChanged = GroupKey.getKeyTenant("dataIdChanged", group, tenant);
+        String groupKeyListened = GroupKey.getKeyTenant("dataIdListened", group, tenant);
+        Map<String, String> clientMd5Map = new HashMap<>();
+        clientMd5Map.put(groupKeyListened, "mockMd5");
+        HttpServletRequest httpServletRequest = Mockito.mock(HttpServletRequest.class);
+        HttpServletResponse httpServletResponse = Mockito.mock(HttpServletResponse.class);
+        PrintWriter printWriter = Mockito.mock(PrintWriter.class);
+        Mockito.when(httpServletResponse.getWriter()).thenReturn(printWriter);
+        
+        Mockito.when(httpServletRequest.getHeader(eq(LongPollingService.LONG_POLLING_HEADER))).thenReturn("5000");
+        Mockito.when(httpServletRequest.getHeader(eq(LongPollingService.LONG_POLLING_NO_HANG_UP_HEADER)))
+                .thenReturn(null);
+        String clientIp = "192.168.0.2";
+        Mockito.when(httpServletRequest.getHeader(eq("X-Forwarded-For"))).thenReturn(clientIp);
+        AsyncContext asyncContext = Mockito.mock(AsyncContext.class);
+        Mockito.when(httpServletRequest.startAsync()).thenReturn(asyncContext);
+        Mockito.when(asyncContext.getRequest()).thenReturn(httpServletRequest);
+        Mockito.when(asyncContext.getResponse()).thenReturn(httpServletResponse);
+        
+        configCacheServiceMockedStatic.when(
+                () -> ConfigCacheService.isUptodate(anyString(), anyString(), anyString(), eq(null))).thenReturn(true);
+        
+        longPollingService.addLongPollingClient(httpServletRequest, httpServletResponse, clientMd5Map, 3);
+        
+        //change of the key not listened doesn't notify the subscriber
+        NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKeyChanged));
+        Thread.sleep(1100L);
+        Mockito.verify(printWriter, never()).println(anyString());
+        Mockito.verify(asyncContext, never()).complete();
+        assertEquals(1, longPollingService.getSubscriberCount());
+        assertFalse(longPollingService.subsByGroupKey.containsKey(groupKeyChanged));
+        assertTrue(longPollingService.subsByGroupKey.containsKey(groupKeyListened));
+        
+        //change of the listened key notifies the subscriber
+        NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKeyListened));
+        Thread.sleep(1100L);
+        String responseString = MD5Util.compareMd5ResultString(Arrays.asList(groupKeyListened));
+        Mockito.verify(printWriter, times(1)).println(eq(responseString));
+        Mockito.verify(asyncContext, times(1)).complete();
+        assertEquals(0, longPollingService.getSubscriberCount());
+        assertTrue(longPollingService.subsByGroupKey.isEmpty());
+    }
+    
     @Test
     void testLongPollingTimeout() throws Exception {
         configExecutorMocked.close();
@@ -291,6 +353,7 @@ class LongPollingServiceTest {
         Thread.sleep(1200L);
         //expect print not equals group
         Mockito.verify(asyncContext, times(1)).complete();
+        assertTrue(longPollingService.subsByGroupKey.isEmpty());
         
     }
 }
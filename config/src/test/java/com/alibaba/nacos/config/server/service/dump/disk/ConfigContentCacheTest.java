@@ -0,0 +1,200 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigContentCacheTest {
+    
+    private MockedStatic<ConfigDiskServiceFactory> configDiskServiceFactoryMockedStatic;
+    
+    @Mock
+    private ConfigDiskService configDiskService;
+    
+    private ConfigContentCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        configDiskServiceFactoryMockedStatic = Mockito.mockStatic(ConfigDiskServiceFactory.class);
+        configDiskServiceFactoryMockedStatic.when(ConfigDiskServiceFactory::getInstance).thenReturn(configDiskService);
+        PropertyUtil.setContentCacheEnabled(true);
+        cache = new ConfigContentCache(64 * 1024L);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        configDiskServiceFactoryMockedStatic.close();
+        PropertyUtil.setContentCacheEnabled(false);
+    }
+    
+    @Test
+    void testNonPositiveMaxWeight() throws IOException {
+        cache = new ConfigContentCache(0L);
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "md5"));
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void testGetContentHitAndMiss() throws IOException {
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "md5"));
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "md5"));
+        verify(configDiskService, times(1)).getContent("dataId", "group", "tenant");
+        assertEquals(1, cache.getHitCount().sum());
+        assertEquals(1, cache.getMissCount().sum());
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    void testGetContentMd5Changed() throws IOException {
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content", "newContent");
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "md5"));
+        assertEquals("newContent", cache.getContent("dataId", "group", "tenant", "newMd5"));
+        assertEquals("newContent", cache.getContent("dataId", "group", "tenant", "newMd5"));
+        verify(configDiskService, times(2)).getContent("dataId", "group", "tenant");
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    void testGetContentDisabled() throws IOException {
+        PropertyUtil.setContentCacheEnabled(false);
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "md5"));
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "md5"));
+        verify(configDiskService, times(2)).getContent("dataId", "group", "tenant");
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void testGetContentBytesSharedWithStringPath() throws IOException {
+        byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+        when(configDiskService.getContentBytes("dataId", "group", "tenant")).thenReturn(content);
+        assertSame(content, cache.getContentBytes("dataId", "group", "tenant", "md5"));
+        assertSame(content, cache.getContentBytes("dataId", "group", "tenant", "md5"));
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "md5"));
+        verify(configDiskService, times(1)).getContentBytes("dataId", "group", "tenant");
+        verify(configDiskService, times(0)).getContent("dataId", "group", "tenant");
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    void testGetGrayContentBytes() throws IOException {
+        byte[] content = "grayContent".getBytes(StandardCharsets.UTF_8);
+        when(configDiskService.getGrayContentBytes("dataId", "group", "tenant", "gray")).thenReturn(content);
+        assertSame(content, cache.getGrayContentBytes("dataId", "group", "tenant", "gray", "md5"));
+        assertEquals("grayContent", cache.getGrayContent("dataId", "group", "tenant", "gray", "md5"));
+        verify(configDiskService, times(1)).getGrayContentBytes("dataId", "group", "tenant", "gray");
+    }
+    
+    @Test
+    void testGetGzipContent() throws IOException {
+        assertNull(cache.getGzipContent("dataId", "group", "tenant", "md5"));
+        when(configDiskService.getContentBytes("dataId", "group", "tenant")).thenReturn(
+                "content".getBytes(StandardCharsets.UTF_8));
+        cache.getContentBytes("dataId", "group", "tenant", "md5");
+        assertNull(cache.getGzipContent("dataId", "group", "tenant", "otherMd5"));
+        long weight = cache.getWeightedSize();
+        byte[] gzipContent = cache.getGzipContent("dataId", "group", "tenant", "md5");
+        assertEquals("content", IoUtils.toString(new GZIPInputStream(new ByteArrayInputStream(gzipContent)),
+                StandardCharsets.UTF_8.name()));
+        assertSame(gzipContent, cache.getGzipContent("dataId", "group", "tenant", "md5"));
+        assertEquals(weight + gzipContent.length, cache.getWeightedSize());
+        cache.invalidate(GroupKey2.getKey("dataId", "group", "tenant"));
+        assertEquals(0, cache.getWeightedSize());
+    }
+    
+    @Test
+    void testGetContentNotExist() throws IOException {
+        assertNull(cache.getContent("dataId", "group", "tenant", "md5"));
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void testGetGrayContentAndInvalidate() throws IOException {
+        when(configDiskService.getGrayContent("dataId", "group", "tenant", "gray")).thenReturn("grayContent");
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        assertEquals("grayContent", cache.getGrayContent("dataId", "group", "tenant", "gray", "md5"));
+        assertEquals("content", cache.getContent("dataId", "group", "tenant", "md5"));
+        assertEquals(2, cache.size());
+        String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        cache.invalidateGray(groupKey, "gray");
+        assertEquals(1, cache.size());
+        cache.invalidate(groupKey);
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeightedSize());
+    }
+    
+    @Test
+    void testEvictionBoundsWeight() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1024; i++) {
+            content.append('a');
+        }
+        for (int i = 0; i < 100; i++) {
+            when(configDiskService.getContent("dataId" + i, "group", "tenant")).thenReturn(content.toString());
+            cache.getContent("dataId" + i, "group", "tenant", "md5");
+        }
+        assertTrue(cache.getWeightedSize() <= cache.getMaxWeight());
+        assertTrue(cache.getEvictionCount().sum() > 0);
+        assertEquals(100 - cache.getEvictionCount().sum(), cache.size());
+    }
+    
+    @Test
+    void testTooLargeContentNotCached() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 8 * 1024; i++) {
+            content.append('a');
+        }
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn(content.toString());
+        cache.getContent("dataId", "group", "tenant", "md5");
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void testInvalidateAll() throws IOException {
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        cache.getContent("dataId", "group", "tenant", "md5");
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeightedSize());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.WriteOptions;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RocksDbBatchWriterTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private Options options;
+    
+    private WriteOptions writeOptions;
+    
+    private RocksDB rocksDb;
+    
+    private RocksDbBatchWriter batchWriter;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        options = new Options().setCreateIfMissing(true);
+        writeOptions = new WriteOptions();
+        rocksDb = RocksDB.open(options, tempDir.toString());
+        batchWriter = new RocksDbBatchWriter("test", rocksDb, writeOptions, 5L, 64);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        batchWriter.close();
+        rocksDb.close();
+        writeOptions.close();
+        options.close();
+    }
+    
+    @Test
+    void testPutAndDelete() throws Exception {
+        batchWriter.put(bytes("k1"), bytes("v1"));
+        assertArrayEquals(bytes("v1"), rocksDb.get(bytes("k1")));
+        batchWriter.put(bytes("k1"), bytes("v2"));
+        assertArrayEquals(bytes("v2"), rocksDb.get(bytes("k1")));
+        batchWriter.delete(bytes("k1"));
+        assertNull(rocksDb.get(bytes("k1")));
+    }
+    
+    @Test
+    void testPutAll() throws Exception {
+        batchWriter.putAll(Arrays.asList(bytes("k1"), bytes("k2"), bytes("k1")),
+                Arrays.asList(bytes("v1"), bytes("v2"), bytes("v3")));
+        assertArrayEquals(bytes("v3"), rocksDb.get(bytes("k1")));
+        assertArrayEquals(bytes("v2"), rocksDb.get(bytes("k2")));
+    }
+    
+    @Test
+    void testPutAllWrittenInOneBatch() throws Exception {
+        List<byte[]> keys = new ArrayList<>();
+        List<byte[]> values = new ArrayList<>();
+        // more entries than the max batch size of the writer.
+        for (int i = 0; i < 100; i++) {
+            keys.add(bytes("k" + i));
+            values.add(bytes("v" + i));
+        }
+        batchWriter.putAll(keys, values);
+        assertEquals(1, batchWriter.getBatchCount());
+        assertEquals(100, batchWriter.getWriteCount());
+        for (int i = 0; i < 100; i++) {
+            assertArrayEquals(bytes("v" + i), rocksDb.get(bytes("k" + i)));
+        }
+    }
+    
+    @Test
+    void testConcurrentWritesGrouped() throws Exception {
+        int threads = 8;
+        int writesPerThread = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final int thread = i;
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for (int j = 0; j < writesPerThread; j++) {
+                    batchWriter.put(bytes(thread + "-" + j), bytes("v" + j));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        for (int i = 0; i < threads; i++) {
+            for (int j = 0; j < writesPerThread; j++) {
+                assertArrayEquals(bytes("v" + j), rocksDb.get(bytes(i + "-" + j)));
+            }
+        }
+        assertEquals(threads * writesPerThread, batchWriter.getWriteCount());
+        assertTrue(batchWriter.getBatchCount() < batchWriter.getWriteCount());
+    }
+    
+    @Test
+    void testWriteAfterClose() {
+        batchWriter.close();
+        assertThrows(IOException.class, () -> batchWriter.put(bytes("k1"), bytes("v1")));
+    }
+    
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -42,11 +42,14 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.BeanUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
@@ -251,4 +254,33 @@ class DumpAllProcessorTest {
         assertEquals(configInfoWrapperSingle2.getContent(), contentFromDisk2);
     }
     
+    @Test
+    void testDumpAllOnStartUpPipelined() throws Exception {
+        propertyUtilMockedStatic.when(PropertyUtil::getDumpAllReaderCount).thenReturn(3);
+        propertyUtilMockedStatic.when(PropertyUtil::getAllDumpPageSize).thenReturn(2);
+        List<ConfigInfoWrapper> configs = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            ConfigInfoWrapper config = createNewConfig(i);
+            config.setLastModified(System.currentTimeMillis());
+            configs.add(config);
+        }
+        Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(10L);
+        Mockito.when(configInfoPersistService.findAllConfigInfoFragment(anyLong(), eq(2), eq(true)))
+                .thenAnswer(invocation -> {
+                    long lastMaxId = invocation.getArgument(0);
+                    Page<ConfigInfoWrapper> page = new Page<>();
+                    page.setPageItems(configs.stream().filter(each -> each.getId() > lastMaxId).limit(2)
+                            .collect(Collectors.toList()));
+                    return page;
+                });
+        
+        assertTrue(dumpAllProcessor.process(new DumpAllTask(true)));
+        
+        // static mocks are not visible in writer threads, so only check the jvm cache.
+        for (ConfigInfoWrapper each : configs) {
+            CacheItem cacheItem = ConfigCacheService.getContentCache(
+                    GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()));
+            assertEquals(MD5Utils.md5Hex(each.getContent(), "UTF-8"), cacheItem.getConfigCache().getMd5());
+        }
+    }
 }
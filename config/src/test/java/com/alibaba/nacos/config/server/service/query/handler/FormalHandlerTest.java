@@ -33,6 +33,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
@@ -75,7 +76,8 @@ class FormalHandlerTest {
     public void handleContentEmptyShouldReturnConfigNotFound() throws IOException {
         when(cacheItem.getConfigCache()).thenReturn(configCache);
         when(configCache.getMd5()).thenReturn("mockMd5");
-        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("");
+        when(configDiskService.getContentBytes("dataId", "group", "tenant")).thenReturn(
+                "".getBytes(StandardCharsets.UTF_8));
         
         ConfigQueryChainRequest request = new ConfigQueryChainRequest();
         request.setDataId("dataId");
@@ -94,7 +96,8 @@ class FormalHandlerTest {
         when(configCache.getLastModifiedTs()).thenReturn(123456789L);
         when(configCache.getEncryptedDataKey()).thenReturn("mockEncryptedDataKey");
         when(cacheItem.getType()).thenReturn("mockType");
-        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("mockContent");
+        when(configDiskService.getContentBytes("dataId", "group", "tenant")).thenReturn(
+                "mockContent".getBytes(StandardCharsets.UTF_8));
         
         ConfigQueryChainRequest request = new ConfigQueryChainRequest();
         request.setDataId("dataId");
@@ -33,6 +33,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -117,8 +118,8 @@ class GrayRuleMatchHandlerTest {
         when(configCacheGray.getEncryptedDataKey()).thenReturn("encryptedKey");
         when(configCacheGray.getGrayName()).thenReturn("grayName");
         when(cacheItem.getType()).thenReturn("configType");
-        when(configDiskService.getGrayContent(anyString(), anyString(), anyString(), anyString())).thenReturn(
-                "content");
+        when(configDiskService.getGrayContentBytes(anyString(), anyString(), anyString(), anyString())).thenReturn(
+                "content".getBytes(StandardCharsets.UTF_8));
         
         ConfigQueryChainRequest request = new ConfigQueryChainRequest();
         request.setDataId("dataId");
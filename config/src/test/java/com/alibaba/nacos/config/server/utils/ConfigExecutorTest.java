@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.utils;
 
+import com.alibaba.nacos.common.executor.HashedWheelTimer;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.TimeUnit;
@@ -130,4 +131,39 @@ class ConfigExecutorTest {
         
         assertEquals(1, atomicInteger.get());
     }
+    
+    @Test
+    void testScheduleLongPollingTimeout() throws InterruptedException {
+        
+        AtomicInteger atomicInteger = new AtomicInteger();
+        
+        Runnable runnable = atomicInteger::incrementAndGet;
+        
+        ConfigExecutor.scheduleLongPollingTimeout(runnable, 100, TimeUnit.MILLISECONDS);
+        HashedWheelTimer.Timeout cancelled = ConfigExecutor.scheduleLongPollingTimeout(runnable, 100,
+                TimeUnit.MILLISECONDS);
+        assertTrue(cancelled.cancel());
+        
+        assertEquals(0, atomicInteger.get());
+        
+        TimeUnit.MILLISECONDS.sleep(500);
+        
+        assertEquals(1, atomicInteger.get());
+    }
+    
+    @Test
+    void testScheduleClientConfigNotifierRetry() throws InterruptedException {
+        
+        AtomicInteger atomicInteger = new AtomicInteger();
+        
+        Runnable runnable = atomicInteger::incrementAndGet;
+        
+        ConfigExecutor.scheduleClientConfigNotifierRetry(runnable, 100, TimeUnit.MILLISECONDS);
+        
+        assertEquals(0, atomicInteger.get());
+        
+        TimeUnit.MILLISECONDS.sleep(500);
+        
+        assertEquals(1, atomicInteger.get());
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.cp;
+
+import java.util.Map;
+
+/**
+ * Read consistency level of CP protocol, carried by the extend info of read request.
+ *
+ * @author nacos
+ */
+public enum ReadConsistency {
+    
+    /**
+     * Confirm the commit index with the quorum by read index before reading.
+     */
+    LINEARIZABLE,
+    
+    /**
+     * Confirm the commit index by the lease of leader, which saves the quorum round trip but depends on clock.
+     */
+    LEASE,
+    
+    /**
+     * Read local data directly if it has been confirmed to catch up with leader within max staleness.
+     */
+    STALE;
+    
+    /**
+     * Extend info key of read consistency level.
+     */
+    public static final String READ_CONSISTENCY_KEY = "readConsistency";
+    
+    /**
+     * Extend info key of max staleness in milliseconds of {@link #STALE} read, no limit if absent.
+     */
+    public static final String MAX_STALENESS_MS_KEY = "readMaxStalenessMs";
+    
+    /**
+     * Parse read consistency level from extend info.
+     *
+     * @param extendInfo extend info of read request
+     * @return read consistency level, or null if absent or unknown
+     */
+    public static ReadConsistency of(Map<String, String> extendInfo) {
+        String value = extendInfo.get(READ_CONSISTENCY_KEY);
+        if (value == null) {
+            return null;
+        }
+        for (ReadConsistency each : values()) {
+            if (each.name().equalsIgnoreCase(value)) {
+                return each;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Parse max staleness in milliseconds from extend info.
+     *
+     * @param extendInfo extend info of read request
+     * @return max staleness, {@link Long#MAX_VALUE} if absent, 0 if illegal
+     */
+    public static long maxStalenessMs(Map<String, String> extendInfo) {
+        String value = extendInfo.get(MAX_STALENESS_MS_KEY);
+        if (value == null) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Math.max(0L, Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
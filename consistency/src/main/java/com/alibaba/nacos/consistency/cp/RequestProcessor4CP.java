@@ -17,6 +17,7 @@
 package com.alibaba.nacos.consistency.cp;
 
 import com.alibaba.nacos.consistency.RequestProcessor;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
 import com.alibaba.nacos.consistency.snapshot.SnapshotOperation;
 
 import java.util.Collections;
@@ -41,4 +42,16 @@ public abstract class RequestProcessor4CP extends RequestProcessor {
         return Collections.emptyList();
     }
     
+    /**
+     * Get the partition key of the write request. Requests with different partition keys are commutative and may be
+     * applied in parallel, requests with same partition key are always applied in log order. Processors returning non
+     * null key must make {@link #onApply(WriteRequest)} thread safe for requests of different keys.
+     *
+     * @param request write request
+     * @return partition key, {@code null} means the request must be applied exclusively in log order
+     */
+    public String partitionKey(WriteRequest request) {
+        return null;
+    }
+
 }
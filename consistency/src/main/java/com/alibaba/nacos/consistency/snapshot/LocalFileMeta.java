@@ -25,6 +25,11 @@ import java.util.Properties;
  */
 public class LocalFileMeta {
     
+    /**
+     * Key of the file checksum. Files with same checksum are not transferred again when followers install snapshot.
+     */
+    public static final String CHECKSUM_KEY = "checksum";
+    
     private final Properties fileMeta;
     
     public LocalFileMeta() {
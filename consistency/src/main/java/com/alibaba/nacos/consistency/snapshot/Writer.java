@@ -16,6 +16,10 @@
 
 package com.alibaba.nacos.consistency.snapshot;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,14 +35,30 @@ public class Writer {
     
     private String path;
     
+    private String lastSnapshotPath;
+    
     public Writer(String path) {
         this.path = path;
     }
     
+    public Writer(String path, String lastSnapshotPath) {
+        this.path = path;
+        this.lastSnapshotPath = lastSnapshotPath;
+    }
+    
     public String getPath() {
         return path;
     }
     
+    /**
+     * Get the path of last completed snapshot, which could be used to write incremental snapshot.
+     *
+     * @return path of last snapshot, {@code null} if no snapshot completed before
+     */
+    public String getLastSnapshotPath() {
+        return lastSnapshotPath;
+    }
+    
     /**
      * Adds a snapshot file without metadata.
      *
@@ -61,6 +81,33 @@ public class Writer {
         return true;
     }
     
+    /**
+     * Reuses an unchanged file of last snapshot with metadata. The file is hard linked into current snapshot, or copied
+     * if the file system does not support hard link.
+     *
+     * @param fileName file name
+     * @param meta     file metadata
+     * @return true on success, false if the file does not exist in last snapshot
+     * @throws IOException io exception during linking or copying
+     */
+    public boolean reuseFile(final String fileName, final LocalFileMeta meta) throws IOException {
+        if (lastSnapshotPath == null) {
+            return false;
+        }
+        final Path source = Paths.get(lastSnapshotPath, fileName);
+        if (!Files.isRegularFile(source)) {
+            return false;
+        }
+        final Path target = Paths.get(path, fileName);
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source, target);
+        }
+        return addFile(fileName, meta);
+    }
+    
     /**
      * Remove a snapshot file.
      *
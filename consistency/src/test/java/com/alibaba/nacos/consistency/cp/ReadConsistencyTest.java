@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.consistency.cp;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ReadConsistencyTest {
+    
+    @Test
+    void testOf() {
+        Map<String, String> extendInfo = new HashMap<>();
+        assertNull(ReadConsistency.of(extendInfo));
+        extendInfo.put(ReadConsistency.READ_CONSISTENCY_KEY, "lease");
+        assertEquals(ReadConsistency.LEASE, ReadConsistency.of(extendInfo));
+        extendInfo.put(ReadConsistency.READ_CONSISTENCY_KEY, "unknown");
+        assertNull(ReadConsistency.of(extendInfo));
+    }
+    
+    @Test
+    void testMaxStalenessMs() {
+        Map<String, String> extendInfo = new HashMap<>();
+        assertEquals(Long.MAX_VALUE, ReadConsistency.maxStalenessMs(extendInfo));
+        extendInfo.put(ReadConsistency.MAX_STALENESS_MS_KEY, "500");
+        assertEquals(500L, ReadConsistency.maxStalenessMs(extendInfo));
+        extendInfo.put(ReadConsistency.MAX_STALENESS_MS_KEY, "-1");
+        assertEquals(0L, ReadConsistency.maxStalenessMs(extendInfo));
+        extendInfo.put(ReadConsistency.MAX_STALENESS_MS_KEY, "abc");
+        assertEquals(0L, ReadConsistency.maxStalenessMs(extendInfo));
+    }
+}
@@ -19,8 +19,17 @@ package com.alibaba.nacos.consistency.snapshot;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -52,4 +61,23 @@ class WriterTest {
         
         assertEquals(1, writer.listFiles().size());
     }
+    
+    @Test
+    void testReuseFile(@TempDir Path tempDir) throws IOException {
+        Path last = Files.createDirectory(tempDir.resolve("last"));
+        final Path current = Files.createDirectory(tempDir.resolve("current"));
+        byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+        Files.write(last.resolve("a"), content);
+        
+        assertNull(writer.getLastSnapshotPath());
+        assertFalse(writer.reuseFile("a", new LocalFileMeta()));
+        
+        Writer incremental = new Writer(current.toString(), last.toString());
+        assertEquals(last.toString(), incremental.getLastSnapshotPath());
+        assertTrue(incremental.reuseFile("a", new LocalFileMeta().append(LocalFileMeta.CHECKSUM_KEY, "1")));
+        assertFalse(incremental.reuseFile("b", new LocalFileMeta()));
+        assertArrayEquals(content, Files.readAllBytes(current.resolve("a")));
+        assertEquals(1, incremental.listFiles().size());
+        assertEquals("1", incremental.listFiles().get("a").get(LocalFileMeta.CHECKSUM_KEY));
+    }
 }
@@ -46,12 +46,21 @@ public class DistroModuleStateBuilder implements ModuleStateBuilder {
         moduleState.newState(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS));
+        moduleState.newState(DistroConstants.DATA_VERIFY_SHARD_COUNT_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_VERIFY_SHARD_COUNT, Integer.class,
+                        DistroConstants.DEFAULT_DATA_VERIFY_SHARD_COUNT));
         moduleState.newState(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS));
         moduleState.newState(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS_STATE,
                 EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                         DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS));
+        moduleState.newState(DistroConstants.DATA_LOAD_SEGMENT_SIZE_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_LOAD_SEGMENT_SIZE, Integer.class,
+                        DistroConstants.DEFAULT_DATA_LOAD_SEGMENT_SIZE));
+        moduleState.newState(DistroConstants.DATA_LOAD_COMPRESS_ENABLED_STATE,
+                EnvUtil.getProperty(DistroConstants.DATA_LOAD_COMPRESS_ENABLED, Boolean.class,
+                        DistroConstants.DEFAULT_DATA_LOAD_COMPRESS_ENABLED));
         return moduleState;
     }
     
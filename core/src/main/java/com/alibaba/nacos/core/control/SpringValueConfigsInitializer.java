@@ -38,8 +38,12 @@ public class SpringValueConfigsInitializer implements ControlConfigsInitializer
     
     private static final String LOCAL_RULE_STORAGE_BASE_DIR = PREFIX + "rule.local.basedir";
     
+    private static final String RULE_BARRIER_CREATOR = PREFIX + "tps.barrier.creator";
+    
     private static final String DEFAULT_CONNECTION_RUNTIME_EJECTOR = "nacos";
     
+    private static final String DEFAULT_RULE_BARRIER_CREATOR = "localsimplecountor";
+    
     @Override
     public void initialize(ControlConfigs controlConfigs) {
         controlConfigs.setConnectionRuntimeEjector(
@@ -52,5 +56,6 @@ public class SpringValueConfigsInitializer implements ControlConfigsInitializer
         }
         controlConfigs.setRuleExternalStorage(EnvUtil.getProperty(RULE_EXTERNAL_STORAGE));
         controlConfigs.setControlManagerType(EnvUtil.getProperty(CONTROL_MANAGER_TYPE));
+        controlConfigs.setRuleBarrierCreator(EnvUtil.getProperty(RULE_BARRIER_CREATOR, DEFAULT_RULE_BARRIER_CREATOR));
     }
 }
@@ -40,10 +40,16 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long verifyTimeoutMillis = DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS;
     
+    private int verifyShardCount = DistroConstants.DEFAULT_DATA_VERIFY_SHARD_COUNT;
+    
     private long loadDataRetryDelayMillis = DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS;
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private int loadDataSegmentSize = DistroConstants.DEFAULT_DATA_LOAD_SEGMENT_SIZE;
+    
+    private boolean loadDataCompressEnabled = DistroConstants.DEFAULT_DATA_LOAD_COMPRESS_ENABLED;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -61,10 +67,16 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS);
         verifyTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS);
+        verifyShardCount = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_SHARD_COUNT, Integer.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_SHARD_COUNT);
         loadDataRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        loadDataSegmentSize = EnvUtil.getProperty(DistroConstants.DATA_LOAD_SEGMENT_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_SEGMENT_SIZE);
+        loadDataCompressEnabled = EnvUtil.getProperty(DistroConstants.DATA_LOAD_COMPRESS_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_LOAD_COMPRESS_ENABLED);
     }
     
     public static DistroConfig getInstance() {
@@ -111,6 +123,14 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.verifyTimeoutMillis = verifyTimeoutMillis;
     }
     
+    public int getVerifyShardCount() {
+        return verifyShardCount;
+    }
+    
+    public void setVerifyShardCount(int verifyShardCount) {
+        this.verifyShardCount = verifyShardCount;
+    }
+    
     public long getLoadDataRetryDelayMillis() {
         return loadDataRetryDelayMillis;
     }
@@ -127,11 +147,29 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public int getLoadDataSegmentSize() {
+        return loadDataSegmentSize;
+    }
+    
+    public void setLoadDataSegmentSize(int loadDataSegmentSize) {
+        this.loadDataSegmentSize = loadDataSegmentSize;
+    }
+    
+    public boolean isLoadDataCompressEnabled() {
+        return loadDataCompressEnabled;
+    }
+    
+    public void setLoadDataCompressEnabled(boolean loadDataCompressEnabled) {
+        this.loadDataCompressEnabled = loadDataCompressEnabled;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
                 + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
-                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
-                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + '}';
+                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", verifyShardCount=" + verifyShardCount
+                + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
+                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + ", loadDataSegmentSize=" + loadDataSegmentSize
+                + ", loadDataCompressEnabled=" + loadDataCompressEnabled + '}';
     }
 }
@@ -55,6 +55,12 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS = 3000L;
     
+    public static final String DATA_VERIFY_SHARD_COUNT = "nacos.core.protocol.distro.data.verify.shardCount";
+    
+    public static final String DATA_VERIFY_SHARD_COUNT_STATE = "data_verify_shardCount";
+    
+    public static final int DEFAULT_DATA_VERIFY_SHARD_COUNT = 1;
+    
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.load.retryDelayMs";
     
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE = "data_load_retryDelayMs";
@@ -67,4 +73,16 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_SEGMENT_SIZE = "nacos.core.protocol.distro.data.load.segmentSize";
+    
+    public static final String DATA_LOAD_SEGMENT_SIZE_STATE = "data_load_segmentSize";
+    
+    public static final int DEFAULT_DATA_LOAD_SEGMENT_SIZE = 10000;
+    
+    public static final String DATA_LOAD_COMPRESS_ENABLED = "nacos.core.protocol.distro.data.load.compressEnabled";
+    
+    public static final String DATA_LOAD_COMPRESS_ENABLED_STATE = "data_load_compressEnabled";
+    
+    public static final boolean DEFAULT_DATA_LOAD_COMPRESS_ENABLED = false;
+
 }
@@ -26,6 +26,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
 import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
 import com.alibaba.nacos.core.distributed.distro.task.load.DistroLoadDataTask;
@@ -224,4 +225,21 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query one segment of all datum snapshot.
+     *
+     * @param type         datum type
+     * @param segment      index of segment
+     * @param segmentCount count of segments, not positive means decided by storage
+     * @return segment of snapshot, or {@code null} if storage not found or not support segmented snapshot
+     */
+    public DistroSnapshotSegment onSnapshotSegment(String type, int segment, int segmentCount) {
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (null == distroDataStorage) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data storage for received key {}", type);
+            return null;
+        }
+        return distroDataStorage.getDatumSnapshotSegment(segment, segmentCount);
+    }
 }
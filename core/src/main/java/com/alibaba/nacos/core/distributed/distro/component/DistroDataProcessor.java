@@ -17,6 +17,7 @@
 package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 
 /**
  * Distro data processor.
@@ -56,4 +57,14 @@ public interface DistroDataProcessor {
      * @return true if process data successfully, otherwise false
      */
     boolean processSnapshot(DistroData distroData);
+    
+    /**
+     * Process one segment of snapshot data.
+     *
+     * @param snapshotSegment segment of snapshot data
+     * @return true if process data successfully, otherwise false
+     */
+    default boolean processSnapshotSegment(DistroSnapshotSegment snapshotSegment) {
+        return processSnapshot(snapshotSegment.getData());
+    }
 }
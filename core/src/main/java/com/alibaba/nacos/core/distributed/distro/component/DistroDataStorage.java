@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 
 import java.util.List;
 
@@ -57,6 +58,19 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get one segment of distro datum snapshot.
+     *
+     * <p>If {@code segmentCount} is not positive, the storage decides the segment count by its data size.
+     *
+     * @param segment      index of segment
+     * @param segmentCount count of segments
+     * @return segment of snapshot, or {@code null} if segmented snapshot is not supported
+     */
+    default DistroSnapshotSegment getDatumSnapshotSegment(int segment, int segmentCount) {
+        return null;
+    }
+    
     /**
      * Get verify datum.
      *
@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 
 /**
  * Distro transport agent.
@@ -89,4 +90,19 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Get one segment of datum snapshot from target server.
+     *
+     * <p>If {@code segmentCount} is not positive, the target server decides the segment count and returns it within
+     * the segment.
+     *
+     * @param targetServer target server
+     * @param segment      index of segment
+     * @param segmentCount count of segments
+     * @return segment of snapshot, or {@code null} if segmented snapshot is not supported
+     */
+    default DistroSnapshotSegment getDatumSnapshotSegment(String targetServer, int segment, int segmentCount) {
+        return null;
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.entity;
+
+/**
+ * One segment of distro datum snapshot.
+ *
+ * <p>The snapshot is split into {@code segmentCount} segments by data key, each segment can be transported and
+ * processed independently, so that the whole snapshot is never held in memory at once.
+ *
+ * @author nacos
+ */
+public class DistroSnapshotSegment {
+    
+    private final DistroData data;
+    
+    private final int segment;
+    
+    private final int segmentCount;
+    
+    public DistroSnapshotSegment(DistroData data, int segment, int segmentCount) {
+        this.data = data;
+        this.segment = segment;
+        this.segmentCount = segmentCount;
+    }
+    
+    public DistroData getData() {
+        return data;
+    }
+    
+    public int getSegment() {
+        return segment;
+    }
+    
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+}
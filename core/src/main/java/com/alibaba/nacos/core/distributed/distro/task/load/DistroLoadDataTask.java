@@ -24,6 +24,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
@@ -98,14 +99,10 @@ public class DistroLoadDataTask implements Runnable {
             return false;
         }
         for (Member each : memberManager.allMembersWithoutSelf()) {
-            long startTime = System.currentTimeMillis();
             try {
                 Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} from {}", resourceType, each.getAddress());
-                DistroData distroData = transportAgent.getDatumSnapshot(each.getAddress());
-                Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} and snapshot size is {}.",
-                        System.currentTimeMillis() - startTime, resourceType, each.getAddress(),
-                        getDistroDataLength(distroData));
-                boolean result = dataProcessor.processSnapshot(distroData);
+                boolean result = loadSnapshotFromRemote(resourceType, each.getAddress(), transportAgent,
+                        dataProcessor);
                 Loggers.DISTRO
                         .info("[DISTRO-INIT] load snapshot {} from {} result: {}", resourceType, each.getAddress(),
                                 result);
@@ -120,6 +117,44 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    /**
+     * Load snapshot from target server segment by segment, each segment is processed before requesting next one, so
+     * only one segment is held in memory. If target server doesn't support segmented snapshot, load the whole
+     * snapshot.
+     */
+    private boolean loadSnapshotFromRemote(String resourceType, String address, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor) {
+        long startTime = System.currentTimeMillis();
+        DistroSnapshotSegment segment = transportAgent.getDatumSnapshotSegment(address, 0, 0);
+        if (null == segment) {
+            DistroData distroData = transportAgent.getDatumSnapshot(address);
+            Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} and snapshot size is {}.",
+                    System.currentTimeMillis() - startTime, resourceType, address, getDistroDataLength(distroData));
+            return dataProcessor.processSnapshot(distroData);
+        }
+        int segmentCount = segment.getSegmentCount();
+        long totalLength = 0L;
+        for (int i = 0; i < segmentCount; i++) {
+            if (i > 0) {
+                segment = transportAgent.getDatumSnapshotSegment(address, i, segmentCount);
+            }
+            if (null == segment) {
+                Loggers.DISTRO.warn("[DISTRO-INIT] load snapshot {} segment {}/{} from {} got empty result.",
+                        resourceType, i, segmentCount, address);
+                return false;
+            }
+            totalLength += getDistroDataLength(segment.getData());
+            if (!dataProcessor.processSnapshotSegment(segment)) {
+                Loggers.DISTRO.warn("[DISTRO-INIT] process snapshot {} segment {}/{} from {} failed.", resourceType,
+                        i, segmentCount, address);
+                return false;
+            }
+        }
+        Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} with {} segments and size is {}.",
+                System.currentTimeMillis() - startTime, resourceType, address, segmentCount, totalLength);
+        return true;
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
@@ -27,6 +27,7 @@ import com.alibaba.nacos.consistency.ProtoMessageUtil;
 import com.alibaba.nacos.consistency.RequestProcessor;
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
@@ -59,6 +60,7 @@ import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.option.CliOptions;
 import com.alipay.sofa.jraft.option.NodeOptions;
 import com.alipay.sofa.jraft.option.RaftOptions;
+import com.alipay.sofa.jraft.option.ReadOnlyOption;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
 import com.alipay.sofa.jraft.rpc.RpcProcessor;
 import com.alipay.sofa.jraft.rpc.RpcServer;
@@ -174,6 +176,8 @@ public class JRaftServer {
         nodeOptions.setSharedVoteTimer(true);
         nodeOptions.setSharedStepDownTimer(true);
         nodeOptions.setSharedSnapshotTimer(true);
+        // Reuse the unchanged snapshot files with same checksum when installing snapshot from leader.
+        nodeOptions.setFilterBeforeCopyRemote(true);
         
         nodeOptions.setElectionTimeoutMs(electionTimeout);
         RaftOptions raftOptions = RaftOptionsBuilder.initRaftOptions(raftConfig);
@@ -282,11 +286,25 @@ public class JRaftServer {
         }
         final Node node = tuple.node;
         final RequestProcessor processor = tuple.processor;
+        final Map<String, String> extendInfo = request.getExtendInfoMap();
+        final ReadConsistency readConsistency = ReadConsistency.of(extendInfo);
+        if (ReadConsistency.STALE == readConsistency && tuple.isCaughtUpWithin(
+                ReadConsistency.maxStalenessMs(extendInfo))) {
+            try {
+                MetricsMonitor.raftReadFromLocal();
+                future.complete(processor.onRequest(request));
+            } catch (Throwable t) {
+                future.completeExceptionally(new ConsistencyException(
+                        "The conformance protocol is temporarily unavailable for reading", t));
+            }
+            return future;
+        }
         try {
-            node.readIndex(BytesUtil.EMPTY_BYTES, new ReadIndexClosure() {
+            ReadIndexClosure closure = new ReadIndexClosure() {
                 @Override
                 public void run(Status status, long index, byte[] reqCtx) {
                     if (status.isOk()) {
+                        tuple.markCaughtUp();
                         try {
                             Response response = processor.onRequest(request);
                             future.complete(response);
@@ -302,7 +320,15 @@ public class JRaftServer {
                     MetricsMonitor.raftReadFromLeader();
                     readFromLeader(request, future);
                 }
-            });
+            };
+            if (ReadConsistency.LEASE == readConsistency) {
+                node.readIndex(ReadOnlyOption.ReadOnlyLeaseBased, BytesUtil.EMPTY_BYTES, closure);
+            } else if (ReadConsistency.LINEARIZABLE == readConsistency) {
+                node.readIndex(ReadOnlyOption.ReadOnlySafe, BytesUtil.EMPTY_BYTES, closure);
+            } else {
+                // default read index type of raft group, stale read without fresh local data falls here too.
+                node.readIndex(BytesUtil.EMPTY_BYTES, closure);
+            }
             return future;
         } catch (Throwable e) {
             MetricsMonitor.raftReadFromLeader();
@@ -554,6 +580,11 @@ public class JRaftServer {
         
         private NacosStateMachine machine;
         
+        /**
+         * The last time local data was confirmed to catch up with leader by read index.
+         */
+        private volatile long lastCaughtUpTime;
+        
         @JustForTest
         public RaftGroupTuple() {
         }
@@ -577,6 +608,15 @@ public class JRaftServer {
         public RaftGroupService getRaftGroupService() {
             return raftGroupService;
         }
+        
+        void markCaughtUp() {
+            lastCaughtUpTime = System.currentTimeMillis();
+        }
+        
+        boolean isCaughtUpWithin(long maxStalenessMs) {
+            long caughtUpTime = lastCaughtUpTime;
+            return caughtUpTime > 0 && System.currentTimeMillis() - caughtUpTime <= maxStalenessMs;
+        }
     }
     
 }
@@ -56,15 +56,24 @@ interface JSnapshotOperation {
     String info();
     
     /**
-     * Metadata information for snapshot files.
+     * Metadata information for snapshot files. The checksum in metadata is also set to jraft file meta, so that the
+     * unchanged files are not copied again when followers install snapshot.
      *
      * @param metadata meta data
      * @return {@link LocalFileMetaOutter.LocalFileMeta}
      * @throws Exception Exception
      */
     default LocalFileMetaOutter.LocalFileMeta buildMetadata(final LocalFileMeta metadata) throws Exception {
-        return metadata == null ? null : LocalFileMetaOutter.LocalFileMeta.newBuilder()
-                .setUserMeta(ZeroByteStringHelper.wrap(JacksonUtils.toJsonBytes(metadata))).build();
+        if (metadata == null) {
+            return null;
+        }
+        LocalFileMetaOutter.LocalFileMeta.Builder builder = LocalFileMetaOutter.LocalFileMeta.newBuilder()
+                .setUserMeta(ZeroByteStringHelper.wrap(JacksonUtils.toJsonBytes(metadata)));
+        Object checksum = metadata.get(LocalFileMeta.CHECKSUM_KEY);
+        if (checksum != null) {
+            builder.setChecksum(checksum.toString());
+        }
+        return builder.build();
     }
     
 }
@@ -20,7 +20,7 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.utils.ExceptionUtil;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.LoggerUtils;
-import com.alibaba.nacos.consistency.RequestProcessor;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.consistency.ProtoMessageUtil;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
@@ -32,6 +32,7 @@ import com.alibaba.nacos.consistency.snapshot.Reader;
 import com.alibaba.nacos.consistency.snapshot.SnapshotOperation;
 import com.alibaba.nacos.consistency.snapshot.Writer;
 import com.alibaba.nacos.core.distributed.raft.utils.JRaftUtils;
+import com.alibaba.nacos.core.distributed.raft.utils.RaftExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 import com.alipay.sofa.jraft.Closure;
 import com.alipay.sofa.jraft.Iterator;
@@ -44,10 +45,12 @@ import com.alipay.sofa.jraft.entity.LeaderChangeContext;
 import com.alipay.sofa.jraft.entity.LocalFileMetaOutter;
 import com.alipay.sofa.jraft.error.RaftError;
 import com.alipay.sofa.jraft.error.RaftException;
+import com.alipay.sofa.jraft.storage.snapshot.Snapshot;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotReader;
 import com.alipay.sofa.jraft.storage.snapshot.SnapshotWriter;
 import com.google.protobuf.Message;
 
+import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -58,6 +61,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 
@@ -68,9 +72,14 @@ import java.util.function.BiConsumer;
  */
 class NacosStateMachine extends StateMachineAdapter {
     
+    /**
+     * Max number of logs applied in parallel at once, the closures of them are run after all applied.
+     */
+    private static final int MAX_PARALLEL_APPLY_SIZE = 256;
+    
     protected final JRaftServer server;
     
-    protected final RequestProcessor processor;
+    protected final RequestProcessor4CP processor;
     
     private final AtomicBoolean isLeader = new AtomicBoolean(false);
     
@@ -84,10 +93,13 @@ class NacosStateMachine extends StateMachineAdapter {
     
     private volatile String leaderIp = "unknown";
     
+    private final int applyParallelism;
+    
     NacosStateMachine(JRaftServer server, RequestProcessor4CP processor) {
         this.server = server;
         this.processor = processor;
         this.groupId = processor.group();
+        this.applyParallelism = RaftExecutor.getApplyParallelism();
         adapterToJRaftSnapshot(processor.loadSnapshotOperate());
     }
     
@@ -97,9 +109,11 @@ class NacosStateMachine extends StateMachineAdapter {
         int applied = 0;
         Message message;
         NacosClosure closure = null;
+        final List<PartitionedWrite> pending = new ArrayList<>();
         try {
             while (iter.hasNext()) {
                 Status status = Status.OK();
+                closure = null;
                 try {
                     if (iter.done() != null) {
                         closure = (NacosClosure) iter.done();
@@ -107,13 +121,41 @@ class NacosStateMachine extends StateMachineAdapter {
                     } else {
                         final ByteBuffer data = iter.getData();
                         message = ProtoMessageUtil.parse(data.array());
-                        if (message instanceof ReadRequest) {
-                            //'iter.done() == null' means current node is follower, ignore read operation
-                            applied++;
-                            index++;
-                            iter.next();
-                            continue;
+                    }
+                    
+                    final String partitionKey = partitionKey(message);
+                    if (partitionKey != null) {
+                        // The closure will be run after the pending writes applied.
+                        pending.add(new PartitionedWrite((WriteRequest) message, closure, partitionKey));
+                        closure = null;
+                        index++;
+                        iter.next();
+                        if (pending.size() >= MAX_PARALLEL_APPLY_SIZE) {
+                            final int pendingSize = pending.size();
+                            if (!applyPartitioned(pending, iter)) {
+                                return;
+                            }
+                            applied += pendingSize;
                         }
+                        continue;
+                    }
+                    
+                    if (!pending.isEmpty()) {
+                        final int pendingSize = pending.size();
+                        if (!applyPartitioned(pending, iter)) {
+                            // The closure of current log will be run by jraft after rollback.
+                            closure = null;
+                            return;
+                        }
+                        applied += pendingSize;
+                    }
+                    
+                    if (closure == null && message instanceof ReadRequest) {
+                        //'iter.done() == null' means current node is follower, ignore read operation
+                        applied++;
+                        index++;
+                        iter.next();
+                        continue;
                     }
                     
                     LoggerUtils.printIfDebugEnabled(Loggers.RAFT, "receive log : {}", message);
@@ -140,6 +182,7 @@ class NacosStateMachine extends StateMachineAdapter {
                 index++;
                 iter.next();
             }
+            applyPartitioned(pending, iter);
         } catch (Throwable t) {
             Loggers.RAFT.error("processor : {}, stateMachine meet critical error: {}.", processor, t);
             iter.setErrorAndRollback(index - applied,
@@ -148,6 +191,88 @@ class NacosStateMachine extends StateMachineAdapter {
         }
     }
     
+    private String partitionKey(Message message) {
+        if (applyParallelism <= 1 || !(message instanceof WriteRequest)) {
+            return null;
+        }
+        final String partitionKey = processor.partitionKey((WriteRequest) message);
+        return StringUtils.isEmpty(partitionKey) ? null : partitionKey;
+    }
+    
+    /**
+     * Apply the pending writes in parallel, writes with same partition key are applied in log order by same thread.
+     * The iterator has been moved to the log after the pending writes.
+     *
+     * @param pending pending writes
+     * @param iter    log iterator
+     * @return {@code false} if any write failed and the iterator has been rolled back to the failed one
+     */
+    private boolean applyPartitioned(List<PartitionedWrite> pending, Iterator iter) {
+        if (pending.isEmpty()) {
+            return true;
+        }
+        final int lanes = Math.min(applyParallelism, pending.size());
+        final List<List<PartitionedWrite>> partitions = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (PartitionedWrite each : pending) {
+            partitions.get((each.partitionKey.hashCode() & Integer.MAX_VALUE) % lanes).add(each);
+        }
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(lanes);
+        for (int i = 1; i < lanes; i++) {
+            final List<PartitionedWrite> partition = partitions.get(i);
+            if (!partition.isEmpty()) {
+                futures.add(CompletableFuture
+                        .runAsync(() -> applyInOrder(partition), RaftExecutor.getRaftApplyExecutor()));
+            }
+        }
+        applyInOrder(partitions.get(0));
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        
+        int failed = -1;
+        for (int i = 0; i < pending.size(); i++) {
+            final PartitionedWrite each = pending.get(i);
+            if (!each.applied) {
+                failed = i;
+                break;
+            }
+            Optional.ofNullable(each.closure).ifPresent(closure -> {
+                closure.setResponse(each.response);
+                closure.run(Status.OK());
+            });
+        }
+        final int size = pending.size();
+        if (failed >= 0) {
+            final PartitionedWrite failedWrite = pending.get(failed);
+            Optional.ofNullable(failedWrite.closure).ifPresent(closure -> closure.setThrowable(failedWrite.error));
+        }
+        pending.clear();
+        if (failed < 0) {
+            return true;
+        }
+        // The closures from the failed write will be run with error by jraft after rollback.
+        Loggers.RAFT.error("processor : {}, stateMachine meet critical error when applying in parallel.", processor);
+        iter.setErrorAndRollback(size - failed + (iter.hasNext() ? 1 : 0),
+                new Status(RaftError.ESTATEMACHINE, "StateMachine meet critical error when applying in parallel."));
+        return false;
+    }
+    
+    private void applyInOrder(List<PartitionedWrite> writes) {
+        for (PartitionedWrite each : writes) {
+            try {
+                LoggerUtils.printIfDebugEnabled(Loggers.RAFT, "receive log : {}", each.request);
+                each.response = processor.onApply(each.request);
+                each.applied = true;
+            } catch (Throwable t) {
+                each.error = t;
+                Loggers.RAFT.error("processor : {}, fail to apply log in parallel: {}.", processor, each.request, t);
+                // The following writes with same partition key could not be applied.
+                return;
+            }
+        }
+    }
+    
     public void setNode(Node node) {
         this.node = node;
     }
@@ -248,6 +373,35 @@ class NacosStateMachine extends StateMachineAdapter {
         return term;
     }
     
+    /**
+     * Find the path of last completed snapshot, which is the snapshot directory with max index beside the writing one.
+     *
+     * @param writerPath path of the writing snapshot
+     * @return path of last snapshot, or {@code null} if not found
+     */
+    static String findLastSnapshotPath(String writerPath) {
+        final File parent = new File(writerPath).getAbsoluteFile().getParentFile();
+        final File[] snapshots = parent == null ? null : parent.listFiles(
+                file -> file.isDirectory() && file.getName().startsWith(Snapshot.JRAFT_SNAPSHOT_PREFIX));
+        if (snapshots == null) {
+            return null;
+        }
+        File last = null;
+        long lastIndex = -1;
+        for (File each : snapshots) {
+            try {
+                long index = Long.parseLong(each.getName().substring(Snapshot.JRAFT_SNAPSHOT_PREFIX.length()));
+                if (index > lastIndex) {
+                    lastIndex = index;
+                    last = each;
+                }
+            } catch (NumberFormatException ignore) {
+                // not a snapshot directory created by jraft.
+            }
+        }
+        return last == null ? null : last.getPath();
+    }
+    
     private void adapterToJRaftSnapshot(Collection<SnapshotOperation> userOperates) {
         List<JSnapshotOperation> tmp = new ArrayList<>();
         
@@ -262,7 +416,7 @@ class NacosStateMachine extends StateMachineAdapter {
                 
                 @Override
                 public void onSnapshotSave(SnapshotWriter writer, Closure done) {
-                    final Writer wCtx = new Writer(writer.getPath());
+                    final Writer wCtx = new Writer(writer.getPath(), findLastSnapshotPath(writer.getPath()));
                     
                     // Do a layer of proxy operation to shield different Raft
                     // components from implementing snapshots
@@ -318,4 +472,25 @@ class NacosStateMachine extends StateMachineAdapter {
         this.operations = Collections.unmodifiableList(tmp);
     }
     
+    private static class PartitionedWrite {
+        
+        private final WriteRequest request;
+        
+        private final NacosClosure closure;
+        
+        private final String partitionKey;
+        
+        private volatile Response response;
+        
+        private volatile Throwable error;
+        
+        private volatile boolean applied;
+        
+        PartitionedWrite(WriteRequest request, NacosClosure closure, String partitionKey) {
+            this.request = request;
+            this.closure = closure;
+            this.partitionKey = partitionKey;
+        }
+    }
+
 }
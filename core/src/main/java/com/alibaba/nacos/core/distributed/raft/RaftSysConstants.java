@@ -126,6 +126,11 @@ public final class RaftSysConstants {
      */
     public static final boolean DEFAULT_ENABLE_LOG_ENTRY_CHECKSUM = false;
     
+    /**
+     * {@link RaftSysConstants#RAFT_APPLY_PARALLELISM}
+     */
+    public static final int DEFAULT_RAFT_APPLY_PARALLELISM = 1;
+    
     // ========= setting key ========= //
     
     public static final String RAFT_STATE = "raft";
@@ -235,4 +240,10 @@ public final class RaftSysConstants {
      * Whether to enable LogEntry checksum
      */
     public static final String ENABLE_LOG_ENTRY_CHECKSUM = "enable_log_entry_checksum";
+    
+    /**
+     * Max number of threads applying the logs with different partition keys in parallel, default 1 applies all logs
+     * in order
+     */
+    public static final String RAFT_APPLY_PARALLELISM = "apply_parallelism";
 }
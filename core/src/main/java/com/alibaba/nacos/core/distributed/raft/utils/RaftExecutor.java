@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.raft.utils;
 
 import com.alibaba.nacos.common.executor.ExecutorFactory;
 import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.utils.ConvertUtils;
 import com.alibaba.nacos.core.distributed.raft.JRaftServer;
 import com.alibaba.nacos.core.distributed.raft.RaftConfig;
 import com.alibaba.nacos.core.distributed.raft.RaftSysConstants;
@@ -42,6 +43,10 @@ public final class RaftExecutor {
     
     private static ExecutorService raftSnapshotExecutor;
     
+    private static ExecutorService raftApplyExecutor;
+    
+    private static int applyParallelism = RaftSysConstants.DEFAULT_RAFT_APPLY_PARALLELISM;
+    
     private static final String OWNER = ClassUtils.getCanonicalName(JRaftServer.class);
     
     private RaftExecutor() {
@@ -73,6 +78,11 @@ public final class RaftExecutor {
         raftSnapshotExecutor = ExecutorFactory.Managed.newFixedExecutorService(OWNER, snapshotNum,
                         new NameThreadFactory("com.alibaba.nacos.core.raft-snapshot"));
         
+        applyParallelism = Math.max(1, ConvertUtils.toInt(config.getVal(RaftSysConstants.RAFT_APPLY_PARALLELISM),
+                RaftSysConstants.DEFAULT_RAFT_APPLY_PARALLELISM));
+        raftApplyExecutor = applyParallelism <= 1 ? null
+                : ExecutorFactory.Managed.newFixedExecutorService(OWNER, applyParallelism - 1,
+                        new NameThreadFactory("com.alibaba.nacos.core.raft-apply"));
     }
     
     public static void scheduleRaftMemberRefreshJob(Runnable runnable, long initialDelay, long period, TimeUnit unit) {
@@ -107,4 +117,12 @@ public final class RaftExecutor {
         raftSnapshotExecutor.execute(runnable);
     }
     
+    public static ExecutorService getRaftApplyExecutor() {
+        return raftApplyExecutor;
+    }
+    
+    public static int getApplyParallelism() {
+        return raftApplyExecutor == null ? 1 : applyParallelism;
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.monitor;
 
+import com.alibaba.nacos.common.executor.HashedWheelTimer;
 import com.alibaba.nacos.common.utils.StringUtils;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.ImmutableTag;
@@ -44,6 +45,8 @@ public final class MetricsMonitor {
     
     private static final DistributionSummary RAFT_FROM_LEADER;
     
+    private static final DistributionSummary RAFT_READ_FROM_LOCAL;
+    
     private static final Timer RAFT_APPLY_LOG_TIMER;
     
     private static final Timer RAFT_APPLY_READ_TIMER;
@@ -67,6 +70,11 @@ public final class MetricsMonitor {
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "raft_read_from_leader"));
         RAFT_FROM_LEADER = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", tags);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "raft_read_from_local"));
+        RAFT_READ_FROM_LOCAL = NacosMeterRegistryCenter.summary(METER_REGISTRY, "nacos_monitor", tags);
     
         tags = new ArrayList<>();
         tags.add(immutableTag);
@@ -82,6 +90,18 @@ public final class MetricsMonitor {
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "longConnection"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, longConnection);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "timerPendingTimeouts"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags,
+                HashedWheelTimer.shared().getPendingTimeouts());
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "timerTickLag"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags,
+                HashedWheelTimer.shared().getTickLagMillis());
 
         tags = new ArrayList<>();
         tags.add(immutableTag);
@@ -143,6 +163,10 @@ public final class MetricsMonitor {
         RAFT_FROM_LEADER.record(1);
     }
     
+    public static void raftReadFromLocal() {
+        RAFT_READ_FROM_LOCAL.record(1);
+    }
+    
     public static Timer getRaftApplyLogTimer() {
         return RAFT_APPLY_LOG_TIMER;
     }
@@ -158,6 +182,10 @@ public final class MetricsMonitor {
     public static DistributionSummary getRaftFromLeader() {
         return RAFT_FROM_LEADER;
     }
+    
+    public static DistributionSummary getRaftReadFromLocal() {
+        return RAFT_READ_FROM_LOCAL;
+    }
 
     public static GrpcServerExecutorMetric getSdkServerExecutorMetric() {
         return sdkServerExecutorMetric;
@@ -84,15 +84,20 @@ public class DerbySnapshotOperation implements SnapshotOperation {
         PersistenceExecutor.executeSnapshot(() -> {
             TimerContext.start(DERBY_SNAPSHOT_SAVE);
             
-            final Lock lock = writeLock;
-            lock.lock();
             try {
                 final String writePath = writer.getPath();
                 final String parentPath = Paths.get(writePath, snapshotDir).toString();
                 DiskUtils.deleteDirectory(parentPath);
                 DiskUtils.forceMkdir(parentPath);
                 
-                doDerbyBackup(parentPath);
+                // The backup is a copy of database, so only backing up blocks the writes, compressing does not.
+                final Lock lock = writeLock;
+                lock.lock();
+                try {
+                    doDerbyBackup(parentPath);
+                } finally {
+                    lock.unlock();
+                }
                 
                 final String outputFile = Paths.get(writePath, snapshotArchive).toString();
                 final Checksum checksum = new CRC64();
@@ -108,7 +113,6 @@ public class DerbySnapshotOperation implements SnapshotOperation {
                         writer.listFiles(), t);
                 callFinally.accept(false, t);
             } finally {
-                lock.unlock();
                 TimerContext.end(DERBY_SNAPSHOT_SAVE, LOGGER);
             }
         });
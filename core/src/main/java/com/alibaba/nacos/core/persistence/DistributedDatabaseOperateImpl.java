@@ -32,6 +32,7 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.consistency.SerializeFactory;
 import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.consistency.cp.CPProtocol;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
@@ -54,11 +55,13 @@ import com.alibaba.nacos.persistence.repository.embedded.hook.EmbeddedApplyHook;
 import com.alibaba.nacos.persistence.repository.embedded.hook.EmbeddedApplyHookHolder;
 import com.alibaba.nacos.persistence.repository.embedded.operate.BaseDatabaseOperate;
 import com.alibaba.nacos.persistence.repository.embedded.sql.ModifyRequest;
+import com.alibaba.nacos.persistence.repository.embedded.sql.ModifyRequestCodec;
 import com.alibaba.nacos.persistence.repository.embedded.sql.QueryType;
 import com.alibaba.nacos.persistence.repository.embedded.sql.SelectRequest;
 import com.alibaba.nacos.persistence.repository.embedded.sql.limiter.SqlLimiter;
 import com.alibaba.nacos.persistence.repository.embedded.sql.limiter.SqlTypeLimiter;
 import com.alibaba.nacos.persistence.utils.PersistenceExecutor;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.DiskUtils;
 import com.google.protobuf.ByteString;
 import org.slf4j.Logger;
@@ -70,9 +73,13 @@ import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -80,6 +87,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -175,6 +183,13 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
     
     private final SqlLimiter sqlLimiter;
     
+    private boolean compactSerialization;
+    
+    /**
+     * Coalesce concurrent writes into one raft log, null if write batch is disabled.
+     */
+    private EmbeddedWriteBatcher writeBatcher;
+    
     public DistributedDatabaseOperateImpl(ServerMemberManager memberManager, ProtocolManager protocolManager)
             throws Exception {
         this.memberManager = memberManager;
@@ -212,7 +227,27 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         });
         
         this.protocol.addRequestProcessors(Collections.singletonList(this));
-        LOGGER.info("use DistributedTransactionServicesImpl");
+        
+        this.compactSerialization = EnvUtil.getProperty(PersistenceConstant.EMBEDDED_WRITE_COMPACT_SERIALIZATION,
+                Boolean.class, false);
+        if (EnvUtil.getProperty(PersistenceConstant.EMBEDDED_WRITE_BATCH_ENABLED, Boolean.class, false)) {
+            this.writeBatcher = new EmbeddedWriteBatcher(protocol, group(),
+                    EnvUtil.getProperty(PersistenceConstant.EMBEDDED_WRITE_BATCH_MAX_SIZE, Integer.class, 64),
+                    EnvUtil.getProperty(PersistenceConstant.EMBEDDED_WRITE_BATCH_MAX_BYTES, Integer.class, 1024 * 1024),
+                    EnvUtil.getProperty(PersistenceConstant.EMBEDDED_WRITE_BATCH_WINDOW_MS, Long.class, 0L));
+        }
+        LOGGER.info("use DistributedTransactionServicesImpl, compactSerialization={}, writeBatch={}",
+                compactSerialization, writeBatcher != null);
+    }
+    
+    /**
+     * Commit the pending batched writes before the cp protocol is shutdown.
+     */
+    @PreDestroy
+    public void destroy() {
+        if (writeBatcher != null) {
+            writeBatcher.close();
+        }
     }
     
     @JustForTest
@@ -232,8 +267,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), cls);
             }
@@ -256,8 +290,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), cls);
             }
@@ -280,8 +313,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(),
                         ClassUtils.resolveGenericTypeByInterface(mapper.getClass()));
@@ -305,8 +337,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), List.class);
             }
@@ -329,8 +360,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), List.class);
             }
@@ -353,8 +383,7 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final boolean blockRead = EmbeddedStorageContextHolder
                     .containsExtendInfo(PersistenceConstant.EXTEND_NEED_READ_UNTIL_HAVE_DATA);
             
-            Response response = innerRead(
-                    ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data)).build(), blockRead);
+            Response response = innerRead(buildReadRequest(data), blockRead);
             if (response.getSuccess()) {
                 return serializer.deserialize(response.getData().toByteArray(), List.class);
             }
@@ -365,6 +394,26 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         }
     }
     
+    /**
+     * Build read request, carrying the read consistency level of current thread if specified.
+     *
+     * @param data serialized {@link SelectRequest}
+     * @return {@link ReadRequest}
+     */
+    private ReadRequest buildReadRequest(byte[] data) {
+        ReadRequest.Builder builder = ReadRequest.newBuilder().setGroup(group()).setData(ByteString.copyFrom(data));
+        Map<String, String> extendInfo = EmbeddedStorageContextHolder.getCurrentExtendInfo();
+        String readConsistency = extendInfo.get(ReadConsistency.READ_CONSISTENCY_KEY);
+        if (readConsistency != null) {
+            builder.putExtendInfo(ReadConsistency.READ_CONSISTENCY_KEY, readConsistency);
+            String maxStalenessMs = extendInfo.get(ReadConsistency.MAX_STALENESS_MS_KEY);
+            if (maxStalenessMs != null) {
+                builder.putExtendInfo(ReadConsistency.MAX_STALENESS_MS_KEY, maxStalenessMs);
+            }
+        }
+        return builder.build();
+    }
+    
     /**
      * In some business situations, you need to avoid the timeout issue, so blockRead is used to determine this.
      *
@@ -434,19 +483,25 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
             final String key =
                     System.currentTimeMillis() + "-" + group() + "-" + memberManager.getSelf().getAddress() + "-"
                             + MD5Utils.md5Hex(sqlContext.toString(), PersistenceConstant.DEFAULT_ENCODE);
-            WriteRequest request = WriteRequest.newBuilder().setGroup(group()).setKey(key)
-                    .setData(ByteString.copyFrom(serializer.serialize(sqlContext)))
-                    .putAllExtendInfo(EmbeddedStorageContextHolder.getCurrentExtendInfo())
-                    .setType(sqlContext.getClass().getCanonicalName()).build();
+            WriteRequest.Builder builder = WriteRequest.newBuilder().setGroup(group()).setKey(key)
+                    .putAllExtendInfo(EmbeddedStorageContextHolder.getCurrentExtendInfo());
+            if (compactSerialization && ModifyRequestCodec.isSupported(sqlContext)) {
+                builder.setData(ByteString.copyFrom(ModifyRequestCodec.encode(sqlContext)))
+                        .setType(ModifyRequestCodec.TYPE);
+            } else {
+                builder.setData(ByteString.copyFrom(serializer.serialize(sqlContext)))
+                        .setType(sqlContext.getClass().getCanonicalName());
+            }
+            WriteRequest request = builder.build();
             if (Objects.isNull(consumer)) {
-                Response response = this.protocol.write(request);
+                Response response = write(request);
                 if (response.getSuccess()) {
                     return true;
                 }
                 LOGGER.error("execute sql modify operation failed : {}", response.getErrMsg());
                 return false;
             } else {
-                this.protocol.writeAsync(request).whenComplete((BiConsumer<Response, Throwable>) (response, ex) -> {
+                writeAsync(request).whenComplete((BiConsumer<Response, Throwable>) (response, ex) -> {
                     String errMsg = Objects.isNull(ex) ? response.getErrMsg() : ExceptionUtil.getCause(ex).getMessage();
                     consumer.accept(response.getSuccess(),
                             StringUtils.isBlank(errMsg) ? null : new NJdbcException(errMsg));
@@ -520,10 +575,13 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         LoggerUtils.printIfDebugEnabled(LOGGER, "onApply info : log : {}", log);
         final ByteString byteString = log.getData();
         Preconditions.checkArgument(byteString != null, "Log.getData() must not null");
+        if (EmbeddedWriteBatcher.BATCH_TYPE.equals(log.getType())) {
+            return onApplyBatch(log);
+        }
         final Lock lock = readLock;
         lock.lock();
         try {
-            List<ModifyRequest> sqlContext = serializer.deserialize(byteString.toByteArray(), List.class);
+            List<ModifyRequest> sqlContext = deserializeSqlContext(log);
             sqlLimiter.doLimitForModifyRequest(sqlContext);
             boolean isOk = false;
             if (log.containsExtendInfo(DATA_IMPORT_KEY)) {
@@ -557,6 +615,98 @@ public class DistributedDatabaseOperateImpl extends RequestProcessor4CP implemen
         }
     }
     
+    private List<ModifyRequest> deserializeSqlContext(WriteRequest log) {
+        if (ModifyRequestCodec.TYPE.equals(log.getType())) {
+            return ModifyRequestCodec.decode(log.getData().toByteArray());
+        }
+        return serializer.deserialize(log.getData().toByteArray(), List.class);
+    }
+    
+    private Response write(WriteRequest request) throws Exception {
+        if (writeBatcher == null) {
+            return protocol.write(request);
+        }
+        // same timeout as the write of protocol
+        return writeBatcher.submit(request).get(10_000L, TimeUnit.MILLISECONDS);
+    }
+    
+    private CompletableFuture<Response> writeAsync(WriteRequest request) {
+        if (writeBatcher == null) {
+            return protocol.writeAsync(request);
+        }
+        return writeBatcher.submit(request);
+    }
+    
+    /**
+     * Apply a batch of write requests in one transaction, each write request is isolated by a savepoint so that the
+     * failure of one write request does not affect the others.
+     *
+     * @param log batch write request
+     * @return response whose data is the responses of all write requests
+     */
+    private Response onApplyBatch(WriteRequest log) {
+        final List<WriteRequest> requests;
+        try {
+            requests = EmbeddedWriteBatcher.decodeRequests(log.getData());
+        } catch (IOException e) {
+            return Response.newBuilder().setSuccess(false).setErrMsg(e.toString()).build();
+        }
+        final List<Response> responses = new ArrayList<>(requests.size());
+        final Lock lock = readLock;
+        lock.lock();
+        try {
+            transactionTemplate.execute(status -> {
+                for (WriteRequest each : requests) {
+                    responses.add(applyInSavepoint(status, each));
+                }
+                return Boolean.TRUE;
+            });
+        } catch (DataAccessException e) {
+            throw new ConsistencyException(e.toString());
+        } finally {
+            lock.unlock();
+        }
+        PersistenceExecutor.executeEmbeddedDump(() -> {
+            for (WriteRequest request : requests) {
+                for (EmbeddedApplyHook each : EmbeddedApplyHookHolder.getInstance().getAllHooks()) {
+                    each.afterApply(request);
+                }
+            }
+        });
+        return Response.newBuilder().setSuccess(true).setData(EmbeddedWriteBatcher.encodeResponses(responses))
+                .build();
+    }
+    
+    private Response applyInSavepoint(TransactionStatus status, WriteRequest request) {
+        Object savepoint = status.createSavepoint();
+        try {
+            List<ModifyRequest> sqlContext = deserializeSqlContext(request);
+            sqlLimiter.doLimitForModifyRequest(sqlContext);
+            sqlContext.sort(Comparator.comparingInt(ModifyRequest::getExecuteNo));
+            for (ModifyRequest each : sqlContext) {
+                int row = jdbcTemplate.update(each.getSql(), each.getArgs());
+                if (each.isRollBackOnUpdateFail() && row < 1) {
+                    LoggerUtils.printIfDebugEnabled(LOGGER, "SQL update affected {} rows ", row);
+                    throw new IllegalTransactionStateException("Illegal transaction");
+                }
+            }
+            status.releaseSavepoint(savepoint);
+            return Response.newBuilder().setSuccess(true).build();
+        } catch (IllegalTransactionStateException e) {
+            status.rollbackToSavepoint(savepoint);
+            return Response.newBuilder().setSuccess(false).build();
+        } catch (BadSqlGrammarException | DataIntegrityViolationException e) {
+            status.rollbackToSavepoint(savepoint);
+            return Response.newBuilder().setSuccess(false).setErrMsg(e.toString()).build();
+        } catch (DataAccessException e) {
+            throw e;
+        } catch (Exception e) {
+            LoggerUtils.printIfWarnEnabled(LOGGER, "onApply warn : log : {}", request, e);
+            status.rollbackToSavepoint(savepoint);
+            return Response.newBuilder().setSuccess(false).setErrMsg(e.toString()).build();
+        }
+    }
+    
     @Override
     public void onError(Throwable throwable) {
         // Trigger reversion strategy
@@ -0,0 +1,256 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.consistency.cp.CPProtocol;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.google.protobuf.ByteString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesce concurrent embedded storage writes into one raft log.
+ *
+ * <p>A single committer thread drains pending writes within a small window and commits them as one batch write
+ * request without waiting for the previous batch, so batches are pipelined. The state machine applies the batch and
+ * replies the responses of all writes, which complete the future of each write.
+ *
+ * @author nacos
+ */
+class EmbeddedWriteBatcher {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddedWriteBatcher.class);
+    
+    /**
+     * Type of write request whose data is a batch of write requests.
+     */
+    static final String BATCH_TYPE = "writeRequestBatch";
+    
+    private static final long CLOSE_CHECK_INTERVAL_MS = 100L;
+    
+    private final CPProtocol<?, ?> protocol;
+    
+    private final String group;
+    
+    private final int maxBatchSize;
+    
+    private final int maxBatchBytes;
+    
+    private final long windowNanos;
+    
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    
+    private final Thread committer;
+    
+    private volatile boolean closed;
+    
+    EmbeddedWriteBatcher(CPProtocol<?, ?> protocol, String group, int maxBatchSize, int maxBatchBytes, long windowMs) {
+        this.protocol = protocol;
+        this.group = group;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxBatchBytes = Math.max(1, maxBatchBytes);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, windowMs));
+        this.committer = new NameThreadFactory("com.alibaba.nacos.core.persistence.write.batcher").newThread(
+                this::runCommitLoop);
+        this.committer.start();
+    }
+    
+    /**
+     * Submit write request, which is committed with other pending writes.
+     *
+     * @param request write request
+     * @return future of the response of this write request
+     */
+    CompletableFuture<Response> submit(WriteRequest request) {
+        PendingWrite pendingWrite = new PendingWrite(request);
+        if (closed) {
+            pendingWrite.future.completeExceptionally(new IllegalStateException("write batcher is closed"));
+            return pendingWrite.future;
+        }
+        queue.offer(pendingWrite);
+        if (closed && queue.remove(pendingWrite)) {
+            pendingWrite.future.completeExceptionally(new IllegalStateException("write batcher is closed"));
+        }
+        return pendingWrite.future;
+    }
+    
+    private void runCommitLoop() {
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(CLOSE_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingWrite> batch = new ArrayList<>();
+                batch.add(first);
+                collect(batch, first.request.getSerializedSize());
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Throwable e) {
+                LOGGER.error("Commit embedded storage write batch failed.", e);
+            }
+        }
+        PendingWrite each;
+        while ((each = queue.poll()) != null) {
+            each.future.completeExceptionally(new IllegalStateException("write batcher is closed"));
+        }
+    }
+    
+    private void collect(List<PendingWrite> batch, int batchBytes) throws InterruptedException {
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize && batchBytes < maxBatchBytes) {
+            PendingWrite next = queue.peek();
+            if (next == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    return;
+                }
+            } else {
+                queue.poll();
+            }
+            batch.add(next);
+            batchBytes += next.request.getSerializedSize();
+        }
+    }
+    
+    private void commit(List<PendingWrite> batch) {
+        if (batch.size() == 1) {
+            PendingWrite single = batch.get(0);
+            protocol.writeAsync(single.request).whenComplete((response, ex) -> {
+                if (ex != null) {
+                    single.future.completeExceptionally(ex);
+                } else {
+                    single.future.complete(response);
+                }
+            });
+            return;
+        }
+        List<WriteRequest> requests = new ArrayList<>(batch.size());
+        for (PendingWrite each : batch) {
+            requests.add(each.request);
+        }
+        WriteRequest batchRequest = WriteRequest.newBuilder().setGroup(group)
+                .setKey(batch.get(0).request.getKey() + "-batch-" + batch.size()).setType(BATCH_TYPE)
+                .setData(encodeRequests(requests)).build();
+        protocol.writeAsync(batchRequest).whenComplete((response, ex) -> {
+            if (ex != null) {
+                batch.forEach(each -> each.future.completeExceptionally(ex));
+                return;
+            }
+            if (!response.getSuccess()) {
+                batch.forEach(each -> each.future.complete(response));
+                return;
+            }
+            try {
+                List<Response> responses = decodeResponses(response.getData());
+                if (responses.size() != batch.size()) {
+                    throw new IllegalStateException(
+                            "Expect " + batch.size() + " responses of write batch, but " + responses.size());
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).future.complete(responses.get(i));
+                }
+            } catch (Throwable t) {
+                batch.forEach(each -> each.future.completeExceptionally(t));
+            }
+        });
+    }
+    
+    /**
+     * Stop accepting writes and commit pending writes.
+     */
+    void close() {
+        closed = true;
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    static ByteString encodeRequests(List<WriteRequest> requests) {
+        ByteString.Output output = ByteString.newOutput();
+        try {
+            for (WriteRequest each : requests) {
+                each.writeDelimitedTo(output);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return output.toByteString();
+    }
+    
+    static List<WriteRequest> decodeRequests(ByteString data) throws IOException {
+        List<WriteRequest> requests = new ArrayList<>();
+        InputStream input = data.newInput();
+        WriteRequest each;
+        while ((each = WriteRequest.parseDelimitedFrom(input)) != null) {
+            requests.add(each);
+        }
+        return requests;
+    }
+    
+    static ByteString encodeResponses(List<Response> responses) {
+        ByteString.Output output = ByteString.newOutput();
+        try {
+            for (Response each : responses) {
+                each.writeDelimitedTo(output);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return output.toByteString();
+    }
+    
+    static List<Response> decodeResponses(ByteString data) throws IOException {
+        List<Response> responses = new ArrayList<>();
+        InputStream input = data.newInput();
+        Response each;
+        while ((each = Response.parseDelimitedFrom(input)) != null) {
+            responses.add(each);
+        }
+        return responses;
+    }
+    
+    private static class PendingWrite {
+        
+        private final WriteRequest request;
+        
+        private final CompletableFuture<Response> future = new CompletableFuture<>();
+        
+        PendingWrite(WriteRequest request) {
+            this.request = request;
+        }
+    }
+}
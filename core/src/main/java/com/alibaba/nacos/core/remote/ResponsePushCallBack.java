@@ -0,0 +1,38 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.remote;
+
+import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.response.Response;
+
+/**
+ * Push callback which handles the response by itself, used when the result of push is carried in the response body.
+ *
+ * <p>{@link RpcPushService} passes the response to {@link #onResponse(Response)} instead of calling
+ * {@link #onSuccess()} or {@link #onFail(Throwable)} by the response code.
+ *
+ * @author nacos
+ */
+public interface ResponsePushCallBack extends PushCallBack {
+    
+    /**
+     * invoked when the response of push received.
+     *
+     * @param response response of push
+     */
+    void onResponse(Response response);
+}
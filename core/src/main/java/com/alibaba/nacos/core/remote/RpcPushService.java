@@ -61,7 +61,9 @@ public class RpcPushService {
                     
                     @Override
                     public void onResponse(Response response) {
-                        if (response.isSuccess()) {
+                        if (requestCallBack instanceof ResponsePushCallBack) {
+                            ((ResponsePushCallBack) requestCallBack).onResponse(response);
+                        } else if (response.isSuccess()) {
                             requestCallBack.onSuccess();
                         } else {
                             requestCallBack.onFail(new NacosException(response.getErrorCode(), response.getMessage()));
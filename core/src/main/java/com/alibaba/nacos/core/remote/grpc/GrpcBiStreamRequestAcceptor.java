@@ -57,7 +57,7 @@ public class GrpcBiStreamRequestAcceptor extends BiRequestStreamGrpc.BiRequestSt
             if (connectionManager.traced(clientIp)) {
                 Loggers.REMOTE_DIGEST.info("[{}]Bi stream request receive, meta={},body={}", connectionId,
                         grpcRequest.getMetadata().toByteString().toStringUtf8(),
-                        grpcRequest.getBody().toByteString().toStringUtf8());
+                        GrpcUtils.getBodyTraceString(grpcRequest));
             }
         } catch (Throwable throwable) {
             Loggers.REMOTE_DIGEST.error("[{}]Bi stream request error,payload={},error={}", connectionId,
@@ -89,6 +89,7 @@ public class GrpcBiStreamRequestAcceptor extends BiRequestStreamGrpc.BiRequestSt
                 
                 Object parseObj;
                 try {
+                    GrpcConnection.checkPayloadCompression(payload, connectionManager.getConnection(connectionId));
                     parseObj = GrpcUtils.parse(payload);
                 } catch (Throwable throwable) {
                     Loggers.REMOTE_DIGEST
@@ -99,7 +100,7 @@ public class GrpcBiStreamRequestAcceptor extends BiRequestStreamGrpc.BiRequestSt
                 if (parseObj == null) {
                     Loggers.REMOTE_DIGEST
                             .warn("[{}]Grpc request bi stream,payload parse null ,body={},meta={}", connectionId,
-                                    payload.getBody().getValue().toStringUtf8(), payload.getMetadata());
+                                    GrpcUtils.getBodyTraceString(payload), payload.getMetadata());
                     return;
                 }
                 if (parseObj instanceof ConnectionSetupRequest) {
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.api.grpc.auto.Payload;
@@ -24,9 +25,15 @@ import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.RequestFuture;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.executor.HashedWheelTimer;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.CompressedPayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCompressor;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.common.remote.exception.ConnectionBusyException;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcAckCallbackSynchronizer;
@@ -39,8 +46,10 @@ import io.grpc.netty.shaded.io.netty.channel.Channel;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * grpc connection.
@@ -74,7 +83,8 @@ public class GrpcConnection extends Connection {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 try {
-                    Payload payload = GrpcUtils.convert(request);
+                    Payload payload = GrpcUtils.convert(request, getPayloadCodec(),
+                            getPayloadCompressor(getAbilityTable()));
                     traceIfNecessary(payload);
                     streamObserver.onNext(payload);
                     return true;
@@ -99,6 +109,53 @@ public class GrpcConnection extends Connection {
         }
     }
     
+    /**
+     * Use smile codec to push request if client supports, sdk client and cluster client use same ability name.
+     */
+    private PayloadCodec getPayloadCodec() {
+        Map<String, Boolean> abilityTable = getAbilityTable();
+        if (null != abilityTable && Boolean.TRUE
+                .equals(abilityTable.get(AbilityKey.SDK_CLIENT_SUPPORT_SMILE_PAYLOAD.getName()))) {
+            return PayloadCodecRegistry.SMILE;
+        }
+        return PayloadCodecRegistry.JSON;
+    }
+    
+    /**
+     * Compress large payload body if client supports, sdk client and cluster client use same ability name.
+     *
+     * @param abilityTable ability table of client connection
+     * @return payload compressor, or {@code null} if client doesn't support compression
+     */
+    static PayloadCompressor getPayloadCompressor(Map<String, Boolean> abilityTable) {
+        if (null != abilityTable && Boolean.TRUE
+                .equals(abilityTable.get(AbilityKey.SDK_CLIENT_SUPPORT_GZIP_PAYLOAD.getName()))) {
+            return PayloadCodecRegistry.GZIP;
+        }
+        return null;
+    }
+    
+    /**
+     * Only accept compressed body from the connection which negotiated the compressor, both for unary requests and for
+     * payloads received from bi stream.
+     *
+     * @param payload    received payload
+     * @param connection connection of payload, {@code null} if connection is not registered yet
+     * @throws RemoteException if payload body is compressed by a compressor not negotiated by the connection
+     */
+    static void checkPayloadCompression(Payload payload, Connection connection) {
+        PayloadCodec codec = GrpcUtils.getPayloadCodec(payload);
+        if (!(codec instanceof CompressedPayloadCodec)) {
+            return;
+        }
+        PayloadCompressor compressor = null == connection ? null : getPayloadCompressor(connection.getAbilityTable());
+        if (null == compressor || !compressor.getName()
+                .equals(((CompressedPayloadCodec) codec).getCompressor().getName())) {
+            throw new RemoteException(NacosException.BAD_GATEWAY,
+                    "Payload compressor is not negotiated by connection:" + codec.getName());
+        }
+    }
+    
     private void sendQueueBlockCheck() {
         if (streamObserver instanceof ServerCallStreamObserver) {
             // if bytes on queue is greater than  32k ,isReady will return false.
@@ -132,8 +189,8 @@ public class GrpcConnection extends Connection {
         if (this.isTraced()) {
             try {
                 connectionId = getMetaInfo().getConnectionId();
-                Loggers.REMOTE_DIGEST.info("[{}]Send request to client ,payload={}", connectionId,
-                        payload.toByteString().toStringUtf8());
+                Loggers.REMOTE_DIGEST.info("[{}]Send request to client ,meta={},body={}", connectionId,
+                        payload.getMetadata().toByteString().toStringUtf8(), GrpcUtils.getBodyTraceString(payload));
             } catch (Throwable throwable) {
                 Loggers.REMOTE_DIGEST.warn("[{}]Send request to client trace error, ,error={}", connectionId,
                         throwable);
@@ -146,13 +203,23 @@ public class GrpcConnection extends Connection {
         request.setRequestId(requestId);
         
         DefaultRequestFuture defaultPushFuture = new DefaultRequestFuture(getMetaInfo().getConnectionId(), requestId,
-                callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId));
+                callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId),
+                GrpcConnection::scheduleTimeout);
         
         RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture);
         sendRequestNoAck(request);
         return defaultPushFuture;
     }
     
+    /**
+     * Push callbacks of all connections time out on the shared timing wheel instead of one scheduled future each.
+     */
+    private static Runnable scheduleTimeout(Runnable timeoutTask, long timeoutMills) {
+        HashedWheelTimer.Timeout timeout = HashedWheelTimer.shared()
+                .newTimeout(timeoutTask, timeoutMills, TimeUnit.MILLISECONDS);
+        return timeout::cancel;
+    }
+    
     @Override
     public Response request(Request request, long timeoutMills) throws NacosException {
         DefaultRequestFuture pushFuture = sendRequestInner(request, null);
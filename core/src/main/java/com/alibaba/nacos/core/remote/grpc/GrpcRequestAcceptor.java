@@ -29,6 +29,8 @@ import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.api.remote.response.ServerCheckResponse;
 import com.alibaba.nacos.common.constant.HttpHeaderConsts;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecRegistry;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.context.RequestContext;
 import com.alibaba.nacos.core.context.RequestContextHolder;
@@ -68,7 +70,7 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             if (connectionManager.traced(clientIp)) {
                 Loggers.REMOTE_DIGEST.info("[{}]Payload {},meta={},body={}", connectionId, receive ? "receive" : "send",
                         grpcRequest.getMetadata().toByteString().toStringUtf8(),
-                        grpcRequest.getBody().toByteString().toStringUtf8());
+                        GrpcUtils.getBodyTraceString(grpcRequest));
             }
         } catch (Throwable throwable) {
             Loggers.REMOTE_DIGEST.error("[{}]Monitor request error,payload={},error={}", connectionId, clientIp,
@@ -140,6 +142,7 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
         
         Object parseObj = null;
         try {
+            GrpcConnection.checkPayloadCompression(grpcRequest, connectionManager.getConnection(connectionId));
             parseObj = GrpcUtils.parse(grpcRequest);
         } catch (Exception e) {
             Loggers.REMOTE_DIGEST
@@ -193,7 +196,10 @@ public class GrpcRequestAcceptor extends RequestGrpc.RequestImplBase {
             connectionManager.refreshActiveTime(requestMeta.getConnectionId());
             prepareRequestContext(request, requestMeta, connection);
             Response response = requestHandler.handleRequest(request, requestMeta);
-            Payload payloadResponse = GrpcUtils.convert(response);
+            // response with the same codec as request, and compress large response if client supports
+            PayloadCodec codec = PayloadCodecRegistry.getUncompressedCodec(GrpcUtils.getPayloadCodec(grpcRequest));
+            Payload payloadResponse = GrpcUtils.convert(response, codec,
+                    GrpcConnection.getPayloadCompressor(connection.getAbilityTable()));
             traceIfNecessary(payloadResponse, false);
             if (response.getErrorCode() == NacosException.OVER_THRESHOLD) {
                 RpcScheduledExecutor.CONTROL_SCHEDULER.schedule(() -> {
@@ -59,9 +59,15 @@ class DistroModuleStateBuilderTest {
                 states.get(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS,
                 states.get(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_VERIFY_SHARD_COUNT,
+                states.get(DistroConstants.DATA_VERIFY_SHARD_COUNT_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS,
                 states.get(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS,
                 states.get(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_LOAD_SEGMENT_SIZE,
+                states.get(DistroConstants.DATA_LOAD_SEGMENT_SIZE_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_LOAD_COMPRESS_ENABLED,
+                states.get(DistroConstants.DATA_LOAD_COMPRESS_ENABLED_STATE));
     }
 }
@@ -27,6 +27,7 @@ import java.lang.reflect.Constructor;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DistroConfigTest {
     
@@ -42,8 +43,12 @@ class DistroConfigTest {
     
     private long verifyTimeoutMillis = 500L;
     
+    private int verifyShardCount = 6;
+    
     private long loadDataRetryDelayMillis = 80000L;
     
+    private int loadDataSegmentSize = 500;
+    
     @BeforeEach
     void setUp() {
         EnvUtil.setEnvironment(new MockEnvironment());
@@ -94,7 +99,10 @@ class DistroConfigTest {
         environment.setProperty(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS, String.valueOf(syncRetryDelayMillis));
         environment.setProperty(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS, String.valueOf(verifyIntervalMillis));
         environment.setProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, String.valueOf(verifyTimeoutMillis));
+        environment.setProperty(DistroConstants.DATA_VERIFY_SHARD_COUNT, String.valueOf(verifyShardCount));
         environment.setProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, String.valueOf(loadDataRetryDelayMillis));
+        environment.setProperty(DistroConstants.DATA_LOAD_SEGMENT_SIZE, String.valueOf(loadDataSegmentSize));
+        environment.setProperty(DistroConstants.DATA_LOAD_COMPRESS_ENABLED, "true");
         
         Constructor<DistroConfig> declaredConstructor = DistroConfig.class.getDeclaredConstructor();
         declaredConstructor.setAccessible(true);
@@ -105,7 +113,10 @@ class DistroConfigTest {
         assertEquals(distroConfig.getSyncRetryDelayMillis(), syncRetryDelayMillis);
         assertEquals(distroConfig.getVerifyIntervalMillis(), verifyIntervalMillis);
         assertEquals(distroConfig.getVerifyTimeoutMillis(), verifyTimeoutMillis);
+        assertEquals(distroConfig.getVerifyShardCount(), verifyShardCount);
         assertEquals(distroConfig.getLoadDataRetryDelayMillis(), loadDataRetryDelayMillis);
-        
+        assertEquals(distroConfig.getLoadDataSegmentSize(), loadDataSegmentSize);
+        assertTrue(distroConfig.isLoadDataCompressEnabled());
+    
     }
 }
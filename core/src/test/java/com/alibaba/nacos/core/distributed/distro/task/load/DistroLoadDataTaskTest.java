@@ -26,6 +26,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +44,9 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -96,8 +100,8 @@ class DistroLoadDataTaskTest {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
-        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
+        lenient().when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        lenient().when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
     
@@ -109,4 +113,25 @@ class DistroLoadDataTaskTest {
         assertTrue(loadCompletedMap.containsKey(type));
         verify(distroTransportAgent).getDatumSnapshot(any(String.class));
     }
+    
+    @Test
+    void testRunWithSegmentedSnapshot() {
+        DistroSnapshotSegment segment0 = new DistroSnapshotSegment(distroData, 0, 3);
+        DistroSnapshotSegment segment1 = new DistroSnapshotSegment(distroData, 1, 3);
+        DistroSnapshotSegment segment2 = new DistroSnapshotSegment(distroData, 2, 3);
+        when(distroTransportAgent.getDatumSnapshotSegment(any(String.class), eq(0), eq(0))).thenReturn(segment0);
+        when(distroTransportAgent.getDatumSnapshotSegment(any(String.class), eq(1), eq(3))).thenReturn(segment1);
+        when(distroTransportAgent.getDatumSnapshotSegment(any(String.class), eq(2), eq(3))).thenReturn(segment2);
+        when(distroDataProcessor.processSnapshotSegment(any(DistroSnapshotSegment.class))).thenReturn(true);
+        distroLoadDataTask.run();
+        Map<String, Boolean> loadCompletedMap = (Map<String, Boolean>) ReflectionTestUtils.getField(distroLoadDataTask,
+                "loadCompletedMap");
+        assertNotNull(loadCompletedMap);
+        assertTrue(loadCompletedMap.get(type));
+        verify(distroDataProcessor).processSnapshotSegment(segment0);
+        verify(distroDataProcessor).processSnapshotSegment(segment1);
+        verify(distroDataProcessor).processSnapshotSegment(segment2);
+        verify(distroTransportAgent, never()).getDatumSnapshot(any(String.class));
+        verify(distroDataStorage).finishInitial();
+    }
 }
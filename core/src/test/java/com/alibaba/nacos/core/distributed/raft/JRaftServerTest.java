@@ -19,6 +19,7 @@ package com.alibaba.nacos.core.distributed.raft;
 import com.alibaba.nacos.common.model.RestResult;
 import com.alibaba.nacos.common.model.RestResultUtils;
 import com.alibaba.nacos.consistency.RequestProcessor;
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
@@ -32,10 +33,12 @@ import com.alipay.sofa.jraft.Node;
 import com.alipay.sofa.jraft.RaftGroupService;
 import com.alipay.sofa.jraft.RouteTable;
 import com.alipay.sofa.jraft.Status;
+import com.alipay.sofa.jraft.closure.ReadIndexClosure;
 import com.alipay.sofa.jraft.conf.Configuration;
 import com.alipay.sofa.jraft.core.NodeImpl;
 import com.alipay.sofa.jraft.core.State;
 import com.alipay.sofa.jraft.entity.PeerId;
+import com.alipay.sofa.jraft.option.ReadOnlyOption;
 import com.alipay.sofa.jraft.error.RemotingException;
 import com.alipay.sofa.jraft.rpc.CliRequests;
 import com.alipay.sofa.jraft.rpc.InvokeCallback;
@@ -71,10 +74,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -278,6 +283,40 @@ class JRaftServerTest {
         verify(cliClientServiceMock).getRpcClient();
     }
     
+    @Test
+    void testGetWithLeaseRead() throws Exception {
+        Response response = Response.newBuilder().setSuccess(true).build();
+        when(requestProcessor.onRequest(any(ReadRequest.class))).thenReturn(response);
+        doAnswer(invocation -> {
+            invocation.getArgument(2, ReadIndexClosure.class).run(Status.OK(), 1L, null);
+            return null;
+        }).when(node).readIndex(eq(ReadOnlyOption.ReadOnlyLeaseBased), any(byte[].class), any(ReadIndexClosure.class));
+        ReadRequest request = ReadRequest.newBuilder().setGroup("test_nacos")
+                .putExtendInfo(ReadConsistency.READ_CONSISTENCY_KEY, ReadConsistency.LEASE.name()).build();
+        assertEquals(response, server.get(request).get());
+        verify(node, never()).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+    }
+    
+    @Test
+    void testGetWithStaleRead() throws Exception {
+        Response response = Response.newBuilder().setSuccess(true).build();
+        when(requestProcessor.onRequest(any(ReadRequest.class))).thenReturn(response);
+        doAnswer(invocation -> {
+            invocation.getArgument(1, ReadIndexClosure.class).run(Status.OK(), 1L, null);
+            return null;
+        }).when(node).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+        ReadRequest request = ReadRequest.newBuilder().setGroup("test_nacos")
+                .putExtendInfo(ReadConsistency.READ_CONSISTENCY_KEY, ReadConsistency.STALE.name())
+                .putExtendInfo(ReadConsistency.MAX_STALENESS_MS_KEY, "60000").build();
+        // local data is never confirmed to catch up, read by read index first.
+        assertEquals(response, server.get(request).get());
+        verify(node, times(1)).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+        // then read local data directly.
+        assertEquals(response, server.get(request).get());
+        verify(node, times(1)).readIndex(any(byte[].class), any(ReadIndexClosure.class));
+        verify(requestProcessor, times(2)).onRequest(request);
+    }
+    
     @Test
     void testRegisterSelfToCluster() {
         PeerId selfPeerId = new PeerId("4.4.4.4", 8080);
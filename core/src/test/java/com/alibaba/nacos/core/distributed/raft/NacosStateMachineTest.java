@@ -0,0 +1,185 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.raft;
+
+import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
+import com.alibaba.nacos.consistency.entity.ReadRequest;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import com.alibaba.nacos.core.distributed.raft.utils.RaftExecutor;
+import com.alipay.sofa.jraft.Iterator;
+import com.alipay.sofa.jraft.Status;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NacosStateMachineTest {
+    
+    @BeforeAll
+    static void beforeAll() {
+        RaftConfig config = new RaftConfig();
+        config.setVal(RaftSysConstants.RAFT_APPLY_PARALLELISM, "4");
+        RaftExecutor.init(config);
+    }
+    
+    @AfterAll
+    static void afterAll() {
+        RaftExecutor.init(new RaftConfig());
+    }
+    
+    @Test
+    void testApplyInParallel() {
+        MockProcessor processor = new MockProcessor(null);
+        final NacosStateMachine machine = new NacosStateMachine(null, processor);
+        List<WriteRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            requests.add(write("key" + (i % 5), String.valueOf(i)));
+        }
+        // write without partition key is a barrier.
+        requests.add(write("", "barrier"));
+        requests.add(write("key0", "after"));
+        List<Status> statuses = new ArrayList<>();
+        Iterator iter = mockIterator(requests, statuses);
+        
+        machine.onApply(iter);
+        
+        verify(iter, never()).setErrorAndRollback(anyLong(), any(Status.class));
+        assertEquals(requests.size(), statuses.size());
+        statuses.forEach(status -> assertTrue(status.isOk()));
+        for (int i = 0; i < 5; i++) {
+            List<String> applied = processor.applied.get("key" + i);
+            assertEquals(20, applied.size() - (i == 0 ? 1 : 0));
+            for (int j = 1; j < 20; j++) {
+                assertTrue(Integer.parseInt(applied.get(j)) > Integer.parseInt(applied.get(j - 1)));
+            }
+        }
+        assertEquals("after", processor.applied.get("key0").get(20));
+        assertEquals(Collections.singletonList("barrier"), processor.applied.get(""));
+    }
+    
+    @Test
+    void testApplyInParallelFailed() {
+        MockProcessor processor = new MockProcessor("3");
+        final NacosStateMachine machine = new NacosStateMachine(null, processor);
+        List<WriteRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            requests.add(write("key" + i, String.valueOf(i)));
+        }
+        List<Status> statuses = new ArrayList<>();
+        Iterator iter = mockIterator(requests, statuses);
+        
+        machine.onApply(iter);
+        
+        // the iterator is at end, rollback to the failed one.
+        verify(iter).setErrorAndRollback(eq(3L), any(Status.class));
+        assertEquals(3, statuses.size());
+    }
+    
+    @Test
+    void testFindLastSnapshotPath() throws Exception {
+        Path parent = Files.createTempDirectory("snapshot");
+        try {
+            assertNull(NacosStateMachine.findLastSnapshotPath(parent.resolve("temp").toString()));
+            Files.createDirectory(parent.resolve("snapshot_9"));
+            Files.createDirectory(parent.resolve("snapshot_10"));
+            Files.createDirectory(parent.resolve("snapshot_abc"));
+            assertEquals(parent.resolve("snapshot_10").toString(),
+                    NacosStateMachine.findLastSnapshotPath(parent.resolve("temp").toString()));
+        } finally {
+            for (File each : parent.toFile().listFiles()) {
+                assertTrue(each.delete());
+            }
+            assertTrue(parent.toFile().delete());
+        }
+    }
+    
+    private WriteRequest write(String key, String value) {
+        return WriteRequest.newBuilder().setGroup("test").setKey(key).setOperation(value).build();
+    }
+    
+    private Iterator mockIterator(List<WriteRequest> requests, List<Status> statuses) {
+        Iterator iter = mock(Iterator.class);
+        int[] position = new int[] {0};
+        List<NacosClosure> closures = new ArrayList<>();
+        for (WriteRequest each : requests) {
+            closures.add(new NacosClosure(each, status -> statuses.add(status)));
+        }
+        when(iter.hasNext()).thenAnswer(invocation -> position[0] < requests.size());
+        when(iter.done()).thenAnswer(invocation -> closures.get(position[0]));
+        when(iter.next()).thenAnswer(invocation -> {
+            position[0]++;
+            return null;
+        });
+        return iter;
+    }
+    
+    private static class MockProcessor extends RequestProcessor4CP {
+        
+        private final Map<String, List<String>> applied = new ConcurrentHashMap<>();
+        
+        private final String failedValue;
+        
+        MockProcessor(String failedValue) {
+            this.failedValue = failedValue;
+        }
+        
+        @Override
+        public String partitionKey(WriteRequest request) {
+            return request.getKey();
+        }
+        
+        @Override
+        public Response onRequest(ReadRequest request) {
+            return null;
+        }
+        
+        @Override
+        public Response onApply(WriteRequest log) {
+            if (log.getOperation().equals(failedValue)) {
+                throw new IllegalStateException("mock failure");
+            }
+            applied.computeIfAbsent(log.getKey(), key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(log.getOperation());
+            return Response.newBuilder().setSuccess(true).build();
+        }
+        
+        @Override
+        public String group() {
+            return "test";
+        }
+    }
+}
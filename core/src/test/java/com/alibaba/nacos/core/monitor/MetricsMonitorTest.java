@@ -115,6 +115,12 @@ class MetricsMonitorTest {
         assertEquals(1D, MetricsMonitor.getRaftFromLeader().totalAmount(), 0.01);
     }
     
+    @Test
+    void testRaftReadFromLocal() {
+        MetricsMonitor.raftReadFromLocal();
+        assertEquals(1D, MetricsMonitor.getRaftReadFromLocal().totalAmount(), 0.01);
+    }
+    
     @Test
     void testRaftApplyLogTimer() {
         Timer raftApplyTimerLog = MetricsMonitor.getRaftApplyLogTimer();
@@ -0,0 +1,113 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.persistence;
+
+import com.alibaba.nacos.consistency.cp.CPProtocol;
+import com.alibaba.nacos.consistency.entity.Response;
+import com.alibaba.nacos.consistency.entity.WriteRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class EmbeddedWriteBatcherTest {
+    
+    @Mock
+    private CPProtocol protocol;
+    
+    private EmbeddedWriteBatcher batcher;
+    
+    private final AtomicInteger batchCount = new AtomicInteger();
+    
+    @BeforeEach
+    void setUp() {
+        // reply each write request with its key as error message.
+        when(protocol.writeAsync(any(WriteRequest.class))).thenAnswer(invocation -> {
+            WriteRequest request = invocation.getArgument(0);
+            if (!EmbeddedWriteBatcher.BATCH_TYPE.equals(request.getType())) {
+                return CompletableFuture.completedFuture(reply(request));
+            }
+            batchCount.incrementAndGet();
+            List<Response> responses = new ArrayList<>();
+            for (WriteRequest each : EmbeddedWriteBatcher.decodeRequests(request.getData())) {
+                responses.add(reply(each));
+            }
+            return CompletableFuture.completedFuture(Response.newBuilder().setSuccess(true)
+                    .setData(EmbeddedWriteBatcher.encodeResponses(responses)).build());
+        });
+        batcher = new EmbeddedWriteBatcher(protocol, "test_group", 16, Integer.MAX_VALUE, 50L);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        batcher.close();
+    }
+    
+    @Test
+    void testSubmitCoalesced() throws Exception {
+        List<CompletableFuture<Response>> futures = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            futures.add(batcher.submit(WriteRequest.newBuilder().setGroup("test_group").setKey("key" + i).build()));
+        }
+        for (int i = 0; i < 40; i++) {
+            Response response = futures.get(i).get(5, TimeUnit.SECONDS);
+            assertTrue(response.getSuccess());
+            assertEquals("key" + i, response.getErrMsg());
+        }
+        assertTrue(batchCount.get() >= 3);
+    }
+    
+    @Test
+    void testSubmitSingle() throws Exception {
+        Response response = batcher.submit(WriteRequest.newBuilder().setGroup("test_group").setKey("single").build())
+                .get(5, TimeUnit.SECONDS);
+        assertEquals("single", response.getErrMsg());
+        assertEquals(0, batchCount.get());
+    }
+    
+    @Test
+    void testSubmitAfterClose() {
+        batcher.close();
+        CompletableFuture<Response> future = batcher.submit(WriteRequest.newBuilder().setKey("closed").build());
+        assertTrue(future.isCompletedExceptionally());
+        assertThrows(Exception.class, future::join);
+        assertFalse(future.isCancelled());
+    }
+    
+    private static Response reply(WriteRequest request) {
+        return Response.newBuilder().setSuccess(true).setErrMsg(request.getKey()).build();
+    }
+}
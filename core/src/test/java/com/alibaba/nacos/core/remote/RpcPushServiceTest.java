@@ -19,10 +19,14 @@ package com.alibaba.nacos.core.remote;
 
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.RequestCallBack;
+import com.alibaba.nacos.api.remote.response.ErrorResponse;
+import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.core.remote.grpc.GrpcConnection;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -79,6 +83,20 @@ class RpcPushServiceTest {
         }
     }
     
+    @Test
+    void testPushWithResponseCallback() throws NacosException {
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(grpcConnection);
+        ResponsePushCallBack callBack = Mockito.mock(ResponsePushCallBack.class);
+        rpcPushService.pushWithCallback(connectId, null, callBack, null);
+        ArgumentCaptor<RequestCallBack> captor = ArgumentCaptor.forClass(RequestCallBack.class);
+        Mockito.verify(grpcConnection).asyncRequest(Mockito.any(), captor.capture());
+        Response response = new ErrorResponse();
+        response.setErrorInfo(500, "test");
+        captor.getValue().onResponse(response);
+        Mockito.verify(callBack).onResponse(response);
+        Mockito.verify(callBack, Mockito.never()).onFail(Mockito.any());
+    }
+    
     @Test
     void testPushWithoutAck() {
         Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(grpcConnection);
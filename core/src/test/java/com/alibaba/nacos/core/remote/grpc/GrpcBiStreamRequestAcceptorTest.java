@@ -17,6 +17,7 @@
 
 package com.alibaba.nacos.core.remote.grpc;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.grpc.auto.BiRequestStreamGrpc;
 import com.alibaba.nacos.api.grpc.auto.Payload;
 import com.alibaba.nacos.api.remote.request.ConnectResetRequest;
@@ -26,9 +27,14 @@ import com.alibaba.nacos.api.remote.response.ConnectResetResponse;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecRegistry;
+import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.asarkar.grpc.test.GrpcCleanupExtension;
 import com.asarkar.grpc.test.Resources;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
 import io.grpc.Context;
 import io.grpc.Contexts;
 import io.grpc.ManagedChannel;
@@ -50,6 +56,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -138,4 +146,56 @@ public class GrpcBiStreamRequestAcceptorTest {
         Payload payload = GrpcUtils.convert(connectionSetupRequest, metadata);
         payloadStreamObserver.onNext(payload);
     }
+    
+    @Test
+    void testCompressedResponseNotNegotiated() {
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(buildConnection(false));
+        payloadStreamObserver = streamStub.requestBiStream(new EmptyStreamObserver());
+        payloadStreamObserver.onNext(buildCompressedResponse());
+        Mockito.verify(connectionManager, Mockito.after(200L).never()).refreshActiveTime(Mockito.any());
+        payloadStreamObserver.onCompleted();
+    }
+    
+    @Test
+    void testCompressedResponseNegotiated() {
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(buildConnection(true));
+        payloadStreamObserver = streamStub.requestBiStream(new EmptyStreamObserver());
+        payloadStreamObserver.onNext(buildCompressedResponse());
+        Mockito.verify(connectionManager, Mockito.timeout(1000L)).refreshActiveTime(Mockito.any());
+        payloadStreamObserver.onCompleted();
+    }
+    
+    private Connection buildConnection(boolean supportGzip) {
+        ConnectionMeta connectionMeta = new ConnectionMeta(connectId, "127.0.0.1", "127.0.0.1", 8888, 9848, "GRPC", "",
+                "", new HashMap<>());
+        Connection connection = new GrpcConnection(connectionMeta, null, null);
+        Map<String, Boolean> abilityTable = new HashMap<>();
+        abilityTable.put(AbilityKey.SDK_CLIENT_SUPPORT_GZIP_PAYLOAD.getName(), supportGzip);
+        connection.setAbilityTable(abilityTable);
+        return connection;
+    }
+    
+    private Payload buildCompressedResponse() {
+        Response response = new ConnectResetResponse();
+        response.setRequestId(requestId);
+        Payload plainPayload = GrpcUtils.convert(response);
+        byte[] compressedBody = PayloadCodecRegistry.GZIP.compress(plainPayload.getBody().getValue().toByteArray());
+        return plainPayload.toBuilder().setBody(
+                Any.newBuilder().setTypeUrl("json+gzip").setValue(ByteString.copyFrom(compressedBody))).build();
+    }
+    
+    private static class EmptyStreamObserver implements StreamObserver<Payload> {
+        
+        @Override
+        public void onNext(Payload payload) {
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+        }
+        
+        @Override
+        public void onCompleted() {
+        }
+    }
 }
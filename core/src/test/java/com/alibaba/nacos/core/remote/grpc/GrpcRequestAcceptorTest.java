@@ -30,6 +30,7 @@ import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ServerCheckResponse;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecRegistry;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
@@ -38,6 +39,8 @@ import com.alibaba.nacos.core.remote.RequestHandlerRegistry;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import com.asarkar.grpc.test.GrpcCleanupExtension;
 import com.asarkar.grpc.test.Resources;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
 import io.grpc.Context;
 import io.grpc.Contexts;
 import io.grpc.ManagedChannel;
@@ -287,6 +290,51 @@ public class GrpcRequestAcceptorTest {
         ApplicationUtils.setStarted(false);
     }
     
+    @Test
+    void testCompressedRequestNotNegotiated() {
+        ApplicationUtils.setStarted(true);
+        Mockito.when(requestHandlerRegistry.getByRequestType(Mockito.anyString())).thenReturn(mockHandler);
+        Mockito.when(connectionManager.checkValid(Mockito.any())).thenReturn(true);
+        String ip = "1.1.1.1";
+        ConnectionMeta connectionMeta = new ConnectionMeta(connectId, ip, ip, 8888, 9848, "GRPC", "", "",
+                new HashMap<>());
+        Connection connection = new GrpcConnection(connectionMeta, null, null);
+        Mockito.when(connectionManager.getConnection(Mockito.any())).thenReturn(connection);
+        
+        RequestMeta metadata = new RequestMeta();
+        metadata.setClientIp("127.0.0.1");
+        metadata.setConnectionId(connectId);
+        Payload plainPayload = GrpcUtils.convert(new HealthCheckRequest(), metadata);
+        byte[] compressedBody = PayloadCodecRegistry.GZIP.compress(plainPayload.getBody().getValue().toByteArray());
+        Payload payload = plainPayload.toBuilder().setBody(
+                Any.newBuilder().setTypeUrl("json+gzip").setValue(ByteString.copyFrom(compressedBody))).build();
+        
+        StreamObserver<Payload> streamObserver = new StreamObserver<Payload>() {
+            @Override
+            public void onNext(Payload payload) {
+                System.out.println("Receive data from server: " + payload);
+                Object res = GrpcUtils.parse(payload);
+                assertTrue(res instanceof ErrorResponse);
+                
+                ErrorResponse errorResponse = (ErrorResponse) res;
+                assertEquals(NacosException.BAD_GATEWAY, errorResponse.getErrorCode());
+            }
+            
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable.getMessage());
+            }
+            
+            @Override
+            public void onCompleted() {
+                System.out.println("complete");
+            }
+        };
+        
+        streamStub.request(payload, streamObserver);
+        ApplicationUtils.setStarted(false);
+    }
+    
     @Test
     void testHandleRequestSuccess() {
         ApplicationUtils.setStarted(true);
@@ -31,6 +31,18 @@ public class DistroDataRequest extends AbstractClusterRequest {
     
     private DataOperation dataOperation;
     
+    /**
+     * Whether request one segment of snapshot, only used for {@link DataOperation#SNAPSHOT}.
+     */
+    private boolean snapshotSegmented;
+    
+    private int snapshotSegment;
+    
+    /**
+     * Count of snapshot segments, not positive means decided by the target server.
+     */
+    private int snapshotSegmentCount;
+    
     public DistroDataRequest() {
     }
     
@@ -54,4 +66,28 @@ public class DistroDataRequest extends AbstractClusterRequest {
     public void setDataOperation(DataOperation dataOperation) {
         this.dataOperation = dataOperation;
     }
+    
+    public boolean isSnapshotSegmented() {
+        return snapshotSegmented;
+    }
+    
+    public void setSnapshotSegmented(boolean snapshotSegmented) {
+        this.snapshotSegmented = snapshotSegmented;
+    }
+    
+    public int getSnapshotSegment() {
+        return snapshotSegment;
+    }
+    
+    public void setSnapshotSegment(int snapshotSegment) {
+        this.snapshotSegment = snapshotSegment;
+    }
+    
+    public int getSnapshotSegmentCount() {
+        return snapshotSegmentCount;
+    }
+    
+    public void setSnapshotSegmentCount(int snapshotSegmentCount) {
+        this.snapshotSegmentCount = snapshotSegmentCount;
+    }
 }
@@ -28,6 +28,11 @@ public class DistroDataResponse extends Response {
     
     private DistroData distroData;
     
+    /**
+     * Count of snapshot segments, {@code 0} means the distro data is the whole snapshot.
+     */
+    private int snapshotSegmentCount;
+    
     public DistroData getDistroData() {
         return distroData;
     }
@@ -35,4 +40,12 @@ public class DistroDataResponse extends Response {
     public void setDistroData(DistroData distroData) {
         this.distroData = distroData;
     }
+    
+    public int getSnapshotSegmentCount() {
+        return snapshotSegmentCount;
+    }
+    
+    public void setSnapshotSegmentCount(int snapshotSegmentCount) {
+        this.snapshotSegmentCount = snapshotSegmentCount;
+    }
 }
@@ -16,15 +16,20 @@
 
 package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -45,10 +50,18 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Distro processor for v2.
@@ -59,10 +72,30 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     public static final String TYPE = "Nacos:Naming:v2:ClientData";
     
+    /**
+     * Resource key of snapshot segment, used to distinguish from the whole snapshot returned by old version server.
+     */
+    public static final String SNAPSHOT_SEGMENT_KEY = "SNAPSHOT_SEGMENT";
+    
+    /**
+     * Current version of snapshot segment content format.
+     *
+     * <p>Segment content is {@code [version(1 byte)][flags(1 byte)][payload]}, payload is the serialized
+     * {@link ClientSyncDatumSnapshot} of clients in this segment, and is compressed by gzip if flag
+     * {@link #SEGMENT_FLAG_GZIP} is set.
+     */
+    static final byte SEGMENT_FORMAT_VERSION = 1;
+    
+    static final byte SEGMENT_FLAG_GZIP = 0x01;
+    
+    private static final int SEGMENT_HEADER_LENGTH = 2;
+    
     private final ClientManager clientManager;
     
     private final DistroProtocol distroProtocol;
     
+    private final AtomicLong verifyRound = new AtomicLong();
+    
     private volatile boolean isFinishInitial;
     
     public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
@@ -244,6 +277,41 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         return true;
     }
     
+    @Override
+    public boolean processSnapshotSegment(DistroSnapshotSegment snapshotSegment) {
+        DistroData distroData = snapshotSegment.getData();
+        if (!SNAPSHOT_SEGMENT_KEY.equals(distroData.getDistroKey().getResourceKey())) {
+            // Old version server ignores segment and returns the whole snapshot.
+            return processSnapshot(distroData);
+        }
+        byte[] content = distroData.getContent();
+        if (null == content || content.length < SEGMENT_HEADER_LENGTH || SEGMENT_FORMAT_VERSION != content[0]) {
+            Loggers.DISTRO.warn("[DISTRO-INIT] Unsupported snapshot segment format, segment {}/{}, version {}",
+                    snapshotSegment.getSegment(), snapshotSegment.getSegmentCount(),
+                    null == content || content.length == 0 ? null : content[0]);
+            return false;
+        }
+        byte[] payload = decodeSegmentPayload(content);
+        ClientSyncDatumSnapshot snapshot = ApplicationUtils.getBean(Serializer.class)
+                .deserialize(payload, ClientSyncDatumSnapshot.class);
+        for (ClientSyncData each : snapshot.getClientSyncDataList()) {
+            handlerClientSyncData(each);
+        }
+        return true;
+    }
+    
+    private byte[] decodeSegmentPayload(byte[] content) {
+        if ((content[1] & SEGMENT_FLAG_GZIP) == 0) {
+            return Arrays.copyOfRange(content, SEGMENT_HEADER_LENGTH, content.length);
+        }
+        try (InputStream payload = new ByteArrayInputStream(content, SEGMENT_HEADER_LENGTH,
+                content.length - SEGMENT_HEADER_LENGTH)) {
+            return IoUtils.tryDecompress(payload);
+        } catch (IOException e) {
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, "Decode snapshot segment failed", e);
+        }
+    }
+    
     @Override
     public DistroData getDistroData(DistroKey distroKey) {
         Client client = clientManager.getClient(distroKey.getResourceKey());
@@ -270,10 +338,69 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), data);
     }
     
+    @Override
+    public DistroSnapshotSegment getDatumSnapshotSegment(int segment, int segmentCount) {
+        Collection<String> allClientId = clientManager.allClientId();
+        int actualSegmentCount = segmentCount > 0 ? segmentCount : calculateSegmentCount(allClientId.size());
+        List<ClientSyncData> datum = new LinkedList<>();
+        for (String each : allClientId) {
+            if (segmentOf(each, actualSegmentCount) != segment) {
+                continue;
+            }
+            Client client = clientManager.getClient(each);
+            if (null == client || !client.isEphemeral()) {
+                continue;
+            }
+            datum.add(client.generateSyncData());
+        }
+        ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
+        snapshot.setClientSyncDataList(datum);
+        byte[] payload = ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
+        byte[] data = encodeSegment(payload, DistroConfig.getInstance().isLoadDataCompressEnabled());
+        return new DistroSnapshotSegment(new DistroData(new DistroKey(SNAPSHOT_SEGMENT_KEY, TYPE), data), segment,
+                actualSegmentCount);
+    }
+    
+    private int calculateSegmentCount(int clientCount) {
+        int segmentSize = Math.max(1, DistroConfig.getInstance().getLoadDataSegmentSize());
+        return Math.max(1, (clientCount + segmentSize - 1) / segmentSize);
+    }
+    
+    static int segmentOf(String clientId, int segmentCount) {
+        return (clientId.hashCode() & Integer.MAX_VALUE) % segmentCount;
+    }
+    
+    private byte[] encodeSegment(byte[] payload, boolean compress) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length + SEGMENT_HEADER_LENGTH);
+        out.write(SEGMENT_FORMAT_VERSION);
+        if (!compress) {
+            out.write(0);
+            out.write(payload, 0, payload.length);
+            return out.toByteArray();
+        }
+        out.write(SEGMENT_FLAG_GZIP);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        } catch (IOException e) {
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, "Encode snapshot segment failed", e);
+        }
+        return out.toByteArray();
+    }
+    
+    /**
+     * Get verify data of one shard of responsible clients, shards are verified in turn by each verify round.
+     *
+     * @return verify data of current shard
+     */
     @Override
     public List<DistroData> getVerifyData() {
         List<DistroData> result = null;
+        int shardCount = Math.max(1, DistroConfig.getInstance().getVerifyShardCount());
+        int shard = (int) (verifyRound.getAndIncrement() % shardCount);
         for (String each : clientManager.allClientId()) {
+            if (shardCount > 1 && segmentOf(each, shardCount) != shard) {
+                continue;
+            }
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
@@ -31,6 +31,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
@@ -206,6 +207,37 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public DistroSnapshotSegment getDatumSnapshotSegment(String targetServer, int segment, int segmentCount) {
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            throw new DistroException(
+                    String.format("[DISTRO] Cancel get snapshot segment caused by target server %s unhealthy",
+                            targetServer));
+        }
+        DistroDataRequest request = new DistroDataRequest();
+        request.setDataOperation(DataOperation.SNAPSHOT);
+        request.setSnapshotSegmented(true);
+        request.setSnapshotSegment(segment);
+        request.setSnapshotSegmentCount(segmentCount);
+        try {
+            Response response = clusterRpcClientProxy
+                    .sendRequest(member, request, DistroConfig.getInstance().getLoadDataTimeoutMillis());
+            if (!checkResponse(response)) {
+                throw new DistroException(String.format(
+                        "[DISTRO-FAILED] Get snapshot segment %d request to %s failed, code: %d, message: %s",
+                        segment, targetServer, response.getErrorCode(), response.getMessage()));
+            }
+            DistroDataResponse distroDataResponse = (DistroDataResponse) response;
+            // Old version server returns the whole snapshot without segment count, treat it as the only segment.
+            int actualSegmentCount = distroDataResponse.getSnapshotSegmentCount() > 0 ? distroDataResponse
+                    .getSnapshotSegmentCount() : 1;
+            return new DistroSnapshotSegment(distroDataResponse.getDistroData(), segment, actualSegmentCount);
+        } catch (NacosException e) {
+            throw new DistroException("[DISTRO-FAILED] Get distro snapshot segment failed! ", e);
+        }
+    }
+    
     private boolean isNoExistTarget(String target) {
         return !memberManager.hasMember(target);
     }
@@ -0,0 +1,313 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.persistent.impl;
+
+import com.alibaba.nacos.consistency.SerializeFactory;
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.consistency.snapshot.LocalFileMeta;
+import com.alibaba.nacos.consistency.snapshot.Reader;
+import com.alibaba.nacos.consistency.snapshot.Writer;
+import com.alibaba.nacos.core.distributed.raft.utils.RaftExecutor;
+import com.alibaba.nacos.naming.constants.Constants;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.alibaba.nacos.sys.utils.DiskUtils;
+import com.alibaba.nacos.sys.utils.TimerContext;
+import com.alipay.sofa.jraft.util.CRC64;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
+
+/**
+ * Abstract incremental snapshot operation.
+ *
+ * <p>The data is split into segments by key, and each segment is saved as a single file of snapshot. Only the segments
+ * changed since last snapshot are captured and written, the others are reused from last snapshot. The write lock is
+ * only held during capturing the changed segments, serializing and compressing do not block applying logs.
+ *
+ * <p>The segmented snapshot could not be loaded by the nodes of old version, so it is only written when
+ * {@link Constants#INCREMENTAL_SNAPSHOT_ENABLED} is enabled, otherwise the whole data is written as single archive
+ * like old version. Both formats could be loaded.
+ *
+ * @param <K> key type of data
+ * @param <V> value type of data
+ * @author nacos
+ */
+public abstract class AbstractIncrementalSnapshotOperation<K, V> extends AbstractSnapshotOperation {
+    
+    protected static final int SEGMENT_COUNT = 16;
+    
+    private static final int CLEAN = 0;
+    
+    private static final int DIRTY = 1;
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    private final ReentrantReadWriteLock.WriteLock writeLock;
+    
+    private final Serializer serializer = SerializeFactory.getDefault();
+    
+    private final AtomicIntegerArray dirtySegments = new AtomicIntegerArray(SEGMENT_COUNT);
+    
+    private final String[] segmentChecksums = new String[SEGMENT_COUNT];
+    
+    private final boolean incremental;
+    
+    public AbstractIncrementalSnapshotOperation(ReentrantReadWriteLock lock) {
+        this(lock, isIncrementalSnapshotEnabled());
+    }
+    
+    public AbstractIncrementalSnapshotOperation(ReentrantReadWriteLock lock, boolean incremental) {
+        super(lock);
+        this.writeLock = lock.writeLock();
+        this.incremental = incremental;
+        markAllDirty();
+    }
+    
+    private static boolean isIncrementalSnapshotEnabled() {
+        // Environment is not prepared if the operation is created out of the server, such as in unit tests.
+        if (null == EnvUtil.getEnvironment()) {
+            return false;
+        }
+        return EnvUtil.getProperty(Constants.INCREMENTAL_SNAPSHOT_ENABLED, Boolean.class, false);
+    }
+    
+    /**
+     * Mark the segment of key changed. It should be called for each applied change while holding the read lock.
+     *
+     * @param key key of changed data
+     */
+    public void markDirty(K key) {
+        dirtySegments.set(segmentOf(key), DIRTY);
+    }
+    
+    @Override
+    public void onSnapshotSave(Writer writer, BiConsumer<Boolean, Throwable> callFinally) {
+        RaftExecutor.doSnapshot(() -> {
+            TimerContext.start(getSnapshotSaveTag());
+            try {
+                callFinally.accept(writeSnapshot(writer), null);
+            } catch (Throwable t) {
+                Loggers.RAFT.error("Fail to compress snapshot, path={}, file list={}.", writer.getPath(),
+                        writer.listFiles(), t);
+                callFinally.accept(false, t);
+            } finally {
+                TimerContext.end(getSnapshotSaveTag(), Loggers.RAFT);
+            }
+        });
+    }
+    
+    @Override
+    protected boolean writeSnapshot(Writer writer) throws Exception {
+        if (!incremental) {
+            return writeSingleArchive(writer);
+        }
+        final boolean[] reusable = new boolean[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            reusable[i] = dirtySegments.get(i) == CLEAN && isReusable(writer, i);
+        }
+        final Map<Integer, ConcurrentMap<K, V>> captured = captureSegments(reusable);
+        try {
+            for (int i = 0; i < SEGMENT_COUNT; i++) {
+                final ConcurrentMap<K, V> segment = captured.get(i);
+                if (segment != null) {
+                    writeSegment(writer, i, segment);
+                } else if (!writer.reuseFile(getSegmentArchive(i), buildMeta(segmentChecksums[i]))) {
+                    throw new IOException("Snapshot file to reuse not found : " + getSegmentArchive(i));
+                }
+            }
+            Loggers.RAFT.info("Snapshot {} saved {} changed segments of {}.", getSnapshotArchive(), captured.size(),
+                    SEGMENT_COUNT);
+            return true;
+        } catch (Exception e) {
+            markAllDirty();
+            throw e;
+        }
+    }
+    
+    @Override
+    protected boolean readSnapshot(Reader reader) throws Exception {
+        final String readerPath = reader.getPath();
+        if (reader.listFiles().containsKey(getSnapshotArchive())) {
+            loadData(serializer.deserialize(readArchive(reader, getSnapshotArchive())));
+            markAllDirty();
+            return true;
+        }
+        final ConcurrentMap<K, V> data = new ConcurrentHashMap<>(SEGMENT_COUNT);
+        final String[] checksums = new String[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            final String segmentArchive = getSegmentArchive(i);
+            if (!reader.listFiles().containsKey(segmentArchive)) {
+                Loggers.RAFT.warn("Snapshot file {} not found in {}.", segmentArchive, readerPath);
+                continue;
+            }
+            final Map<K, V> segment = serializer.deserialize(readArchive(reader, segmentArchive));
+            data.putAll(segment);
+            Object checksum = reader.getFileMeta(segmentArchive).get(CHECK_SUM_KEY);
+            checksums[i] = null == checksum ? null : checksum.toString();
+        }
+        loadData(data);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segmentChecksums[i] = checksums[i];
+            dirtySegments.set(i, null == checksums[i] ? DIRTY : CLEAN);
+        }
+        return true;
+    }
+    
+    private boolean writeSingleArchive(Writer writer) throws IOException {
+        final ConcurrentMap<K, V> data = new ConcurrentHashMap<>(SEGMENT_COUNT);
+        writeLock.lock();
+        try {
+            data.putAll(captureData(key -> true));
+        } finally {
+            writeLock.unlock();
+        }
+        final String outputFile = Paths.get(writer.getPath(), getSnapshotArchive()).toString();
+        final Checksum checksum = new CRC64();
+        try (InputStream inputStream = new ByteArrayInputStream(serializer.serialize(data))) {
+            DiskUtils.compressIntoZipFile(getArchiveEntryName(), inputStream, outputFile, checksum);
+        }
+        return writer.addFile(getSnapshotArchive(), buildMeta(Long.toHexString(checksum.getValue())));
+    }
+    
+    private Map<Integer, ConcurrentMap<K, V>> captureSegments(boolean[] reusable) {
+        final Map<Integer, ConcurrentMap<K, V>> result = new HashMap<>(SEGMENT_COUNT);
+        writeLock.lock();
+        try {
+            for (int i = 0; i < SEGMENT_COUNT; i++) {
+                boolean dirty = dirtySegments.getAndSet(i, CLEAN) == DIRTY;
+                if (dirty || !reusable[i]) {
+                    result.put(i, new ConcurrentHashMap<>(SEGMENT_COUNT));
+                }
+            }
+            if (!result.isEmpty()) {
+                captureData(key -> result.containsKey(segmentOf(key)))
+                        .forEach((key, value) -> result.get(segmentOf(key)).put(key, value));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return result;
+    }
+    
+    private void writeSegment(Writer writer, int segment, ConcurrentMap<K, V> data) throws IOException {
+        final String segmentArchive = getSegmentArchive(segment);
+        final String outputFile = Paths.get(writer.getPath(), segmentArchive).toString();
+        final Checksum checksum = new CRC64();
+        try (InputStream inputStream = new ByteArrayInputStream(serializer.serialize(data))) {
+            DiskUtils.compressIntoZipFile(getArchiveEntryName(), inputStream, outputFile, checksum);
+        }
+        segmentChecksums[segment] = Long.toHexString(checksum.getValue());
+        writer.addFile(segmentArchive, buildMeta(segmentChecksums[segment]));
+    }
+    
+    private boolean isReusable(Writer writer, int segment) {
+        if (null == segmentChecksums[segment] || null == writer.getLastSnapshotPath()) {
+            return false;
+        }
+        final Path lastFile = Paths.get(writer.getLastSnapshotPath(), getSegmentArchive(segment));
+        if (!Files.isRegularFile(lastFile)) {
+            return false;
+        }
+        // Make sure the file of last snapshot is the one written or loaded by this operation.
+        final Checksum checksum = new CRC64();
+        try (InputStream inputStream = new CheckedInputStream(Files.newInputStream(lastFile), checksum)) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (inputStream.read(buffer) >= 0) {
+                // only compute checksum.
+            }
+        } catch (IOException e) {
+            Loggers.RAFT.warn("Fail to check last snapshot file {}.", lastFile, e);
+            return false;
+        }
+        return Objects.equals(segmentChecksums[segment], Long.toHexString(checksum.getValue()));
+    }
+    
+    private byte[] readArchive(Reader reader, String archive) throws IOException {
+        final String sourceFile = Paths.get(reader.getPath(), archive).toString();
+        final Checksum checksum = new CRC64();
+        byte[] snapshotBytes = DiskUtils.decompress(sourceFile, checksum);
+        LocalFileMeta fileMeta = reader.getFileMeta(archive);
+        if (fileMeta.getFileMeta().containsKey(CHECK_SUM_KEY) && !Objects
+                .equals(Long.toHexString(checksum.getValue()), fileMeta.get(CHECK_SUM_KEY))) {
+            throw new IllegalArgumentException("Snapshot checksum failed");
+        }
+        return snapshotBytes;
+    }
+    
+    private LocalFileMeta buildMeta(String checksum) {
+        return new LocalFileMeta().append(CHECK_SUM_KEY, checksum);
+    }
+    
+    private void markAllDirty() {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            dirtySegments.set(i, DIRTY);
+        }
+    }
+    
+    private String getSegmentArchive(int segment) {
+        return segment + "_" + getSnapshotArchive();
+    }
+    
+    protected int segmentOf(K key) {
+        return (Objects.hashCode(key) & Integer.MAX_VALUE) % SEGMENT_COUNT;
+    }
+    
+    /**
+     * Capture the data matched the filter, called with write lock held. The mutable values should be copied.
+     *
+     * @param filter filter of keys
+     * @return captured data
+     */
+    protected abstract Map<K, V> captureData(Predicate<K> filter);
+    
+    /**
+     * Load the data of snapshot.
+     *
+     * @param data data of snapshot
+     */
+    protected abstract void loadData(ConcurrentMap<K, V> data);
+    
+    /**
+     * Get snapshot archive file name. The segment files are named with segment index as prefix.
+     *
+     * @return snapshot archive
+     */
+    protected abstract String getSnapshotArchive();
+    
+    /**
+     * Get the entry name in snapshot archive.
+     *
+     * @return entry name
+     */
+    protected abstract String getArchiveEntryName();
+}
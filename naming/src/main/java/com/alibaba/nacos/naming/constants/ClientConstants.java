@@ -43,4 +43,8 @@ public class ClientConstants {
     
     public static final long DEFAULT_CLIENT_EXPIRED_TIME = TimeUnit.MINUTES.toMillis(3);
     
+    public static final String INSTANCE_COMPACT_ENABLED_CONFIG_KEY = "nacos.naming.client.instance.compact.enabled";
+    
+    public static final boolean DEFAULT_INSTANCE_COMPACT_ENABLED = false;
+
 }
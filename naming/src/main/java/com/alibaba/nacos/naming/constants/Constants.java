@@ -65,6 +65,12 @@ public final class Constants {
      */
     public static final String EXPIRE_INSTANCE = "nacos.naming.expireInstance";
     
+    /**
+     * Whether to save the snapshots of naming raft groups as incremental segments, default: false. The snapshots
+     * could not be loaded by the nodes of old version, only enable it after all nodes of the cluster are upgraded.
+     */
+    public static final String INCREMENTAL_SNAPSHOT_ENABLED = "nacos.naming.snapshot.incremental.enabled";
+    
     /**
      * UDP max retry times.
      */
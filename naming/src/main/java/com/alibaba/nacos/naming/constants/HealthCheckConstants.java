@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.constants;
+
+/**
+ * Health check constants keys and values.
+ *
+ * @author nacos
+ */
+public class HealthCheckConstants {
+    
+    /**
+     * Whether run the blocking health checks on virtual threads, only takes effect on JDK 21 or later.
+     */
+    public static final String VIRTUAL_THREAD_ENABLED = "nacos.naming.health.check.virtualThread.enabled";
+    
+    public static final boolean DEFAULT_VIRTUAL_THREAD_ENABLED = false;
+    
+    /**
+     * Max count of mysql health checks running at the same time.
+     */
+    public static final String MYSQL_MAX_CONCURRENCY = "nacos.naming.health.check.mysql.maxConcurrency";
+    
+    public static final int DEFAULT_MYSQL_MAX_CONCURRENCY = 256;
+    
+    /**
+     * Max count of http health check requests in flight at the same time.
+     */
+    public static final String HTTP_MAX_CONCURRENCY = "nacos.naming.health.check.http.maxConcurrency";
+    
+    public static final int DEFAULT_HTTP_MAX_CONCURRENCY = 4096;
+    
+    /**
+     * Whether schedule the health checks of persistent instances by the bucketed health check scheduler.
+     */
+    public static final String SCHEDULER_ENABLED = "nacos.naming.health.check.scheduler.enabled";
+    
+    public static final boolean DEFAULT_SCHEDULER_ENABLED = false;
+    
+    /**
+     * Tick interval of health check scheduler, the due checks are dispatched once per tick, unit: milliseconds.
+     */
+    public static final String SCHEDULER_TICK_INTERVAL = "nacos.naming.health.check.scheduler.tickInterval";
+    
+    public static final long DEFAULT_SCHEDULER_TICK_INTERVAL = 100L;
+    
+    /**
+     * Expected max count of checks dispatched in one tick, the checks over it are spread to the later ticks.
+     */
+    public static final String SCHEDULER_MAX_CHECKS_PER_TICK = "nacos.naming.health.check.scheduler.maxChecksPerTick";
+    
+    public static final int DEFAULT_SCHEDULER_MAX_CHECKS_PER_TICK = 500;
+}
@@ -43,4 +43,32 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Whether push only the changed instances to the client which supports delta push.
+     */
+    public static final String PUSH_DELTA_ENABLED = "nacos.naming.push.deltaEnabled";
+    
+    public static final boolean DEFAULT_PUSH_DELTA_ENABLED = false;
+    
+    /**
+     * Whether coalesce the pushes to the same client which supports batch push.
+     */
+    public static final String PUSH_BATCH_ENABLED = "nacos.naming.push.batchEnabled";
+    
+    public static final boolean DEFAULT_PUSH_BATCH_ENABLED = false;
+    
+    /**
+     * Max count of pushes in one batch push, the batch is sent at once when reached.
+     */
+    public static final String PUSH_BATCH_MAX_SIZE = "nacos.naming.push.batchMaxSize";
+    
+    public static final int DEFAULT_PUSH_BATCH_MAX_SIZE = 50;
+    
+    /**
+     * Max time a push waits for other pushes to the same client before sent, unit: milliseconds.
+     */
+    public static final String PUSH_BATCH_FLUSH_INTERVAL = "nacos.naming.push.batchFlushInterval";
+    
+    public static final long DEFAULT_PUSH_BATCH_FLUSH_INTERVAL = 50L;
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.client.manager.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Expiry-bucketed index of clients.
+ *
+ * <p>Clients are put into buckets by the earliest time they might expire, bucket width is {@code tickMillis}. Expired
+ * client cleaner only polls the clients of passed buckets and checks them, the clients which are not expired should be
+ * scheduled again with a later check time. So each cleaner round only touches the candidates instead of all clients.
+ *
+ * <p>Only the latest schedule of a client is valid, stale entries left in other buckets are skipped when polled.
+ *
+ * @author nacos
+ */
+public class ClientExpireIndex {
+    
+    private final long tickMillis;
+    
+    private final ConcurrentNavigableMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+    
+    private final ConcurrentMap<String, Long> scheduledTicks = new ConcurrentHashMap<>();
+    
+    public ClientExpireIndex(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tick millis should be positive, but is " + tickMillis);
+        }
+        this.tickMillis = tickMillis;
+    }
+    
+    /**
+     * Schedule the client to be checked at or after the check time.
+     *
+     * @param clientId  client id
+     * @param checkTime time to check whether the client is expired
+     */
+    public void schedule(String clientId, long checkTime) {
+        long tick = (checkTime + tickMillis - 1) / tickMillis;
+        scheduledTicks.put(clientId, tick);
+        Bucket bucket = buckets.computeIfAbsent(tick, key -> new Bucket());
+        // the bucket might be polled concurrently, retry to put into a new bucket which will be polled next round.
+        while (!bucket.add(clientId)) {
+            bucket = buckets.computeIfAbsent(tick, key -> new Bucket());
+        }
+    }
+    
+    /**
+     * Remove the client from index, the left entries in buckets are skipped when polled.
+     *
+     * @param clientId client id
+     */
+    public void remove(String clientId) {
+        scheduledTicks.remove(clientId);
+    }
+    
+    /**
+     * Poll the clients whose check time is passed. The polled clients are removed from the index.
+     *
+     * @param currentTime current time
+     * @return client ids need to be checked
+     */
+    public Collection<String> poll(long currentTime) {
+        long currentTick = currentTime / tickMillis;
+        List<String> result = new ArrayList<>();
+        for (Map.Entry<Long, Bucket> entry : buckets.headMap(currentTick, true).entrySet()) {
+            if (!buckets.remove(entry.getKey(), entry.getValue())) {
+                continue;
+            }
+            for (String each : entry.getValue().close()) {
+                if (scheduledTicks.remove(each, entry.getKey())) {
+                    result.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    public int size() {
+        return scheduledTicks.size();
+    }
+    
+    private static class Bucket {
+        
+        private final Set<String> clientIds = new HashSet<>();
+        
+        private boolean closed;
+        
+        private synchronized boolean add(String clientId) {
+            if (closed) {
+                return false;
+            }
+            clientIds.add(clientId);
+            return true;
+        }
+        
+        private synchronized Set<String> close() {
+            closed = true;
+            return clientIds;
+        }
+    }
+}
@@ -31,6 +31,7 @@ import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.misc.ClientConfig;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import org.springframework.stereotype.Component;
@@ -43,6 +44,9 @@ import java.util.concurrent.TimeUnit;
 /**
  * The manager of {@code ConnectionBasedClient}.
  *
+ * <p>Native clients are released by connection events, only synced clients might expire, so only the synced clients
+ * are indexed by {@link ClientExpireIndex} and checked by expired client cleaner.
+ *
  * @author xiweng.yy
  */
 @Component("connectionBasedClientManager")
@@ -50,6 +54,8 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     
     private final ConcurrentMap<String, ConnectionBasedClient> clients = new ConcurrentHashMap<>();
     
+    private final ClientExpireIndex expireIndex = new ClientExpireIndex(Constants.DEFAULT_HEART_BEAT_INTERVAL);
+    
     public ConnectionBasedClientManager() {
         GlobalExecutor
                 .scheduleExpiredClientCleaner(new ExpiredClientCleaner(this), 0, Constants.DEFAULT_HEART_BEAT_INTERVAL,
@@ -78,7 +84,11 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     public boolean clientConnected(final Client client) {
         clients.computeIfAbsent(client.getClientId(), s -> {
             Loggers.SRV_LOG.info("Client connection {} connect", client.getClientId());
-            return (ConnectionBasedClient) client;
+            ConnectionBasedClient connectionBasedClient = (ConnectionBasedClient) client;
+            if (!connectionBasedClient.isNative()) {
+                expireIndex.schedule(s, nextCheckTime(connectionBasedClient, System.currentTimeMillis()));
+            }
+            return connectionBasedClient;
         });
         return true;
     }
@@ -98,6 +108,7 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
     @Override
     public boolean clientDisconnected(String clientId) {
         Loggers.SRV_LOG.info("Client connection {} disconnect, remove instances and subscribers", clientId);
+        expireIndex.remove(clientId);
         ConnectionBasedClient client = clients.remove(clientId);
         if (null == client) {
             return true;
@@ -145,6 +156,19 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
         return false;
     }
     
+    /**
+     * Get the count of clients indexed to check expiration.
+     *
+     * @return count of indexed clients
+     */
+    public int getExpireIndexedCount() {
+        return expireIndex.size();
+    }
+    
+    private long nextCheckTime(ConnectionBasedClient client, long currentTime) {
+        return Math.max(client.getLastRenewTime() + ClientConfig.getInstance().getClientExpiredTime(), currentTime + 1);
+    }
+    
     private static class ExpiredClientCleaner implements Runnable {
         
         private final ConnectionBasedClientManager clientManager;
@@ -156,10 +180,15 @@ public class ConnectionBasedClientManager extends ClientConnectionEventListener
         @Override
         public void run() {
             long currentTime = System.currentTimeMillis();
-            for (String each : clientManager.allClientId()) {
-                ConnectionBasedClient client = (ConnectionBasedClient) clientManager.getClient(each);
-                if (null != client && client.isExpire(currentTime)) {
+            for (String each : clientManager.expireIndex.poll(currentTime)) {
+                ConnectionBasedClient client = clientManager.clients.get(each);
+                if (null == client) {
+                    continue;
+                }
+                if (client.isExpire(currentTime)) {
                     clientManager.clientDisconnected(each);
+                } else {
+                    clientManager.expireIndex.schedule(each, clientManager.nextCheckTime(client, currentTime));
                 }
             }
         }
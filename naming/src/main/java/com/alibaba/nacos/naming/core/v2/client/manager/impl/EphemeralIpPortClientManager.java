@@ -46,6 +46,9 @@ import java.util.concurrent.TimeUnit;
 /**
  * The manager of {@code IpPortBasedClient} and ephemeral.
  *
+ * <p>Clients are indexed by {@link ClientExpireIndex} with the earliest time they might expire, expired client cleaner
+ * only checks the clients whose check time is passed.
+ *
  * @author xiweng.yy
  */
 @DependsOn("clientServiceIndexesManager")
@@ -54,6 +57,8 @@ public class EphemeralIpPortClientManager implements ClientManager {
     
     private final ConcurrentMap<String, IpPortBasedClient> clients = new ConcurrentHashMap<>();
     
+    private final ClientExpireIndex expireIndex = new ClientExpireIndex(Constants.DEFAULT_HEART_BEAT_INTERVAL);
+    
     private final DistroMapper distroMapper;
     
     private final ClientFactory<IpPortBasedClient> clientFactory;
@@ -76,6 +81,7 @@ public class EphemeralIpPortClientManager implements ClientManager {
             Loggers.SRV_LOG.info("Client connection {} connect", client.getClientId());
             IpPortBasedClient ipPortBasedClient = (IpPortBasedClient) client;
             ipPortBasedClient.init();
+            expireIndex.schedule(s, nextCheckTime(ipPortBasedClient, System.currentTimeMillis()));
             return ipPortBasedClient;
         });
         return true;
@@ -89,6 +95,7 @@ public class EphemeralIpPortClientManager implements ClientManager {
     @Override
     public boolean clientDisconnected(String clientId) {
         Loggers.SRV_LOG.info("Client connection {} disconnect, remove instances and subscribers", clientId);
+        expireIndex.remove(clientId);
         IpPortBasedClient client = clients.remove(clientId);
         if (null == client) {
             return true;
@@ -141,6 +148,25 @@ public class EphemeralIpPortClientManager implements ClientManager {
         return false;
     }
     
+    /**
+     * Get the count of clients indexed to check expiration.
+     *
+     * @return count of indexed clients
+     */
+    public int getExpireIndexedCount() {
+        return expireIndex.size();
+    }
+    
+    /**
+     * The last updated time only increases, and client can't expire before no updated for the shorter one of ip delete
+     * timeout and client expired time, so it is safe to check the client after that.
+     */
+    private long nextCheckTime(IpPortBasedClient client, long currentTime) {
+        long minExpireTime = Math.min(Constants.DEFAULT_IP_DELETE_TIMEOUT,
+                ClientConfig.getInstance().getClientExpiredTime());
+        return Math.max(client.getLastUpdatedTime() + minExpireTime, currentTime + 1);
+    }
+    
     private static class ExpiredClientCleaner implements Runnable {
         
         private final EphemeralIpPortClientManager clientManager;
@@ -155,10 +181,15 @@ public class EphemeralIpPortClientManager implements ClientManager {
         @Override
         public void run() {
             long currentTime = System.currentTimeMillis();
-            for (String each : clientManager.allClientId()) {
-                IpPortBasedClient client = (IpPortBasedClient) clientManager.getClient(each);
-                if (null != client && isExpireClient(currentTime, client)) {
+            for (String each : clientManager.expireIndex.poll(currentTime)) {
+                IpPortBasedClient client = clientManager.clients.get(each);
+                if (null == client) {
+                    continue;
+                }
+                if (isExpireClient(currentTime, client)) {
                     clientManager.clientDisconnected(each);
+                } else {
+                    clientManager.expireIndex.schedule(each, clientManager.nextCheckTime(client, currentTime));
                 }
             }
         }
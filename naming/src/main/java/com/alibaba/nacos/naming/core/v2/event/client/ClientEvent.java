@@ -38,6 +38,11 @@ public class ClientEvent extends Event {
         return client;
     }
     
+    @Override
+    public Object shardingKey() {
+        return null == client ? null : client.getClientId();
+    }
+    
     /**
      * Client changed event. Happened when {@code Client} add or remove service.
      */
@@ -95,5 +100,10 @@ public class ClientEvent extends Event {
         public String getTargetServer() {
             return targetServer;
         }
+        
+        @Override
+        public Object shardingKey() {
+            return clientId;
+        }
     }
 }
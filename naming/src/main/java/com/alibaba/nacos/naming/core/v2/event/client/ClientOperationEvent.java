@@ -46,6 +46,11 @@ public class ClientOperationEvent extends Event {
         return service;
     }
     
+    @Override
+    public Object shardingKey() {
+        return clientId;
+    }
+    
     /**
      * Client register service event.
      */
@@ -19,7 +19,11 @@ package com.alibaba.nacos.naming.core.v2.event.publisher;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.EventPublisherFactory;
+import com.alibaba.nacos.common.notify.ShardedDispatchPublisher;
+import com.alibaba.nacos.common.notify.ShardedEventPublisher;
+import com.alibaba.nacos.sys.env.EnvUtil;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -30,13 +34,29 @@ import java.util.concurrent.ConcurrentHashMap;
  * Some naming event is in order, so these event need publish by sync(with same thread and same queue).
  * </p>
  *
+ * <p>
+ * If {@link #SHARD_COUNT_PROPERTY} is larger than 1, events will be dispatched by {@link ShardedDispatchPublisher},
+ * which only keeps the order of events with the same {@link Event#shardingKey()}, such as the same client or service.
+ * </p>
+ *
  * @author xiweng.yy
  */
 public class NamingEventPublisherFactory implements EventPublisherFactory {
     
+    /**
+     * Worker count of each naming event publisher, default 1 means dispatching all events by one thread.
+     */
+    public static final String SHARD_COUNT_PROPERTY = "nacos.naming.event.publisher.shard-count";
+    
+    /**
+     * Queue size of each worker when {@link #SHARD_COUNT_PROPERTY} is larger than 1, default is the queue size of
+     * publisher.
+     */
+    public static final String SHARD_QUEUE_SIZE_PROPERTY = "nacos.naming.event.publisher.shard-queue-size";
+    
     private static final NamingEventPublisherFactory INSTANCE = new NamingEventPublisherFactory();
     
-    private final Map<Class<? extends Event>, NamingEventPublisher> publisher;
+    private final Map<Class<? extends Event>, ShardedEventPublisher> publisher;
     
     private NamingEventPublisherFactory() {
         publisher = new ConcurrentHashMap<>();
@@ -52,17 +72,42 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
         Class<? extends Event> cachedEventType =
                 eventType.isMemberClass() ? (Class<? extends Event>) eventType.getEnclosingClass() : eventType;
         return publisher.computeIfAbsent(cachedEventType, eventClass -> {
+            int shardCount = getProperty(SHARD_COUNT_PROPERTY, 1);
+            if (shardCount > 1) {
+                ShardedDispatchPublisher result = new ShardedDispatchPublisher(shardCount);
+                result.init(eventClass, getProperty(SHARD_QUEUE_SIZE_PROPERTY, maxQueueSize));
+                return result;
+            }
             NamingEventPublisher result = new NamingEventPublisher();
             result.init(eventClass, maxQueueSize);
             return result;
         });
     }
     
+    private int getProperty(String key, int defaultValue) {
+        // Environment is not prepared if naming events are published out of the server, such as in unit tests.
+        if (null == EnvUtil.getEnvironment()) {
+            return defaultValue;
+        }
+        return EnvUtil.getProperty(key, Integer.class, defaultValue);
+    }
+    
+    public Map<Class<? extends Event>, ShardedEventPublisher> getAllPublishers() {
+        return Collections.unmodifiableMap(publisher);
+    }
+    
     public String getAllPublisherStatues() {
         StringBuilder result = new StringBuilder("Naming event publisher statues:\n");
-        for (NamingEventPublisher each : publisher.values()) {
-            result.append('\t').append(each.getStatus()).append('\n');
+        for (ShardedEventPublisher each : publisher.values()) {
+            result.append('\t').append(getStatus(each)).append('\n');
         }
         return result.toString();
     }
+    
+    private String getStatus(ShardedEventPublisher eventPublisher) {
+        if (eventPublisher instanceof ShardedDispatchPublisher) {
+            return ((ShardedDispatchPublisher) eventPublisher).getStatus();
+        }
+        return ((NamingEventPublisher) eventPublisher).getStatus();
+    }
 }
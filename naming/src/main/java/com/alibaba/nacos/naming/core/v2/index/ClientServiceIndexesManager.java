@@ -36,10 +36,15 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Client and service index manager.
  *
+ * <p>Client operation events may be dispatched by multiple workers which only keep the order for the same client, so
+ * the indexes of one service can be updated concurrently. Each add or remove is done in one compute of the service,
+ * otherwise a client id could be added to a set which has just been removed for being empty.
+ *
  * @author xiweng.yy
  */
 @Component
@@ -71,9 +76,7 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
      * @param service The service of the Nacos.
      */
     public void removePublisherIndexesByEmptyService(Service service) {
-        if (publisherIndexes.containsKey(service) && publisherIndexes.get(service).isEmpty()) {
-            publisherIndexes.remove(service);
-        }
+        publisherIndexes.computeIfPresent(service, (s, ids) -> ids.isEmpty() ? null : ids);
     }
     
     @Override
@@ -128,34 +131,46 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     }
     
     private void addPublisherIndexes(Service service, String clientId) {
-        publisherIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>()).add(clientId);
+        publisherIndexes.compute(service, (s, ids) -> addClientId(ids, clientId));
         NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
     }
     
     private void removePublisherIndexes(Service service, String clientId) {
+        AtomicBoolean present = new AtomicBoolean();
         publisherIndexes.computeIfPresent(service, (s, ids) -> {
-            ids.remove(clientId);
-            NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
-            return ids.isEmpty() ? null : ids;
+            present.set(true);
+            return removeClientId(ids, clientId);
         });
+        if (present.get()) {
+            NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
+        }
     }
     
     private void addSubscriberIndexes(Service service, String clientId) {
-        Set<String> clientIds = subscriberIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>());
+        AtomicBoolean added = new AtomicBoolean();
+        subscriberIndexes.compute(service, (s, ids) -> {
+            Set<String> result = null == ids ? new ConcurrentHashSet<>() : ids;
+            added.set(result.add(clientId));
+            return result;
+        });
         // Fix #5404, Only first time add need notify event.
-        if (clientIds.add(clientId)) {
+        if (added.get()) {
             NotifyCenter.publishEvent(new ServiceEvent.ServiceSubscribedEvent(service, clientId));
         }
     }
     
     private void removeSubscriberIndexes(Service service, String clientId) {
-        Set<String> clientIds = subscriberIndexes.get(service);
-        if (clientIds == null) {
-            return;
-        }
+        subscriberIndexes.computeIfPresent(service, (s, ids) -> removeClientId(ids, clientId));
+    }
+    
+    private Set<String> addClientId(Set<String> clientIds, String clientId) {
+        Set<String> result = null == clientIds ? new ConcurrentHashSet<>() : clientIds;
+        result.add(clientId);
+        return result;
+    }
+    
+    private Set<String> removeClientId(Set<String> clientIds, String clientId) {
         clientIds.remove(clientId);
-        if (clientIds.isEmpty()) {
-            subscriberIndexes.remove(service);
-        }
+        return clientIds.isEmpty() ? null : clientIds;
     }
 }
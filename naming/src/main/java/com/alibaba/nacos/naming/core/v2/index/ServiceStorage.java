@@ -32,9 +32,13 @@ import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -60,6 +64,8 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    private final ConcurrentMap<Service, ServiceInstancesView> serviceInstancesViews;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +74,7 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceInstancesViews = new ConcurrentHashMap<>();
     }
     
     public Set<String> getClusters(Service service) {
@@ -89,9 +96,15 @@ public class ServiceStorage {
         return result;
     }
     
+    /**
+     * Remove cached data of service.
+     *
+     * @param service service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceInstancesViews.remove(service);
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -104,44 +117,43 @@ public class ServiceStorage {
     }
     
     private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
-        Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
-            Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
+        ServiceInstancesView view = serviceInstancesViews.computeIfAbsent(service, key -> new ServiceInstancesView());
+        synchronized (view) {
+            long generation = ++view.generation;
+            for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
+                Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
+                if (!instancePublishInfo.isPresent()) {
+                    continue;
+                }
+                ClientInstances clientInstances = view.clientInstances.get(each);
+                if (null == clientInstances || clientInstances.isExpired(service, instancePublishInfo.get())) {
+                    clientInstances = parseClientInstances(service, instancePublishInfo.get());
+                    view.putClientInstances(each, clientInstances);
                 }
+                clientInstances.generation = generation;
             }
+            view.removeClientInstances(generation);
+            view.refreshSnapshot();
+            // cache clusters of this service
+            serviceClusterIndex.put(service, view.clusters);
+            return view.snapshot;
         }
-        // cache clusters of this service
-        serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
     }
     
-    /**
-     * Parse batch instance.
-     * @param service service
-     * @param batchInstancePublishInfo batchInstancePublishInfo
-     * @return batch instance list
-     */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
-        List<Instance> resultInstanceList = new ArrayList<>();
-        List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
-        for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+    private ClientInstances parseClientInstances(Service service, InstancePublishInfo publishInfo) {
+        //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
+        if (publishInfo instanceof BatchInstancePublishInfo) {
+            List<InstancePublishInfo> instancePublishInfos = ((BatchInstancePublishInfo) publishInfo)
+                    .getInstancePublishInfos();
+            ClientInstances result = new ClientInstances(publishInfo, instancePublishInfos.size());
+            for (InstancePublishInfo each : instancePublishInfos) {
+                result.add(service, each);
+            }
+            return result;
         }
-        return resultInstanceList;
+        ClientInstances result = new ClientInstances(publishInfo, 1);
+        result.add(service, publishInfo);
+        return result;
     }
     
     private Optional<InstancePublishInfo> getInstanceInfo(String clientId, Service service) {
@@ -152,11 +164,170 @@ public class ServiceStorage {
         return Optional.ofNullable(client.getInstancePublishInfo(service));
     }
     
-    private Instance parseInstance(Service service, InstancePublishInfo instanceInfo) {
+    private Instance parseInstance(Service service, InstancePublishInfo instanceInfo, InstanceMetadata metadata) {
         Instance result = InstanceUtil.parseToApiInstance(service, instanceInfo);
-        Optional<InstanceMetadata> metadata = metadataManager
-                .getInstanceMetadata(service, instanceInfo.getMetadataId());
-        metadata.ifPresent(instanceMetadata -> InstanceUtil.updateInstanceMetadata(result, instanceMetadata));
+        if (null != metadata) {
+            InstanceUtil.updateInstanceMetadata(result, metadata);
+        }
         return result;
     }
+    
+    private InstanceMetadata getInstanceMetadata(Service service, String metadataId) {
+        return metadataManager.getInstanceMetadata(service, metadataId).orElse(null);
+    }
+    
+    /**
+     * Instances view of one service, only the instances of changed clients will be re-parsed when building push data.
+     *
+     * <p>Equal instances published by different clients are merged as one, so the view counts how many clients
+     * publish each instance and each cluster. Replacing or removing the instances of one client only updates the
+     * counts of that client's instances, the snapshot list is then copied from the counted instances without hashing
+     * the unchanged ones again.
+     */
+    private static class ServiceInstancesView {
+        
+        private final Map<String, ClientInstances> clientInstances = new HashMap<>();
+        
+        private final Map<String, CountedInstance> instances = new LinkedHashMap<>();
+        
+        private final Map<String, Integer> clusterCounts = new HashMap<>();
+        
+        private long generation;
+        
+        private boolean changed;
+        
+        private List<Instance> snapshot;
+        
+        private Set<String> clusters;
+        
+        private void putClientInstances(String clientId, ClientInstances newInstances) {
+            ClientInstances oldInstances = clientInstances.put(clientId, newInstances);
+            if (null != oldInstances) {
+                release(oldInstances);
+            }
+            retain(newInstances);
+        }
+        
+        private void removeClientInstances(long currentGeneration) {
+            Iterator<ClientInstances> iterator = clientInstances.values().iterator();
+            while (iterator.hasNext()) {
+                ClientInstances each = iterator.next();
+                if (each.generation != currentGeneration) {
+                    release(each);
+                    iterator.remove();
+                }
+            }
+        }
+        
+        private void retain(ClientInstances clientInstances) {
+            for (int i = 0; i < clientInstances.instances.size(); i++) {
+                Instance instance = clientInstances.instances.get(i);
+                instances.computeIfAbsent(clientInstances.keys.get(i), key -> new CountedInstance(instance)).count++;
+                clusterCounts.merge(instance.getClusterName(), 1, Integer::sum);
+            }
+            changed = true;
+        }
+        
+        private void release(ClientInstances clientInstances) {
+            for (int i = 0; i < clientInstances.instances.size(); i++) {
+                String key = clientInstances.keys.get(i);
+                CountedInstance counted = instances.get(key);
+                if (null != counted && --counted.count <= 0) {
+                    instances.remove(key);
+                }
+                clusterCounts.computeIfPresent(clientInstances.instances.get(i).getClusterName(),
+                        (cluster, count) -> count > 1 ? count - 1 : null);
+            }
+            changed = true;
+        }
+        
+        private void refreshSnapshot() {
+            if (!changed && null != snapshot) {
+                return;
+            }
+            List<Instance> newSnapshot = new ArrayList<>(instances.size());
+            for (CountedInstance each : instances.values()) {
+                newSnapshot.add(each.instance);
+            }
+            snapshot = Collections.unmodifiableList(newSnapshot);
+            clusters = new HashSet<>(clusterCounts.keySet());
+            changed = false;
+        }
+    }
+    
+    /**
+     * Instance in the view and the number of clients publishing it.
+     */
+    private static class CountedInstance {
+        
+        private final Instance instance;
+        
+        private int count;
+        
+        private CountedInstance(Instance instance) {
+            this.instance = instance;
+        }
+    }
+    
+    /**
+     * Parsed instances published by one client, with the source info used to judge whether it is expired.
+     */
+    private class ClientInstances {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final List<InstancePublishInfo> sources;
+        
+        private final List<String> metadataIds;
+        
+        private final List<InstanceMetadata> metadatas;
+        
+        private final List<Instance> instances;
+        
+        /**
+         * String form of the instances, which is what {@link Instance#equals(Object)} compares.
+         */
+        private final List<String> keys;
+        
+        private long generation;
+        
+        private ClientInstances(InstancePublishInfo publishInfo, int size) {
+            this.publishInfo = publishInfo;
+            this.sources = new ArrayList<>(size);
+            this.metadataIds = new ArrayList<>(size);
+            this.metadatas = new ArrayList<>(size);
+            this.instances = new ArrayList<>(size);
+            this.keys = new ArrayList<>(size);
+        }
+        
+        private void add(Service service, InstancePublishInfo source) {
+            String metadataId = source.getMetadataId();
+            InstanceMetadata metadata = getInstanceMetadata(service, metadataId);
+            sources.add(source);
+            metadataIds.add(metadataId);
+            metadatas.add(metadata);
+            Instance instance = parseInstance(service, source, metadata);
+            instances.add(instance);
+            keys.add(instance.toString());
+        }
+        
+        /**
+         * The published info will be replaced when client re-register, but healthy status might be changed in place by
+         * health checker, and instance metadata might be changed by operator.
+         */
+        private boolean isExpired(Service service, InstancePublishInfo currentPublishInfo) {
+            if (publishInfo != currentPublishInfo) {
+                return true;
+            }
+            for (int i = 0; i < instances.size(); i++) {
+                if (sources.get(i).isHealthy() != instances.get(i).isHealthy()) {
+                    return true;
+                }
+                if (metadatas.get(i) != getInstanceMetadata(service, metadataIds.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
@@ -16,26 +16,18 @@
 
 package com.alibaba.nacos.naming.core.v2.metadata;
 
-import com.alibaba.nacos.consistency.snapshot.LocalFileMeta;
-import com.alibaba.nacos.consistency.snapshot.Reader;
-import com.alibaba.nacos.consistency.snapshot.Writer;
-import com.alibaba.nacos.naming.consistency.persistent.impl.AbstractSnapshotOperation;
-import com.alibaba.nacos.sys.utils.DiskUtils;
-import com.alipay.sofa.jraft.util.CRC64;
+import com.alibaba.nacos.naming.consistency.persistent.impl.AbstractIncrementalSnapshotOperation;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Paths;
-import java.util.Objects;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.zip.Checksum;
 
 /**
  * Nacos naming snapshot operation for metadata.
  *
+ * @param <V> type of metadata
  * @author xiweng.yy
  */
-public abstract class AbstractMetadataSnapshotOperation extends AbstractSnapshotOperation {
+public abstract class AbstractMetadataSnapshotOperation<V> extends AbstractIncrementalSnapshotOperation<Service, V> {
     
     private static final String METADATA_CHILD_NAME = "metadata";
     
@@ -44,52 +36,7 @@ public abstract class AbstractMetadataSnapshotOperation extends AbstractSnapshot
     }
     
     @Override
-    protected boolean writeSnapshot(Writer writer) throws IOException {
-        final String writePath = writer.getPath();
-        final String outputFile = Paths.get(writePath, getSnapshotArchive()).toString();
-        final Checksum checksum = new CRC64();
-        try (InputStream inputStream = dumpSnapshot()) {
-            DiskUtils.compressIntoZipFile(METADATA_CHILD_NAME, inputStream, outputFile, checksum);
-        }
-        final LocalFileMeta meta = new LocalFileMeta();
-        meta.append(CHECK_SUM_KEY, Long.toHexString(checksum.getValue()));
-        return writer.addFile(getSnapshotArchive(), meta);
+    protected String getArchiveEntryName() {
+        return METADATA_CHILD_NAME;
     }
-    
-    @Override
-    protected boolean readSnapshot(Reader reader) throws Exception {
-        final String readerPath = reader.getPath();
-        final String sourceFile = Paths.get(readerPath, getSnapshotArchive()).toString();
-        final Checksum checksum = new CRC64();
-        byte[] snapshotBytes = DiskUtils.decompress(sourceFile, checksum);
-        LocalFileMeta fileMeta = reader.getFileMeta(getSnapshotArchive());
-        if (fileMeta.getFileMeta().containsKey(CHECK_SUM_KEY)) {
-            if (!Objects.equals(Long.toHexString(checksum.getValue()), fileMeta.get(CHECK_SUM_KEY))) {
-                throw new IllegalArgumentException("Snapshot checksum failed");
-            }
-        }
-        loadSnapshot(snapshotBytes);
-        return true;
-    }
-    
-    /**
-     * Get snapshot archive file name.
-     *
-     * @return snapshot archive
-     */
-    protected abstract String getSnapshotArchive();
-    
-    /**
-     * Dump snapshot as input stream.
-     *
-     * @return snapshot
-     */
-    protected abstract InputStream dumpSnapshot();
-    
-    /**
-     * Load snapshot.
-     *
-     * @param snapshotBytes snapshot bytes
-     */
-    protected abstract void loadSnapshot(byte[] snapshotBytes);
 }
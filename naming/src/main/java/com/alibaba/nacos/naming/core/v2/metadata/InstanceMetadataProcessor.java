@@ -57,6 +57,8 @@ public class InstanceMetadataProcessor extends RequestProcessor4CP {
     
     private final ReentrantReadWriteLock.ReadLock readLock;
     
+    private final InstanceMetadataSnapshotOperation snapshotOperation;
+    
     @SuppressWarnings("unchecked")
     public InstanceMetadataProcessor(NamingMetadataManager namingMetadataManager, ProtocolManager protocolManager) {
         this.namingMetadataManager = namingMetadataManager;
@@ -64,12 +66,18 @@ public class InstanceMetadataProcessor extends RequestProcessor4CP {
         this.processType = TypeUtils.parameterize(MetadataOperation.class, InstanceMetadata.class);
         this.lock = new ReentrantReadWriteLock();
         this.readLock = lock.readLock();
+        this.snapshotOperation = new InstanceMetadataSnapshotOperation(namingMetadataManager, lock);
         protocolManager.getCpProtocol().addRequestProcessors(Collections.singletonList(this));
     }
     
     @Override
     public List<SnapshotOperation> loadSnapshotOperate() {
-        return Collections.singletonList(new InstanceMetadataSnapshotOperation(namingMetadataManager, lock));
+        return Collections.singletonList(snapshotOperation);
+    }
+    
+    @Override
+    public String partitionKey(WriteRequest request) {
+        return request.getKey();
     }
     
     @Override
@@ -108,6 +116,7 @@ public class InstanceMetadataProcessor extends RequestProcessor4CP {
         Service service = Service.newService(op.getNamespace(), op.getGroup(), op.getServiceName());
         service = ServiceManager.getInstance().getSingleton(service);
         namingMetadataManager.updateInstanceMetadata(service, op.getTag(), op.getMetadata());
+        snapshotOperation.markDirty(service);
         NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
     }
     
@@ -115,6 +124,7 @@ public class InstanceMetadataProcessor extends RequestProcessor4CP {
         Service service = Service.newService(op.getNamespace(), op.getGroup(), op.getServiceName());
         service = ServiceManager.getInstance().getSingleton(service);
         namingMetadataManager.removeInstanceMetadata(service, op.getTag());
+        snapshotOperation.markDirty(service);
     }
     
     @Override
@@ -16,22 +16,22 @@
 
 package com.alibaba.nacos.naming.core.v2.metadata;
 
-import com.alibaba.nacos.consistency.SerializeFactory;
-import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
 
 /**
  * Instance metadata snapshot operation.
  *
  * @author xiweng.yy
  */
-public class InstanceMetadataSnapshotOperation extends AbstractMetadataSnapshotOperation {
+public class InstanceMetadataSnapshotOperation
+        extends AbstractMetadataSnapshotOperation<ConcurrentMap<String, InstanceMetadata>> {
     
     private static final String SNAPSHOT_SAVE = InstanceMetadataSnapshotOperation.class.getSimpleName() + ".SAVE";
     
@@ -41,23 +41,26 @@ public class InstanceMetadataSnapshotOperation extends AbstractMetadataSnapshotO
     
     private final NamingMetadataManager metadataManager;
     
-    private final Serializer serializer;
-    
     public InstanceMetadataSnapshotOperation(NamingMetadataManager metadataManager, ReentrantReadWriteLock lock) {
         super(lock);
         this.metadataManager = metadataManager;
-        this.serializer = SerializeFactory.getDefault();
     }
     
     @Override
-    protected InputStream dumpSnapshot() {
-        Map<Service, ConcurrentMap<String, InstanceMetadata>> snapshot = metadataManager.getInstanceMetadataSnapshot();
-        return new ByteArrayInputStream(serializer.serialize(snapshot));
+    protected Map<Service, ConcurrentMap<String, InstanceMetadata>> captureData(Predicate<Service> filter) {
+        Map<Service, ConcurrentMap<String, InstanceMetadata>> result = new HashMap<>(SEGMENT_COUNT);
+        metadataManager.getInstanceMetadataSnapshot().forEach((service, metadata) -> {
+            if (filter.test(service)) {
+                // instance metadata of service is updated in place, so copy it.
+                result.put(service, new ConcurrentHashMap<>(metadata));
+            }
+        });
+        return result;
     }
     
     @Override
-    protected void loadSnapshot(byte[] snapshotBytes) {
-        metadataManager.loadInstanceMetadataSnapshot(serializer.deserialize(snapshotBytes));
+    protected void loadData(ConcurrentMap<Service, ConcurrentMap<String, InstanceMetadata>> data) {
+        metadataManager.loadInstanceMetadataSnapshot(data);
     }
     
     @Override
@@ -38,6 +38,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class NamingMetadataOperateService {
     
+    private static final String PARTITION_KEY_SPLITER = "##";
+    
     private final CPProtocol cpProtocol;
     
     private final Serializer serializer;
@@ -57,6 +59,7 @@ public class NamingMetadataOperateService {
         MetadataOperation<ServiceMetadata> operation = buildMetadataOperation(service);
         operation.setMetadata(serviceMetadata);
         WriteRequest operationLog = WriteRequest.newBuilder().setGroup(Constants.SERVICE_METADATA)
+                .setKey(partitionKey(service))
                 .setOperation(DataOperation.CHANGE.name()).setData(ByteString.copyFrom(serializer.serialize(operation)))
                 .build();
         submitMetadataOperation(operationLog);
@@ -70,6 +73,7 @@ public class NamingMetadataOperateService {
     public void deleteServiceMetadata(Service service) {
         MetadataOperation<ServiceMetadata> operation = buildMetadataOperation(service);
         WriteRequest operationLog = WriteRequest.newBuilder().setGroup(Constants.SERVICE_METADATA)
+                .setKey(partitionKey(service))
                 .setOperation(DataOperation.DELETE.name()).setData(ByteString.copyFrom(serializer.serialize(operation)))
                 .build();
         submitMetadataOperation(operationLog);
@@ -87,6 +91,7 @@ public class NamingMetadataOperateService {
         operation.setTag(metadataId);
         operation.setMetadata(instanceMetadata);
         WriteRequest operationLog = WriteRequest.newBuilder().setGroup(Constants.INSTANCE_METADATA)
+                .setKey(partitionKey(service))
                 .setOperation(DataOperation.CHANGE.name()).setData(ByteString.copyFrom(serializer.serialize(operation)))
                 .build();
         submitMetadataOperation(operationLog);
@@ -102,6 +107,7 @@ public class NamingMetadataOperateService {
         MetadataOperation<InstanceMetadata> operation = buildMetadataOperation(service);
         operation.setTag(metadataId);
         WriteRequest operationLog = WriteRequest.newBuilder().setGroup(Constants.INSTANCE_METADATA)
+                .setKey(partitionKey(service))
                 .setOperation(DataOperation.DELETE.name()).setData(ByteString.copyFrom(serializer.serialize(operation)))
                 .build();
         submitMetadataOperation(operationLog);
@@ -121,6 +127,7 @@ public class NamingMetadataOperateService {
         serviceMetadata.getClusters().put(clusterName, clusterMetadata);
         operation.setMetadata(serviceMetadata);
         WriteRequest operationLog = WriteRequest.newBuilder().setGroup(Constants.SERVICE_METADATA)
+                .setKey(partitionKey(service))
                 .setOperation(DataOperation.ADD.name()).setData(ByteString.copyFrom(serializer.serialize(operation)))
                 .build();
         submitMetadataOperation(operationLog);
@@ -134,6 +141,14 @@ public class NamingMetadataOperateService {
         return result;
     }
     
+    /**
+     * The metadata operations of different services are commutative, so use the service as partition key to apply them
+     * in parallel.
+     */
+    private String partitionKey(Service service) {
+        return service.getNamespace() + PARTITION_KEY_SPLITER + service.getGroupedServiceName();
+    }
+    
     private void submitMetadataOperation(WriteRequest operationLog) {
         try {
             Response response = cpProtocol.write(operationLog);
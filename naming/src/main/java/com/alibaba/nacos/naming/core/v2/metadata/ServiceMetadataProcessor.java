@@ -59,6 +59,8 @@ public class ServiceMetadataProcessor extends RequestProcessor4CP {
     
     private final ReentrantReadWriteLock.ReadLock readLock;
     
+    private final ServiceMetadataSnapshotOperation snapshotOperation;
+    
     @SuppressWarnings("unchecked")
     public ServiceMetadataProcessor(NamingMetadataManager namingMetadataManager, ProtocolManager protocolManager,
             ServiceStorage serviceStorage) {
@@ -68,12 +70,18 @@ public class ServiceMetadataProcessor extends RequestProcessor4CP {
         this.processType = TypeUtils.parameterize(MetadataOperation.class, ServiceMetadata.class);
         this.lock = new ReentrantReadWriteLock();
         this.readLock = lock.readLock();
+        this.snapshotOperation = new ServiceMetadataSnapshotOperation(namingMetadataManager, lock);
         protocolManager.getCpProtocol().addRequestProcessors(Collections.singletonList(this));
     }
     
     @Override
     public List<SnapshotOperation> loadSnapshotOperate() {
-        return Collections.singletonList(new ServiceMetadataSnapshotOperation(namingMetadataManager, lock));
+        return Collections.singletonList(snapshotOperation);
+    }
+    
+    @Override
+    public String partitionKey(WriteRequest request) {
+        return request.getKey();
     }
     
     @Override
@@ -120,6 +128,7 @@ public class ServiceMetadataProcessor extends RequestProcessor4CP {
             Service singleton = ServiceManager.getInstance().getSingleton(service);
             namingMetadataManager.updateServiceMetadata(singleton, op.getMetadata());
         }
+        snapshotOperation.markDirty(service);
     }
     
     private void updateServiceMetadata(MetadataOperation<ServiceMetadata> op) {
@@ -134,6 +143,7 @@ public class ServiceMetadataProcessor extends RequestProcessor4CP {
             Service singleton = ServiceManager.getInstance().getSingleton(service);
             namingMetadataManager.updateServiceMetadata(singleton, op.getMetadata());
         }
+        snapshotOperation.markDirty(service);
     }
     
     /**
@@ -158,6 +168,7 @@ public class ServiceMetadataProcessor extends RequestProcessor4CP {
     private void deleteServiceMetadata(MetadataOperation<ServiceMetadata> op) {
         Service service = Service.newService(op.getNamespace(), op.getGroup(), op.getServiceName());
         namingMetadataManager.removeServiceMetadata(service);
+        snapshotOperation.markDirty(service);
         Service removed = ServiceManager.getInstance().removeSingleton(service);
         if (removed != null) {
             service = removed;
@@ -16,21 +16,20 @@
 
 package com.alibaba.nacos.naming.core.v2.metadata;
 
-import com.alibaba.nacos.consistency.SerializeFactory;
-import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
 
 /**
  * Service metadata snapshot operation.
  *
  * @author xiweng.yy
  */
-public class ServiceMetadataSnapshotOperation extends AbstractMetadataSnapshotOperation {
+public class ServiceMetadataSnapshotOperation extends AbstractMetadataSnapshotOperation<ServiceMetadata> {
     
     private static final String SNAPSHOT_SAVE = ServiceMetadataSnapshotOperation.class.getSimpleName() + ".SAVE";
     
@@ -40,23 +39,25 @@ public class ServiceMetadataSnapshotOperation extends AbstractMetadataSnapshotOp
     
     private final NamingMetadataManager metadataManager;
     
-    private final Serializer serializer;
-    
     public ServiceMetadataSnapshotOperation(NamingMetadataManager metadataManager, ReentrantReadWriteLock lock) {
         super(lock);
         this.metadataManager = metadataManager;
-        this.serializer = SerializeFactory.getDefault();
     }
     
     @Override
-    protected InputStream dumpSnapshot() {
-        Map<Service, ServiceMetadata> snapshot = metadataManager.getServiceMetadataSnapshot();
-        return new ByteArrayInputStream(serializer.serialize(snapshot));
+    protected Map<Service, ServiceMetadata> captureData(Predicate<Service> filter) {
+        Map<Service, ServiceMetadata> result = new HashMap<>(SEGMENT_COUNT);
+        metadataManager.getServiceMetadataSnapshot().forEach((service, metadata) -> {
+            if (filter.test(service)) {
+                result.put(service, metadata);
+            }
+        });
+        return result;
     }
     
     @Override
-    protected void loadSnapshot(byte[] snapshotBytes) {
-        metadataManager.loadServiceMetadataSnapshot(serializer.deserialize(snapshotBytes));
+    protected void loadData(ConcurrentMap<Service, ServiceMetadata> data) {
+        metadataManager.loadServiceMetadataSnapshot(data);
     }
     
     @Override
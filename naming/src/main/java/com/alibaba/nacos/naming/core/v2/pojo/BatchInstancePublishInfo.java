@@ -43,6 +43,16 @@ public class BatchInstancePublishInfo extends InstancePublishInfo {
         this.instancePublishInfos = instancePublishInfos;
     }
     
+    @Override
+    public void compact() {
+        super.compact();
+        if (null != instancePublishInfos) {
+            for (InstancePublishInfo each : instancePublishInfos) {
+                each.compact();
+            }
+        }
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -17,8 +17,11 @@
 package com.alibaba.nacos.naming.core.v2.pojo;
 
 import com.alibaba.nacos.common.utils.InternetAddressUtil;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -32,6 +35,12 @@ public class InstancePublishInfo implements Serializable {
     
     private static final long serialVersionUID = -74988890439616025L;
     
+    /**
+     * Interner of the strings of stored instances, owned by naming and weakly referenced, so the strings are shared as
+     * long as any stored instance holds them and not evicted by the strings of other modules.
+     */
+    private static final Interner<String> STRING_INTERNER = Interners.newWeakInterner();
+    
     private String ip;
     
     private int port;
@@ -91,6 +100,38 @@ public class InstancePublishInfo implements Serializable {
         this.healthy = healthy;
     }
     
+    /**
+     * Compact this instance before stored.
+     *
+     * <p>The ip, cluster and string entries of extend datum are replaced by the interned ones, which are shared by the
+     * instances of the same host, cluster or metadata. The extend datum is resized to its content, and the empty one
+     * is replaced by the shared immutable empty map, so the extend datum should not be modified after compacted.
+     */
+    public void compact() {
+        ip = intern(ip);
+        cluster = intern(cluster);
+        extendDatum = compactExtendDatum(extendDatum);
+    }
+    
+    private static Map<String, Object> compactExtendDatum(Map<String, Object> extendDatum) {
+        if (null == extendDatum) {
+            return null;
+        }
+        if (extendDatum.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> result = new HashMap<>((int) (extendDatum.size() / 0.75F) + 1);
+        for (Map.Entry<String, Object> entry : extendDatum.entrySet()) {
+            Object value = entry.getValue();
+            result.put(intern(entry.getKey()), value instanceof String ? intern((String) value) : value);
+        }
+        return result;
+    }
+    
+    private static String intern(String value) {
+        return null == value ? null : STRING_INTERNER.intern(value);
+    }
+    
     public String getMetadataId() {
         return genMetadataId(ip, port, cluster);
     }
@@ -30,13 +30,10 @@ import com.alibaba.nacos.consistency.cp.RequestProcessor4CP;
 import com.alibaba.nacos.consistency.entity.ReadRequest;
 import com.alibaba.nacos.consistency.entity.Response;
 import com.alibaba.nacos.consistency.entity.WriteRequest;
-import com.alibaba.nacos.consistency.snapshot.LocalFileMeta;
-import com.alibaba.nacos.consistency.snapshot.Reader;
 import com.alibaba.nacos.consistency.snapshot.SnapshotOperation;
-import com.alibaba.nacos.consistency.snapshot.Writer;
 import com.alibaba.nacos.core.distributed.ProtocolManager;
 import com.alibaba.nacos.core.utils.Loggers;
-import com.alibaba.nacos.naming.consistency.persistent.impl.AbstractSnapshotOperation;
+import com.alibaba.nacos.naming.consistency.persistent.impl.AbstractIncrementalSnapshotOperation;
 import com.alibaba.nacos.naming.constants.Constants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.Client;
@@ -50,28 +47,21 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.core.v2.service.ClientOperationService;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
-import com.alibaba.nacos.sys.utils.DiskUtils;
-import com.alipay.sofa.jraft.util.CRC64;
 import com.google.protobuf.ByteString;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.io.Serializable;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.zip.Checksum;
+import java.util.function.Predicate;
 
 /**
  * Operation service for persistent clients and services. only for v2 For persistent instances, clientId must be in the
@@ -93,6 +83,8 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
     
     private final ReentrantReadWriteLock.ReadLock readLock = lock.readLock();
     
+    private final PersistentInstanceSnapshotOperation snapshotOperation = new PersistentInstanceSnapshotOperation(lock);
+    
     private static final int INITIAL_CAPACITY = 128;
     
     public PersistentClientOperationServiceImpl(final PersistentIpPortClientManager clientManager) {
@@ -113,7 +105,7 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         request.setService(service);
         request.setInstance(instance);
         request.setClientId(clientId);
-        final WriteRequest writeRequest = WriteRequest.newBuilder().setGroup(group())
+        final WriteRequest writeRequest = WriteRequest.newBuilder().setGroup(group()).setKey(clientId)
                 .setData(ByteString.copyFrom(serializer.serialize(request))).setOperation(DataOperation.ADD.name())
                 .build();
         
@@ -139,7 +131,7 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         request.setService(service);
         request.setInstance(instance);
         request.setClientId(clientId);
-        final WriteRequest writeRequest = WriteRequest.newBuilder().setGroup(group())
+        final WriteRequest writeRequest = WriteRequest.newBuilder().setGroup(group()).setKey(clientId)
                 .setData(ByteString.copyFrom(serializer.serialize(request))).setOperation(DataOperation.CHANGE.name())
                 .build();
         try {
@@ -160,7 +152,7 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         request.setService(service);
         request.setInstance(instance);
         request.setClientId(clientId);
-        final WriteRequest writeRequest = WriteRequest.newBuilder().setGroup(group())
+        final WriteRequest writeRequest = WriteRequest.newBuilder().setGroup(group()).setKey(clientId)
                 .setData(ByteString.copyFrom(serializer.serialize(request))).setOperation(DataOperation.DELETE.name())
                 .build();
         
@@ -194,6 +186,7 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         try {
             final InstanceStoreRequest instanceRequest = serializer.deserialize(request.getData().toByteArray());
             final DataOperation operation = DataOperation.valueOf(request.getOperation());
+            snapshotOperation.markDirty(instanceRequest.getClientId());
             switch (operation) {
                 case ADD:
                     onInstanceRegister(instanceRequest.service, instanceRequest.instance,
@@ -256,7 +249,12 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
     
     @Override
     public List<SnapshotOperation> loadSnapshotOperate() {
-        return Collections.singletonList(new PersistentInstanceSnapshotOperation(lock));
+        return Collections.singletonList(snapshotOperation);
+    }
+    
+    @Override
+    public String partitionKey(WriteRequest request) {
+        return request.getKey();
     }
     
     @Override
@@ -300,7 +298,8 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         
     }
     
-    private class PersistentInstanceSnapshotOperation extends AbstractSnapshotOperation {
+    private class PersistentInstanceSnapshotOperation
+            extends AbstractIncrementalSnapshotOperation<String, ClientSyncData> {
         
         private final String snapshotSaveTag = ClassUtils.getSimpleName(getClass()) + ".SAVE";
         
@@ -313,44 +312,20 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
         }
         
         @Override
-        protected boolean writeSnapshot(Writer writer) throws IOException {
-            final String writePath = writer.getPath();
-            final String outputFile = Paths.get(writePath, SNAPSHOT_ARCHIVE).toString();
-            final Checksum checksum = new CRC64();
-            try (InputStream inputStream = dumpSnapshot()) {
-                DiskUtils.compressIntoZipFile("instance", inputStream, outputFile, checksum);
-            }
-            final LocalFileMeta meta = new LocalFileMeta();
-            meta.append(CHECK_SUM_KEY, Long.toHexString(checksum.getValue()));
-            return writer.addFile(SNAPSHOT_ARCHIVE, meta);
-        }
-        
-        @Override
-        protected boolean readSnapshot(Reader reader) throws Exception {
-            final String readerPath = reader.getPath();
-            Loggers.RAFT.info("snapshot start to load from : {}", readerPath);
-            final String sourceFile = Paths.get(readerPath, SNAPSHOT_ARCHIVE).toString();
-            final Checksum checksum = new CRC64();
-            byte[] snapshotBytes = DiskUtils.decompress(sourceFile, checksum);
-            LocalFileMeta fileMeta = reader.getFileMeta(SNAPSHOT_ARCHIVE);
-            if (fileMeta.getFileMeta().containsKey(CHECK_SUM_KEY) && !Objects
-                    .equals(Long.toHexString(checksum.getValue()), fileMeta.get(CHECK_SUM_KEY))) {
-                throw new IllegalArgumentException("Snapshot checksum failed");
-            }
-            loadSnapshot(snapshotBytes);
-            Loggers.RAFT.info("snapshot success to load from : {}", readerPath);
-            return true;
-        }
-        
-        protected InputStream dumpSnapshot() {
+        protected Map<String, ClientSyncData> captureData(Predicate<String> filter) {
             Map<String, IpPortBasedClient> clientMap = clientManager.showClients();
-            ConcurrentHashMap<String, ClientSyncData> clone = new ConcurrentHashMap<>(INITIAL_CAPACITY);
-            clientMap.forEach((clientId, client) -> clone.put(clientId, client.generateSyncData()));
-            return new ByteArrayInputStream(serializer.serialize(clone));
+            Map<String, ClientSyncData> result = new HashMap<>(INITIAL_CAPACITY);
+            clientMap.forEach((clientId, client) -> {
+                if (filter.test(clientId)) {
+                    result.put(clientId, client.generateSyncData());
+                }
+            });
+            return result;
         }
         
-        protected void loadSnapshot(byte[] snapshotBytes) {
-            ConcurrentHashMap<String, ClientSyncData> newData = serializer.deserialize(snapshotBytes);
+        @Override
+        protected void loadData(ConcurrentMap<String, ClientSyncData> newData) {
+            Loggers.RAFT.info("snapshot start to load {} clients", newData.size());
             Collection<String> oldClientIds = clientManager.allClientId();
             // add or update
             for (Map.Entry<String, ClientSyncData> entry : newData.entrySet()) {
@@ -367,6 +342,7 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
             }
             // remove dead client
             removeDeadClient(newData.keySet(), oldClientIds);
+            Loggers.RAFT.info("snapshot success to load {} clients", newData.size());
         }
 
         /**
@@ -477,6 +453,16 @@ public class PersistentClientOperationServiceImpl extends RequestProcessor4CP im
             }
         }
         
+        @Override
+        protected String getSnapshotArchive() {
+            return SNAPSHOT_ARCHIVE;
+        }
+        
+        @Override
+        protected String getArchiveEntryName() {
+            return "instance";
+        }
+        
         @Override
         protected String getSnapshotSaveTag() {
             return snapshotSaveTag;
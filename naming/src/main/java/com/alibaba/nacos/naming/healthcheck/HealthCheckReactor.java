@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.healthcheck;
 
 import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
 import com.alibaba.nacos.naming.healthcheck.interceptor.HealthCheckTaskInterceptWrapper;
+import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckScheduler;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
@@ -43,7 +44,14 @@ public class HealthCheckReactor {
      * @param task health check task
      */
     public static void scheduleCheck(HealthCheckTaskV2 task) {
-        task.setStartTime(System.currentTimeMillis());
+        long now = System.currentTimeMillis();
+        task.setStartTime(now);
+        task.setExpectedCheckTime(now + task.getCheckRtNormalized());
+        HealthCheckScheduler scheduler = HealthCheckScheduler.getInstance();
+        if (null != scheduler) {
+            scheduler.schedule(task, task.getCheckRtNormalized());
+            return;
+        }
         Runnable wrapperTask = new HealthCheckTaskInterceptWrapper(task);
         GlobalExecutor.scheduleNamingHealth(wrapperTask, task.getCheckRtNormalized(), TimeUnit.MILLISECONDS);
     }
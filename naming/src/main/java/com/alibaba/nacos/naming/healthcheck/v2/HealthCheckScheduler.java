@@ -0,0 +1,204 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2;
+
+import com.alibaba.nacos.naming.constants.HealthCheckConstants;
+import com.alibaba.nacos.naming.healthcheck.interceptor.HealthCheckTaskInterceptWrapper;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Bucketed scheduler for health check tasks of persistent instances.
+ *
+ * <p>Instead of one delayed task per instance in the scheduled executor, the checks are put into the buckets of a
+ * timing wheel and the due checks are dispatched together once per tick. If the bucket of a check already holds
+ * {@code maxChecksPerTick} checks, the check is moved to a later bucket within a quarter of its delay, so the checks
+ * are spread over the interval instead of starting at the same time.
+ *
+ * <p>Buckets are only touched by the tick thread, new checks are handed over by a pending queue.
+ *
+ * @author nacos
+ */
+public class HealthCheckScheduler {
+    
+    private static final int WHEEL_SIZE = 1024;
+    
+    private static final int SPREAD_DIVISOR = 4;
+    
+    private final long tickInterval;
+    
+    private final int maxChecksPerTick;
+    
+    private final Consumer<HealthCheckTaskV2> dispatcher;
+    
+    private final Queue<Entry> pendingEntries = new ConcurrentLinkedQueue<>();
+    
+    private final ArrayDeque<Entry>[] wheel;
+    
+    private long currentTick;
+    
+    @SuppressWarnings("unchecked")
+    public HealthCheckScheduler(long tickInterval, int maxChecksPerTick, Consumer<HealthCheckTaskV2> dispatcher) {
+        this.tickInterval = Math.max(1L, tickInterval);
+        this.maxChecksPerTick = Math.max(1, maxChecksPerTick);
+        this.dispatcher = dispatcher;
+        this.wheel = new ArrayDeque[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+    }
+    
+    /**
+     * Get the shared health check scheduler, which is started at the first call.
+     *
+     * @return shared health check scheduler, {@code null} if health check scheduler is disabled
+     */
+    public static HealthCheckScheduler getInstance() {
+        return Holder.INSTANCE;
+    }
+    
+    /**
+     * Start the tick of scheduler.
+     */
+    public void start() {
+        GlobalExecutor.scheduleHealthCheckTick(this::tick, tickInterval, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Schedule health check task, the task is dispatched at the first tick after delay.
+     *
+     * @param task  health check task
+     * @param delay delay of check, unit: milliseconds
+     */
+    public void schedule(HealthCheckTaskV2 task, long delay) {
+        pendingEntries.offer(new Entry(task, Math.max(0L, delay)));
+    }
+    
+    /**
+     * Move the new checks into buckets, then dispatch the due checks of current bucket.
+     */
+    public void tick() {
+        try {
+            transferPendingEntries();
+            dispatchDueEntries();
+        } catch (Throwable e) {
+            Loggers.SRV_LOG.error("[HEALTH-CHECK] error while ticking health check scheduler", e);
+        } finally {
+            currentTick++;
+        }
+    }
+    
+    private void transferPendingEntries() {
+        long now = System.currentTimeMillis();
+        Entry entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            long remaining = entry.createTime + entry.delay - now;
+            long delayTicks = remaining <= 0 ? 0 : (remaining + tickInterval - 1) / tickInterval;
+            long window = Math.min(delayTicks / SPREAD_DIVISOR, WHEEL_SIZE / 2);
+            long target = currentTick + delayTicks;
+            long chosen = target;
+            for (long tick = target; tick <= target + window; tick++) {
+                int load = bucket(tick).size();
+                if (load < maxChecksPerTick) {
+                    chosen = tick;
+                    break;
+                }
+                if (load < bucket(chosen).size()) {
+                    chosen = tick;
+                }
+            }
+            entry.deadlineTick = chosen;
+            bucket(chosen).add(entry);
+        }
+    }
+    
+    private void dispatchDueEntries() {
+        Iterator<Entry> iterator = bucket(currentTick).iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.deadlineTick > currentTick) {
+                continue;
+            }
+            iterator.remove();
+            if (!entry.task.isCancelled()) {
+                dispatcher.accept(entry.task);
+            }
+        }
+    }
+    
+    private ArrayDeque<Entry> bucket(long tick) {
+        return wheel[(int) (tick & (WHEEL_SIZE - 1))];
+    }
+    
+    /**
+     * Count of checks which are waiting in buckets, only for test and monitor.
+     *
+     * @param tick tick of bucket, relative to current tick
+     * @return count of checks in the bucket
+     */
+    int getBucketSize(long tick) {
+        return bucket(currentTick + tick).size();
+    }
+    
+    private static class Entry {
+        
+        private final HealthCheckTaskV2 task;
+        
+        private final long createTime;
+        
+        private final long delay;
+        
+        private long deadlineTick;
+        
+        private Entry(HealthCheckTaskV2 task, long delay) {
+            this.task = task;
+            this.createTime = System.currentTimeMillis();
+            this.delay = delay;
+        }
+    }
+    
+    private static class Holder {
+        
+        private static final HealthCheckScheduler INSTANCE = createInstance();
+        
+        private static HealthCheckScheduler createInstance() {
+            if (!EnvUtil.getProperty(HealthCheckConstants.SCHEDULER_ENABLED, Boolean.class,
+                    HealthCheckConstants.DEFAULT_SCHEDULER_ENABLED)) {
+                return null;
+            }
+            long tickInterval = EnvUtil.getProperty(HealthCheckConstants.SCHEDULER_TICK_INTERVAL, Long.class,
+                    HealthCheckConstants.DEFAULT_SCHEDULER_TICK_INTERVAL);
+            int maxChecksPerTick = EnvUtil.getProperty(HealthCheckConstants.SCHEDULER_MAX_CHECKS_PER_TICK,
+                    Integer.class, HealthCheckConstants.DEFAULT_SCHEDULER_MAX_CHECKS_PER_TICK);
+            HealthCheckScheduler result = new HealthCheckScheduler(tickInterval, maxChecksPerTick,
+                    task -> GlobalExecutor.executeNamingHealth(new HealthCheckTaskInterceptWrapper(task)));
+            result.start();
+            Loggers.SRV_LOG.info(
+                    "[HEALTH-CHECK] health check scheduler started, tickInterval: {}, maxChecksPerTick: {}",
+                    tickInterval, maxChecksPerTick);
+            return result;
+        }
+    }
+}
@@ -66,6 +66,8 @@ public class HealthCheckTaskV2 extends AbstractExecuteTask implements NacosHealt
     
     private long startTime;
     
+    private long expectedCheckTime;
+    
     private volatile boolean cancelled = false;
     
     public HealthCheckTaskV2(IpPortBasedClient client) {
@@ -216,6 +218,14 @@ public class HealthCheckTaskV2 extends AbstractExecuteTask implements NacosHealt
         this.startTime = startTime;
     }
     
+    public long getExpectedCheckTime() {
+        return expectedCheckTime;
+    }
+    
+    public void setExpectedCheckTime(long expectedCheckTime) {
+        this.expectedCheckTime = expectedCheckTime;
+    }
+    
     public long getCheckRtLast() {
         return checkRtLast;
     }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.http.Callback;
+import com.alibaba.nacos.common.model.RestResult;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Executor of health check processor, which limits the count of checks running at the same time.
+ *
+ * <p>The checks run on virtual threads if enabled and supported by current JVM, otherwise run on the platform thread
+ * pool of processor. A check waits for a permit after it is started, so the time between submitted and permit
+ * acquired is recorded as queue latency.
+ *
+ * @author nacos
+ */
+public class HealthCheckProcessorExecutor {
+    
+    private final String type;
+    
+    private final ExecutorService executor;
+    
+    private final boolean virtualThread;
+    
+    private final int maxConcurrency;
+    
+    private final Semaphore permits;
+    
+    private final AtomicLong pendingTasks;
+    
+    private final AtomicLong runningTasks;
+    
+    private final Timer queueLatency;
+    
+    public HealthCheckProcessorExecutor(String type, int maxConcurrency, boolean virtualThreadEnabled,
+            ExecutorService platformExecutor) {
+        this.type = type;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.virtualThread = virtualThreadEnabled && ExecutorFactory.isVirtualThreadSupported();
+        if (virtualThreadEnabled && !virtualThread) {
+            Loggers.SRV_LOG.warn("[HEALTH-CHECK] virtual thread is not supported by current JVM, {} checks fall back "
+                    + "to platform thread pool", type);
+        }
+        this.executor = virtualThread ? GlobalExecutor.newVirtualHealthCheckExecutor(type) : platformExecutor;
+        this.permits = new Semaphore(this.maxConcurrency);
+        this.pendingTasks = MetricsMonitor.getHealthCheckExecutorMetric(type, "pending");
+        this.runningTasks = MetricsMonitor.getHealthCheckExecutorMetric(type, "running");
+        this.queueLatency = MetricsMonitor.getHealthCheckQueueLatency(type);
+    }
+    
+    /**
+     * Execute a blocking check, the permit is held until the check returns.
+     *
+     * @param task blocking check task
+     * @throws RejectedExecutionException if the executor can't accept the check
+     */
+    public void execute(Runnable task) {
+        long submitTime = System.nanoTime();
+        submit(() -> {
+            acquire(submitTime);
+            try {
+                task.run();
+            } finally {
+                release();
+            }
+        });
+    }
+    
+    /**
+     * Execute an asynchronous check, the permit is held until the release callback handed to the task is called.
+     *
+     * @param task asynchronous check task, which must call the release callback once the check finished
+     * @throws RejectedExecutionException if the executor can't accept the check
+     */
+    public void executeAsync(Consumer<Runnable> task) {
+        long submitTime = System.nanoTime();
+        submit(() -> {
+            acquire(submitTime);
+            AtomicBoolean released = new AtomicBoolean(false);
+            Runnable releaseOnce = () -> {
+                if (released.compareAndSet(false, true)) {
+                    release();
+                }
+            };
+            try {
+                task.accept(releaseOnce);
+            } catch (Throwable e) {
+                releaseOnce.run();
+                throw e;
+            }
+        });
+    }
+    
+    /**
+     * Wrap the http callback to call the release callback once the request completed.
+     *
+     * @param callback actual http callback
+     * @param release  release callback handed by {@link #executeAsync(Consumer)}
+     * @param <T>      type of response body
+     * @return wrapped callback
+     */
+    public static <T> Callback<T> releaseOnComplete(Callback<T> callback, Runnable release) {
+        return new Callback<T>() {
+            
+            @Override
+            public void onReceive(RestResult<T> result) {
+                try {
+                    callback.onReceive(result);
+                } finally {
+                    release.run();
+                }
+            }
+            
+            @Override
+            public void onError(Throwable throwable) {
+                try {
+                    callback.onError(throwable);
+                } finally {
+                    release.run();
+                }
+            }
+            
+            @Override
+            public void onCancel() {
+                try {
+                    callback.onCancel();
+                } finally {
+                    release.run();
+                }
+            }
+        };
+    }
+    
+    private void submit(Runnable runnable) {
+        pendingTasks.incrementAndGet();
+        try {
+            executor.execute(runnable);
+        } catch (RejectedExecutionException e) {
+            pendingTasks.decrementAndGet();
+            throw e;
+        }
+    }
+    
+    private void acquire(long submitTime) {
+        permits.acquireUninterruptibly();
+        pendingTasks.decrementAndGet();
+        runningTasks.incrementAndGet();
+        queueLatency.record(System.nanoTime() - submitTime, TimeUnit.NANOSECONDS);
+    }
+    
+    private void release() {
+        runningTasks.decrementAndGet();
+        permits.release();
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public boolean isVirtualThread() {
+        return virtualThread;
+    }
+    
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+    
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -21,12 +21,14 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.healthcheck.extend.HealthCheckExtendProvider;
 import com.alibaba.nacos.naming.healthcheck.extend.HealthCheckProcessorExtendV2;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -58,6 +60,12 @@ public class HealthCheckProcessorV2Delegate implements HealthCheckProcessorV2 {
         if (processor == null) {
             processor = healthCheckProcessorMap.get(NoneHealthCheckProcessor.TYPE);
         }
+        if (task.getExpectedCheckTime() > 0) {
+            MetricsMonitor.getHealthCheckLag(processor.getType())
+                    .record(Math.max(0L, System.currentTimeMillis() - task.getExpectedCheckTime()),
+                            TimeUnit.MILLISECONDS);
+        }
+        MetricsMonitor.getHealthCheckCount(processor.getType()).increment();
         processor.process(task, service, metadata);
     }
     
@@ -24,13 +24,16 @@ import com.alibaba.nacos.common.http.client.NacosAsyncRestTemplate;
 import com.alibaba.nacos.common.http.param.Header;
 import com.alibaba.nacos.common.http.param.Query;
 import com.alibaba.nacos.common.model.RestResult;
+import com.alibaba.nacos.naming.constants.HealthCheckConstants;
 import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.HttpClientManager;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
 import java.net.ConnectException;
@@ -60,9 +63,16 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
     
     private final SwitchDomain switchDomain;
     
+    private final HealthCheckProcessorExecutor executor;
+    
     public HttpHealthCheckProcessor(HealthCheckCommonV2 healthCheckCommon, SwitchDomain switchDomain) {
         this.healthCheckCommon = healthCheckCommon;
         this.switchDomain = switchDomain;
+        this.executor = new HealthCheckProcessorExecutor(TYPE,
+                EnvUtil.getProperty(HealthCheckConstants.HTTP_MAX_CONCURRENCY, Integer.class,
+                        HealthCheckConstants.DEFAULT_HTTP_MAX_CONCURRENCY),
+                EnvUtil.getProperty(HealthCheckConstants.VIRTUAL_THREAD_ENABLED, Boolean.class,
+                        HealthCheckConstants.DEFAULT_VIRTUAL_THREAD_ENABLED), GlobalExecutor.getHttpCheckExecutor());
     }
     
     @Override
@@ -90,17 +100,30 @@ public class HttpHealthCheckProcessor implements HealthCheckProcessorV2 {
             Header header = Header.newInstance();
             header.addAll(customHeaders);
             
-            ASYNC_REST_TEMPLATE.get(target.toString(), header, Query.EMPTY, String.class,
-                    new HttpHealthCheckCallback(instance, task, service));
+            executor.executeAsync(release -> {
+                try {
+                    ASYNC_REST_TEMPLATE.get(target.toString(), header, Query.EMPTY, String.class,
+                            HealthCheckProcessorExecutor
+                                    .releaseOnComplete(new HttpHealthCheckCallback(instance, task, service), release));
+                } catch (Throwable e) {
+                    release.run();
+                    handleCheckError(task, service, instance, e);
+                }
+            });
             MetricsMonitor.getHttpHealthCheckMonitor().incrementAndGet();
         } catch (Throwable e) {
-            instance.setCheckRt(switchDomain.getHttpHealthParams().getMax());
-            healthCheckCommon.checkFail(task, service, "http:error:" + e.getMessage());
-            healthCheckCommon.reEvaluateCheckRT(switchDomain.getHttpHealthParams().getMax(), task,
-                    switchDomain.getHttpHealthParams());
+            handleCheckError(task, service, instance, e);
         }
     }
     
+    private void handleCheckError(HealthCheckTaskV2 task, Service service, HealthCheckInstancePublishInfo instance,
+            Throwable e) {
+        instance.setCheckRt(switchDomain.getHttpHealthParams().getMax());
+        healthCheckCommon.checkFail(task, service, "http:error:" + e.getMessage());
+        healthCheckCommon.reEvaluateCheckRT(switchDomain.getHttpHealthParams().getMax(), task,
+                switchDomain.getHttpHealthParams());
+    }
+    
     @Override
     public String getType() {
         return TYPE;
@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.healthcheck.v2.processor;
 
 import com.alibaba.nacos.api.naming.pojo.healthcheck.HealthCheckType;
 import com.alibaba.nacos.api.naming.pojo.healthcheck.impl.Mysql;
+import com.alibaba.nacos.naming.constants.HealthCheckConstants;
 import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
@@ -26,6 +27,7 @@ import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
 import java.net.ConnectException;
@@ -58,6 +60,8 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
     
     private final SwitchDomain switchDomain;
     
+    private final HealthCheckProcessorExecutor executor;
+    
     public static final int CONNECT_TIMEOUT_MS = 500;
     
     private static final String CHECK_MYSQL_MASTER_SQL = "show global variables where variable_name='read_only'";
@@ -69,6 +73,11 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
     public MysqlHealthCheckProcessor(HealthCheckCommonV2 healthCheckCommon, SwitchDomain switchDomain) {
         this.healthCheckCommon = healthCheckCommon;
         this.switchDomain = switchDomain;
+        this.executor = new HealthCheckProcessorExecutor(TYPE,
+                EnvUtil.getProperty(HealthCheckConstants.MYSQL_MAX_CONCURRENCY, Integer.class,
+                        HealthCheckConstants.DEFAULT_MYSQL_MAX_CONCURRENCY),
+                EnvUtil.getProperty(HealthCheckConstants.VIRTUAL_THREAD_ENABLED, Boolean.class,
+                        HealthCheckConstants.DEFAULT_VIRTUAL_THREAD_ENABLED), GlobalExecutor.getMysqlCheckExecutor());
     }
     
     @Override
@@ -93,7 +102,7 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                         .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getMysqlHealthParams());
                 return;
             }
-            GlobalExecutor.executeMysqlCheckTask(new MysqlCheckTask(task, service, instance, metadata));
+            executor.execute(new MysqlCheckTask(task, service, instance, metadata));
             MetricsMonitor.getMysqlHealthCheckMonitor().incrementAndGet();
         } catch (Exception e) {
             instance.setCheckRt(switchDomain.getMysqlHealthParams().getMax());
@@ -55,7 +55,7 @@ import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
  * @author xiweng.yy
  */
 @Component
-public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable {
+public class TcpHealthCheckProcessor implements HealthCheckProcessorV2 {
     
     public static final String TYPE = HealthCheckType.TCP.name();
     
@@ -77,16 +77,17 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
     
     private final Map<String, BeatKey> keyMap = new ConcurrentHashMap<>();
     
-    private final BlockingQueue<Beat> taskQueue = new LinkedBlockingQueue<>();
-    
-    private final Selector selector;
+    private final SelectorWorker[] workers;
     
     public TcpHealthCheckProcessor(HealthCheckCommonV2 healthCheckCommon, SwitchDomain switchDomain) {
         this.healthCheckCommon = healthCheckCommon;
         this.switchDomain = switchDomain;
+        this.workers = new SelectorWorker[GlobalExecutor.TCP_CHECK_SELECTOR_COUNT];
         try {
-            selector = Selector.open();
-            GlobalExecutor.submitTcpCheck(this);
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = new SelectorWorker(Selector.open());
+                GlobalExecutor.submitTcpCheck(workers[i]);
+            }
         } catch (Exception e) {
             throw new IllegalStateException("Error while initializing SuperSense(TM).");
         }
@@ -107,7 +108,8 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
                     .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getTcpHealthParams());
             return;
         }
-        taskQueue.add(new Beat(task, service, metadata, instance));
+        Beat beat = new Beat(task, service, metadata, instance);
+        workers[(beat.hashCode() & Integer.MAX_VALUE) % workers.length].taskQueue.add(beat);
         MetricsMonitor.getTcpHealthCheckMonitor().incrementAndGet();
     }
     
@@ -116,42 +118,56 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
         return TYPE;
     }
     
-    private void processTask() throws Exception {
-        Collection<Callable<Void>> tasks = new LinkedList<>();
-        do {
-            Beat beat = taskQueue.poll(CONNECT_TIMEOUT_MS / 2, TimeUnit.MILLISECONDS);
-            if (beat == null) {
-                return;
-            }
-            
-            tasks.add(new TaskProcessor(beat));
-        } while (taskQueue.size() > 0 && tasks.size() < NIO_THREAD_COUNT * 64);
+    /**
+     * Selector loop of tcp health check, each worker owns a selector and the beats dispatched to it.
+     */
+    private class SelectorWorker implements Runnable {
+        
+        private final BlockingQueue<Beat> taskQueue = new LinkedBlockingQueue<>();
         
-        for (Future<?> f : GlobalExecutor.invokeAllTcpSuperSenseTask(tasks)) {
-            f.get();
+        private final Selector selector;
+        
+        private SelectorWorker(Selector selector) {
+            this.selector = selector;
         }
-    }
-    
-    @Override
-    public void run() {
-        while (true) {
-            try {
-                processTask();
-                
-                int readyCount = selector.selectNow();
-                if (readyCount <= 0) {
-                    continue;
+        
+        private void processTask() throws Exception {
+            Collection<Callable<Void>> tasks = new LinkedList<>();
+            do {
+                Beat beat = taskQueue.poll(CONNECT_TIMEOUT_MS / 2, TimeUnit.MILLISECONDS);
+                if (beat == null) {
+                    return;
                 }
                 
-                Iterator<SelectionKey> iter = selector.selectedKeys().iterator();
-                while (iter.hasNext()) {
-                    SelectionKey key = iter.next();
-                    iter.remove();
+                tasks.add(new TaskProcessor(beat, selector));
+            } while (taskQueue.size() > 0 && tasks.size() < NIO_THREAD_COUNT * 64);
+            
+            for (Future<?> f : GlobalExecutor.invokeAllTcpSuperSenseTask(tasks)) {
+                f.get();
+            }
+        }
+        
+        @Override
+        public void run() {
+            while (true) {
+                try {
+                    processTask();
+                    
+                    int readyCount = selector.selectNow();
+                    if (readyCount <= 0) {
+                        continue;
+                    }
                     
-                    GlobalExecutor.executeTcpSuperSense(new PostProcessor(key));
+                    Iterator<SelectionKey> iter = selector.selectedKeys().iterator();
+                    while (iter.hasNext()) {
+                        SelectionKey key = iter.next();
+                        iter.remove();
+                        
+                        GlobalExecutor.executeTcpSuperSense(new PostProcessor(key));
+                    }
+                } catch (Throwable e) {
+                    SRV_LOG.error("[HEALTH-CHECK-V2] error while processing NIO task", e);
                 }
-            } catch (Throwable e) {
-                SRV_LOG.error("[HEALTH-CHECK-V2] error while processing NIO task", e);
             }
         }
     }
@@ -357,8 +373,11 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
         
         Beat beat;
         
-        public TaskProcessor(Beat beat) {
+        Selector selector;
+        
+        public TaskProcessor(Beat beat, Selector selector) {
             this.beat = beat;
+            this.selector = selector;
         }
         
         @Override
@@ -33,6 +33,8 @@ public class ClientConfig extends AbstractDynamicConfig {
     
     private long clientExpiredTime = ClientConstants.DEFAULT_CLIENT_EXPIRED_TIME;
     
+    private boolean instanceCompactEnabled = ClientConstants.DEFAULT_INSTANCE_COMPACT_ENABLED;
+    
     private ClientConfig() {
         super(NAMING_CLIENT);
         resetConfig();
@@ -50,14 +52,25 @@ public class ClientConfig extends AbstractDynamicConfig {
         this.clientExpiredTime = clientExpiredTime;
     }
     
+    public boolean isInstanceCompactEnabled() {
+        return instanceCompactEnabled;
+    }
+    
+    public void setInstanceCompactEnabled(boolean instanceCompactEnabled) {
+        this.instanceCompactEnabled = instanceCompactEnabled;
+    }
+    
     @Override
     protected void getConfigFromEnv() {
         clientExpiredTime = EnvUtil.getProperty(ClientConstants.CLIENT_EXPIRED_TIME_CONFIG_KEY, Long.class,
                 ClientConstants.DEFAULT_CLIENT_EXPIRED_TIME);
+        instanceCompactEnabled = EnvUtil.getProperty(ClientConstants.INSTANCE_COMPACT_ENABLED_CONFIG_KEY, Boolean.class,
+                ClientConstants.DEFAULT_INSTANCE_COMPACT_ENABLED);
     }
     
     @Override
     protected String printConfig() {
-        return "ClientConfig{" + "clientExpiredTime=" + clientExpiredTime + '}';
+        return "ClientConfig{" + "clientExpiredTime=" + clientExpiredTime + ", instanceCompactEnabled="
+                + instanceCompactEnabled + '}';
     }
 }
@@ -51,12 +51,19 @@ public class GlobalExecutor {
             .newFixedExecutorService(ClassUtils.getCanonicalName(NamingApp.class), DEFAULT_THREAD_COUNT,
                     new NameThreadFactory("com.alibaba.nacos.naming.mysql.checker"));
     
+    private static final ExecutorService HTTP_CHECK_EXECUTOR = ExecutorFactory.Managed
+            .newFixedExecutorService(ClassUtils.getCanonicalName(NamingApp.class), DEFAULT_THREAD_COUNT,
+                    new NameThreadFactory("com.alibaba.nacos.naming.http.checker"));
+    
     private static final ScheduledExecutorService TCP_SUPER_SENSE_EXECUTOR = ExecutorFactory.Managed
             .newScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class), DEFAULT_THREAD_COUNT,
                     new NameThreadFactory("com.alibaba.nacos.naming.supersense.checker"));
     
+    public static final int TCP_CHECK_SELECTOR_COUNT = Integer.max(
+            Integer.getInteger("com.alibaba.nacos.naming.tcp.check.selector.num", 2), 1);
+    
     private static final ExecutorService TCP_CHECK_EXECUTOR = ExecutorFactory.Managed
-            .newFixedExecutorService(ClassUtils.getCanonicalName(NamingApp.class), 2,
+            .newFixedExecutorService(ClassUtils.getCanonicalName(NamingApp.class), TCP_CHECK_SELECTOR_COUNT,
                     new NameThreadFactory("com.alibaba.nacos.naming.tcp.check.worker"));
     
     private static final ScheduledExecutorService NAMING_HEALTH_EXECUTOR = ExecutorFactory.Managed
@@ -64,6 +71,10 @@ public class GlobalExecutor {
                     Integer.max(Integer.getInteger("com.alibaba.nacos.naming.health.thread.num", DEFAULT_THREAD_COUNT),
                             1), new NameThreadFactory("com.alibaba.nacos.naming.health"));
     
+    private static final ScheduledExecutorService HEALTH_CHECK_SCHEDULER_EXECUTOR = ExecutorFactory.Managed
+            .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
+                    new NameThreadFactory("com.alibaba.nacos.naming.health.scheduler"));
+    
     private static final ScheduledExecutorService RETRANSMITTER_EXECUTOR = ExecutorFactory.Managed
             .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
                     new NameThreadFactory("com.alibaba.nacos.naming.push.retransmitter"));
@@ -80,6 +91,10 @@ public class GlobalExecutor {
             .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
                     new NameThreadFactory("com.alibaba.nacos.naming.remote-connection-manager"));
     
+    private static final ScheduledExecutorService PUSH_BATCH_FLUSH_EXECUTOR = ExecutorFactory.Managed
+            .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
+                    new NameThreadFactory("com.alibaba.nacos.naming.push.batch.flush"));
+    
     private static final ExecutorService PUSH_CALLBACK_EXECUTOR = ExecutorFactory.Managed
             .newSingleExecutorService("Push", new NameThreadFactory("com.alibaba.nacos.naming.push.callback"));
     
@@ -95,6 +110,25 @@ public class GlobalExecutor {
         MYSQL_CHECK_EXECUTOR.execute(runnable);
     }
     
+    public static ExecutorService getMysqlCheckExecutor() {
+        return MYSQL_CHECK_EXECUTOR;
+    }
+    
+    public static ExecutorService getHttpCheckExecutor() {
+        return HTTP_CHECK_EXECUTOR;
+    }
+    
+    /**
+     * Create a new virtual thread per task executor for health check processor, only available on JDK 21 or later.
+     *
+     * @param type health check type
+     * @return new virtual thread per task executor
+     */
+    public static ExecutorService newVirtualHealthCheckExecutor(String type) {
+        return ExecutorFactory.Managed.newVirtualThreadPerTaskExecutor(ClassUtils.getCanonicalName(NamingApp.class),
+                "com.alibaba.nacos.naming." + type.toLowerCase() + ".virtual.checker-");
+    }
+    
     public static void submitTcpCheck(Runnable runnable) {
         TCP_CHECK_EXECUTOR.submit(runnable);
     }
@@ -121,6 +155,14 @@ public class GlobalExecutor {
         return NAMING_HEALTH_EXECUTOR.scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
     
+    public static void executeNamingHealth(Runnable command) {
+        NAMING_HEALTH_EXECUTOR.execute(command);
+    }
+    
+    public static ScheduledFuture<?> scheduleHealthCheckTick(Runnable command, long period, TimeUnit unit) {
+        return HEALTH_CHECK_SCHEDULER_EXECUTOR.scheduleAtFixedRate(command, period, period, unit);
+    }
+    
     public static void scheduleRetransmitter(Runnable runnable, long delay, TimeUnit unit) {
         RETRANSMITTER_EXECUTOR.schedule(runnable, delay, unit);
     }
@@ -141,6 +183,10 @@ public class GlobalExecutor {
         EXPIRED_CLIENT_CLEANER_EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
     }
     
+    public static void schedulePushBatchFlush(Runnable runnable, long delay, TimeUnit unit) {
+        PUSH_BATCH_FLUSH_EXECUTOR.schedule(runnable, delay, unit);
+    }
+    
     public static ExecutorService getCallbackExecutor() {
         return PUSH_CALLBACK_EXECUTOR;
     }
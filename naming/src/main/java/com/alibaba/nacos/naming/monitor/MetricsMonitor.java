@@ -24,6 +24,7 @@ import com.alibaba.nacos.naming.misc.Loggers;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -87,6 +88,16 @@ public class MetricsMonitor {
      */
     private final ConcurrentHashMap<String, AtomicInteger> namingPublisher = new ConcurrentHashMap<>();
     
+    /**
+     * publisher#name#shard -> naming event publisher metrics.
+     */
+    private final ConcurrentHashMap<String, AtomicLong> namingEventPublisherMetrics = new ConcurrentHashMap<>();
+    
+    /**
+     * type#name -> health check processor executor metrics.
+     */
+    private final ConcurrentHashMap<String, AtomicLong> healthCheckExecutorMetrics = new ConcurrentHashMap<>();
+    
     /**
      * topn service change count.
      */
@@ -198,6 +209,61 @@ public class MetricsMonitor {
         return INSTANCE.pushPendingTaskCount;
     }
     
+    /**
+     * Get metric gauge of naming event publisher, register it if absent.
+     *
+     * @param publisher name of publisher
+     * @param name      name of metric
+     * @param shard     worker index of publisher
+     * @return metric gauge
+     */
+    public static AtomicLong getNamingEventPublisherMetric(String publisher, String name, int shard) {
+        String key = publisher + '#' + name + '#' + shard;
+        return INSTANCE.namingEventPublisherMetrics.computeIfAbsent(key, k -> {
+            List<Tag> tags = new ArrayList<>();
+            tags.add(new ImmutableTag("module", "naming"));
+            tags.add(new ImmutableTag("publisher", publisher));
+            tags.add(new ImmutableTag("name", name));
+            tags.add(new ImmutableTag("shard", String.valueOf(shard)));
+            return NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_naming_event_publisher", tags,
+                    new AtomicLong());
+        });
+    }
+    
+    /**
+     * Get metric gauge of health check processor executor, register it if absent.
+     *
+     * @param type health check type
+     * @param name name of metric
+     * @return metric gauge
+     */
+    public static AtomicLong getHealthCheckExecutorMetric(String type, String name) {
+        String key = type + '#' + name;
+        return INSTANCE.healthCheckExecutorMetrics.computeIfAbsent(key, k -> {
+            List<Tag> tags = new ArrayList<>();
+            tags.add(new ImmutableTag("module", "naming"));
+            tags.add(new ImmutableTag("type", type));
+            tags.add(new ImmutableTag("name", name));
+            return NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_naming_health_check_executor", tags,
+                    new AtomicLong());
+        });
+    }
+    
+    public static Timer getHealthCheckQueueLatency(String type) {
+        return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_naming_health_check_queue_latency", "module",
+                "naming", "type", type);
+    }
+    
+    public static Timer getHealthCheckLag(String type) {
+        return NacosMeterRegistryCenter.timer(METER_REGISTRY, "nacos_naming_health_check_lag", "module", "naming",
+                "type", type);
+    }
+    
+    public static Counter getHealthCheckCount(String type) {
+        return NacosMeterRegistryCenter.counter(METER_REGISTRY, "nacos_naming_health_check_count", "module", "naming",
+                "type", type);
+    }
+    
     public static AtomicLong getTotalPushCostForAvg() {
         return INSTANCE.totalPushCostForAvg;
     }
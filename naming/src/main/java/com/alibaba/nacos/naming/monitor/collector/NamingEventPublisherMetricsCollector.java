@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.monitor.collector;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.ShardedDispatchPublisher;
+import com.alibaba.nacos.common.notify.ShardedEventPublisher;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Naming event publisher metrics collector.
+ *
+ * <p>Collect queue size of all naming event publishers, and for {@link ShardedDispatchPublisher}, also collect queue
+ * size of each worker, the average and max time events waited in queues, and the count of events dispatched by the
+ * publishing thread because of full queue.
+ *
+ * @author nacos
+ */
+@Service
+public class NamingEventPublisherMetricsCollector {
+    
+    private static final long DELAY_SECONDS = 2;
+    
+    private static final String QUEUE_SIZE = "queueSize";
+    
+    private static final String AVG_WAIT_MILLIS = "avgWaitMillis";
+    
+    private static final String MAX_WAIT_MILLIS = "maxWaitMillis";
+    
+    private static final String SYNC_DISPATCH_COUNT = "syncDispatchCount";
+    
+    private static ScheduledExecutorService executorService = ExecutorFactory.newSingleScheduledExecutorService(r -> {
+        Thread thread = new Thread(r, "nacos.naming.monitor.NamingEventPublisherMetricsCollector");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    /**
+     * publisher name -> [dispatch count, total wait nanos] of last collection.
+     */
+    private final Map<String, long[]> lastWaitSnapshots = new HashMap<>();
+    
+    public NamingEventPublisherMetricsCollector() {
+        executorService.scheduleWithFixedDelay(this::collect, DELAY_SECONDS, DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+    
+    void collect() {
+        Map<Class<? extends Event>, ShardedEventPublisher> publishers = NamingEventPublisherFactory.getInstance()
+                .getAllPublishers();
+        for (Map.Entry<Class<? extends Event>, ShardedEventPublisher> entry : publishers.entrySet()) {
+            String publisherName = entry.getKey().getSimpleName();
+            ShardedEventPublisher publisher = entry.getValue();
+            if (publisher instanceof ShardedDispatchPublisher) {
+                collectShardedPublisher(publisherName, (ShardedDispatchPublisher) publisher);
+            } else {
+                MetricsMonitor.getNamingEventPublisherMetric(publisherName, QUEUE_SIZE, 0)
+                        .set(publisher.currentEventSize());
+            }
+        }
+    }
+    
+    private void collectShardedPublisher(String publisherName, ShardedDispatchPublisher publisher) {
+        for (int i = 0; i < publisher.getShardCount(); i++) {
+            MetricsMonitor.getNamingEventPublisherMetric(publisherName, QUEUE_SIZE, i)
+                    .set(publisher.currentEventSize(i));
+        }
+        long dispatchCount = publisher.getDispatchCount();
+        long totalWaitNanos = publisher.getTotalWaitNanos();
+        long[] last = lastWaitSnapshots.computeIfAbsent(publisherName, name -> new long[2]);
+        long dispatchDelta = dispatchCount - last[0];
+        long avgWaitNanos = dispatchDelta > 0 ? (totalWaitNanos - last[1]) / dispatchDelta : 0L;
+        last[0] = dispatchCount;
+        last[1] = totalWaitNanos;
+        MetricsMonitor.getNamingEventPublisherMetric(publisherName, AVG_WAIT_MILLIS, 0)
+                .set(TimeUnit.NANOSECONDS.toMillis(avgWaitNanos));
+        MetricsMonitor.getNamingEventPublisherMetric(publisherName, MAX_WAIT_MILLIS, 0)
+                .set(TimeUnit.NANOSECONDS.toMillis(publisher.getAndResetMaxWaitNanos()));
+        MetricsMonitor.getNamingEventPublisherMetric(publisherName, SYNC_DISPATCH_COUNT, 0)
+                .set(publisher.getSyncDispatchCount());
+    }
+}
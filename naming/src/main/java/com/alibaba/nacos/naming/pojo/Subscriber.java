@@ -16,9 +16,12 @@
 
 package com.alibaba.nacos.naming.pojo;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -46,6 +49,11 @@ public class Subscriber implements Serializable {
     
     private String cluster;
     
+    /**
+     * The last data pushed to this subscriber, which is the base of next delta push. Only used in memory.
+     */
+    private transient volatile PushedSnapshot pushedSnapshot;
+    
     public Subscriber() {
     }
     
@@ -130,6 +138,15 @@ public class Subscriber implements Serializable {
         this.cluster = cluster;
     }
     
+    @JsonIgnore
+    public PushedSnapshot getPushedSnapshot() {
+        return pushedSnapshot;
+    }
+    
+    public void setPushedSnapshot(PushedSnapshot pushedSnapshot) {
+        this.pushedSnapshot = pushedSnapshot;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -155,4 +172,27 @@ public class Subscriber implements Serializable {
                 + ", ip='" + ip + '\'' + ", namespaceId='" + namespaceId + '\'' + ", serviceName='" + serviceName + '\''
                 + '}';
     }
+    
+    /**
+     * Snapshot of the hosts pushed to subscriber.
+     */
+    public static class PushedSnapshot {
+        
+        private final long revision;
+        
+        private final List<Instance> hosts;
+        
+        public PushedSnapshot(long revision, List<Instance> hosts) {
+            this.revision = revision;
+            this.hosts = hosts;
+        }
+        
+        public long getRevision() {
+            return revision;
+        }
+        
+        public List<Instance> getHosts() {
+            return hosts;
+        }
+    }
 }
@@ -37,6 +37,14 @@ public class PushConfig extends AbstractDynamicConfig {
     
     private long pushTaskRetryDelay = PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY;
     
+    private boolean pushDeltaEnabled = PushConstants.DEFAULT_PUSH_DELTA_ENABLED;
+    
+    private boolean pushBatchEnabled = PushConstants.DEFAULT_PUSH_BATCH_ENABLED;
+    
+    private int pushBatchMaxSize = PushConstants.DEFAULT_PUSH_BATCH_MAX_SIZE;
+    
+    private long pushBatchFlushInterval = PushConstants.DEFAULT_PUSH_BATCH_FLUSH_INTERVAL;
+    
     private PushConfig() {
         super(PUSH);
         resetConfig();
@@ -50,12 +58,22 @@ public class PushConfig extends AbstractDynamicConfig {
                 .getProperty(PushConstants.PUSH_TASK_TIMEOUT, Long.class, PushConstants.DEFAULT_PUSH_TASK_TIMEOUT);
         pushTaskRetryDelay = EnvUtil.getProperty(PushConstants.PUSH_TASK_RETRY_DELAY, Long.class,
                 PushConstants.DEFAULT_PUSH_TASK_RETRY_DELAY);
+        pushDeltaEnabled = EnvUtil.getProperty(PushConstants.PUSH_DELTA_ENABLED, Boolean.class,
+                PushConstants.DEFAULT_PUSH_DELTA_ENABLED);
+        pushBatchEnabled = EnvUtil.getProperty(PushConstants.PUSH_BATCH_ENABLED, Boolean.class,
+                PushConstants.DEFAULT_PUSH_BATCH_ENABLED);
+        pushBatchMaxSize = EnvUtil.getProperty(PushConstants.PUSH_BATCH_MAX_SIZE, Integer.class,
+                PushConstants.DEFAULT_PUSH_BATCH_MAX_SIZE);
+        pushBatchFlushInterval = EnvUtil.getProperty(PushConstants.PUSH_BATCH_FLUSH_INTERVAL, Long.class,
+                PushConstants.DEFAULT_PUSH_BATCH_FLUSH_INTERVAL);
     }
     
     @Override
     protected String printConfig() {
         return "PushConfig{" + "pushTaskDelay=" + pushTaskDelay + ", pushTaskTimeout=" + pushTaskTimeout
-                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + '}';
+                + ", pushTaskRetryDelay=" + pushTaskRetryDelay + ", pushDeltaEnabled=" + pushDeltaEnabled
+                + ", pushBatchEnabled=" + pushBatchEnabled + ", pushBatchMaxSize=" + pushBatchMaxSize
+                + ", pushBatchFlushInterval=" + pushBatchFlushInterval + '}';
     }
     
     public static PushConfig getInstance() {
@@ -73,4 +91,20 @@ public class PushConfig extends AbstractDynamicConfig {
     public long getPushTaskRetryDelay() {
         return pushTaskRetryDelay;
     }
+    
+    public boolean isPushDeltaEnabled() {
+        return pushDeltaEnabled;
+    }
+    
+    public boolean isPushBatchEnabled() {
+        return pushBatchEnabled;
+    }
+    
+    public int getPushBatchMaxSize() {
+        return pushBatchMaxSize;
+    }
+    
+    public long getPushBatchFlushInterval() {
+        return pushBatchFlushInterval;
+    }
 }
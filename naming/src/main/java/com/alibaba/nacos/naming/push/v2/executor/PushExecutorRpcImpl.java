@@ -16,19 +16,37 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.utils.NamingUtils;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Push execute service for rpc.
  *
+ * <p>If delta push is enabled and the client supports it, only the changed instances compared with the last pushed
+ * data of the subscriber are pushed. Full data is pushed when the delta is not smaller than full data or the last
+ * push failed.
+ *
+ * <p>If batch push is enabled and the client supports it, the pushes to the same client are coalesced by
+ * {@link RpcPushBatcher}.
+ *
  * @author xiweng.yy
  */
 @Component
@@ -36,12 +54,20 @@ public class PushExecutorRpcImpl implements PushExecutor {
     
     private final RpcPushService pushService;
     
-    public PushExecutorRpcImpl(RpcPushService pushService) {
+    private final ConnectionManager connectionManager;
+    
+    private final RpcPushBatcher pushBatcher;
+    
+    public PushExecutorRpcImpl(RpcPushService pushService, ConnectionManager connectionManager) {
         this.pushService = pushService;
+        this.connectionManager = connectionManager;
+        this.pushBatcher = new RpcPushBatcher(pushService);
     }
     
     @Override
     public void doPush(String clientId, Subscriber subscriber, PushDataWrapper data) {
+        // push without ack can't confirm the data client holds, so next push should be full data.
+        subscriber.setPushedSnapshot(null);
         pushService.pushWithoutAck(clientId,
                 NotifySubscriberRequest.buildNotifySubscriberRequest(getServiceInfo(data, subscriber)));
     }
@@ -51,8 +77,14 @@ public class PushExecutorRpcImpl implements PushExecutor {
             NamingPushCallback callBack) {
         ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
         callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        Map<String, Boolean> abilityTable = getAbilityTable(clientId);
+        NotifySubscriberRequest request = buildNotifyRequest(abilityTable, subscriber, actualServiceInfo);
+        if (PushConfig.getInstance().isPushBatchEnabled() && isSupport(abilityTable,
+                AbilityKey.SDK_CLIENT_SUPPORT_NAMING_BATCH_PUSH)) {
+            pushBatcher.push(clientId, request, callBack);
+        } else {
+            pushService.pushWithCallback(clientId, request, callBack, GlobalExecutor.getCallbackExecutor());
+        }
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
@@ -60,4 +92,83 @@ public class PushExecutorRpcImpl implements PushExecutor {
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
                         subscriber);
     }
+    
+    private NotifySubscriberRequest buildNotifyRequest(Map<String, Boolean> abilityTable, Subscriber subscriber,
+            ServiceInfo serviceInfo) {
+        if (!PushConfig.getInstance().isPushDeltaEnabled() || !isSupport(abilityTable,
+                AbilityKey.SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH)) {
+            return NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        }
+        // Snapshot is recorded before acked, the following push is based on it. If any push fails, the snapshot will
+        // be cleaned by callback and the retry push will be full data.
+        Subscriber.PushedSnapshot lastSnapshot = subscriber.getPushedSnapshot();
+        long revision = null == lastSnapshot ? 1L : lastSnapshot.getRevision() + 1;
+        subscriber.setPushedSnapshot(new Subscriber.PushedSnapshot(revision, serviceInfo.getHosts()));
+        if (null != lastSnapshot) {
+            NotifySubscriberRequest deltaRequest = buildDeltaRequest(lastSnapshot, revision, serviceInfo);
+            if (null != deltaRequest) {
+                return deltaRequest;
+            }
+        }
+        return NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo, revision);
+    }
+    
+    private Map<String, Boolean> getAbilityTable(String clientId) {
+        Connection connection = connectionManager.getConnection(clientId);
+        return null == connection ? null : connection.getAbilityTable();
+    }
+    
+    private boolean isSupport(Map<String, Boolean> abilityTable, AbilityKey abilityKey) {
+        return null != abilityTable && Boolean.TRUE.equals(abilityTable.get(abilityKey.getName()));
+    }
+    
+    /**
+     * Build delta request if the changes are fewer than current hosts.
+     *
+     * @return delta request, or {@code null} if full data should be pushed
+     */
+    private NotifySubscriberRequest buildDeltaRequest(Subscriber.PushedSnapshot lastSnapshot, long revision,
+            ServiceInfo serviceInfo) {
+        List<Instance> lastHosts = lastSnapshot.getHosts();
+        List<Instance> currentHosts = serviceInfo.getHosts();
+        Map<String, Instance> lastHostMap = new HashMap<>(lastHosts.size() * 4 / 3 + 1);
+        for (Instance each : lastHosts) {
+            lastHostMap.put(NamingUtils.getInstanceDeltaKey(each), each);
+        }
+        int maxChanges = currentHosts.size() - 1;
+        List<Instance> added = new ArrayList<>();
+        List<Instance> modified = new ArrayList<>();
+        for (Instance each : currentHosts) {
+            Instance last = lastHostMap.remove(NamingUtils.getInstanceDeltaKey(each));
+            if (null == last) {
+                added.add(each);
+            } else if (last != each && !last.equals(each)) {
+                modified.add(each);
+            } else {
+                continue;
+            }
+            if (added.size() + modified.size() > maxChanges) {
+                return null;
+            }
+        }
+        if (added.size() + modified.size() + lastHostMap.size() > maxChanges) {
+            return null;
+        }
+        ServiceInfo deltaServiceInfo = copyWithoutHosts(serviceInfo);
+        return NotifySubscriberRequest.buildNotifySubscriberDeltaRequest(deltaServiceInfo,
+                lastSnapshot.getRevision(), revision, added, modified, new ArrayList<>(lastHostMap.keySet()));
+    }
+    
+    private ServiceInfo copyWithoutHosts(ServiceInfo serviceInfo) {
+        ServiceInfo result = new ServiceInfo();
+        result.setName(serviceInfo.getName());
+        result.setGroupName(serviceInfo.getGroupName());
+        result.setClusters(serviceInfo.getClusters());
+        result.setCacheMillis(serviceInfo.getCacheMillis());
+        result.setLastRefTime(serviceInfo.getLastRefTime());
+        result.setChecksum(serviceInfo.getChecksum());
+        result.setAllIPs(serviceInfo.isAllIPs());
+        result.setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        return result;
+    }
 }
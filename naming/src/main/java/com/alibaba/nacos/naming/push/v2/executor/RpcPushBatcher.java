@@ -0,0 +1,214 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.executor;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.remote.request.BatchNotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchNotifySubscriberResponse;
+import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.core.remote.ResponsePushCallBack;
+import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesce the pushes to the same client into one {@link BatchNotifySubscriberRequest}.
+ *
+ * <p>The first push to a client opens a batch, which is sent after the flush interval, or at once when the batch
+ * reaches max size. So there is at most one batch push in flush interval for each client unless the batch is full.
+ *
+ * @author nacos
+ */
+public class RpcPushBatcher {
+    
+    private final RpcPushService pushService;
+    
+    private final ConcurrentMap<String, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+    
+    public RpcPushBatcher(RpcPushService pushService) {
+        this.pushService = pushService;
+    }
+    
+    /**
+     * Add push into the pending batch of client.
+     *
+     * @param clientId client id, which is the connection id
+     * @param request  notify request
+     * @param callBack callback of this push
+     */
+    public void push(String clientId, NotifySubscriberRequest request, PushCallBack callBack) {
+        PendingPush pendingPush = new PendingPush(request, callBack);
+        int maxBatchSize = PushConfig.getInstance().getPushBatchMaxSize();
+        while (true) {
+            PendingBatch batch = pendingBatches.computeIfAbsent(clientId, PendingBatch::new);
+            List<PendingPush> fullBatch = null;
+            synchronized (batch) {
+                if (batch.closed) {
+                    // batch has been flushed by other thread, retry with a new batch.
+                    pendingBatches.remove(clientId, batch);
+                    continue;
+                }
+                batch.pushes.add(pendingPush);
+                if (batch.pushes.size() >= maxBatchSize) {
+                    fullBatch = batch.close();
+                } else if (1 == batch.pushes.size()) {
+                    GlobalExecutor.schedulePushBatchFlush(() -> flush(batch),
+                            PushConfig.getInstance().getPushBatchFlushInterval(), TimeUnit.MILLISECONDS);
+                }
+            }
+            if (null != fullBatch) {
+                pendingBatches.remove(clientId, batch);
+                send(clientId, fullBatch);
+            }
+            return;
+        }
+    }
+    
+    private void flush(PendingBatch batch) {
+        List<PendingPush> pushes;
+        synchronized (batch) {
+            if (batch.closed) {
+                return;
+            }
+            pushes = batch.close();
+        }
+        pendingBatches.remove(batch.clientId, batch);
+        send(batch.clientId, pushes);
+    }
+    
+    private void send(String clientId, List<PendingPush> pushes) {
+        if (1 == pushes.size()) {
+            PendingPush pendingPush = pushes.get(0);
+            pushService.pushWithCallback(clientId, pendingPush.request, pendingPush.callBack,
+                    GlobalExecutor.getCallbackExecutor());
+            return;
+        }
+        List<NotifySubscriberRequest> requests = new ArrayList<>(pushes.size());
+        List<PushCallBack> callBacks = new ArrayList<>(pushes.size());
+        for (PendingPush each : pushes) {
+            requests.add(each.request);
+            callBacks.add(each.callBack);
+        }
+        pushService.pushWithCallback(clientId, new BatchNotifySubscriberRequest(requests),
+                new BatchPushCallBack(callBacks), GlobalExecutor.getCallbackExecutor());
+    }
+    
+    int getPendingClientCount() {
+        return pendingBatches.size();
+    }
+    
+    private static class PendingPush {
+        
+        private final NotifySubscriberRequest request;
+        
+        private final PushCallBack callBack;
+        
+        private PendingPush(NotifySubscriberRequest request, PushCallBack callBack) {
+            this.request = request;
+            this.callBack = callBack;
+        }
+    }
+    
+    private static class PendingBatch {
+        
+        private final String clientId;
+        
+        private List<PendingPush> pushes = new ArrayList<>();
+        
+        private boolean closed;
+        
+        private PendingBatch(String clientId) {
+            this.clientId = clientId;
+        }
+        
+        private List<PendingPush> close() {
+            closed = true;
+            List<PendingPush> result = pushes;
+            pushes = null;
+            return result;
+        }
+    }
+    
+    /**
+     * Callback of batch push.
+     *
+     * <p>The result of each push is read from the result codes of {@link BatchNotifySubscriberResponse}, so only the
+     * mismatched pushes fail and are pushed again with full data. If the whole batch fails, every push fails.
+     */
+    private static class BatchPushCallBack implements ResponsePushCallBack {
+        
+        private final List<PushCallBack> callBacks;
+        
+        private final long timeout;
+        
+        private BatchPushCallBack(List<PushCallBack> callBacks) {
+            this.callBacks = callBacks;
+            long maxTimeout = 0L;
+            for (PushCallBack each : callBacks) {
+                maxTimeout = Math.max(maxTimeout, each.getTimeout());
+            }
+            this.timeout = maxTimeout;
+        }
+        
+        @Override
+        public long getTimeout() {
+            return timeout;
+        }
+        
+        @Override
+        public void onResponse(Response response) {
+            if (!response.isSuccess()) {
+                onFail(new NacosException(response.getErrorCode(), response.getMessage()));
+                return;
+            }
+            List<Integer> resultCodes = response instanceof BatchNotifySubscriberResponse
+                    ? ((BatchNotifySubscriberResponse) response).getResultCodes() : null;
+            for (int i = 0; i < callBacks.size(); i++) {
+                int resultCode = null == resultCodes || i >= resultCodes.size() ? ResponseCode.SUCCESS.getCode()
+                        : resultCodes.get(i);
+                if (ResponseCode.SUCCESS.getCode() == resultCode) {
+                    callBacks.get(i).onSuccess();
+                } else {
+                    callBacks.get(i).onFail(new NacosException(resultCode, "Push in batch failed, code " + resultCode));
+                }
+            }
+        }
+        
+        @Override
+        public void onSuccess() {
+            for (PushCallBack each : callBacks) {
+                each.onSuccess();
+            }
+        }
+        
+        @Override
+        public void onFail(Throwable e) {
+            for (PushCallBack each : callBacks) {
+                each.onFail(e);
+            }
+        }
+    }
+}
@@ -154,6 +154,8 @@ public class PushExecuteTask extends AbstractExecuteTask {
             long pushCostTime = System.currentTimeMillis() - executeStartTime;
             Loggers.PUSH.error("[PUSH-FAIL] {}ms, {}, reason={}, target={}", pushCostTime, service, e.getMessage(),
                     subscriber.getIp());
+            // the data held by client is unknown, next push should be full data.
+            subscriber.setPushedSnapshot(null);
             if (!(e instanceof NoRequiredRetryException)) {
                 Loggers.PUSH.error("Reason detail: ", e);
                 delayTaskEngine.addTask(service,
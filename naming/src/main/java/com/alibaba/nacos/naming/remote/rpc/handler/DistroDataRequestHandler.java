@@ -23,6 +23,7 @@ import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 import com.alibaba.nacos.core.remote.RequestHandler;
 import com.alibaba.nacos.core.remote.grpc.InvokeSource;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
@@ -53,7 +54,7 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
                 case VERIFY:
                     return handleVerify(request.getDistroData(), meta);
                 case SNAPSHOT:
-                    return handleSnapshot();
+                    return request.isSnapshotSegmented() ? handleSnapshotSegment(request) : handleSnapshot();
                 case ADD:
                 case CHANGE:
                 case DELETE:
@@ -87,6 +88,18 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
+    private DistroDataResponse handleSnapshotSegment(DistroDataRequest request) {
+        DistroSnapshotSegment segment = distroProtocol.onSnapshotSegment(DistroClientDataProcessor.TYPE,
+                request.getSnapshotSegment(), request.getSnapshotSegmentCount());
+        if (null == segment) {
+            return handleSnapshot();
+        }
+        DistroDataResponse result = new DistroDataResponse();
+        result.setDistroData(segment.getData());
+        result.setSnapshotSegmentCount(segment.getSegmentCount());
+        return result;
+    }
+    
     private DistroDataResponse handleSyncData(DistroData distroData) {
         DistroDataResponse result = new DistroDataResponse();
         if (!distroProtocol.onReceive(distroData)) {
@@ -18,9 +18,12 @@ package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
 
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.DistroConstants;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.constants.ClientConstants;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
@@ -52,9 +55,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -376,6 +381,67 @@ class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    void testGetDatumSnapshotSegment() {
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        when(serializer.serialize(any(ClientSyncDatumSnapshot.class))).thenReturn(new byte[] {1, 2, 3});
+        DistroSnapshotSegment actual = distroClientDataProcessor.getDatumSnapshotSegment(0, 0);
+        assertEquals(1, actual.getSegmentCount());
+        assertEquals(DistroClientDataProcessor.SNAPSHOT_SEGMENT_KEY, actual.getData().getDistroKey().getResourceKey());
+        assertEquals(DistroClientDataProcessor.TYPE, actual.getData().getDistroKey().getResourceType());
+        assertArrayEquals(new byte[] {DistroClientDataProcessor.SEGMENT_FORMAT_VERSION, 0, 1, 2, 3},
+                actual.getData().getContent());
+    }
+    
+    @Test
+    void testGetDatumSnapshotSegmentFilterByClientId() {
+        int segment = DistroClientDataProcessor.segmentOf(CLIENT_ID, 4);
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        when(serializer.serialize(any(ClientSyncDatumSnapshot.class))).thenReturn(new byte[0]);
+        distroClientDataProcessor.getDatumSnapshotSegment((segment + 1) % 4, 4);
+        verify(clientManager, never()).getClient(CLIENT_ID);
+        distroClientDataProcessor.getDatumSnapshotSegment(segment, 4);
+        verify(clientManager).getClient(CLIENT_ID);
+    }
+    
+    @Test
+    void testProcessSnapshotSegmentWithCompress() {
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        when(serializer.serialize(any(ClientSyncDatumSnapshot.class))).thenReturn(new byte[] {1, 2, 3});
+        ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
+        snapshot.setClientSyncDataList(Collections.singletonList(clientSyncData));
+        when(serializer.deserialize(any(), eq(ClientSyncDatumSnapshot.class))).thenReturn(snapshot);
+        DistroConfig.getInstance().setLoadDataCompressEnabled(true);
+        try {
+            DistroSnapshotSegment segment = distroClientDataProcessor.getDatumSnapshotSegment(0, 0);
+            assertEquals(DistroClientDataProcessor.SEGMENT_FLAG_GZIP, segment.getData().getContent()[1]);
+            assertTrue(distroClientDataProcessor.processSnapshotSegment(segment));
+        } finally {
+            DistroConfig.getInstance().setLoadDataCompressEnabled(false);
+        }
+        verify(serializer).deserialize(aryEq(new byte[] {1, 2, 3}), eq(ClientSyncDatumSnapshot.class));
+        verify(clientManager).syncClientConnected(CLIENT_ID, clientSyncData.getAttributes());
+        assertEquals(1, client.getAllPublishedService().size());
+    }
+    
+    @Test
+    void testProcessSnapshotSegmentForWholeSnapshot() {
+        ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
+        snapshot.setClientSyncDataList(Collections.singletonList(clientSyncData));
+        when(serializer.deserialize(any(), eq(ClientSyncDatumSnapshot.class))).thenReturn(snapshot);
+        distroKey.setResourceKey(DataOperation.SNAPSHOT.name());
+        assertTrue(distroClientDataProcessor.processSnapshotSegment(new DistroSnapshotSegment(distroData, 0, 1)));
+        verify(clientManager).syncClientConnected(CLIENT_ID, clientSyncData.getAttributes());
+    }
+    
+    @Test
+    void testProcessSnapshotSegmentWithUnsupportedVersion() {
+        distroKey.setResourceKey(DistroClientDataProcessor.SNAPSHOT_SEGMENT_KEY);
+        distroData.setContent(new byte[] {(byte) (DistroClientDataProcessor.SEGMENT_FORMAT_VERSION + 1), 0});
+        assertFalse(distroClientDataProcessor.processSnapshotSegment(new DistroSnapshotSegment(distroData, 0, 1)));
+        verify(clientManager, never()).syncClientConnected(any(), any());
+    }
+    
     @Test
     void testGetVerifyData() {
         client.setRevision(10L);
@@ -386,4 +452,26 @@ class DistroClientDataProcessorTest {
         assertEquals(CLIENT_ID, list.iterator().next().getDistroKey().getResourceKey());
         assertEquals(DistroClientDataProcessor.TYPE, list.iterator().next().getDistroKey().getResourceType());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testGetVerifyDataWithShards() {
+        client.setRevision(10L);
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        int shardCount = 3;
+        DistroConfig.getInstance().setVerifyShardCount(shardCount);
+        try {
+            int verifiedRounds = 0;
+            for (int i = 0; i < shardCount; i++) {
+                List<DistroData> list = distroClientDataProcessor.getVerifyData();
+                if (null != list) {
+                    assertEquals(1, list.size());
+                    assertEquals(i, DistroClientDataProcessor.segmentOf(CLIENT_ID, shardCount));
+                    verifiedRounds++;
+                }
+            }
+            assertEquals(1, verifiedRounds);
+        } finally {
+            DistroConfig.getInstance().setVerifyShardCount(DistroConstants.DEFAULT_DATA_VERIFY_SHARD_COUNT);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
@@ -27,7 +28,9 @@ import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
 import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
@@ -35,6 +38,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -43,6 +47,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -495,4 +500,42 @@ class DistroClientTransportAgentTest {
         when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
         transportAgent.getDatumSnapshot(member.getAddress());
     }
+    
+    @Test
+    void testGetDatumSnapshotSegmentSuccess() throws NacosException {
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+        ((DistroDataResponse) response).setSnapshotSegmentCount(3);
+        DistroSnapshotSegment actual = transportAgent.getDatumSnapshotSegment(member.getAddress(), 0, 0);
+        assertEquals(0, actual.getSegment());
+        assertEquals(3, actual.getSegmentCount());
+        ArgumentCaptor<DistroDataRequest> captor = ArgumentCaptor.forClass(DistroDataRequest.class);
+        verify(clusterRpcClientProxy).sendRequest(eq(member), captor.capture(), any(Long.class));
+        assertTrue(captor.getValue().isSnapshotSegmented());
+        assertEquals(DataOperation.SNAPSHOT, captor.getValue().getDataOperation());
+    }
+    
+    @Test
+    void testGetDatumSnapshotSegmentFromOldServer() throws NacosException {
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+        DistroSnapshotSegment actual = transportAgent.getDatumSnapshotSegment(member.getAddress(), 0, 0);
+        assertEquals(1, actual.getSegmentCount());
+    }
+    
+    @Test
+    void testGetDatumSnapshotSegmentFailure() throws NacosException {
+        assertThrows(DistroException.class, () -> {
+            when(memberManager.find(member.getAddress())).thenReturn(member);
+            member.setState(NodeState.UP);
+            when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+            when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+            response.setErrorInfo(ResponseCode.FAIL.getCode(), "TEST");
+            transportAgent.getDatumSnapshotSegment(member.getAddress(), 1, 2);
+        });
+    }
 }
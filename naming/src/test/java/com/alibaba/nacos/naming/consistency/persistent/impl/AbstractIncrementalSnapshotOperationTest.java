@@ -0,0 +1,184 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.persistent.impl;
+
+import com.alibaba.nacos.consistency.snapshot.Reader;
+import com.alibaba.nacos.consistency.snapshot.Writer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AbstractIncrementalSnapshotOperationTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testIncrementalSnapshot() throws Exception {
+        MockSnapshotOperation operation = new MockSnapshotOperation();
+        for (char c = 'a'; c <= 'z'; c++) {
+            operation.data.put(String.valueOf(c), "value" + c);
+        }
+        final Path first = Files.createDirectory(tempDir.resolve("first"));
+        Writer firstWriter = new Writer(first.toString());
+        assertTrue(operation.writeSnapshot(firstWriter));
+        assertEquals(AbstractIncrementalSnapshotOperation.SEGMENT_COUNT, firstWriter.listFiles().size());
+        assertEquals(26, operation.captured);
+        
+        operation.captured = 0;
+        operation.data.put("a", "changed");
+        operation.markDirty("a");
+        final Path second = Files.createDirectory(tempDir.resolve("second"));
+        Writer secondWriter = new Writer(second.toString(), first.toString());
+        assertTrue(operation.writeSnapshot(secondWriter));
+        assertEquals(AbstractIncrementalSnapshotOperation.SEGMENT_COUNT, secondWriter.listFiles().size());
+        long sameSegment = operation.data.keySet().stream()
+                .filter(key -> operation.segmentOf(key) == operation.segmentOf("a")).count();
+        assertEquals(sameSegment, operation.captured);
+        
+        MockSnapshotOperation another = new MockSnapshotOperation();
+        assertTrue(another.readSnapshot(new Reader(second.toString(), secondWriter.listFiles())));
+        assertEquals(operation.data, another.loaded);
+        
+        // nothing changed after loading, all segments are reused.
+        final Path third = Files.createDirectory(tempDir.resolve("third"));
+        Writer thirdWriter = new Writer(third.toString(), second.toString());
+        assertTrue(another.writeSnapshot(thirdWriter));
+        assertEquals(0, another.captured);
+        assertEquals(AbstractIncrementalSnapshotOperation.SEGMENT_COUNT, thirdWriter.listFiles().size());
+    }
+    
+    @Test
+    void testRewriteWhenLastSnapshotMissing() throws Exception {
+        MockSnapshotOperation operation = new MockSnapshotOperation();
+        operation.data.put("a", "a");
+        final Path first = Files.createDirectory(tempDir.resolve("first"));
+        assertTrue(operation.writeSnapshot(new Writer(first.toString())));
+        
+        operation.captured = 0;
+        final Path second = Files.createDirectory(tempDir.resolve("second"));
+        assertTrue(operation.writeSnapshot(new Writer(second.toString(), tempDir.resolve("none").toString())));
+        assertEquals(1, operation.captured);
+    }
+    
+    @Test
+    void testSingleArchiveSnapshotWhenIncrementalDisabled() throws Exception {
+        MockSnapshotOperation operation = new MockSnapshotOperation(false);
+        for (char c = 'a'; c <= 'z'; c++) {
+            operation.data.put(String.valueOf(c), "value" + c);
+        }
+        final Path first = Files.createDirectory(tempDir.resolve("first"));
+        Writer firstWriter = new Writer(first.toString());
+        assertTrue(operation.writeSnapshot(firstWriter));
+        assertEquals(Collections.singleton("mock.zip"), firstWriter.listFiles().keySet());
+        
+        operation.captured = 0;
+        operation.markDirty("a");
+        final Path second = Files.createDirectory(tempDir.resolve("second"));
+        Writer secondWriter = new Writer(second.toString(), first.toString());
+        assertTrue(operation.writeSnapshot(secondWriter));
+        assertEquals(Collections.singleton("mock.zip"), secondWriter.listFiles().keySet());
+        assertEquals(26, operation.captured);
+        
+        // single archive could be loaded whether incremental snapshot is enabled or not.
+        MockSnapshotOperation incremental = new MockSnapshotOperation(true);
+        assertTrue(incremental.readSnapshot(new Reader(second.toString(), secondWriter.listFiles())));
+        assertEquals(operation.data, incremental.loaded);
+        MockSnapshotOperation another = new MockSnapshotOperation(false);
+        assertTrue(another.readSnapshot(new Reader(second.toString(), secondWriter.listFiles())));
+        assertEquals(operation.data, another.loaded);
+    }
+    
+    @Test
+    void testLoadSegmentsWhenIncrementalDisabled() throws Exception {
+        MockSnapshotOperation operation = new MockSnapshotOperation(true);
+        operation.data.put("a", "a");
+        operation.data.put("b", "b");
+        final Path first = Files.createDirectory(tempDir.resolve("first"));
+        Writer firstWriter = new Writer(first.toString());
+        assertTrue(operation.writeSnapshot(firstWriter));
+        
+        MockSnapshotOperation another = new MockSnapshotOperation(false);
+        assertTrue(another.readSnapshot(new Reader(first.toString(), firstWriter.listFiles())));
+        assertEquals(operation.data, another.loaded);
+    }
+    
+    private static class MockSnapshotOperation extends AbstractIncrementalSnapshotOperation<String, String> {
+        
+        private final Map<String, String> data = new HashMap<>();
+        
+        private Map<String, String> loaded;
+        
+        private int captured;
+        
+        MockSnapshotOperation() {
+            this(true);
+        }
+        
+        MockSnapshotOperation(boolean incremental) {
+            super(new ReentrantReadWriteLock(), incremental);
+        }
+        
+        @Override
+        protected Map<String, String> captureData(Predicate<String> filter) {
+            Map<String, String> result = new HashMap<>(data.size());
+            data.forEach((key, value) -> {
+                if (filter.test(key)) {
+                    result.put(key, value);
+                }
+            });
+            captured += result.size();
+            return result;
+        }
+        
+        @Override
+        protected void loadData(ConcurrentMap<String, String> data) {
+            this.loaded = data;
+        }
+        
+        @Override
+        protected String getSnapshotArchive() {
+            return "mock.zip";
+        }
+        
+        @Override
+        protected String getArchiveEntryName() {
+            return "mock";
+        }
+        
+        @Override
+        protected String getSnapshotSaveTag() {
+            return "mock.SAVE";
+        }
+        
+        @Override
+        protected String getSnapshotLoadTag() {
+            return "mock.LOAD";
+        }
+    }
+}
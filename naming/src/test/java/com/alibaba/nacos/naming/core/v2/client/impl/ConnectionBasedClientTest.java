@@ -16,13 +16,18 @@
 
 package com.alibaba.nacos.naming.core.v2.client.impl;
 
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.ClientConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConnectionBasedClientTest {
@@ -71,4 +76,40 @@ class ConnectionBasedClientTest {
         TimeUnit.SECONDS.sleep(1);
         assertEquals(100, connectionBasedClient.getRevision());
     }
+    
+    @Test
+    void testAddServiceInstanceCompacted() {
+        ClientConfig.getInstance().setInstanceCompactEnabled(true);
+        try {
+            InstancePublishInfo first = newInstancePublishInfo();
+            InstancePublishInfo second = newInstancePublishInfo();
+            InstancePublishInfo empty = new InstancePublishInfo(new String("1.1.1.1"), 8848);
+            connectionBasedClient.addServiceInstance(Service.newService("ns", "group", "first"), first);
+            connectionBasedClient.addServiceInstance(Service.newService("ns", "group", "second"), second);
+            connectionBasedClient.addServiceInstance(Service.newService("ns", "group", "empty"), empty);
+            assertSame(first.getIp(), second.getIp());
+            assertSame(first.getIp(), empty.getIp());
+            assertSame(first.getCluster(), second.getCluster());
+            assertEquals("1.0.0", second.getExtendDatum().get("version"));
+            assertSame(first.getExtendDatum().get("version"), second.getExtendDatum().get("version"));
+            assertSame(Collections.emptyMap(), empty.getExtendDatum());
+        } finally {
+            ClientConfig.getInstance().setInstanceCompactEnabled(false);
+        }
+    }
+    
+    @Test
+    void testAddServiceInstanceWithoutCompact() {
+        InstancePublishInfo instance = new InstancePublishInfo("1.1.1.1", 8848);
+        Map<String, Object> extendDatum = instance.getExtendDatum();
+        connectionBasedClient.addServiceInstance(Service.newService("ns", "group", "name"), instance);
+        assertSame(extendDatum, instance.getExtendDatum());
+    }
+    
+    private InstancePublishInfo newInstancePublishInfo() {
+        InstancePublishInfo result = new InstancePublishInfo(new String("1.1.1.1"), 8848);
+        result.setCluster(new String("DEFAULT"));
+        result.getExtendDatum().put(new String("version"), new String("1.0.0"));
+        return result;
+    }
 }
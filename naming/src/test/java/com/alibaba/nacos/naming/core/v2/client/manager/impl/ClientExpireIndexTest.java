@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.client.manager.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientExpireIndexTest {
+    
+    private static final long TICK = 1000L;
+    
+    private final ClientExpireIndex index = new ClientExpireIndex(TICK);
+    
+    @Test
+    void testIllegalTick() {
+        assertThrows(IllegalArgumentException.class, () -> new ClientExpireIndex(0L));
+    }
+    
+    @Test
+    void testPollOnlyPassedBuckets() {
+        index.schedule("a", 1500L);
+        index.schedule("b", 3000L);
+        assertEquals(2, index.size());
+        assertTrue(index.poll(1999L).isEmpty());
+        Collection<String> polled = index.poll(2000L);
+        assertEquals(1, polled.size());
+        assertTrue(polled.contains("a"));
+        assertEquals(1, index.size());
+        polled = index.poll(3000L);
+        assertEquals(1, polled.size());
+        assertTrue(polled.contains("b"));
+        assertEquals(0, index.size());
+        assertTrue(index.poll(10000L).isEmpty());
+    }
+    
+    @Test
+    void testRescheduleSkipStaleEntry() {
+        index.schedule("a", 1000L);
+        index.schedule("a", 5000L);
+        assertEquals(1, index.size());
+        assertTrue(index.poll(4000L).isEmpty());
+        assertEquals(1, index.poll(5000L).size());
+    }
+    
+    @Test
+    void testRemove() {
+        index.schedule("a", 1000L);
+        index.remove("a");
+        assertEquals(0, index.size());
+        assertTrue(index.poll(1000L).isEmpty());
+    }
+    
+    @Test
+    void testScheduleIntoPolledTick() {
+        index.schedule("a", 1000L);
+        assertEquals(1, index.poll(1000L).size());
+        index.schedule("a", 1000L);
+        assertEquals(1, index.poll(2000L).size());
+    }
+}
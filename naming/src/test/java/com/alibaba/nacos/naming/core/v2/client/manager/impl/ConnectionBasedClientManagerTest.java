@@ -105,6 +105,13 @@ class ConnectionBasedClientManagerTest {
         assertTrue(connectionBasedClientManager.isResponsibleClient(client));
     }
     
+    @Test
+    void testExpireIndexedCount() {
+        assertEquals(1, connectionBasedClientManager.getExpireIndexedCount());
+        connectionBasedClientManager.clientDisconnected(connectionId);
+        assertEquals(0, connectionBasedClientManager.getExpireIndexedCount());
+    }
+    
     @AfterEach
     void tearDown() {
         connectionBasedClientManager.clientDisConnected(connection);
@@ -114,4 +114,11 @@ class EphemeralIpPortClientManagerTest {
         assertFalse(ephemeralIpPortClientManager.verifyClient(new DistroClientVerifyInfo(syncedClientId, 1)));
         assertTrue(ephemeralIpPortClientManager.verifyClient(new DistroClientVerifyInfo(syncedClientId, 5120)));
     }
+    
+    @Test
+    void testExpireIndexedCount() {
+        assertEquals(2, ephemeralIpPortClientManager.getExpireIndexedCount());
+        ephemeralIpPortClientManager.clientDisconnected(syncedClientId);
+        assertEquals(1, ephemeralIpPortClientManager.getExpireIndexedCount());
+    }
 }
@@ -36,9 +36,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ClientServiceIndexesManagerTest {
@@ -195,4 +200,37 @@ class ClientServiceIndexesManagerTest {
         assertEquals(1, allClientsSubscribeService.size());
     }
     
-}
\ No newline at end of file
+    @Test
+    void testConcurrentRegisterAndDeregisterSameService() throws InterruptedException {
+        Service sameService = Service.newService("namespace", "group", "concurrent");
+        int clientCount = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(clientCount);
+        CountDownLatch latch = new CountDownLatch(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            String clientId = "client" + i;
+            executor.execute(() -> {
+                try {
+                    for (int j = 0; j < 500; j++) {
+                        clientServiceIndexesManager.onEvent(
+                                new ClientOperationEvent.ClientRegisterServiceEvent(sameService, clientId));
+                        clientServiceIndexesManager.onEvent(
+                                new ClientOperationEvent.ClientDeregisterServiceEvent(sameService, clientId));
+                    }
+                    clientServiceIndexesManager.onEvent(
+                            new ClientOperationEvent.ClientRegisterServiceEvent(sameService, clientId));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        
+        Collection<String> registeredClients = clientServiceIndexesManager.getAllClientsRegisteredService(sameService);
+        assertEquals(clientCount, registeredClients.size());
+        for (int i = 0; i < clientCount; i++) {
+            assertTrue(registeredClients.contains("client" + i));
+        }
+    }
+    
+}
@@ -18,7 +18,10 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
@@ -33,6 +36,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -43,6 +47,9 @@ import java.util.concurrent.ConcurrentMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceStorageTest {
@@ -155,12 +162,114 @@ class ServiceStorageTest {
     @Test
     void testParseInstance() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         Class<ServiceStorage> serviceStorageClass = ServiceStorage.class;
-        Method parseInstance = serviceStorageClass.getDeclaredMethod("parseInstance", Service.class, InstancePublishInfo.class);
+        Method parseInstance = serviceStorageClass.getDeclaredMethod("parseInstance", Service.class,
+                InstancePublishInfo.class, InstanceMetadata.class);
         parseInstance.setAccessible(true);
-        Instance instance = (Instance) parseInstance.invoke(serviceStorage, SERVICE, instancePublishInfo);
+        InstanceMetadata metadata = new InstanceMetadata();
+        metadata.setWeight(2.0D);
+        Instance instance = (Instance) parseInstance.invoke(serviceStorage, SERVICE, instancePublishInfo, metadata);
         
-        Mockito.verify(namingMetadataManager).getInstanceMetadata(SERVICE, instancePublishInfo.getMetadataId());
         assertNotNull(instance);
+        assertEquals(2.0D, instance.getWeight());
+    }
+    
+    @Test
+    void testGetPushDataReuseUnchangedInstances() {
+        Service singleton = ServiceManager.getInstance().getSingleton(SERVICE);
+        InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        publishInfo.setCluster(NACOS);
+        publishInfo.setHealthy(true);
+        mockPublishedClient(singleton, publishInfo);
+        try {
+            List<Instance> first = serviceStorage.getPushData(SERVICE).getHosts();
+            List<Instance> second = serviceStorage.getPushData(SERVICE).getHosts();
+            assertEquals(1, first.size());
+            assertSame(first.get(0), second.get(0));
+            assertEquals(Collections.singleton(NACOS), serviceStorage.getClusters(singleton));
+            
+            publishInfo.setHealthy(false);
+            List<Instance> third = serviceStorage.getPushData(SERVICE).getHosts();
+            assertNotSame(first.get(0), third.get(0));
+            assertFalse(third.get(0).isHealthy());
+        } finally {
+            ServiceManager.getInstance().removeSingleton(singleton);
+        }
+    }
+    
+    @Test
+    void testGetPushDataAfterClientDeregister() {
+        Service singleton = ServiceManager.getInstance().getSingleton(SERVICE);
+        InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        publishInfo.setCluster(NACOS);
+        mockPublishedClient(singleton, publishInfo);
+        try {
+            assertEquals(1, serviceStorage.getPushData(SERVICE).getHosts().size());
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                    .thenReturn(Collections.emptyList());
+            assertTrue(serviceStorage.getPushData(SERVICE).getHosts().isEmpty());
+            assertTrue(serviceStorage.getClusters(singleton).isEmpty());
+        } finally {
+            ServiceManager.getInstance().removeSingleton(singleton);
+        }
+    }
+    
+    @Test
+    void testGetPushDataMergeEqualInstancesFromDifferentClients() {
+        Service singleton = ServiceManager.getInstance().getSingleton(SERVICE);
+        InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        publishInfo.setCluster(NACOS);
+        mockPublishedClient(singleton, publishInfo);
+        InstancePublishInfo otherPublishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        otherPublishInfo.setCluster(NACOS);
+        Client otherClient = Mockito.mock(Client.class);
+        Mockito.when(otherClient.getInstancePublishInfo(singleton)).thenReturn(otherPublishInfo);
+        Mockito.when(clientManagerDelegate.getClient("other")).thenReturn(otherClient);
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                .thenReturn(Arrays.asList(NACOS, "other"));
+        try {
+            assertEquals(1, serviceStorage.getPushData(SERVICE).getHosts().size());
+            otherPublishInfo.setHealthy(!publishInfo.isHealthy());
+            assertEquals(2, serviceStorage.getPushData(SERVICE).getHosts().size());
+        } finally {
+            ServiceManager.getInstance().removeSingleton(singleton);
+        }
+    }
+    
+    @Test
+    void testGetPushDataKeepInstanceOfRemainingClient() {
+        Service singleton = ServiceManager.getInstance().getSingleton(SERVICE);
+        InstancePublishInfo publishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        publishInfo.setCluster(NACOS);
+        mockPublishedClient(singleton, publishInfo);
+        InstancePublishInfo otherPublishInfo = new InstancePublishInfo("1.1.1.1", 8848);
+        otherPublishInfo.setCluster(NACOS);
+        Client otherClient = Mockito.mock(Client.class);
+        Mockito.when(otherClient.getInstancePublishInfo(singleton)).thenReturn(otherPublishInfo);
+        Mockito.when(clientManagerDelegate.getClient("other")).thenReturn(otherClient);
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                .thenReturn(Arrays.asList(NACOS, "other"));
+        try {
+            List<Instance> first = serviceStorage.getPushData(SERVICE).getHosts();
+            assertEquals(1, first.size());
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(singleton))
+                    .thenReturn(Collections.singletonList("other"));
+            List<Instance> second = serviceStorage.getPushData(SERVICE).getHosts();
+            assertEquals(1, second.size());
+            assertEquals(first.get(0), second.get(0));
+            assertEquals(Collections.singleton(NACOS), serviceStorage.getClusters(singleton));
+        } finally {
+            ServiceManager.getInstance().removeSingleton(singleton);
+        }
+    }
+    
+    private void mockPublishedClient(Service service, InstancePublishInfo publishInfo) {
+        Client client = Mockito.mock(Client.class);
+        Mockito.when(client.getInstancePublishInfo(service)).thenReturn(publishInfo);
+        Mockito.when(clientManagerDelegate.getClient(NACOS)).thenReturn(client);
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                .thenReturn(Collections.singletonList(NACOS));
+        Mockito.when(namingMetadataManager.getInstanceMetadata(Mockito.eq(service), Mockito.anyString()))
+                .thenReturn(Optional.empty());
     }
     
 }
\ No newline at end of file
@@ -16,8 +16,6 @@
 
 package com.alibaba.nacos.naming.core.v2.metadata;
 
-import com.alibaba.nacos.consistency.SerializeFactory;
-import com.alibaba.nacos.consistency.Serializer;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,7 +26,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -36,7 +33,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 // todo remove this
@@ -57,24 +54,22 @@ class ServiceMetadataSnapshotOperationTest {
     }
     
     @Test
-    void testDumpSnapshot() {
-        InputStream inputStream = serviceMetadataSnapshotOperation.dumpSnapshot();
+    void testCaptureData() {
+        Map<Service, ServiceMetadata> data = serviceMetadataSnapshotOperation.captureData(service -> true);
         
-        assertNotNull(inputStream);
+        assertEquals(1, data.size());
+        assertTrue(serviceMetadataSnapshotOperation.captureData(service -> false).isEmpty());
     }
     
     @Test
-    void testLoadSnapshot() {
+    void testLoadData() {
         ConcurrentMap<Service, ServiceMetadata> map = new ConcurrentHashMap<>();
         Service service = Service.newService("namespace", "group", "name");
         map.put(service, new ServiceMetadata());
         
-        Serializer aDefault = SerializeFactory.getDefault();
-        serviceMetadataSnapshotOperation.loadSnapshot(aDefault.serialize(map));
+        serviceMetadataSnapshotOperation.loadData(map);
         
-        Map<Service, ServiceMetadata> serviceMetadataSnapshot = namingMetadataManager.getServiceMetadataSnapshot();
-        assertNotNull(serviceMetadataSnapshot);
-        assertEquals(1, serviceMetadataSnapshot.size());
+        Mockito.verify(namingMetadataManager).loadServiceMetadataSnapshot(map);
     }
     
     @Test
@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HealthCheckSchedulerTest {
+    
+    private static final long TICK_INTERVAL = 1000L;
+    
+    private List<HealthCheckTaskV2> dispatched;
+    
+    private HealthCheckScheduler scheduler;
+    
+    @BeforeEach
+    void setUp() {
+        dispatched = new ArrayList<>();
+        scheduler = new HealthCheckScheduler(TICK_INTERVAL, 2, dispatched::add);
+    }
+    
+    @Test
+    void testDispatchAfterDelay() {
+        HealthCheckTaskV2 task = mock(HealthCheckTaskV2.class);
+        scheduler.schedule(task, 3 * TICK_INTERVAL);
+        for (int i = 0; i < 3; i++) {
+            scheduler.tick();
+            assertTrue(dispatched.isEmpty());
+        }
+        scheduler.tick();
+        assertEquals(1, dispatched.size());
+        assertEquals(task, dispatched.get(0));
+    }
+    
+    @Test
+    void testDispatchNowWithoutDelay() {
+        HealthCheckTaskV2 task = mock(HealthCheckTaskV2.class);
+        scheduler.schedule(task, 0);
+        scheduler.tick();
+        assertEquals(1, dispatched.size());
+    }
+    
+    @Test
+    void testSpreadWhenBucketFull() {
+        for (int i = 0; i < 5; i++) {
+            scheduler.schedule(mock(HealthCheckTaskV2.class), 8 * TICK_INTERVAL);
+        }
+        scheduler.tick();
+        assertEquals(2, scheduler.getBucketSize(7));
+        assertEquals(2, scheduler.getBucketSize(8));
+        assertEquals(1, scheduler.getBucketSize(9));
+        List<Integer> dispatchedPerTick = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int before = dispatched.size();
+            scheduler.tick();
+            dispatchedPerTick.add(dispatched.size() - before);
+        }
+        assertEquals(5, dispatched.size());
+        assertEquals(2, (int) dispatchedPerTick.get(7));
+        assertEquals(2, (int) dispatchedPerTick.get(8));
+        assertEquals(1, (int) dispatchedPerTick.get(9));
+    }
+    
+    @Test
+    void testNotSpreadWithoutDelay() {
+        for (int i = 0; i < 5; i++) {
+            scheduler.schedule(mock(HealthCheckTaskV2.class), 0);
+        }
+        scheduler.tick();
+        assertEquals(5, dispatched.size());
+    }
+    
+    @Test
+    void testSkipCancelledTask() {
+        HealthCheckTaskV2 task = mock(HealthCheckTaskV2.class);
+        when(task.isCancelled()).thenReturn(true);
+        scheduler.schedule(task, 0);
+        scheduler.tick();
+        assertTrue(dispatched.isEmpty());
+    }
+}
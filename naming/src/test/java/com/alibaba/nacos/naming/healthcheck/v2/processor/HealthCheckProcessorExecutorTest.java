@@ -0,0 +1,152 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.http.Callback;
+import com.alibaba.nacos.common.model.RestResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class HealthCheckProcessorExecutorTest {
+    
+    private ExecutorService platformExecutor;
+    
+    @BeforeEach
+    void setUp() {
+        platformExecutor = Executors.newFixedThreadPool(4);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        platformExecutor.shutdownNow();
+    }
+    
+    @Test
+    void testExecuteLimitConcurrency() throws InterruptedException {
+        HealthCheckProcessorExecutor executor = new HealthCheckProcessorExecutor("TEST_LIMIT", 2, false,
+                platformExecutor);
+        assertFalse(executor.isVirtualThread());
+        CountDownLatch block = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(4);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    block.await();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    finished.countDown();
+                }
+            });
+        }
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertEquals(0, executor.getAvailablePermits());
+        block.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get());
+    }
+    
+    @Test
+    void testExecuteAsyncHoldPermitUntilRelease() throws InterruptedException {
+        HealthCheckProcessorExecutor executor = new HealthCheckProcessorExecutor("TEST_ASYNC", 1, false,
+                platformExecutor);
+        AtomicReference<Runnable> release = new AtomicReference<>();
+        CountDownLatch dispatched = new CountDownLatch(1);
+        executor.executeAsync(releaseCallback -> {
+            release.set(releaseCallback);
+            dispatched.countDown();
+        });
+        assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.getAvailablePermits());
+        release.get().run();
+        release.get().run();
+        assertEquals(1, executor.getAvailablePermits());
+    }
+    
+    @Test
+    void testExecuteAsyncReleaseWhenDispatchFailed() throws InterruptedException {
+        HealthCheckProcessorExecutor executor = new HealthCheckProcessorExecutor("TEST_ASYNC_FAIL", 1, false,
+                platformExecutor);
+        executor.executeAsync(releaseCallback -> {
+            throw new IllegalStateException("test");
+        });
+        CountDownLatch dispatched = new CountDownLatch(1);
+        executor.executeAsync(releaseCallback -> {
+            releaseCallback.run();
+            dispatched.countDown();
+        });
+        assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    void testExecuteRejected() {
+        platformExecutor.shutdown();
+        HealthCheckProcessorExecutor executor = new HealthCheckProcessorExecutor("TEST_REJECT", 1, false,
+                platformExecutor);
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+        assertEquals(1, executor.getAvailablePermits());
+    }
+    
+    @Test
+    void testVirtualThreadFallback() throws InterruptedException {
+        HealthCheckProcessorExecutor executor = new HealthCheckProcessorExecutor("TEST_VIRTUAL", 1, true,
+                platformExecutor);
+        assertEquals(ExecutorFactory.isVirtualThreadSupported(), executor.isVirtualThread());
+        CountDownLatch finished = new CountDownLatch(1);
+        executor.execute(finished::countDown);
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReleaseOnComplete() {
+        Callback<String> callback = mock(Callback.class);
+        AtomicInteger released = new AtomicInteger();
+        Callback<String> wrapped = HealthCheckProcessorExecutor.releaseOnComplete(callback, released::incrementAndGet);
+        RestResult<String> result = new RestResult<>();
+        wrapped.onReceive(result);
+        verify(callback).onReceive(result);
+        RuntimeException exception = new RuntimeException("test");
+        wrapped.onError(exception);
+        verify(callback).onError(exception);
+        wrapped.onCancel();
+        verify(callback).onCancel();
+        assertEquals(3, released.get());
+    }
+}
@@ -29,6 +29,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ClientConfigTest {
     
@@ -56,9 +57,11 @@ class ClientConfigTest {
     @Test
     void testInitConfigFormEnv() throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
         mockEnvironment.setProperty(ClientConstants.CLIENT_EXPIRED_TIME_CONFIG_KEY, String.valueOf(EXPIRED_TIME));
+        mockEnvironment.setProperty(ClientConstants.INSTANCE_COMPACT_ENABLED_CONFIG_KEY, "true");
         Constructor<ClientConfig> declaredConstructor = ClientConfig.class.getDeclaredConstructor();
         declaredConstructor.setAccessible(true);
         ClientConfig clientConfig = declaredConstructor.newInstance();
         assertEquals(EXPIRED_TIME, clientConfig.getClientExpiredTime());
+        assertTrue(clientConfig.isInstanceCompactEnabled());
     }
 }
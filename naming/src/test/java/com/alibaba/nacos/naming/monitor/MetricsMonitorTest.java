@@ -100,4 +100,14 @@ class MetricsMonitorTest {
         MetricsMonitor.incrementIpCountWithBatchRegister(new InstancePublishInfo(), newTest);
         assertEquals(2, MetricsMonitor.getIpCountMonitor().get());
     }
+    
+    @Test
+    void testGetNamingEventPublisherMetric() {
+        MetricsMonitor.getNamingEventPublisherMetric("ServiceEvent", "queueSize", 1).set(10L);
+        assertEquals(10L, MetricsMonitor.getNamingEventPublisherMetric("ServiceEvent", "queueSize", 1).get());
+        assertEquals(0L, MetricsMonitor.getNamingEventPublisherMetric("ServiceEvent", "queueSize", 0).get());
+        assertEquals(10.0D, NacosMeterRegistryCenter.getMeterRegistry(NacosMeterRegistryCenter.NAMING_STABLE_REGISTRY)
+                .get("nacos_naming_event_publisher").tag("publisher", "ServiceEvent").tag("shard", "1").gauge()
+                .value());
+    }
 }
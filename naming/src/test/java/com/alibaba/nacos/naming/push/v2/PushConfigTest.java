@@ -29,6 +29,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PushConfigTest {
     
@@ -54,11 +55,19 @@ class PushConfigTest {
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_DELAY, String.valueOf(pushTaskDelay));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_TIMEOUT, String.valueOf(pushTaskTimeout));
         mockEnvironment.setProperty(PushConstants.PUSH_TASK_RETRY_DELAY, String.valueOf(pushTaskRetryDelay));
+        mockEnvironment.setProperty(PushConstants.PUSH_DELTA_ENABLED, "true");
+        mockEnvironment.setProperty(PushConstants.PUSH_BATCH_ENABLED, "true");
+        mockEnvironment.setProperty(PushConstants.PUSH_BATCH_MAX_SIZE, "100");
+        mockEnvironment.setProperty(PushConstants.PUSH_BATCH_FLUSH_INTERVAL, "20");
         NotifyCenter.publishEvent(ServerConfigChangeEvent.newEvent());
         TimeUnit.SECONDS.sleep(1);
         assertEquals(pushTaskDelay, pushConfig.getPushTaskDelay());
         assertEquals(pushTaskTimeout, pushConfig.getPushTaskTimeout());
         assertEquals(pushTaskRetryDelay, pushConfig.getPushTaskRetryDelay());
+        assertTrue(pushConfig.isPushDeltaEnabled());
+        assertTrue(pushConfig.isPushBatchEnabled());
+        assertEquals(100, pushConfig.getPushBatchMaxSize());
+        assertEquals(20L, pushConfig.getPushBatchFlushInterval());
     }
     
     @Test
@@ -16,22 +16,28 @@
 
 package com.alibaba.nacos.naming.push.v2.executor;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.core.remote.Connection;
+import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -39,13 +45,20 @@ import org.mockito.stubbing.Answer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +70,9 @@ class PushExecutorRpcImplTest {
     @Mock
     private RpcPushService pushService;
     
+    @Mock
+    private ConnectionManager connectionManager;
+    
     @Mock
     private Subscriber subscriber;
     
@@ -80,7 +96,7 @@ class PushExecutorRpcImplTest {
         EnvUtil.setEnvironment(new MockEnvironment());
         serviceMetadata = new ServiceMetadata();
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
-        pushExecutor = new PushExecutorRpcImpl(pushService);
+        pushExecutor = new PushExecutorRpcImpl(pushService, connectionManager);
         EnvUtil.setEnvironment(new MockEnvironment());
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
@@ -88,6 +104,11 @@ class PushExecutorRpcImplTest {
                 (Answer<List<Instance>>) invocationOnMock -> invocationOnMock.getArgument(2));
     }
     
+    @AfterEach
+    void tearDown() throws Exception {
+        setPushDeltaEnabled(false);
+    }
+    
     @Test
     void testDoPush() {
         pushExecutor.doPush(rpcClientId, subscriber, pushData);
@@ -103,6 +124,64 @@ class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushWithCallbackByDelta() throws Exception {
+        setPushDeltaEnabled(true);
+        Connection connection = mock(Connection.class);
+        when(connection.getAbilityTable()).thenReturn(
+                Collections.singletonMap(AbilityKey.SDK_CLIENT_SUPPORT_NAMING_DELTA_PUSH.getName(), true));
+        when(connectionManager.getConnection(rpcClientId)).thenReturn(connection);
+        Subscriber realSubscriber = new Subscriber("1.1.1.1:1", "", "", "1.1.1.1", "", "G@@S", 0);
+        List<Instance> hosts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            hosts.add(createInstance("2.2.2." + i));
+        }
+        pushData.getOriginalData().setHosts(hosts);
+        pushExecutor.doPushWithCallback(rpcClientId, realSubscriber, pushData, pushCallBack);
+        
+        List<Instance> newHosts = new ArrayList<>(hosts);
+        Instance modified = createInstance("2.2.2.0");
+        modified.setWeight(2.0D);
+        newHosts.set(0, modified);
+        newHosts.remove(2);
+        pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
+        pushData.getOriginalData().setHosts(newHosts);
+        pushExecutor.doPushWithCallback(rpcClientId, realSubscriber, pushData, pushCallBack);
+        
+        ArgumentCaptor<NotifySubscriberRequest> captor = ArgumentCaptor.forClass(NotifySubscriberRequest.class);
+        verify(pushService, times(2)).pushWithCallback(eq(rpcClientId), captor.capture(), eq(pushCallBack),
+                eq(GlobalExecutor.getCallbackExecutor()));
+        NotifySubscriberRequest fullRequest = captor.getAllValues().get(0);
+        assertFalse(fullRequest.isDelta());
+        assertEquals(1L, fullRequest.getRevision());
+        assertEquals(5, fullRequest.getServiceInfo().getHosts().size());
+        NotifySubscriberRequest deltaRequest = captor.getAllValues().get(1);
+        assertTrue(deltaRequest.isDelta());
+        assertEquals(1L, deltaRequest.getBaseRevision());
+        assertEquals(2L, deltaRequest.getRevision());
+        assertTrue(deltaRequest.getServiceInfo().getHosts().isEmpty());
+        assertTrue(deltaRequest.getAddedInstances().isEmpty());
+        assertEquals(Collections.singletonList(modified), deltaRequest.getModifiedInstances());
+        assertEquals(Collections.singletonList("2.2.2.2:8848:DEFAULT"), deltaRequest.getRemovedInstanceKeys());
+        assertEquals(2L, realSubscriber.getPushedSnapshot().getRevision());
+    }
+    
+    private Instance createInstance(String ip) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setPort(8848);
+        result.setClusterName("DEFAULT");
+        result.setHealthy(true);
+        result.setEnabled(true);
+        return result;
+    }
+    
+    private void setPushDeltaEnabled(boolean enabled) throws Exception {
+        Field field = PushConfig.class.getDeclaredField("pushDeltaEnabled");
+        field.setAccessible(true);
+        field.set(PushConfig.getInstance(), enabled);
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
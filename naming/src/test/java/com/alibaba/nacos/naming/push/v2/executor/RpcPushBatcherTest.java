@@ -0,0 +1,164 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2.executor;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.NamingResponseCode;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.BatchNotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.BatchNotifySubscriberResponse;
+import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.core.remote.ResponsePushCallBack;
+import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RpcPushBatcherTest {
+    
+    private static final String CLIENT_ID = "1.1.1.1:8848#true";
+    
+    @Mock
+    private RpcPushService pushService;
+    
+    private RpcPushBatcher pushBatcher;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        pushBatcher = new RpcPushBatcher(pushService);
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        setPushBatchMaxSize(50);
+    }
+    
+    @Test
+    void testPushFlushByMaxSize() throws Exception {
+        setPushBatchMaxSize(3);
+        PushCallBack[] callBacks = new PushCallBack[3];
+        for (int i = 0; i < 3; i++) {
+            callBacks[i] = mock(PushCallBack.class);
+            pushBatcher.push(CLIENT_ID, buildRequest("service" + i), callBacks[i]);
+        }
+        ArgumentCaptor<BatchNotifySubscriberRequest> requestCaptor = ArgumentCaptor.forClass(
+                BatchNotifySubscriberRequest.class);
+        ArgumentCaptor<PushCallBack> callBackCaptor = ArgumentCaptor.forClass(PushCallBack.class);
+        verify(pushService).pushWithCallback(eq(CLIENT_ID), requestCaptor.capture(), callBackCaptor.capture(),
+                any());
+        assertEquals(3, requestCaptor.getValue().getNotifyRequests().size());
+        assertEquals("service2", requestCaptor.getValue().getNotifyRequests().get(2).getServiceInfo().getName());
+        assertEquals(0, pushBatcher.getPendingClientCount());
+        callBackCaptor.getValue().onSuccess();
+        Exception exception = new Exception("test");
+        callBackCaptor.getValue().onFail(exception);
+        for (PushCallBack each : callBacks) {
+            verify(each).onSuccess();
+            verify(each).onFail(exception);
+        }
+    }
+    
+    @Test
+    void testBatchPushRevisionMismatchOnlyFailMismatchedPush() throws Exception {
+        setPushBatchMaxSize(4);
+        PushCallBack[] callBacks = new PushCallBack[4];
+        for (int i = 0; i < 4; i++) {
+            callBacks[i] = mock(PushCallBack.class);
+            pushBatcher.push(CLIENT_ID, buildRequest("service" + i), callBacks[i]);
+        }
+        ArgumentCaptor<PushCallBack> callBackCaptor = ArgumentCaptor.forClass(PushCallBack.class);
+        verify(pushService).pushWithCallback(eq(CLIENT_ID), any(BatchNotifySubscriberRequest.class),
+                callBackCaptor.capture(), any());
+        BatchNotifySubscriberResponse response = new BatchNotifySubscriberResponse();
+        int success = ResponseCode.SUCCESS.getCode();
+        response.setResultCodes(Arrays.asList(success, NamingResponseCode.PUSH_REVISION_MISMATCH, success, success));
+        ((ResponsePushCallBack) callBackCaptor.getValue()).onResponse(response);
+        ArgumentCaptor<Throwable> exceptionCaptor = ArgumentCaptor.forClass(Throwable.class);
+        verify(callBacks[1]).onFail(exceptionCaptor.capture());
+        verify(callBacks[1], never()).onSuccess();
+        assertEquals(NamingResponseCode.PUSH_REVISION_MISMATCH,
+                ((NacosException) exceptionCaptor.getValue()).getErrCode());
+        for (int i : new int[] {0, 2, 3}) {
+            verify(callBacks[i]).onSuccess();
+            verify(callBacks[i], never()).onFail(any());
+        }
+    }
+    
+    @Test
+    void testBatchPushFailedResponseFailAllPushes() throws Exception {
+        setPushBatchMaxSize(2);
+        PushCallBack[] callBacks = new PushCallBack[2];
+        for (int i = 0; i < 2; i++) {
+            callBacks[i] = mock(PushCallBack.class);
+            pushBatcher.push(CLIENT_ID, buildRequest("service" + i), callBacks[i]);
+        }
+        ArgumentCaptor<PushCallBack> callBackCaptor = ArgumentCaptor.forClass(PushCallBack.class);
+        verify(pushService).pushWithCallback(eq(CLIENT_ID), any(BatchNotifySubscriberRequest.class),
+                callBackCaptor.capture(), any());
+        BatchNotifySubscriberResponse response = new BatchNotifySubscriberResponse();
+        response.setErrorInfo(NamingResponseCode.PUSH_REVISION_MISMATCH, "mismatch");
+        ((ResponsePushCallBack) callBackCaptor.getValue()).onResponse(response);
+        for (PushCallBack each : callBacks) {
+            verify(each).onFail(any(NacosException.class));
+            verify(each, never()).onSuccess();
+        }
+    }
+    
+    @Test
+    void testPushFlushByInterval() {
+        PushCallBack callBack = mock(PushCallBack.class);
+        NotifySubscriberRequest request = buildRequest("service");
+        pushBatcher.push(CLIENT_ID, request, callBack);
+        verify(pushService, timeout(3000L)).pushWithCallback(eq(CLIENT_ID), eq(request), eq(callBack), any());
+        assertEquals(0, pushBatcher.getPendingClientCount());
+    }
+    
+    private NotifySubscriberRequest buildRequest(String serviceName) {
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName(serviceName);
+        serviceInfo.setGroupName("group");
+        return NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+    }
+    
+    private void setPushBatchMaxSize(int maxSize) throws Exception {
+        Field field = PushConfig.class.getDeclaredField("pushBatchMaxSize");
+        field.setAccessible(true);
+        field.set(PushConfig.getInstance(), maxSize);
+    }
+}
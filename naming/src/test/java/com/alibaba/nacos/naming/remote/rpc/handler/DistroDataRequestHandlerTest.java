@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroSnapshotSegment;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import org.junit.jupiter.api.Test;
@@ -69,6 +70,17 @@ class DistroDataRequestHandlerTest {
         DistroDataResponse response1 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         assertEquals(response1.getDistroData(), distroData);
         
+        DistroSnapshotSegment segment = new DistroSnapshotSegment(distroData, 1, 4);
+        Mockito.when(distroProtocol.onSnapshotSegment(Mockito.any(), Mockito.eq(1), Mockito.eq(4)))
+                .thenReturn(segment);
+        distroDataRequest.setSnapshotSegmented(true);
+        distroDataRequest.setSnapshotSegment(1);
+        distroDataRequest.setSnapshotSegmentCount(4);
+        DistroDataResponse segmentResponse = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        assertEquals(distroData, segmentResponse.getDistroData());
+        assertEquals(4, segmentResponse.getSnapshotSegmentCount());
+        distroDataRequest.setSnapshotSegmented(false);
+        
         distroDataRequest.setDataOperation(DELETE);
         Mockito.when(distroProtocol.onReceive(Mockito.any())).thenReturn(false);
         DistroDataResponse response2 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
@@ -52,4 +52,30 @@ public class PersistenceConstant {
     
     public static final String CONFIG_MODEL_RAFT_GROUP = "nacos_config";
     
+    /**
+     * Whether to coalesce concurrent embedded storage writes into one raft log.
+     */
+    public static final String EMBEDDED_WRITE_BATCH_ENABLED = "nacos.persistence.embedded.write.batch.enabled";
+    
+    /**
+     * The max count of writes coalesced into one raft log.
+     */
+    public static final String EMBEDDED_WRITE_BATCH_MAX_SIZE = "nacos.persistence.embedded.write.batch.maxSize";
+    
+    /**
+     * The max bytes of writes coalesced into one raft log.
+     */
+    public static final String EMBEDDED_WRITE_BATCH_MAX_BYTES = "nacos.persistence.embedded.write.batch.maxBytes";
+    
+    /**
+     * How long to wait for more writes before committing a batch.
+     */
+    public static final String EMBEDDED_WRITE_BATCH_WINDOW_MS = "nacos.persistence.embedded.write.batch.windowMs";
+    
+    /**
+     * Whether to encode sql of embedded storage writes by compact codec instead of hessian.
+     */
+    public static final String EMBEDDED_WRITE_COMPACT_SERIALIZATION =
+            "nacos.persistence.embedded.write.compactSerialization";
+
 }
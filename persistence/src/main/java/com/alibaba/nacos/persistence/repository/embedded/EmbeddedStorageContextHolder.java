@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.persistence.repository.embedded;
 
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.persistence.repository.embedded.sql.ModifyRequest;
 
 import java.util.ArrayList;
@@ -104,6 +105,37 @@ public class EmbeddedStorageContextHolder {
         return exist;
     }
     
+    /**
+     * Specify read consistency level of the following queries in current thread.
+     *
+     * @param readConsistency read consistency level
+     */
+    public static void putReadConsistency(ReadConsistency readConsistency) {
+        Map<String, String> extendInfo = EXTEND_INFO_CONTEXT.get();
+        extendInfo.put(ReadConsistency.READ_CONSISTENCY_KEY, readConsistency.name());
+        extendInfo.remove(ReadConsistency.MAX_STALENESS_MS_KEY);
+    }
+    
+    /**
+     * Let the following queries in current thread read local data which lags behind leader at most max staleness.
+     *
+     * @param maxStalenessMs max staleness in milliseconds
+     */
+    public static void putStaleRead(long maxStalenessMs) {
+        Map<String, String> extendInfo = EXTEND_INFO_CONTEXT.get();
+        extendInfo.put(ReadConsistency.READ_CONSISTENCY_KEY, ReadConsistency.STALE.name());
+        extendInfo.put(ReadConsistency.MAX_STALENESS_MS_KEY, String.valueOf(maxStalenessMs));
+    }
+    
+    /**
+     * Remove read consistency level of current thread, following queries use the default level.
+     */
+    public static void removeReadConsistency() {
+        Map<String, String> extendInfo = EXTEND_INFO_CONTEXT.get();
+        extendInfo.remove(ReadConsistency.READ_CONSISTENCY_KEY);
+        extendInfo.remove(ReadConsistency.MAX_STALENESS_MS_KEY);
+    }
+    
     public static List<ModifyRequest> getCurrentSqlContext() {
         return SQL_CONTEXT.get();
     }
@@ -0,0 +1,280 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.persistence.repository.embedded.sql;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Compact binary codec of {@link ModifyRequest} list, which keeps the types of sql arguments without the class
+ * descriptors of general serialization.
+ *
+ * <p>Only common sql argument types are supported, see {@link #isSupported(List)}.
+ *
+ * @author nacos
+ */
+public final class ModifyRequestCodec {
+    
+    /**
+     * Type of write request whose data is encoded by this codec.
+     */
+    public static final String TYPE = "compactModifyRequests";
+    
+    private static final byte VERSION = 1;
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte INTEGER = 2;
+    
+    private static final byte LONG = 3;
+    
+    private static final byte BOOLEAN = 4;
+    
+    private static final byte DOUBLE = 5;
+    
+    private static final byte TIMESTAMP = 6;
+    
+    private static final byte DATE = 7;
+    
+    private static final byte BIG_DECIMAL = 8;
+    
+    private static final byte BYTES = 9;
+    
+    private ModifyRequestCodec() {
+    }
+    
+    /**
+     * Whether all sql arguments of requests can be encoded by this codec.
+     *
+     * @param requests modify requests
+     * @return {@code true} if supported
+     */
+    public static boolean isSupported(List<ModifyRequest> requests) {
+        for (ModifyRequest each : requests) {
+            if (each.getSql() == null) {
+                return false;
+            }
+            if (each.getArgs() == null) {
+                continue;
+            }
+            for (Object arg : each.getArgs()) {
+                if (typeOf(arg) < 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Encode modify requests.
+     *
+     * @param requests modify requests
+     * @return encoded bytes
+     * @throws IllegalArgumentException if any argument type is not supported
+     */
+    public static byte[] encode(List<ModifyRequest> requests) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeInt(requests.size());
+            for (ModifyRequest each : requests) {
+                out.writeInt(each.getExecuteNo());
+                out.writeBoolean(each.isRollBackOnUpdateFail());
+                writeString(out, each.getSql());
+                Object[] args = each.getArgs();
+                out.writeInt(args == null ? -1 : args.length);
+                if (args != null) {
+                    for (Object arg : args) {
+                        writeArg(out, arg);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+    
+    /**
+     * Decode modify requests.
+     *
+     * @param data encoded bytes
+     * @return modify requests
+     * @throws IllegalArgumentException if data is illegal
+     */
+    public static List<ModifyRequest> decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported modify request codec version " + version);
+            }
+            int size = in.readInt();
+            List<ModifyRequest> requests = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                ModifyRequest request = new ModifyRequest();
+                request.setExecuteNo(in.readInt());
+                request.setRollBackOnUpdateFail(in.readBoolean());
+                request.setSql(readString(in));
+                int argCount = in.readInt();
+                if (argCount >= 0) {
+                    Object[] args = new Object[argCount];
+                    for (int j = 0; j < argCount; j++) {
+                        args[j] = readArg(in);
+                    }
+                    request.setArgs(args);
+                }
+                requests.add(request);
+            }
+            return requests;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Illegal compact modify requests", e);
+        }
+    }
+    
+    private static int typeOf(Object arg) {
+        if (arg == null) {
+            return NULL;
+        }
+        if (arg instanceof String) {
+            return STRING;
+        }
+        if (arg instanceof Integer) {
+            return INTEGER;
+        }
+        if (arg instanceof Long) {
+            return LONG;
+        }
+        if (arg instanceof Boolean) {
+            return BOOLEAN;
+        }
+        if (arg instanceof Double) {
+            return DOUBLE;
+        }
+        if (arg instanceof Timestamp) {
+            return TIMESTAMP;
+        }
+        if (arg.getClass() == Date.class) {
+            return DATE;
+        }
+        if (arg instanceof BigDecimal) {
+            return BIG_DECIMAL;
+        }
+        if (arg instanceof byte[]) {
+            return BYTES;
+        }
+        return -1;
+    }
+    
+    private static void writeArg(DataOutputStream out, Object arg) throws IOException {
+        int type = typeOf(arg);
+        out.writeByte(type);
+        switch (type) {
+            case NULL:
+                break;
+            case STRING:
+                writeString(out, (String) arg);
+                break;
+            case INTEGER:
+                out.writeInt((Integer) arg);
+                break;
+            case LONG:
+                out.writeLong((Long) arg);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) arg);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) arg);
+                break;
+            case TIMESTAMP:
+                out.writeLong(((Timestamp) arg).getTime());
+                out.writeInt(((Timestamp) arg).getNanos());
+                break;
+            case DATE:
+                out.writeLong(((Date) arg).getTime());
+                break;
+            case BIG_DECIMAL:
+                writeString(out, arg.toString());
+                break;
+            case BYTES:
+                out.writeInt(((byte[]) arg).length);
+                out.write((byte[]) arg);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported sql argument type " + arg.getClass().getName());
+        }
+    }
+    
+    private static Object readArg(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(in);
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case BOOLEAN:
+                return in.readBoolean();
+            case DOUBLE:
+                return in.readDouble();
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            case DATE:
+                return new Date(in.readLong());
+            case BIG_DECIMAL:
+                return new BigDecimal(readString(in));
+            case BYTES:
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return bytes;
+            default:
+                throw new IllegalArgumentException("Unknown sql argument type " + type);
+        }
+    }
+    
+    /**
+     * Write string as length prefixed utf-8 bytes, {@link DataOutputStream#writeUTF} is limited to 64K bytes.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.persistence.repository.embedded;
 
+import com.alibaba.nacos.consistency.cp.ReadConsistency;
 import com.alibaba.nacos.persistence.repository.embedded.sql.ModifyRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class EmbeddedStorageContextHolderTest {
@@ -67,4 +70,18 @@ class EmbeddedStorageContextHolderTest {
         assertTrue(EmbeddedStorageContextHolder.containsExtendInfo("testPutAllExtendInfo"));
         assertEquals("test_value", EmbeddedStorageContextHolder.getCurrentExtendInfo().get("testPutAllExtendInfo"));
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testReadConsistency() {
+        EmbeddedStorageContextHolder.putStaleRead(1000L);
+        Map<String, String> extendInfo = EmbeddedStorageContextHolder.getCurrentExtendInfo();
+        assertEquals(ReadConsistency.STALE, ReadConsistency.of(extendInfo));
+        assertEquals(1000L, ReadConsistency.maxStalenessMs(extendInfo));
+        EmbeddedStorageContextHolder.putReadConsistency(ReadConsistency.LEASE);
+        assertEquals(ReadConsistency.LEASE, ReadConsistency.of(extendInfo));
+        assertEquals(Long.MAX_VALUE, ReadConsistency.maxStalenessMs(extendInfo));
+        EmbeddedStorageContextHolder.removeReadConsistency();
+        assertNull(ReadConsistency.of(extendInfo));
+        assertFalse(EmbeddedStorageContextHolder.containsExtendInfo(ReadConsistency.MAX_STALENESS_MS_KEY));
+    }
+}
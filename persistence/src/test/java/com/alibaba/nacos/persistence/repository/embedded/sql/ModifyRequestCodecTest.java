@@ -0,0 +1,87 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.persistence.repository.embedded.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModifyRequestCodecTest {
+    
+    @Test
+    void testEncodeAndDecode() {
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        timestamp.setNanos(123456789);
+        ModifyRequest first = new ModifyRequest("INSERT INTO config_info VALUES(?,?,?,?,?,?,?,?,?,?)");
+        first.setExecuteNo(0);
+        first.setRollBackOnUpdateFail(true);
+        first.setArgs(new Object[] {"dataId", 1, 2L, true, 1.5D, timestamp, new Date(1000L), new BigDecimal("1.01"),
+                new byte[] {1, 2}, null});
+        ModifyRequest second = new ModifyRequest("DELETE FROM config_info");
+        second.setExecuteNo(1);
+        List<ModifyRequest> requests = Arrays.asList(first, second);
+        assertTrue(ModifyRequestCodec.isSupported(requests));
+        
+        List<ModifyRequest> actual = ModifyRequestCodec.decode(ModifyRequestCodec.encode(requests));
+        assertEquals(2, actual.size());
+        assertEquals(first.getSql(), actual.get(0).getSql());
+        assertEquals(0, actual.get(0).getExecuteNo());
+        assertTrue(actual.get(0).isRollBackOnUpdateFail());
+        Object[] args = actual.get(0).getArgs();
+        assertEquals("dataId", args[0]);
+        assertEquals(1, args[1]);
+        assertEquals(2L, args[2]);
+        assertEquals(true, args[3]);
+        assertEquals(1.5D, args[4]);
+        assertEquals(timestamp, args[5]);
+        assertEquals(new Date(1000L), args[6]);
+        assertEquals(new BigDecimal("1.01"), args[7]);
+        assertArrayEquals(new byte[] {1, 2}, (byte[]) args[8]);
+        assertNull(args[9]);
+        assertEquals(second.getSql(), actual.get(1).getSql());
+        assertEquals(1, actual.get(1).getExecuteNo());
+        assertFalse(actual.get(1).isRollBackOnUpdateFail());
+        assertNull(actual.get(1).getArgs());
+    }
+    
+    @Test
+    void testUnsupportedArgument() {
+        ModifyRequest request = new ModifyRequest("UPDATE config_info SET md5 = ?");
+        request.setArgs(new Object[] {new StringBuilder("md5")});
+        assertFalse(ModifyRequestCodec.isSupported(Collections.singletonList(request)));
+        assertThrows(IllegalArgumentException.class,
+                () -> ModifyRequestCodec.encode(Collections.singletonList(request)));
+    }
+    
+    @Test
+    void testDecodeIllegalData() {
+        assertThrows(IllegalArgumentException.class, () -> ModifyRequestCodec.decode(new byte[] {9}));
+        assertThrows(IllegalArgumentException.class, () -> ModifyRequestCodec.decode(new byte[0]));
+    }
+}
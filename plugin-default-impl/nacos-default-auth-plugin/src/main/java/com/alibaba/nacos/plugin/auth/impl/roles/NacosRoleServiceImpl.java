@@ -18,6 +18,8 @@ package com.alibaba.nacos.plugin.auth.impl.roles;
 
 import com.alibaba.nacos.api.model.v2.Result;
 import com.alibaba.nacos.auth.config.AuthConfigs;
+import com.alibaba.nacos.common.cache.Cache;
+import com.alibaba.nacos.common.cache.builder.CacheBuilder;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.common.utils.StringUtils;
@@ -45,7 +47,6 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 
 import static com.alibaba.nacos.api.common.Constants.DEFAULT_NAMESPACE_ID;
 
@@ -60,6 +61,10 @@ public class NacosRoleServiceImpl {
     
     private static final int DEFAULT_PAGE_NO = 1;
     
+    private static final int DECISION_CACHE_MAX_SIZE = 10000;
+    
+    private static final String DECISION_KEY_SPLITTER = "\n";
+    
     @Autowired
     private AuthConfigs authConfigs;
     
@@ -78,6 +83,13 @@ public class NacosRoleServiceImpl {
     
     private volatile Map<String, List<PermissionInfo>> permissionInfoMap = new ConcurrentHashMap<>();
     
+    private volatile Map<String, RolePermissionMatcher> permissionMatcherMap = new ConcurrentHashMap<>();
+    
+    /**
+     * Cached decisions of (user, action, resource), replaced by a new cache when roles or permissions changed.
+     */
+    private volatile Cache<String, Boolean> decisionCache = newDecisionCache();
+    
     @Scheduled(initialDelay = 5000, fixedDelay = 15000)
     private void reload() {
         try {
@@ -97,15 +109,19 @@ public class NacosRoleServiceImpl {
             }
             
             Map<String, List<PermissionInfo>> tmpPermissionInfoMap = new ConcurrentHashMap<>(16);
+            Map<String, RolePermissionMatcher> tmpPermissionMatcherMap = new ConcurrentHashMap<>(16);
             for (String role : tmpRoleSet) {
                 Page<PermissionInfo> permissionInfoPage = permissionPersistService.getPermissions(role, DEFAULT_PAGE_NO,
                         Integer.MAX_VALUE);
                 tmpPermissionInfoMap.put(role, permissionInfoPage.getPageItems());
+                tmpPermissionMatcherMap.put(role, new RolePermissionMatcher(permissionInfoPage.getPageItems()));
             }
             
             roleSet = tmpRoleSet;
             roleInfoMap = tmpRoleInfoMap;
             permissionInfoMap = tmpPermissionInfoMap;
+            permissionMatcherMap = tmpPermissionMatcherMap;
+            invalidateDecisions();
         } catch (Exception e) {
             Loggers.AUTH.warn("[LOAD-ROLES] load failed", e);
         }
@@ -125,6 +141,8 @@ public class NacosRoleServiceImpl {
         if (isUpdatePasswordPermission(permission)) {
             return true;
         }
+        // capture the decision cache before reading roles, so the decision of old roles won't be put into new cache.
+        final Cache<String, Boolean> decisions = decisionCache;
         
         List<RoleInfo> roleInfoList = getRoles(nacosUser.getUserName());
         if (CollectionUtils.isEmpty(roleInfoList)) {
@@ -145,23 +163,57 @@ public class NacosRoleServiceImpl {
         }
         
         // For other roles, use a pattern match to decide if pass or not.
+        String resource = joinResource(permission.getResource());
+        if (!authConfigs.isCachingEnabled()) {
+            return matchPermission(roleInfoList, resource, permission.getAction());
+        }
+        String decisionKey = String.join(DECISION_KEY_SPLITTER, nacosUser.getUserName(), permission.getAction(),
+                resource);
+        Boolean cachedDecision = decisions.get(decisionKey);
+        if (null != cachedDecision) {
+            return cachedDecision;
+        }
+        boolean decision = matchPermission(roleInfoList, resource, permission.getAction());
+        decisions.put(decisionKey, decision);
+        return decision;
+    }
+    
+    private boolean matchPermission(List<RoleInfo> roleInfoList, String resource, String action) {
         for (RoleInfo roleInfo : roleInfoList) {
             List<PermissionInfo> permissionInfoList = getPermissions(roleInfo.getRole());
             if (CollectionUtils.isEmpty(permissionInfoList)) {
                 continue;
             }
-            for (PermissionInfo permissionInfo : permissionInfoList) {
-                String permissionResource = permissionInfo.getResource().replaceAll("\\*", ".*");
-                String permissionAction = permissionInfo.getAction();
-                if (permissionAction.contains(permission.getAction()) && Pattern.matches(permissionResource,
-                        joinResource(permission.getResource()))) {
-                    return true;
-                }
+            if (getPermissionMatcher(roleInfo.getRole(), permissionInfoList).matches(resource, action)) {
+                return true;
             }
         }
         return false;
     }
     
+    /**
+     * Get the matcher compiled from the permissions of role, rebuild it only if the permissions have changed. The
+     * matcher is kept even if caching is disabled, since permissions read from storage on each call are compared by
+     * content.
+     */
+    private RolePermissionMatcher getPermissionMatcher(String role, List<PermissionInfo> permissionInfoList) {
+        RolePermissionMatcher matcher = permissionMatcherMap.get(role);
+        if (null == matcher || !matcher.isBuiltFrom(permissionInfoList)) {
+            matcher = new RolePermissionMatcher(permissionInfoList);
+            permissionMatcherMap.put(role, matcher);
+        }
+        return matcher;
+    }
+    
+    private void invalidateDecisions() {
+        decisionCache = newDecisionCache();
+    }
+    
+    private static Cache<String, Boolean> newDecisionCache() {
+        return CacheBuilder.<String, Boolean>builder().maximumSize(DECISION_CACHE_MAX_SIZE).lru(true).sync(true)
+                .build();
+    }
+    
     /**
      * If API is update user password, don't do permission check, because there is permission check in API logic.
      */
@@ -244,6 +296,7 @@ public class NacosRoleServiceImpl {
 
         rolePersistService.addRole(role, username);
         roleSet.add(role);
+        invalidateDecisions();
     }
     
     /**
@@ -272,6 +325,7 @@ public class NacosRoleServiceImpl {
      */
     public void deleteRole(String role, String userName) {
         rolePersistService.deleteRole(role, userName);
+        invalidateDecisions();
     }
     
     /**
@@ -282,6 +336,7 @@ public class NacosRoleServiceImpl {
     public void deleteRole(String role) {
         rolePersistService.deleteRole(role);
         roleSet.remove(role);
+        invalidateDecisions();
     }
     
     public Page<PermissionInfo> getPermissionsFromDatabase(String role, int pageNo, int pageSize) {
@@ -304,10 +359,12 @@ public class NacosRoleServiceImpl {
             throw new IllegalArgumentException("role " + role + " not found!");
         }
         permissionPersistService.addPermission(role, resource, action);
+        invalidateDecisions();
     }
     
     public void deletePermission(String role, String resource, String action) {
         permissionPersistService.deletePermission(role, resource, action);
+        invalidateDecisions();
     }
     
     public List<String> findRolesLikeRoleName(String role) {
@@ -0,0 +1,174 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.auth.impl.roles;
+
+import com.alibaba.nacos.core.utils.Loggers;
+import com.alibaba.nacos.plugin.auth.impl.persistence.PermissionInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Precompiled permissions of one role.
+ *
+ * <p>Permission resource is a pattern in which {@code *} matches anything, and the other characters are matched as
+ * regex for compatibility. Resources without any regex character are indexed for exact match, the others are compiled
+ * once and filtered by their literal prefix before matching. Permissions with invalid regex never match and are
+ * skipped.
+ *
+ * @author nacos
+ */
+public class RolePermissionMatcher {
+    
+    private static final String REGEX_CHARS = "\\.[]{}()<>*+-=!?^$|";
+    
+    private static final String QUANTIFIER_CHARS = "*+?{";
+    
+    private static final char ALTERNATION_CHAR = '|';
+    
+    private final List<PermissionInfo> permissions;
+    
+    /**
+     * Resources and actions of the permissions when built, permissions reloaded from storage are compared with them.
+     */
+    private final String[] resources;
+    
+    private final String[] actions;
+    
+    /**
+     * Exact resource to actions of the permissions on it.
+     */
+    private final Map<String, List<String>> exactPermissions;
+    
+    private final List<PatternPermission> patternPermissions;
+    
+    public RolePermissionMatcher(List<PermissionInfo> permissions) {
+        this.permissions = permissions;
+        this.resources = new String[permissions.size()];
+        this.actions = new String[permissions.size()];
+        Map<String, List<String>> exact = new HashMap<>(permissions.size());
+        List<PatternPermission> patterns = new ArrayList<>();
+        int index = 0;
+        for (PermissionInfo each : permissions) {
+            resources[index] = each.getResource();
+            actions[index++] = each.getAction();
+            String regex = each.getResource().replaceAll("\\*", ".*");
+            int literalLength = getLiteralPrefixLength(regex);
+            if (literalLength == regex.length()) {
+                exact.computeIfAbsent(regex, key -> new ArrayList<>(1)).add(each.getAction());
+            } else {
+                try {
+                    patterns.add(new PatternPermission(regex.substring(0, literalLength), Pattern.compile(regex),
+                            each.getAction()));
+                } catch (PatternSyntaxException e) {
+                    Loggers.AUTH.warn("[LOAD-ROLES] skip permission of role {} with invalid resource {}: {}",
+                            each.getRole(), each.getResource(), e.getMessage());
+                }
+            }
+        }
+        this.exactPermissions = exact;
+        this.patternPermissions = patterns.isEmpty() ? Collections.emptyList() : patterns;
+    }
+    
+    /**
+     * Whether this matcher is built from the permissions, a list read again from storage with the same resources and
+     * actions in the same order is treated as the same permissions.
+     *
+     * @param permissions permissions of role
+     * @return {@code true} if built from the same permissions
+     */
+    public boolean isBuiltFrom(List<PermissionInfo> permissions) {
+        if (this.permissions == permissions) {
+            return true;
+        }
+        if (resources.length != permissions.size()) {
+            return false;
+        }
+        int index = 0;
+        for (PermissionInfo each : permissions) {
+            if (!Objects.equals(resources[index], each.getResource()) || !Objects.equals(actions[index],
+                    each.getAction())) {
+                return false;
+            }
+            index++;
+        }
+        return true;
+    }
+    
+    /**
+     * Whether any permission of the role grants the action on the resource.
+     *
+     * @param resource joined resource, like {@code namespace:group:config/dataId}
+     * @param action   action to check
+     * @return {@code true} if granted
+     */
+    public boolean matches(String resource, String action) {
+        List<String> actions = exactPermissions.get(resource);
+        if (null != actions) {
+            for (String each : actions) {
+                if (each.contains(action)) {
+                    return true;
+                }
+            }
+        }
+        for (PatternPermission each : patternPermissions) {
+            if (each.action.contains(action) && resource.startsWith(each.literalPrefix) && each.pattern.matcher(
+                    resource).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Length of the prefix which is matched literally, the last literal char is excluded if it is quantified, and there
+     * is no literal prefix for alternation.
+     */
+    private static int getLiteralPrefixLength(String regex) {
+        if (regex.indexOf(ALTERNATION_CHAR) >= 0) {
+            return 0;
+        }
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (REGEX_CHARS.indexOf(c) >= 0) {
+                return QUANTIFIER_CHARS.indexOf(c) >= 0 && i > 0 ? i - 1 : i;
+            }
+        }
+        return regex.length();
+    }
+    
+    private static class PatternPermission {
+        
+        private final String literalPrefix;
+        
+        private final Pattern pattern;
+        
+        private final String action;
+        
+        PatternPermission(String literalPrefix, Pattern pattern, String action) {
+            this.literalPrefix = literalPrefix;
+            this.pattern = pattern;
+            this.action = action;
+        }
+    }
+}
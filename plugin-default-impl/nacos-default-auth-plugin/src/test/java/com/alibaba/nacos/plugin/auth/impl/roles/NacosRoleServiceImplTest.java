@@ -47,6 +47,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -127,6 +129,42 @@ class NacosRoleServiceImplTest {
         assertTrue(res3);
     }
     
+    @Test
+    void hasPermissionWithCachedDecision() {
+        when(authConfigs.isCachingEnabled()).thenReturn(true);
+        RoleInfo roleInfo = new RoleInfo();
+        roleInfo.setRole("role1");
+        roleInfo.setUsername("nacos");
+        Page<RoleInfo> rolePage = new Page<>();
+        rolePage.setPageItems(Collections.singletonList(roleInfo));
+        when(rolePersistService.getRolesByUserNameAndRoleName("nacos", "", 1, Integer.MAX_VALUE)).thenReturn(
+                rolePage);
+        PermissionInfo permissionInfo = new PermissionInfo();
+        permissionInfo.setRole("role1");
+        permissionInfo.setResource("ns1:*:config/*");
+        permissionInfo.setAction("rw");
+        Page<PermissionInfo> permissionPage = new Page<>();
+        permissionPage.setPageItems(Collections.singletonList(permissionInfo));
+        when(permissionPersistService.getPermissions("role1", 1, Integer.MAX_VALUE)).thenReturn(permissionPage);
+        NacosRoleServiceImpl spy = spy(nacosRoleService);
+        NacosUser nacosUser = new NacosUser();
+        nacosUser.setUserName("nacos");
+        Permission permission = new Permission(new Resource("ns1", "group", "dataId", "config", new Properties()),
+                "r");
+        assertTrue(spy.hasPermission(nacosUser, permission));
+        assertTrue(spy.hasPermission(nacosUser, permission));
+        verify(spy, times(1)).getPermissions("role1");
+        
+        Permission otherNamespace = new Permission(new Resource("ns2", "group", "dataId", "config",
+                new Properties()), "r");
+        assertFalse(spy.hasPermission(nacosUser, otherNamespace));
+        verify(spy, times(2)).getPermissions("role1");
+        
+        spy.deletePermission("role1", "ns1:*:config/*", "rw");
+        assertTrue(spy.hasPermission(nacosUser, permission));
+        verify(spy, times(3)).getPermissions("role1");
+    }
+    
     @Test
     void getRoles() {
         List<RoleInfo> nacos = nacosRoleService.getRoles("role-admin");
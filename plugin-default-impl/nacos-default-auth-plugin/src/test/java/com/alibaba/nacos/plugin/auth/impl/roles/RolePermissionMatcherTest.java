@@ -0,0 +1,94 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.auth.impl.roles;
+
+import com.alibaba.nacos.plugin.auth.impl.persistence.PermissionInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RolePermissionMatcherTest {
+    
+    @Test
+    void testMatchExactResource() {
+        RolePermissionMatcher matcher = new RolePermissionMatcher(
+                Arrays.asList(buildPermission("ns1:group:config/dataId", "r"),
+                        buildPermission("ns1:group:config/dataId", "w")));
+        assertTrue(matcher.matches("ns1:group:config/dataId", "r"));
+        assertTrue(matcher.matches("ns1:group:config/dataId", "w"));
+        assertFalse(matcher.matches("ns1:group:config/dataId2", "r"));
+        assertFalse(matcher.matches("ns1:group:config/dataId", "rw"));
+    }
+    
+    @Test
+    void testMatchWildcardResource() {
+        RolePermissionMatcher matcher = new RolePermissionMatcher(
+                Arrays.asList(buildPermission("ns1:*:config/*", "rw"), buildPermission(":*:*", "r")));
+        assertTrue(matcher.matches("ns1:group:config/dataId", "w"));
+        assertTrue(matcher.matches(":group:naming/service", "r"));
+        assertFalse(matcher.matches(":group:naming/service", "w"));
+        assertFalse(matcher.matches("ns2:group:config/dataId", "w"));
+    }
+    
+    @Test
+    void testMatchRegexResource() {
+        RolePermissionMatcher matcher = new RolePermissionMatcher(
+                Arrays.asList(buildPermission("ns1:group:config/data.d", "r"),
+                        buildPermission("ns2:groups?:config/dataId", "r"),
+                        buildPermission("ns3:group:config/a|ns4:group:config/b", "r")));
+        assertTrue(matcher.matches("ns1:group:config/dataId", "r"));
+        assertTrue(matcher.matches("ns2:group:config/dataId", "r"));
+        assertTrue(matcher.matches("ns2:groups:config/dataId", "r"));
+        assertTrue(matcher.matches("ns4:group:config/b", "r"));
+        assertFalse(matcher.matches("ns1:group:config/dataIdd", "r"));
+    }
+    
+    @Test
+    void testSkipInvalidRegexResource() {
+        RolePermissionMatcher matcher = new RolePermissionMatcher(
+                Arrays.asList(buildPermission("ns1:group:config/data(", "r"),
+                        buildPermission("ns1:group:config/dataId", "r")));
+        assertTrue(matcher.matches("ns1:group:config/dataId", "r"));
+        assertFalse(matcher.matches("ns1:group:config/data(", "r"));
+    }
+    
+    @Test
+    void testIsBuiltFrom() {
+        List<PermissionInfo> permissions = new ArrayList<>();
+        permissions.add(buildPermission("ns1:*:config/*", "rw"));
+        RolePermissionMatcher matcher = new RolePermissionMatcher(permissions);
+        assertTrue(matcher.isBuiltFrom(permissions));
+        // permissions read again from storage.
+        assertTrue(matcher.isBuiltFrom(Collections.singletonList(buildPermission("ns1:*:config/*", "rw"))));
+        assertFalse(matcher.isBuiltFrom(Collections.singletonList(buildPermission("ns1:*:config/*", "r"))));
+        assertFalse(matcher.isBuiltFrom(Collections.singletonList(buildPermission("ns2:*:config/*", "rw"))));
+        assertFalse(matcher.isBuiltFrom(Collections.emptyList()));
+    }
+    
+    private PermissionInfo buildPermission(String resource, String action) {
+        PermissionInfo permissionInfo = new PermissionInfo();
+        permissionInfo.setResource(resource);
+        permissionInfo.setAction(action);
+        return permissionInfo;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * striped rate counter.
+ *
+ * <p>Like {@link LocalSimpleCountRateCounter}, counts are kept in a ring of period slots. Each slot spreads its count
+ * over padded cells picked by the calling thread, like {@link java.util.concurrent.atomic.LongAdder}, so concurrent
+ * requests of one point don't contend on the same value. All slots and cells are created up front, the slot rollover is
+ * done by CAS instead of lock.
+ *
+ * <p>Summing all cells is avoided on the hot path. {@link #tryAdd(long, long, long)} accepts without summing while
+ * the cell of the caller is within its even share of the limit and no cell of the slot has exceeded its share, the
+ * total can't exceed the limit then. Once any cell exceeds its share the slot is marked, and the following calls of
+ * the period sum all cells to check the limit exactly. {@link #add(long, long)} returns the count of the caller's cell
+ * only, use {@link #getCount(long)} for the total.
+ *
+ * @author nacos
+ */
+public class StripedRateCounter extends RateCounter {
+    
+    private static final int DEFAULT_RECORD_SIZE = 10;
+    
+    private static final int MAX_STRIPES = 64;
+    
+    /**
+     * Cells are placed one cache line (8 longs) apart to avoid false sharing.
+     */
+    private static final int CELL_SPACING = 8;
+    
+    private static final long RESETTING = -1L;
+    
+    private final int stripeMask;
+    
+    private final long periodMillis;
+    
+    private final long startTime;
+    
+    private final StripedSlot[] slots;
+    
+    public StripedRateCounter(String name, TimeUnit period) {
+        super(name, period);
+        int stripes = 1;
+        int expectedStripes = Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES);
+        while (stripes < expectedStripes) {
+            stripes <<= 1;
+        }
+        this.stripeMask = stripes - 1;
+        this.periodMillis = period.toMillis(1);
+        this.slots = new StripedSlot[DEFAULT_RECORD_SIZE];
+        for (int i = 0; i < DEFAULT_RECORD_SIZE; i++) {
+            slots[i] = new StripedSlot(stripes);
+        }
+        long now = System.currentTimeMillis();
+        if (period == TimeUnit.MINUTES) {
+            startTime = RateCounter.getTrimMillsOfMinute(now);
+        } else if (period == TimeUnit.HOURS) {
+            startTime = RateCounter.getTrimMillsOfHour(now);
+        } else {
+            //second default
+            startTime = RateCounter.getTrimMillsOfSecond(now);
+        }
+    }
+    
+    /**
+     * add count for the period of timestamp.
+     *
+     * @param timestamp timestamp.
+     * @param count     count.
+     * @return count of the cell of the calling thread, which is a lower bound of the total count.
+     */
+    @Override
+    public long add(long timestamp, long count) {
+        StripedSlot slot = createSlotIfAbsent(timestamp);
+        return slot.count.addAndGet(cellIndex(), count);
+    }
+    
+    @Override
+    public boolean tryAdd(long timestamp, long countDelta, long upperLimit) {
+        StripedSlot slot = createSlotIfAbsent(timestamp);
+        int cellIndex = cellIndex();
+        long cellCount = slot.count.addAndGet(cellIndex, countDelta);
+        if (cellCount > upperLimit / (stripeMask + 1)) {
+            // must be marked before summing, so that the counts accepted without summing are seen by the sum.
+            if (!slot.exceeded) {
+                slot.exceeded = true;
+            }
+        } else if (!slot.exceeded) {
+            return true;
+        }
+        if (slot.sum(slot.count) <= upperLimit) {
+            return true;
+        }
+        slot.interceptedCount.getAndAdd(cellIndex, countDelta);
+        return false;
+    }
+    
+    @Override
+    public long getCount(long timestamp) {
+        long window = window(timestamp);
+        StripedSlot slot = slots[slotIndex(window)];
+        if (slot.time.get() != windowTime(window)) {
+            return 0L;
+        }
+        return slot.sum(slot.count);
+    }
+    
+    /**
+     * get intercepted count of the period of timestamp.
+     *
+     * @param timestamp timestamp.
+     * @return intercepted count.
+     */
+    public long getInterceptedCount(long timestamp) {
+        long window = window(timestamp);
+        StripedSlot slot = slots[slotIndex(window)];
+        if (slot.time.get() != windowTime(window)) {
+            return 0L;
+        }
+        return slot.sum(slot.interceptedCount);
+    }
+    
+    private StripedSlot createSlotIfAbsent(long timestamp) {
+        long window = window(timestamp);
+        long windowTime = windowTime(window);
+        StripedSlot slot = slots[slotIndex(window)];
+        long slotTime = slot.time.get();
+        while (slotTime != windowTime) {
+            if (slotTime != RESETTING && slot.time.compareAndSet(slotTime, RESETTING)) {
+                slot.reset();
+                slot.time.set(windowTime);
+                break;
+            }
+            Thread.yield();
+            slotTime = slot.time.get();
+        }
+        return slot;
+    }
+    
+    private long window(long timestamp) {
+        return Math.floorDiv(timestamp - startTime, periodMillis);
+    }
+    
+    private long windowTime(long window) {
+        return startTime + window * periodMillis;
+    }
+    
+    private int slotIndex(long window) {
+        return (int) Math.floorMod(window, (long) DEFAULT_RECORD_SIZE);
+    }
+    
+    private int cellIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return ((hash ^ (hash >>> 16)) & stripeMask) * CELL_SPACING;
+    }
+    
+    private static class StripedSlot {
+        
+        private final AtomicLong time = new AtomicLong();
+        
+        private final AtomicLongArray count;
+        
+        private final AtomicLongArray interceptedCount;
+        
+        /**
+         * Whether any cell has exceeded its share of the limit in this period.
+         */
+        private volatile boolean exceeded;
+        
+        private StripedSlot(int stripes) {
+            this.count = new AtomicLongArray(stripes * CELL_SPACING);
+            this.interceptedCount = new AtomicLongArray(stripes * CELL_SPACING);
+        }
+        
+        private long sum(AtomicLongArray cells) {
+            long sum = 0L;
+            for (int i = 0; i < cells.length(); i += CELL_SPACING) {
+                sum += cells.get(i);
+            }
+            return sum;
+        }
+        
+        private void reset() {
+            exceeded = false;
+            for (int i = 0; i < count.length(); i += CELL_SPACING) {
+                count.set(i, 0L);
+                interceptedCount.set(i, 0L);
+            }
+        }
+    }
+}
@@ -16,6 +16,10 @@
 
 package com.alibaba.nacos.plugin.control.tps.barrier;
 
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.plugin.control.Loggers;
+import com.alibaba.nacos.plugin.control.configs.ControlConfigs;
 import com.alibaba.nacos.plugin.control.tps.barrier.creator.RuleBarrierCreator;
 import com.alibaba.nacos.plugin.control.tps.barrier.creator.LocalSimpleCountBarrierCreator;
 import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
@@ -40,10 +44,29 @@ public abstract class TpsBarrier {
     
     public TpsBarrier(String pointName) {
         this.pointName = pointName;
-        this.ruleBarrierCreator = new LocalSimpleCountBarrierCreator();
+        this.ruleBarrierCreator = buildRuleBarrierCreator();
         this.pointBarrier = ruleBarrierCreator.createRuleBarrier(pointName, pointName, TimeUnit.SECONDS);
     }
     
+    /**
+     * Build rule barrier creator by the name configured in {@link ControlConfigs}, which is loaded by SPI. Use
+     * {@link LocalSimpleCountBarrierCreator} if not found.
+     *
+     * @return rule barrier creator
+     */
+    protected RuleBarrierCreator buildRuleBarrierCreator() {
+        String creatorName = ControlConfigs.getInstance().getRuleBarrierCreator();
+        if (StringUtils.isNotBlank(creatorName)) {
+            for (RuleBarrierCreator each : NacosServiceLoader.load(RuleBarrierCreator.class)) {
+                if (creatorName.equalsIgnoreCase(each.name())) {
+                    return each;
+                }
+            }
+            Loggers.CONTROL.warn("Fail to found rule barrier creator of name : {}, use default", creatorName);
+        }
+        return LocalSimpleCountBarrierCreator.getInstance();
+    }
+    
     /**
      * apply tps.
      *
@@ -0,0 +1,141 @@
+/*
+ * Copyright 1999-2024 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import com.alibaba.nacos.plugin.control.configs.ControlConfigs;
+import com.alibaba.nacos.plugin.control.tps.barrier.creator.LocalSimpleCountBarrierCreator;
+import com.alibaba.nacos.plugin.control.tps.barrier.creator.StripedCountBarrierCreator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedRateCounterTest {
+    
+    @AfterEach
+    void tearDown() {
+        ControlConfigs.getInstance().setRuleBarrierCreator("localsimplecountor");
+    }
+    
+    @Test
+    void testAddAndGetCount() {
+        StripedRateCounter rateCounter = new StripedRateCounter("test", TimeUnit.SECONDS);
+        long timestamp = System.currentTimeMillis();
+        assertEquals(0L, rateCounter.getCount(timestamp));
+        assertEquals(1L, rateCounter.add(timestamp, 1));
+        assertEquals(3L, rateCounter.add(timestamp, 2));
+        assertEquals(3L, rateCounter.getCount(timestamp));
+        assertEquals(0L, rateCounter.getCount(timestamp + 1000L));
+    }
+    
+    @Test
+    void testRolloverResetSlot() {
+        StripedRateCounter rateCounter = new StripedRateCounter("test", TimeUnit.SECONDS);
+        long timestamp = System.currentTimeMillis();
+        rateCounter.add(timestamp, 5);
+        // same slot of the ring after 10 periods
+        long nextRound = timestamp + 10000L;
+        assertEquals(1L, rateCounter.add(nextRound, 1));
+        assertEquals(0L, rateCounter.getCount(timestamp));
+        assertEquals(1L, rateCounter.getCount(nextRound));
+    }
+    
+    @Test
+    void testTryAdd() {
+        StripedRateCounter rateCounter = new StripedRateCounter("test", TimeUnit.SECONDS);
+        long timestamp = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateCounter.tryAdd(timestamp, 1, 5));
+        }
+        assertFalse(rateCounter.tryAdd(timestamp, 1, 5));
+        assertEquals(1L, rateCounter.getInterceptedCount(timestamp));
+    }
+    
+    @Test
+    void testConcurrentAdd() throws InterruptedException {
+        StripedRateCounter rateCounter = new StripedRateCounter("test", TimeUnit.MINUTES);
+        long timestamp = System.currentTimeMillis();
+        int threadCount = 8;
+        int addCount = 10000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger accepted = new AtomicInteger();
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < addCount; j++) {
+                    if (rateCounter.tryAdd(timestamp, 1, Long.MAX_VALUE)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        assertEquals(threadCount * addCount, accepted.get());
+        assertEquals(threadCount * addCount, rateCounter.getCount(timestamp));
+    }
+    
+    @Test
+    void testConcurrentTryAddWithinLimit() throws InterruptedException {
+        StripedRateCounter rateCounter = new StripedRateCounter("test", TimeUnit.MINUTES);
+        long timestamp = System.currentTimeMillis();
+        int upperLimit = 1000;
+        // skewed count of one cell is far beyond its share of the limit.
+        for (int i = 0; i < 900; i++) {
+            assertTrue(rateCounter.tryAdd(timestamp, 1, upperLimit));
+        }
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger accepted = new AtomicInteger(900);
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < upperLimit; j++) {
+                    if (rateCounter.tryAdd(timestamp, 1, upperLimit)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        assertTrue(accepted.get() <= upperLimit);
+        assertEquals(threadCount * upperLimit + 900 - accepted.get(), rateCounter.getInterceptedCount(timestamp));
+    }
+    
+    @Test
+    void testSelectRuleBarrierCreator() {
+        ControlConfigs.getInstance().setRuleBarrierCreator(new StripedCountBarrierCreator().name());
+        TpsBarrier tpsBarrier = new DefaultNacosTpsBarrier("test");
+        assertTrue(tpsBarrier.getPointBarrier() instanceof StripedCountRuleBarrier);
+        
+        ControlConfigs.getInstance().setRuleBarrierCreator("unknown");
+        tpsBarrier = new DefaultNacosTpsBarrier("test");
+        assertTrue(tpsBarrier.getPointBarrier() instanceof LocalSimpleCountRuleBarrier);
+        assertEquals(LocalSimpleCountBarrierCreator.getInstance().name(), "localsimplecountor");
+    }
+}
@@ -104,7 +104,7 @@ public class EncryptionHandler {
      * @param dataId dataId
      * @return boolean whether data id needs encrypt
      */
-    private static boolean checkCipher(String dataId) {
+    public static boolean checkCipher(String dataId) {
         return dataId.startsWith(PREFIX) && !PREFIX.equals(dataId);
     }
 }